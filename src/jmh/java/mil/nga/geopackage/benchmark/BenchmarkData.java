@@ -0,0 +1,170 @@
+package mil.nga.geopackage.benchmark;
+
+import java.io.IOException;
+import java.util.Random;
+
+import mil.nga.geopackage.geom.GeoPackageGeometryData;
+import mil.nga.proj.ProjectionConstants;
+import mil.nga.sf.Geometry;
+import mil.nga.sf.LineString;
+import mil.nga.sf.Point;
+import mil.nga.sf.Polygon;
+
+/**
+ * Reproducible synthetic benchmark datasets generated from fixed seeds
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class BenchmarkData {
+
+	/**
+	 * Default random seed
+	 */
+	public static final long SEED = 20240101L;
+
+	/**
+	 * Create a seeded random
+	 *
+	 * @return random
+	 */
+	public static Random random() {
+		return new Random(SEED);
+	}
+
+	/**
+	 * Create random WGS84 geometries of points, line strings, and polygons
+	 *
+	 * @param random
+	 *            random
+	 * @param count
+	 *            geometry count
+	 * @param points
+	 *            points per line string and polygon ring
+	 * @return geometries
+	 */
+	public static Geometry[] geometries(Random random, int count,
+			int points) {
+		Geometry[] geometries = new Geometry[count];
+		for (int i = 0; i < count; i++) {
+			switch (i % 3) {
+			case 0:
+				geometries[i] = point(random);
+				break;
+			case 1:
+				geometries[i] = lineString(random, points);
+				break;
+			default:
+				geometries[i] = polygon(random, points);
+				break;
+			}
+		}
+		return geometries;
+	}
+
+	/**
+	 * Create GeoPackage geometry bytes with envelopes
+	 *
+	 * @param geometries
+	 *            geometries
+	 * @return geometry bytes
+	 */
+	public static byte[][] geometryBytes(Geometry[] geometries) {
+		byte[][] bytes = new byte[geometries.length][];
+		try {
+			for (int i = 0; i < geometries.length; i++) {
+				bytes[i] = GeoPackageGeometryData.bytesAndBuildEnvelope(
+						ProjectionConstants.EPSG_WORLD_GEODETIC_SYSTEM,
+						geometries[i]);
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException(
+					"Failed to create geometry bytes", e);
+		}
+		return bytes;
+	}
+
+	/**
+	 * Create a random WGS84 point
+	 *
+	 * @param random
+	 *            random
+	 * @return point
+	 */
+	public static Point point(Random random) {
+		return new Point(random.nextDouble() * 360.0 - 180.0,
+				random.nextDouble() * 170.0 - 85.0);
+	}
+
+	/**
+	 * Create a random line string wandering from a random point
+	 *
+	 * @param random
+	 *            random
+	 * @param points
+	 *            point count
+	 * @return line string
+	 */
+	public static LineString lineString(Random random, int points) {
+		LineString lineString = new LineString();
+		Point point = point(random);
+		for (int i = 0; i < points; i++) {
+			lineString.addPoint(point);
+			point = new Point(
+					Math.max(-180.0, Math.min(180.0,
+							point.getX() + random.nextGaussian() * 0.01)),
+					Math.max(-85.0, Math.min(85.0,
+							point.getY() + random.nextGaussian() * 0.01)));
+		}
+		return lineString;
+	}
+
+	/**
+	 * Create a random closed polygon ring around a random center
+	 *
+	 * @param random
+	 *            random
+	 * @param points
+	 *            ring point count
+	 * @return polygon
+	 */
+	public static Polygon polygon(Random random, int points) {
+		Point center = point(random);
+		double radius = 0.001 + random.nextDouble() * 0.1;
+		LineString ring = new LineString();
+		for (int i = 0; i < points; i++) {
+			double angle = 2 * Math.PI * i / points;
+			ring.addPoint(new Point(center.getX() + radius * Math.cos(angle),
+					center.getY() + radius * Math.sin(angle)));
+		}
+		ring.addPoint(ring.getPoints().get(0));
+		return new Polygon(ring);
+	}
+
+	/**
+	 * Create a random smooth coverage grid of row major values
+	 *
+	 * @param random
+	 *            random
+	 * @param width
+	 *            grid width
+	 * @param height
+	 *            grid height
+	 * @return values
+	 */
+	public static double[] coverage(Random random, int width, int height) {
+		double[] values = new double[width * height];
+		double phaseX = random.nextDouble() * Math.PI;
+		double phaseY = random.nextDouble() * Math.PI;
+		for (int row = 0; row < height; row++) {
+			for (int column = 0; column < width; column++) {
+				values[row * width + column] = 1000.0
+						* Math.sin(column * 0.05 + phaseX)
+						* Math.cos(row * 0.05 + phaseY)
+						+ random.nextGaussian();
+			}
+		}
+		return values;
+	}
+
+}
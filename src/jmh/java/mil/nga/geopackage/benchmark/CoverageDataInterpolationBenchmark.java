@@ -0,0 +1,142 @@
+package mil.nga.geopackage.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mil.nga.geopackage.extension.coverage.CoverageDataInterpolation;
+
+/**
+ * Coverage Data interpolation benchmark, resampling a synthetic coverage
+ * grid to a larger grid
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CoverageDataInterpolationBenchmark {
+
+	/**
+	 * Source grid width and height
+	 */
+	private static final int SOURCE_SIZE = 256;
+
+	/**
+	 * Resampled grid width and height
+	 */
+	private static final int TARGET_SIZE = 512;
+
+	/**
+	 * Source coverage values
+	 */
+	private double[] source;
+
+	/**
+	 * Resampled coverage values
+	 */
+	private final double[] target = new double[TARGET_SIZE * TARGET_SIZE];
+
+	/**
+	 * Bicubic 4 x 4 neighborhood values
+	 */
+	private final double[] neighborhood = new double[16];
+
+	/**
+	 * Create the synthetic coverage grid
+	 */
+	@Setup
+	public void setup() {
+		Random random = BenchmarkData.random();
+		source = BenchmarkData.coverage(random, SOURCE_SIZE, SOURCE_SIZE);
+	}
+
+	/**
+	 * Resample with nearest neighbor
+	 *
+	 * @return resampled values
+	 */
+	@Benchmark
+	public double[] nearestNeighbor() {
+		float scale = (float) SOURCE_SIZE / TARGET_SIZE;
+		for (int row = 0; row < TARGET_SIZE; row++) {
+			int sourceRow = Math.min(Math.round(row * scale),
+					SOURCE_SIZE - 1);
+			for (int column = 0; column < TARGET_SIZE; column++) {
+				int sourceColumn = Math.min(Math.round(column * scale),
+						SOURCE_SIZE - 1);
+				target[row * TARGET_SIZE + column] = source[sourceRow
+						* SOURCE_SIZE + sourceColumn];
+			}
+		}
+		return target;
+	}
+
+	/**
+	 * Resample with bilinear interpolation
+	 *
+	 * @return resampled values
+	 */
+	@Benchmark
+	public double[] bilinear() {
+		float scale = (float) (SOURCE_SIZE - 1) / TARGET_SIZE;
+		for (int row = 0; row < TARGET_SIZE; row++) {
+			float y = row * scale;
+			int minY = (int) y;
+			for (int column = 0; column < TARGET_SIZE; column++) {
+				float x = column * scale;
+				int minX = (int) x;
+				int index = minY * SOURCE_SIZE + minX;
+				target[row * TARGET_SIZE
+						+ column] = CoverageDataInterpolation.bilinear(x - minX,
+								y - minY, minX, minX + 1, minY, minY + 1,
+								source[index], source[index + 1],
+								source[index + SOURCE_SIZE],
+								source[index + SOURCE_SIZE + 1]);
+			}
+		}
+		return target;
+	}
+
+	/**
+	 * Resample with bicubic interpolation
+	 *
+	 * @return resampled values
+	 */
+	@Benchmark
+	public double[] bicubic() {
+		float scale = (float) (SOURCE_SIZE - 3) / TARGET_SIZE;
+		for (int row = 0; row < TARGET_SIZE; row++) {
+			float y = 1 + row * scale;
+			int minY = (int) y;
+			for (int column = 0; column < TARGET_SIZE; column++) {
+				float x = 1 + column * scale;
+				int minX = (int) x;
+				for (int i = 0; i < 4; i++) {
+					System.arraycopy(source,
+							(minY - 1 + i) * SOURCE_SIZE + minX - 1,
+							neighborhood, i * 4, 4);
+				}
+				target[row * TARGET_SIZE
+						+ column] = CoverageDataInterpolation.bicubic(
+								neighborhood, x - minX, y - minY);
+			}
+		}
+		return target;
+	}
+
+}
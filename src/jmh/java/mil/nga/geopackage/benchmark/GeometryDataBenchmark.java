@@ -0,0 +1,133 @@
+package mil.nga.geopackage.benchmark;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import mil.nga.geopackage.geom.GeoPackageGeometryData;
+import mil.nga.geopackage.geom.GeometryHeaderReader;
+import mil.nga.sf.Geometry;
+
+/**
+ * GeoPackage Geometry Data encoding and decoding benchmark
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GeometryDataBenchmark {
+
+	/**
+	 * Geometries per invocation
+	 */
+	private static final int GEOMETRIES = 1000;
+
+	/**
+	 * Points per line string and polygon ring
+	 */
+	@Param({ "8", "256" })
+	public int points;
+
+	/**
+	 * Geometries
+	 */
+	private Geometry[] geometries;
+
+	/**
+	 * GeoPackage geometry bytes
+	 */
+	private byte[][] bytes;
+
+	/**
+	 * Envelope read buffer
+	 */
+	private final double[] envelope = new double[GeometryHeaderReader.ENVELOPE_LENGTH];
+
+	/**
+	 * Create the synthetic geometries
+	 */
+	@Setup
+	public void setup() {
+		Random random = BenchmarkData.random();
+		geometries = BenchmarkData.geometries(random, GEOMETRIES, points);
+		bytes = BenchmarkData.geometryBytes(geometries);
+	}
+
+	/**
+	 * Fully decode geometry bytes
+	 *
+	 * @param blackhole
+	 *            blackhole
+	 */
+	@Benchmark
+	public void fromBytes(Blackhole blackhole) {
+		for (byte[] geometryBytes : bytes) {
+			blackhole.consume(
+					GeoPackageGeometryData.create(geometryBytes).getGeometry());
+		}
+	}
+
+	/**
+	 * Lazily decode geometry bytes, reading only the header envelope
+	 *
+	 * @param blackhole
+	 *            blackhole
+	 */
+	@Benchmark
+	public void fromBytesLazyEnvelope(Blackhole blackhole) {
+		for (byte[] geometryBytes : bytes) {
+			blackhole.consume(GeoPackageGeometryData.createLazy(geometryBytes)
+					.getEnvelope());
+		}
+	}
+
+	/**
+	 * Read the header envelope directly from the geometry bytes
+	 *
+	 * @param blackhole
+	 *            blackhole
+	 */
+	@Benchmark
+	public void readHeaderEnvelope(Blackhole blackhole) {
+		for (byte[] geometryBytes : bytes) {
+			blackhole.consume(GeometryHeaderReader.readEnvelope(geometryBytes,
+					0, envelope));
+		}
+		blackhole.consume(envelope);
+	}
+
+	/**
+	 * Encode geometries with built envelopes
+	 *
+	 * @param blackhole
+	 *            blackhole
+	 * @throws IOException
+	 *             upon failure
+	 */
+	@Benchmark
+	public void toBytes(Blackhole blackhole) throws IOException {
+		for (Geometry geometry : geometries) {
+			blackhole.consume(GeoPackageGeometryData
+					.createAndBuildEnvelope(geometry).toBytes());
+		}
+	}
+
+}
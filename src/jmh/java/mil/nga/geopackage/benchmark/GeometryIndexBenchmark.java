@@ -0,0 +1,157 @@
+package mil.nga.geopackage.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import mil.nga.geopackage.extension.rtree.RTreeIndexEntries;
+import mil.nga.geopackage.geom.GeometryHeaderReader;
+import mil.nga.sf.Geometry;
+import mil.nga.sf.GeometryEnvelope;
+
+/**
+ * Geometry Index envelope benchmark of the in memory work behind indexing
+ * and envelope queries: header envelope extraction, Sort-Tile-Recursive
+ * ordering, and envelope intersection filtering
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GeometryIndexBenchmark {
+
+	/**
+	 * RTree node capacity
+	 */
+	private static final int NODE_CAPACITY = 51;
+
+	/**
+	 * Query envelopes per invocation
+	 */
+	private static final int QUERIES = 16;
+
+	/**
+	 * Indexed geometry count
+	 */
+	@Param({ "10000", "100000" })
+	public int count;
+
+	/**
+	 * GeoPackage geometry bytes
+	 */
+	private byte[][] bytes;
+
+	/**
+	 * Index entries
+	 */
+	private RTreeIndexEntries entries;
+
+	/**
+	 * Index envelopes
+	 */
+	private GeometryEnvelope[] envelopes;
+
+	/**
+	 * Query envelopes
+	 */
+	private GeometryEnvelope[] queries;
+
+	/**
+	 * Create the synthetic index entries and query envelopes
+	 */
+	@Setup
+	public void setup() {
+		Random random = BenchmarkData.random();
+		Geometry[] geometries = BenchmarkData.geometries(random, count, 8);
+		bytes = BenchmarkData.geometryBytes(geometries);
+		entries = readEntries();
+		envelopes = new GeometryEnvelope[count];
+		for (int i = 0; i < count; i++) {
+			envelopes[i] = new GeometryEnvelope(entries.getMinX(i),
+					entries.getMinY(i), entries.getMaxX(i),
+					entries.getMaxY(i));
+		}
+		queries = new GeometryEnvelope[QUERIES];
+		for (int i = 0; i < QUERIES; i++) {
+			double minX = random.nextDouble() * 340.0 - 180.0;
+			double minY = random.nextDouble() * 150.0 - 85.0;
+			queries[i] = new GeometryEnvelope(minX, minY, minX + 20.0,
+					minY + 20.0);
+		}
+	}
+
+	/**
+	 * Read the index entries from the geometry header envelopes
+	 *
+	 * @return index entries
+	 */
+	private RTreeIndexEntries readEntries() {
+		RTreeIndexEntries entries = new RTreeIndexEntries(bytes.length);
+		double[] envelope = new double[GeometryHeaderReader.ENVELOPE_LENGTH];
+		for (int i = 0; i < bytes.length; i++) {
+			GeometryHeaderReader.readEnvelope(bytes[i], 0, envelope);
+			entries.add(i, envelope[GeometryHeaderReader.MIN_X],
+					envelope[GeometryHeaderReader.MAX_X],
+					envelope[GeometryHeaderReader.MIN_Y],
+					envelope[GeometryHeaderReader.MAX_Y]);
+		}
+		return entries;
+	}
+
+	/**
+	 * Extract index entries from geometry header envelopes
+	 *
+	 * @return index entries
+	 */
+	@Benchmark
+	public RTreeIndexEntries extractEntries() {
+		return readEntries();
+	}
+
+	/**
+	 * Sort-Tile-Recursive order the index entries
+	 *
+	 * @return entry order
+	 */
+	@Benchmark
+	public int[] sortTileRecursive() {
+		return entries.sortTileRecursive(NODE_CAPACITY);
+	}
+
+	/**
+	 * Filter the index envelopes by intersection with the query envelopes
+	 *
+	 * @param blackhole
+	 *            blackhole
+	 */
+	@Benchmark
+	public void envelopeQuery(Blackhole blackhole) {
+		for (GeometryEnvelope query : queries) {
+			int matches = 0;
+			for (GeometryEnvelope envelope : envelopes) {
+				if (query.intersects(envelope, true)) {
+					matches++;
+				}
+			}
+			blackhole.consume(matches);
+		}
+	}
+
+}
@@ -0,0 +1,182 @@
+package mil.nga.geopackage.benchmark;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import mil.nga.geopackage.db.DateConverter;
+import mil.nga.geopackage.db.table.ConstraintParser;
+
+/**
+ * Date value and table constraint SQL parsing benchmark
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParsingBenchmark {
+
+	/**
+	 * Values per invocation
+	 */
+	private static final int VALUES = 1000;
+
+	/**
+	 * Columns per synthetic table
+	 */
+	private static final int COLUMNS = 32;
+
+	/**
+	 * Date time converter
+	 */
+	private final DateConverter dateTimeConverter = DateConverter
+			.dateTimeConverter();
+
+	/**
+	 * Date converter
+	 */
+	private final DateConverter dateConverter = DateConverter.dateConverter();
+
+	/**
+	 * Date time strings
+	 */
+	private String[] dateTimes;
+
+	/**
+	 * Date strings
+	 */
+	private String[] dates;
+
+	/**
+	 * Parsed date times
+	 */
+	private Date[] dateValues;
+
+	/**
+	 * Table SQL
+	 */
+	private String tableSql;
+
+	/**
+	 * Create the synthetic date strings and table SQL
+	 */
+	@Setup
+	public void setup() {
+		Random random = BenchmarkData.random();
+
+		SimpleDateFormat dateTimeFormat = new SimpleDateFormat(
+				"yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+		dateTimeFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+		SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
+		dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+		dateTimes = new String[VALUES];
+		dates = new String[VALUES];
+		dateValues = new Date[VALUES];
+		for (int i = 0; i < VALUES; i++) {
+			Date date = new Date(
+					(long) (random.nextDouble() * 4102444800000L));
+			dateValues[i] = date;
+			dateTimes[i] = dateTimeFormat.format(date);
+			dates[i] = dateFormat.format(date);
+		}
+
+		StringBuilder sql = new StringBuilder("CREATE TABLE \"features\" (\n");
+		sql.append(
+				"\"id\" INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL,\n");
+		sql.append("\"geom\" GEOMETRY NOT NULL");
+		for (int i = 0; i < COLUMNS; i++) {
+			sql.append(",\n\"column").append(i).append("\" ");
+			switch (i % 4) {
+			case 0:
+				sql.append("TEXT NOT NULL DEFAULT 'value").append(i)
+						.append("'");
+				break;
+			case 1:
+				sql.append("INTEGER CONSTRAINT \"check").append(i)
+						.append("\" CHECK (\"column").append(i)
+						.append("\" >= 0)");
+				break;
+			case 2:
+				sql.append("REAL UNIQUE");
+				break;
+			default:
+				sql.append("DATETIME DEFAULT (strftime('%Y-%m-%dT%H:%M:%fZ','now'))");
+				break;
+			}
+		}
+		sql.append(",\nCONSTRAINT \"unique_columns\" UNIQUE (\"column0\", \"column2\")");
+		sql.append("\n)");
+		tableSql = sql.toString();
+	}
+
+	/**
+	 * Parse date time strings
+	 *
+	 * @param blackhole
+	 *            blackhole
+	 */
+	@Benchmark
+	public void parseDateTime(Blackhole blackhole) {
+		for (String dateTime : dateTimes) {
+			blackhole.consume(dateTimeConverter.dateValue(dateTime));
+		}
+	}
+
+	/**
+	 * Parse date strings
+	 *
+	 * @param blackhole
+	 *            blackhole
+	 */
+	@Benchmark
+	public void parseDate(Blackhole blackhole) {
+		for (String date : dates) {
+			blackhole.consume(dateConverter.dateValue(date));
+		}
+	}
+
+	/**
+	 * Format date time values
+	 *
+	 * @param blackhole
+	 *            blackhole
+	 */
+	@Benchmark
+	public void formatDateTime(Blackhole blackhole) {
+		for (Date date : dateValues) {
+			blackhole.consume(dateTimeConverter.stringValue(date));
+		}
+	}
+
+	/**
+	 * Parse the table and column constraints of the table SQL
+	 *
+	 * @param blackhole
+	 *            blackhole
+	 */
+	@Benchmark
+	public void parseConstraints(Blackhole blackhole) {
+		blackhole.consume(ConstraintParser.getConstraints(tableSql));
+	}
+
+}
@@ -0,0 +1,153 @@
+package mil.nga.geopackage.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import mil.nga.geopackage.BoundingBox;
+import mil.nga.geopackage.tiles.TileBoundingBoxUtils;
+import mil.nga.geopackage.tiles.TileGrid;
+import mil.nga.proj.ProjectionConstants;
+
+/**
+ * Tile Bounding Box Utils tile grid math benchmark
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TileBoundingBoxUtilsBenchmark {
+
+	/**
+	 * Bounding boxes per invocation
+	 */
+	private static final int BOXES = 1000;
+
+	/**
+	 * Tile matrix width and height
+	 */
+	private static final long MATRIX_SIZE = 1L << 12;
+
+	/**
+	 * Tile pixel width and height
+	 */
+	private static final long TILE_SIZE = 256;
+
+	/**
+	 * Web Mercator total bounding box
+	 */
+	private final BoundingBox totalBox = new BoundingBox(
+			-ProjectionConstants.WEB_MERCATOR_HALF_WORLD_WIDTH,
+			-ProjectionConstants.WEB_MERCATOR_HALF_WORLD_WIDTH,
+			ProjectionConstants.WEB_MERCATOR_HALF_WORLD_WIDTH,
+			ProjectionConstants.WEB_MERCATOR_HALF_WORLD_WIDTH);
+
+	/**
+	 * Web Mercator bounding boxes
+	 */
+	private BoundingBox[] boxes;
+
+	/**
+	 * Tile grids of the bounding boxes
+	 */
+	private TileGrid[] tileGrids;
+
+	/**
+	 * Create the synthetic bounding boxes
+	 */
+	@Setup
+	public void setup() {
+		Random random = BenchmarkData.random();
+		double width = totalBox.getLongitudeRange();
+		boxes = new BoundingBox[BOXES];
+		tileGrids = new TileGrid[BOXES];
+		for (int i = 0; i < BOXES; i++) {
+			double size = width * (0.0001 + random.nextDouble() * 0.01);
+			double minX = totalBox.getMinLongitude()
+					+ random.nextDouble() * (width - size);
+			double minY = totalBox.getMinLatitude()
+					+ random.nextDouble() * (width - size);
+			boxes[i] = new BoundingBox(minX, minY, minX + size, minY + size);
+			tileGrids[i] = TileBoundingBoxUtils.getTileGrid(totalBox,
+					MATRIX_SIZE, MATRIX_SIZE, boxes[i]);
+		}
+	}
+
+	/**
+	 * Get the tile grids of bounding boxes
+	 *
+	 * @param blackhole
+	 *            blackhole
+	 */
+	@Benchmark
+	public void tileGrid(Blackhole blackhole) {
+		for (BoundingBox box : boxes) {
+			blackhole.consume(TileBoundingBoxUtils.getTileGrid(totalBox,
+					MATRIX_SIZE, MATRIX_SIZE, box));
+		}
+	}
+
+	/**
+	 * Get the bounding boxes of tile grids
+	 *
+	 * @param blackhole
+	 *            blackhole
+	 */
+	@Benchmark
+	public void tileGridBoundingBox(Blackhole blackhole) {
+		for (TileGrid tileGrid : tileGrids) {
+			blackhole.consume(TileBoundingBoxUtils.getBoundingBox(totalBox,
+					MATRIX_SIZE, MATRIX_SIZE, tileGrid));
+		}
+	}
+
+	/**
+	 * Get the web mercator bounding boxes of XYZ tile grids
+	 *
+	 * @param blackhole
+	 *            blackhole
+	 */
+	@Benchmark
+	public void webMercatorBoundingBox(Blackhole blackhole) {
+		for (TileGrid tileGrid : tileGrids) {
+			blackhole.consume(TileBoundingBoxUtils
+					.getWebMercatorBoundingBox(tileGrid, 12));
+		}
+	}
+
+	/**
+	 * Get the overlaps and pixel coordinates of bounding boxes
+	 *
+	 * @param blackhole
+	 *            blackhole
+	 */
+	@Benchmark
+	public void overlapPixels(Blackhole blackhole) {
+		BoundingBox previous = boxes[boxes.length - 1];
+		for (BoundingBox box : boxes) {
+			blackhole.consume(TileBoundingBoxUtils.overlap(previous, box));
+			blackhole.consume(TileBoundingBoxUtils.getXPixel(TILE_SIZE, box,
+					previous.getMinLongitude()));
+			blackhole.consume(TileBoundingBoxUtils.getYPixel(TILE_SIZE, box,
+					previous.getMaxLatitude()));
+			previous = box;
+		}
+	}
+
+}
@@ -11,6 +11,8 @@ import mil.nga.geopackage.contents.Contents;
 import mil.nga.geopackage.contents.ContentsDao;
 import mil.nga.geopackage.contents.ContentsDataType;
 import mil.nga.geopackage.db.GeoPackageCoreConnection;
+import mil.nga.geopackage.db.GeoPackageReadPool;
+import mil.nga.geopackage.db.instrument.GeoPackageInstrumentation;
 import mil.nga.geopackage.db.GeoPackageDao;
 import mil.nga.geopackage.db.GeoPackageTableCreator;
 import mil.nga.geopackage.extension.ExtensionManager;
@@ -61,6 +63,47 @@ public interface GeoPackageCore extends Closeable {
 	 */
 	public GeoPackageCoreConnection getDatabase();
 
+	/**
+	 * Get the read connection pool used by the database query helpers
+	 *
+	 * @return read pool or null
+	 * @since 6.6.8
+	 */
+	public GeoPackageReadPool getReadPool();
+
+	/**
+	 * Set the read connection pool used by the database query helpers,
+	 * closing any previous pool. Reads are routed once temp schema tracking
+	 * is enabled, see
+	 * {@link GeoPackageCoreConnection#setReadPool(GeoPackageReadPool)}.
+	 *
+	 * @param readPool
+	 *            read pool or null
+	 * @since 6.6.8
+	 */
+	public void setReadPool(GeoPackageReadPool readPool);
+
+	/**
+	 * Add operation instrumentation to the database, notified of timed query
+	 * helper, DAO query, and batch write operations
+	 *
+	 * @param instrumentation
+	 *            instrumentation
+	 * @since 6.6.8
+	 */
+	public void addInstrumentation(GeoPackageInstrumentation instrumentation);
+
+	/**
+	 * Remove operation instrumentation from the database
+	 *
+	 * @param instrumentation
+	 *            instrumentation
+	 * @return true if removed
+	 * @since 6.6.8
+	 */
+	public boolean removeInstrumentation(
+			GeoPackageInstrumentation instrumentation);
+
 	/**
 	 * Get the Table Creator
 	 * 
@@ -18,7 +18,9 @@ import mil.nga.geopackage.db.AlterTable;
 import mil.nga.geopackage.db.CoreSQLUtils;
 import mil.nga.geopackage.db.GeoPackageCoreConnection;
 import mil.nga.geopackage.db.GeoPackageDao;
+import mil.nga.geopackage.db.GeoPackageReadPool;
 import mil.nga.geopackage.db.GeoPackageTableCreator;
+import mil.nga.geopackage.db.instrument.GeoPackageInstrumentation;
 import mil.nga.geopackage.db.table.Constraints;
 import mil.nga.geopackage.extension.CrsWktExtension;
 import mil.nga.geopackage.extension.ExtensionManager;
@@ -145,6 +147,39 @@ public abstract class GeoPackageCoreImpl implements GeoPackageCore {
 		return database;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public GeoPackageReadPool getReadPool() {
+		return database.getReadPool();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setReadPool(GeoPackageReadPool readPool) {
+		database.setReadPool(readPool);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void addInstrumentation(GeoPackageInstrumentation instrumentation) {
+		database.addInstrumentation(instrumentation);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean removeInstrumentation(
+			GeoPackageInstrumentation instrumentation) {
+		return database.removeInstrumentation(instrumentation);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -1158,6 +1193,7 @@ public abstract class GeoPackageCoreImpl implements GeoPackageCore {
 		try {
 			if (!dao.isTableExists()) {
 				created = tableCreator.createExtensions() > 0;
+				dao.getCache().clear();
 			}
 		} catch (SQLException e) {
 			throw new GeoPackageException(
@@ -1279,6 +1315,9 @@ public abstract class GeoPackageCoreImpl implements GeoPackageCore {
 	@Override
 	public void dropTable(String table) {
 		tableCreator.dropTable(table);
+		if (table.equalsIgnoreCase(Extensions.TABLE_NAME)) {
+			getExtensionsDao().getCache().clear();
+		}
 	}
 
 	/**
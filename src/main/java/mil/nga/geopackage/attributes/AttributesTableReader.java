@@ -41,4 +41,12 @@ public class AttributesTableReader
 		return AttributesColumn.createColumn(tableColumn);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected String getCacheKey() {
+		return getClass().getName();
+	}
+
 }
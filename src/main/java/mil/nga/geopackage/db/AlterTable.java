@@ -58,6 +58,7 @@ public class AlterTable {
 			String tableName, String newTableName) {
 		String sql = renameTableSQL(tableName, newTableName);
 		db.execSQL(sql);
+		db.getSchemaCache().clear();
 	}
 
 	/**
@@ -90,6 +91,7 @@ public class AlterTable {
 			String tableName, String columnName, String newColumnName) {
 		String sql = renameColumnSQL(tableName, columnName, newColumnName);
 		db.execSQL(sql);
+		db.getSchemaCache().clear();
 	}
 
 	/**
@@ -126,6 +128,7 @@ public class AlterTable {
 			String columnName, String columnDef) {
 		String sql = addColumnSQL(tableName, columnName, columnDef);
 		db.execSQL(sql);
+		db.getSchemaCache().clear();
 	}
 
 	/**
@@ -635,6 +638,7 @@ public class AlterTable {
 		} finally {
 			// 11. Commit the transaction
 			db.endTransaction(successful);
+			db.getSchemaCache().clear();
 		}
 
 		// 12. Re-enable foreign key constraints
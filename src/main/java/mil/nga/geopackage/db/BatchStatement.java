@@ -0,0 +1,320 @@
+package mil.nga.geopackage.db;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.j256.ormlite.field.FieldType;
+import com.j256.ormlite.field.SqlType;
+import com.j256.ormlite.stmt.StatementBuilder.StatementType;
+import com.j256.ormlite.support.CompiledStatement;
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+
+import mil.nga.geopackage.GeoPackageException;
+import mil.nga.geopackage.geom.GeoPackageGeometryData;
+
+/**
+ * Batch Statement, a single compiled SQL statement reused by rebinding
+ * arguments for each execution. Intended for bulk inserts and updates within
+ * a transaction, avoiding per row statement compilation.
+ * <p>
+ * The statement is compiled on a read write connection from the GeoPackage
+ * connection source. Close the statement to release the connection.
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class BatchStatement implements Closeable {
+
+	/**
+	 * No argument field types
+	 */
+	private static final FieldType[] NO_FIELD_TYPES = new FieldType[0];
+
+	/**
+	 * Connection
+	 */
+	private final GeoPackageCoreConnection db;
+
+	/**
+	 * Connection source
+	 */
+	private final ConnectionSource connectionSource;
+
+	/**
+	 * Database connection
+	 */
+	private final DatabaseConnection connection;
+
+	/**
+	 * Compiled statement
+	 */
+	private final CompiledStatement statement;
+
+	/**
+	 * SQL statement
+	 */
+	private final String sql;
+
+	/**
+	 * Compiled queries on the statement connection by SQL
+	 */
+	private final Map<String, QueryStatement> queries = new HashMap<>();
+
+	/**
+	 * Constructor
+	 *
+	 * @param db
+	 *            connection
+	 * @param table
+	 *            table name the statement writes to
+	 * @param sql
+	 *            SQL statement with argument placeholders
+	 */
+	public BatchStatement(GeoPackageCoreConnection db, String table,
+			String sql) {
+		this.db = db;
+		this.connectionSource = db.getConnectionSource();
+		this.sql = sql;
+		DatabaseConnection connection = null;
+		try {
+			connection = connectionSource.getReadWriteConnection(table);
+			statement = connection.compileStatement(sql,
+					StatementType.UPDATE, NO_FIELD_TYPES,
+					DatabaseConnection.DEFAULT_RESULT_FLAGS, false);
+		} catch (SQLException e) {
+			if (connection != null) {
+				release(connection);
+			}
+			throw new GeoPackageException(
+					"Failed to compile statement. SQL: " + sql, e);
+		}
+		this.connection = connection;
+	}
+
+	/**
+	 * Get the SQL statement
+	 *
+	 * @return SQL statement
+	 */
+	public String getSql() {
+		return sql;
+	}
+
+	/**
+	 * Bind the value to the zero based argument index. Dates are bound as
+	 * date time strings and geometry data as GeoPackage geometry bytes.
+	 *
+	 * @param index
+	 *            zero based argument index
+	 * @param value
+	 *            value
+	 */
+	public void setValue(int index, Object value) {
+		setValue(index, value, null);
+	}
+
+	/**
+	 * Bind the value of a column with the data type to the zero based
+	 * argument index. Dates are bound as date strings for
+	 * {@link GeoPackageDataType#DATE} columns and date time strings otherwise,
+	 * and geometry data as GeoPackage geometry bytes.
+	 *
+	 * @param index
+	 *            zero based argument index
+	 * @param value
+	 *            value
+	 * @param dataType
+	 *            column data type, null when unknown
+	 */
+	public void setValue(int index, Object value,
+			GeoPackageDataType dataType) {
+		if (value instanceof GeoPackageGeometryData) {
+			try {
+				value = ((GeoPackageGeometryData) value).toBytes();
+			} catch (IOException e) {
+				throw new GeoPackageException("Failed to write geometry data"
+						+ " bytes for argument " + index
+						+ " of statement. SQL: " + sql, e);
+			}
+		}
+		SqlType sqlType = getSqlType(value);
+		if (value instanceof Date) {
+			DateConverter converter;
+			if (dataType == GeoPackageDataType.DATE
+					|| dataType == GeoPackageDataType.DATETIME) {
+				converter = DateConverter.converter(dataType);
+			} else {
+				converter = DateConverter.dateTimeConverter();
+			}
+			value = converter.stringValue((Date) value);
+		}
+		try {
+			statement.setObject(index, value, sqlType);
+		} catch (SQLException e) {
+			throw new GeoPackageException("Failed to bind argument " + index
+					+ " of statement. SQL: " + sql, e);
+		}
+	}
+
+	/**
+	 * Bind a long value to the zero based argument index
+	 *
+	 * @param index
+	 *            zero based argument index
+	 * @param value
+	 *            value
+	 */
+	public void setLong(int index, long value) {
+		try {
+			statement.setObject(index, value, SqlType.LONG);
+		} catch (SQLException e) {
+			throw new GeoPackageException("Failed to bind argument " + index
+					+ " of statement. SQL: " + sql, e);
+		}
+	}
+
+	/**
+	 * Bind a double value to the zero based argument index
+	 *
+	 * @param index
+	 *            zero based argument index
+	 * @param value
+	 *            value
+	 */
+	public void setDouble(int index, double value) {
+		try {
+			statement.setObject(index, value, SqlType.DOUBLE);
+		} catch (SQLException e) {
+			throw new GeoPackageException("Failed to bind argument " + index
+					+ " of statement. SQL: " + sql, e);
+		}
+	}
+
+	/**
+	 * Bind the values and execute the statement
+	 *
+	 * @param values
+	 *            argument values
+	 * @return changed row count
+	 */
+	public int execute(Object... values) {
+		for (int i = 0; i < values.length; i++) {
+			setValue(i, values[i]);
+		}
+		return execute();
+	}
+
+	/**
+	 * Execute the statement with the currently bound arguments
+	 *
+	 * @return changed row count
+	 */
+	public int execute() {
+		try {
+			return statement.runUpdate();
+		} catch (SQLException e) {
+			throw new GeoPackageException(
+					"Failed to execute statement. SQL: " + sql, e);
+		}
+	}
+
+	/**
+	 * Get the rowid of the most recent successful insert on the statement
+	 * connection
+	 *
+	 * @return last insert rowid
+	 */
+	public long getLastInsertRowId() {
+		Long rowId = queryForLong("SELECT last_insert_rowid()");
+		return rowId != null ? rowId : 0;
+	}
+
+	/**
+	 * Query for a single integer result on the statement connection, compiling
+	 * the query once and reusing it for the life of the statement
+	 *
+	 * @param query
+	 *            SQL query without arguments
+	 * @return result, null if no result
+	 */
+	public Long queryForLong(String query) {
+		QueryStatement queryStatement = queries.get(query);
+		if (queryStatement == null) {
+			queryStatement = new QueryStatement(db, connection, query);
+			queries.put(query, queryStatement);
+		}
+		Object result = queryStatement.querySingleResult(null, 0,
+				GeoPackageDataType.INTEGER);
+		return result != null ? ((Number) result).longValue() : null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close() {
+		for (QueryStatement queryStatement : queries.values()) {
+			queryStatement.close();
+		}
+		queries.clear();
+		statement.closeQuietly();
+		release(connection);
+	}
+
+	/**
+	 * Release the connection back to the connection source
+	 *
+	 * @param connection
+	 *            database connection
+	 */
+	private void release(DatabaseConnection connection) {
+		try {
+			connectionSource.releaseConnection(connection);
+		} catch (SQLException e) {
+			throw new GeoPackageException(
+					"Failed to release statement connection. SQL: " + sql, e);
+		}
+	}
+
+	/**
+	 * Get the SQL type of the value
+	 *
+	 * @param value
+	 *            value
+	 * @return SQL type
+	 */
+	private static SqlType getSqlType(Object value) {
+		SqlType sqlType;
+		if (value == null || value instanceof String
+				|| value instanceof Date) {
+			sqlType = SqlType.STRING;
+		} else if (value instanceof Long) {
+			sqlType = SqlType.LONG;
+		} else if (value instanceof Integer) {
+			sqlType = SqlType.INTEGER;
+		} else if (value instanceof Short) {
+			sqlType = SqlType.SHORT;
+		} else if (value instanceof Byte) {
+			sqlType = SqlType.BYTE;
+		} else if (value instanceof Double) {
+			sqlType = SqlType.DOUBLE;
+		} else if (value instanceof Float) {
+			sqlType = SqlType.FLOAT;
+		} else if (value instanceof Boolean) {
+			sqlType = SqlType.BOOLEAN;
+		} else if (value instanceof byte[]) {
+			sqlType = SqlType.BYTE_ARRAY;
+		} else {
+			throw new GeoPackageException(
+					"Unsupported statement argument type: "
+							+ value.getClass().getName());
+		}
+		return sqlType;
+	}
+
+}
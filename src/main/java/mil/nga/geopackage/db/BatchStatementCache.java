@@ -0,0 +1,123 @@
+package mil.nga.geopackage.db;
+
+import java.io.Closeable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least recently used cache of open {@link BatchStatement} statements by SQL,
+ * for batch writers that switch between several statement shapes. Evicted
+ * statements are closed.
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class BatchStatementCache implements Closeable {
+
+	/**
+	 * Default maximum open statements
+	 */
+	public static final int DEFAULT_MAX_STATEMENTS = 16;
+
+	/**
+	 * Connection
+	 */
+	private final GeoPackageCoreConnection db;
+
+	/**
+	 * Table name the statements write to
+	 */
+	private final String table;
+
+	/**
+	 * Open statements by SQL, least recently used first
+	 */
+	private final Map<String, BatchStatement> statements;
+
+	/**
+	 * Constructor
+	 *
+	 * @param db
+	 *            connection
+	 * @param table
+	 *            table name the statements write to
+	 */
+	public BatchStatementCache(GeoPackageCoreConnection db, String table) {
+		this(db, table, DEFAULT_MAX_STATEMENTS);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param db
+	 *            connection
+	 * @param table
+	 *            table name the statements write to
+	 * @param maxStatements
+	 *            maximum open statements
+	 */
+	public BatchStatementCache(GeoPackageCoreConnection db, String table,
+			final int maxStatements) {
+		this.db = db;
+		this.table = table;
+		statements = new LinkedHashMap<String, BatchStatement>(16, 0.75f,
+				true) {
+
+			/**
+			 * Serial version id
+			 */
+			private static final long serialVersionUID = 1L;
+
+			/**
+			 * {@inheritDoc}
+			 */
+			@Override
+			protected boolean removeEldestEntry(
+					Map.Entry<String, BatchStatement> eldest) {
+				boolean remove = size() > Math.max(maxStatements, 1);
+				if (remove) {
+					eldest.getValue().close();
+				}
+				return remove;
+			}
+
+		};
+	}
+
+	/**
+	 * Get the open statement for the SQL, compiling it when not cached
+	 *
+	 * @param sql
+	 *            SQL statement with argument placeholders
+	 * @return batch statement
+	 */
+	public BatchStatement get(String sql) {
+		BatchStatement statement = statements.get(sql);
+		if (statement == null) {
+			statement = new BatchStatement(db, table, sql);
+			statements.put(sql, statement);
+		}
+		return statement;
+	}
+
+	/**
+	 * Get the number of open statements
+	 *
+	 * @return open statements
+	 */
+	public int size() {
+		return statements.size();
+	}
+
+	/**
+	 * Close all statements
+	 */
+	@Override
+	public void close() {
+		for (BatchStatement statement : statements.values()) {
+			statement.close();
+		}
+		statements.clear();
+	}
+
+}
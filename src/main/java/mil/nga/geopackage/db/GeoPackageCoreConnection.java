@@ -3,7 +3,10 @@ package mil.nga.geopackage.db;
 import java.io.Closeable;
 import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -11,6 +14,8 @@ import com.j256.ormlite.support.ConnectionSource;
 
 import mil.nga.geopackage.GeoPackageConstants;
 import mil.nga.geopackage.GeoPackageException;
+import mil.nga.geopackage.db.instrument.GeoPackageInstrumentation;
+import mil.nga.geopackage.db.instrument.GeoPackageOperation;
 import mil.nga.geopackage.db.master.SQLiteMaster;
 import mil.nga.geopackage.db.master.SQLiteMasterType;
 import mil.nga.geopackage.db.table.TableInfo;
@@ -34,6 +39,40 @@ public abstract class GeoPackageCoreConnection implements Closeable {
 	 */
 	protected final ConnectionSource connectionSource;
 
+	/**
+	 * Schema metadata cache
+	 */
+	private final SchemaCache schemaCache = new SchemaCache(this);
+
+	/**
+	 * Read connection pool
+	 */
+	private volatile GeoPackageReadPool readPool;
+
+	/**
+	 * Compiled query statement cache
+	 */
+	private volatile QueryStatementCache statementCache;
+
+	/**
+	 * Registered operation instrumentation
+	 */
+	private final List<GeoPackageInstrumentation> instrumentations;
+
+	/**
+	 * Temp schema contains objects, tracked from temp schema DDL executed on
+	 * this connection or set explicitly
+	 */
+	private volatile boolean tempSchema = false;
+
+	/**
+	 * Temp schema state is tracked, either by the connection implementation
+	 * calling {@link #trackTempSchema(String)} from {@link #execSQL(String)}
+	 * or by the application maintaining {@link #setTempSchema(boolean)}.
+	 * Read queries are not routed to pooled read connections until set.
+	 */
+	private volatile boolean tempSchemaTracked = false;
+
 	/**
 	 * Constructor
 	 *
@@ -42,17 +81,19 @@ public abstract class GeoPackageCoreConnection implements Closeable {
 	 */
 	protected GeoPackageCoreConnection(ConnectionSource connectionSource) {
 		this.connectionSource = connectionSource;
+		this.instrumentations = new CopyOnWriteArrayList<>();
 	}
 
 	/**
-	 * Copy Constructor
+	 * Copy Constructor, sharing the registered instrumentation
 	 *
 	 * @param connection
 	 *            connection
 	 * @since 3.4.0
 	 */
 	protected GeoPackageCoreConnection(GeoPackageCoreConnection connection) {
-		this(connection.connectionSource);
+		this.connectionSource = connection.connectionSource;
+		this.instrumentations = connection.instrumentations;
 	}
 
 	/**
@@ -64,6 +105,174 @@ public abstract class GeoPackageCoreConnection implements Closeable {
 		return connectionSource;
 	}
 
+	/**
+	 * Get the schema metadata cache of table info, constraints, and user
+	 * tables, shared by all DAOs of the connection
+	 * 
+	 * @return schema cache
+	 * @since 6.6.8
+	 */
+	public SchemaCache getSchemaCache() {
+		return schemaCache;
+	}
+
+	/**
+	 * Get the read connection pool
+	 * 
+	 * @return read pool or null
+	 * @since 6.6.8
+	 */
+	public GeoPackageReadPool getReadPool() {
+		return readPool;
+	}
+
+	/**
+	 * Set the read connection pool. The pool is closed when replaced or when
+	 * the connection is closed.
+	 * <p>
+	 * Only the convenience query overloads implemented here are routed to
+	 * pooled read connections: the querySingleResult, querySingleTypedResult,
+	 * querySingleColumnResults, querySingleColumnTypedResults, queryResults,
+	 * queryTypedResults, querySingleRowResults, and querySingleRowTypedResults
+	 * overloads without the full parameter list, and helpers built on them
+	 * such as count, min, max, and aggregateFunction. The abstract full
+	 * parameter overloads, DAO queries, and cursors always run on this
+	 * connection.
+	 * <p>
+	 * A read is routed only when it is a SELECT, or a WITH whose main
+	 * statement is a SELECT, not depending on connection state, outside of a
+	 * transaction, with an empty temp schema, and only once temp schema
+	 * tracking is enabled through {@link #setTempSchemaTracked(boolean)}.
+	 * Until then reads stay on this connection, as temp tables created
+	 * through {@link #execSQL(String)} would otherwise be invisible to the
+	 * pooled read connections.
+	 * 
+	 * @param readPool
+	 *            read pool or null
+	 * @since 6.6.8
+	 */
+	public void setReadPool(GeoPackageReadPool readPool) {
+		GeoPackageReadPool previous = this.readPool;
+		this.readPool = readPool;
+		if (previous != null && previous != readPool) {
+			previous.close();
+		}
+	}
+
+	/**
+	 * Add operation instrumentation, notified of timed query helper, DAO
+	 * query, and batch write operations
+	 * 
+	 * @param instrumentation
+	 *            instrumentation
+	 * @since 6.6.8
+	 */
+	public void addInstrumentation(GeoPackageInstrumentation instrumentation) {
+		instrumentations.add(instrumentation);
+	}
+
+	/**
+	 * Remove operation instrumentation
+	 * 
+	 * @param instrumentation
+	 *            instrumentation
+	 * @return true if removed
+	 * @since 6.6.8
+	 */
+	public boolean removeInstrumentation(
+			GeoPackageInstrumentation instrumentation) {
+		return instrumentations.remove(instrumentation);
+	}
+
+	/**
+	 * Get the registered operation instrumentation
+	 * 
+	 * @return instrumentation
+	 * @since 6.6.8
+	 */
+	public List<GeoPackageInstrumentation> getInstrumentations() {
+		return Collections.unmodifiableList(instrumentations);
+	}
+
+	/**
+	 * Check if any operation instrumentation is registered
+	 * 
+	 * @return true if instrumented
+	 * @since 6.6.8
+	 */
+	public boolean isInstrumented() {
+		return !instrumentations.isEmpty();
+	}
+
+	/**
+	 * Report a completed operation to the registered instrumentation. Called by
+	 * the query helpers and DAOs, and available to platform connection
+	 * implementations for operations such as {@link #execSQL(String)}.
+	 * 
+	 * @param sql
+	 *            SQL statement
+	 * @param args
+	 *            SQL arguments or null
+	 * @param table
+	 *            table name or null when unknown
+	 * @param rows
+	 *            rows returned or changed, negative when unknown
+	 * @param start
+	 *            start time from {@link System#nanoTime()}
+	 * @param source
+	 *            calling DAO or source type, null for direct connection calls
+	 * @since 6.6.8
+	 */
+	public void instrument(String sql, String[] args, String table, long rows,
+			long start, Class<?> source) {
+		if (!instrumentations.isEmpty()) {
+			GeoPackageOperation operation = new GeoPackageOperation(sql, args,
+					table, rows, System.nanoTime() - start, source);
+			for (GeoPackageInstrumentation instrumentation : instrumentations) {
+				try {
+					instrumentation.operation(operation);
+				} catch (RuntimeException e) {
+					logger.log(Level.WARNING,
+							"Instrumentation failed for operation. SQL: "
+									+ sql,
+							e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Get the compiled query statement cache
+	 * 
+	 * @return statement cache or null when disabled
+	 * @since 6.6.8
+	 */
+	public QueryStatementCache getStatementCache() {
+		return statementCache;
+	}
+
+	/**
+	 * Set the maximum number of compiled query statements cached by SQL for
+	 * the query helper methods, replacing and closing any previous cache.
+	 * Repeated queries rebind arguments instead of compiling the SQL again.
+	 * Cached statements share a single connection from the connection source,
+	 * used by one caller at a time, and are bypassed within a transaction or
+	 * while the temp schema has objects. Disabled by default.
+	 * 
+	 * @param maxStatements
+	 *            maximum cached statements, 0 to disable
+	 * @since 6.6.8
+	 */
+	public void setStatementCacheSize(int maxStatements) {
+		QueryStatementCache previous = statementCache;
+		statementCache = maxStatements > 0
+				? new QueryStatementCache(this, maxStatements)
+				: null;
+		if (previous != null) {
+			previous.close();
+		}
+	}
+
 	/**
 	 * Execute the sql
 	 * 
@@ -515,6 +724,12 @@ public abstract class GeoPackageCoreConnection implements Closeable {
 	 */
 	@Override
 	public void close() {
+		GeoPackageReadPool pool = readPool;
+		if (pool != null) {
+			readPool = null;
+			pool.close();
+		}
+		setStatementCacheSize(0);
 		GeoPackageDaoManager.unregisterDaos(connectionSource);
 		connectionSource.closeQuietly();
 	}
@@ -640,7 +855,7 @@ public abstract class GeoPackageCoreConnection implements Closeable {
 	 */
 	public Object querySingleResult(String sql, String[] args,
 			GeoPackageDataType dataType) {
-		return querySingleResult(sql, args, 0, dataType);
+		return readSingleResult(sql, args, 0, dataType);
 	}
 
 	/**
@@ -678,7 +893,7 @@ public abstract class GeoPackageCoreConnection implements Closeable {
 	 * @since 3.1.0
 	 */
 	public Object querySingleResult(String sql, String[] args, int column) {
-		return querySingleResult(sql, args, column, null);
+		return readSingleResult(sql, args, column, null);
 	}
 
 	/**
@@ -738,7 +953,7 @@ public abstract class GeoPackageCoreConnection implements Closeable {
 	public <T> T querySingleTypedResult(String sql, String[] args, int column,
 			GeoPackageDataType dataType) {
 		@SuppressWarnings("unchecked")
-		T result = (T) querySingleResult(sql, args, column, dataType);
+		T result = (T) readSingleResult(sql, args, column, dataType);
 		return result;
 	}
 
@@ -753,7 +968,7 @@ public abstract class GeoPackageCoreConnection implements Closeable {
 	 * @since 3.1.0
 	 */
 	public List<Object> querySingleColumnResults(String sql, String[] args) {
-		return querySingleColumnResults(sql, args, 0, null, null);
+		return readSingleColumnResults(sql, args, 0, null, null);
 	}
 
 	/**
@@ -789,7 +1004,7 @@ public abstract class GeoPackageCoreConnection implements Closeable {
 	 */
 	public List<Object> querySingleColumnResults(String sql, String[] args,
 			GeoPackageDataType dataType) {
-		return querySingleColumnResults(sql, args, 0, dataType, null);
+		return readSingleColumnResults(sql, args, 0, dataType, null);
 	}
 
 	/**
@@ -828,7 +1043,7 @@ public abstract class GeoPackageCoreConnection implements Closeable {
 	 */
 	public List<Object> querySingleColumnResults(String sql, String[] args,
 			int column) {
-		return querySingleColumnResults(sql, args, column, null, null);
+		return readSingleColumnResults(sql, args, column, null, null);
 	}
 
 	/**
@@ -868,7 +1083,7 @@ public abstract class GeoPackageCoreConnection implements Closeable {
 	 */
 	public List<Object> querySingleColumnResults(String sql, String[] args,
 			int column, GeoPackageDataType dataType) {
-		return querySingleColumnResults(sql, args, column, dataType, null);
+		return readSingleColumnResults(sql, args, column, dataType, null);
 	}
 
 	/**
@@ -911,7 +1126,7 @@ public abstract class GeoPackageCoreConnection implements Closeable {
 	 */
 	public List<Object> querySingleColumnResults(String sql, String[] args,
 			int column, Integer limit) {
-		return querySingleColumnResults(sql, args, column, null, limit);
+		return readSingleColumnResults(sql, args, column, null, limit);
 	}
 
 	/**
@@ -979,7 +1194,7 @@ public abstract class GeoPackageCoreConnection implements Closeable {
 	public <T> List<T> querySingleColumnTypedResults(String sql, String[] args,
 			int column, GeoPackageDataType dataType, Integer limit) {
 		@SuppressWarnings("unchecked")
-		List<T> result = (List<T>) querySingleColumnResults(sql, args, column,
+		List<T> result = (List<T>) readSingleColumnResults(sql, args, column,
 				dataType, limit);
 		return result;
 	}
@@ -995,7 +1210,7 @@ public abstract class GeoPackageCoreConnection implements Closeable {
 	 * @since 3.1.0
 	 */
 	public List<List<Object>> queryResults(String sql, String[] args) {
-		return queryResults(sql, args, null, null);
+		return readResults(sql, args, null, null);
 	}
 
 	/**
@@ -1030,7 +1245,7 @@ public abstract class GeoPackageCoreConnection implements Closeable {
 	 */
 	public List<List<Object>> queryResults(String sql, String[] args,
 			GeoPackageDataType[] dataTypes) {
-		return queryResults(sql, args, dataTypes, null);
+		return readResults(sql, args, dataTypes, null);
 	}
 
 	/**
@@ -1101,7 +1316,7 @@ public abstract class GeoPackageCoreConnection implements Closeable {
 	 */
 	public List<Object> querySingleRowResults(String sql, String[] args,
 			GeoPackageDataType[] dataTypes) {
-		List<List<Object>> results = queryResults(sql, args, dataTypes, 1);
+		List<List<Object>> results = readResults(sql, args, dataTypes, 1);
 		List<Object> singleRow = null;
 		if (!results.isEmpty()) {
 			singleRow = results.get(0);
@@ -1144,7 +1359,7 @@ public abstract class GeoPackageCoreConnection implements Closeable {
 	 */
 	public List<List<Object>> queryResults(String sql, String[] args,
 			Integer limit) {
-		return queryResults(sql, args, null, limit);
+		return readResults(sql, args, null, limit);
 	}
 
 	/**
@@ -1205,7 +1420,7 @@ public abstract class GeoPackageCoreConnection implements Closeable {
 	public <T> List<List<T>> queryTypedResults(String sql, String[] args,
 			GeoPackageDataType[] dataTypes, Integer limit) {
 		@SuppressWarnings("unchecked")
-		List<List<T>> result = (List<List<T>>) (Object) queryResults(sql, args,
+		List<List<T>> result = (List<List<T>>) (Object) readResults(sql, args,
 				dataTypes, limit);
 		return result;
 	}
@@ -1371,4 +1586,425 @@ public abstract class GeoPackageCoreConnection implements Closeable {
 		return patch;
 	}
 
+	/**
+	 * Get the data version, which changes when another connection commits
+	 * changes to the database
+	 *
+	 * @return data version
+	 * @since 6.6.8
+	 */
+	public Long getDataVersion() {
+		return querySingleTypedResult("PRAGMA data_version", null,
+				GeoPackageDataType.INTEGER);
+	}
+
+	/**
+	 * Get the schema version, which changes when any connection changes the
+	 * database schema
+	 *
+	 * @return schema version
+	 * @since 6.6.8
+	 */
+	public Long getSchemaVersion() {
+		return querySingleTypedResult("PRAGMA schema_version", null,
+				GeoPackageDataType.INTEGER);
+	}
+
+	/**
+	 * Get the rowid of the most recent successful insert on the connection
+	 *
+	 * @return last insert rowid
+	 * @since 6.6.8
+	 */
+	public long getLastInsertRowId() {
+		Long rowId = querySingleTypedResult("SELECT last_insert_rowid()",
+				null, GeoPackageDataType.INTEGER);
+		return rowId != null ? rowId : 0;
+	}
+
+	/**
+	 * Determine if the connection local temp schema contains tables or other
+	 * objects. Unqualified table names may resolve to temp tables, so read
+	 * queries stay on this connection instead of a pooled read connection
+	 * while the temp schema is not empty. The state is tracked from temp
+	 * schema DDL passed to {@link #trackTempSchema(String)} or set through
+	 * {@link #setTempSchema(boolean)}, and is not queried per read.
+	 *
+	 * @return true if the temp schema is not empty
+	 * @since 6.6.8
+	 */
+	public boolean hasTempSchema() {
+		return tempSchema;
+	}
+
+	/**
+	 * Set whether the connection local temp schema contains tables or other
+	 * objects. Set to true when creating temp objects outside of
+	 * {@link #execSQL(String)} to keep read queries on this connection.
+	 *
+	 * @param tempSchema
+	 *            true if the temp schema is not empty
+	 * @since 6.6.8
+	 */
+	public void setTempSchema(boolean tempSchema) {
+		this.tempSchema = tempSchema;
+	}
+
+	/**
+	 * Determine if the temp schema state is tracked, enabling routing of read
+	 * queries to the read pool
+	 *
+	 * @return true if tracked
+	 * @since 6.6.8
+	 */
+	public boolean isTempSchemaTracked() {
+		return tempSchemaTracked;
+	}
+
+	/**
+	 * Set whether the temp schema state is tracked. Set to true by connection
+	 * implementations calling {@link #trackTempSchema(String)} from
+	 * {@link #execSQL(String)}, or by applications that create no temp
+	 * objects or maintain {@link #setTempSchema(boolean)} themselves. Read
+	 * queries are only routed to the read pool while tracked.
+	 *
+	 * @param tempSchemaTracked
+	 *            true if the temp schema state is tracked
+	 * @since 6.6.8
+	 */
+	public void setTempSchemaTracked(boolean tempSchemaTracked) {
+		this.tempSchemaTracked = tempSchemaTracked;
+	}
+
+	/**
+	 * Track the temp schema state from SQL executed on this connection. Called
+	 * by connection implementations from {@link #execSQL(String)}, which then
+	 * enable routing through {@link #setTempSchemaTracked(boolean)}. Creating a
+	 * temp object marks the temp schema as not empty, and dropping an object
+	 * while marked re-checks the temp schema.
+	 *
+	 * @param sql
+	 *            executed sql statement
+	 * @since 6.6.8
+	 */
+	protected void trackTempSchema(String sql) {
+		String lower = sql.trim().toLowerCase(Locale.ENGLISH);
+		if (lower.startsWith("create")) {
+			if (lower.matches("(?s)create\\s+temp(orary)?\\s.*")
+					|| lower.contains("temp.")) {
+				tempSchema = true;
+			}
+		} else if (tempSchema && lower.startsWith("drop")) {
+			Long count = querySingleTypedResult(
+					"SELECT COUNT(*) FROM sqlite_temp_master", null,
+					GeoPackageDataType.INTEGER);
+			tempSchema = count != null && count > 0;
+		}
+	}
+
+	/**
+	 * Acquire a connection for a read query, a pooled read connection when
+	 * available, the temp schema is tracked and empty, not within a
+	 * transaction, and the query does not depend on connection state
+	 *
+	 * @param sql
+	 *            sql statement
+	 * @return read connection or this connection
+	 */
+	private GeoPackageCoreConnection acquireReader(String sql) {
+		GeoPackageCoreConnection reader = null;
+		GeoPackageReadPool pool = readPool;
+		if (pool != null && tempSchemaTracked && !hasTempSchema()
+				&& isStatelessQuery(sql) && !inTransaction()) {
+			reader = pool.acquire();
+		}
+		return reader != null ? reader : this;
+	}
+
+	/**
+	 * Determine if the SQL may run on a pooled read connection or cached
+	 * statement: a SELECT, or a WITH whose main statement is a SELECT, not
+	 * using connection specific functions or the temp schema. WITH clauses
+	 * followed by INSERT, UPDATE, DELETE, or REPLACE, PRAGMA statements,
+	 * queries such as last_insert_rowid(), and temp schema queries run
+	 * directly on this connection.
+	 *
+	 * @param sql
+	 *            sql statement
+	 * @return true if poolable
+	 */
+	static boolean isStatelessQuery(String sql) {
+		String lower = sql.trim().toLowerCase(Locale.ENGLISH);
+		return (lower.startsWith("select")
+				|| (lower.startsWith("with") && isSelectStatement(lower)))
+				&& !lower.contains("last_insert_rowid")
+				&& !lower.contains("changes(") && !lower.contains("temp.")
+				&& !lower.contains("sqlite_temp_");
+	}
+
+	/**
+	 * Determine if the main statement of lower case SQL is a SELECT, from the
+	 * first statement keyword outside of parentheses and quoted text, skipping
+	 * common table expressions
+	 *
+	 * @param lower
+	 *            lower case sql statement
+	 * @return true if a select statement
+	 */
+	private static boolean isSelectStatement(String lower) {
+		int depth = 0;
+		int length = lower.length();
+		int i = 0;
+		while (i < length) {
+			char c = lower.charAt(i);
+			if (c == '\'' || c == '"' || c == '`' || c == '[') {
+				char close = c == '[' ? ']' : c;
+				int end = lower.indexOf(close, i + 1);
+				if (end < 0) {
+					return false;
+				}
+				i = end + 1;
+			} else if (c == '(') {
+				depth++;
+				i++;
+			} else if (c == ')') {
+				depth--;
+				i++;
+			} else if (Character.isLetter(c) || c == '_') {
+				int start = i;
+				while (i < length && (Character.isLetterOrDigit(lower.charAt(i))
+						|| lower.charAt(i) == '_')) {
+					i++;
+				}
+				if (depth == 0) {
+					switch (lower.substring(start, i)) {
+					case "select":
+					case "values":
+						return true;
+					case "insert":
+					case "update":
+					case "delete":
+					case "replace":
+						return false;
+					default:
+					}
+				}
+			} else {
+				i++;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Determine if the SQL may run as a cached compiled statement on the
+	 * statement cache connection: a stateless query, not within a transaction,
+	 * and with an empty temp schema
+	 *
+	 * @param sql
+	 *            sql statement
+	 * @return true if cacheable
+	 */
+	private boolean isCacheableQuery(String sql) {
+		return !hasTempSchema() && isStatelessQuery(sql) && !inTransaction();
+	}
+
+	/**
+	 * Release a connection acquired for a read query
+	 *
+	 * @param reader
+	 *            read connection or this connection
+	 */
+	private void releaseReader(GeoPackageCoreConnection reader) {
+		if (reader != this) {
+			GeoPackageReadPool pool = readPool;
+			if (pool != null) {
+				pool.release(reader);
+			} else {
+				reader.close();
+			}
+		}
+	}
+
+	/**
+	 * Query the SQL for a single result on a read connection
+	 *
+	 * @param sql
+	 *            sql statement
+	 * @param args
+	 *            arguments
+	 * @param column
+	 *            column index
+	 * @param dataType
+	 *            GeoPackage data type
+	 * @return result, null if no result
+	 */
+	private Object readSingleResult(String sql, String[] args, int column,
+			GeoPackageDataType dataType) {
+		long start = System.nanoTime();
+		Object result;
+		GeoPackageCoreConnection reader = acquireReader(sql);
+		try {
+			result = reader.cachedSingleResult(sql, args, column, dataType);
+		} finally {
+			releaseReader(reader);
+		}
+		instrument(sql, args, null, result != null ? 1 : 0, start, null);
+		return result;
+	}
+
+	/**
+	 * Query for values from a single column on a read connection
+	 *
+	 * @param sql
+	 *            sql statement
+	 * @param args
+	 *            arguments
+	 * @param column
+	 *            column index
+	 * @param dataType
+	 *            GeoPackage data type
+	 * @param limit
+	 *            result row limit
+	 * @return single column results
+	 */
+	private List<Object> readSingleColumnResults(String sql, String[] args,
+			int column, GeoPackageDataType dataType, Integer limit) {
+		long start = System.nanoTime();
+		List<Object> results;
+		GeoPackageCoreConnection reader = acquireReader(sql);
+		try {
+			results = reader.cachedSingleColumnResults(sql, args, column,
+					dataType, limit);
+		} finally {
+			releaseReader(reader);
+		}
+		instrument(sql, args, null, results.size(), start, null);
+		return results;
+	}
+
+	/**
+	 * Query for values on a read connection
+	 *
+	 * @param sql
+	 *            sql statement
+	 * @param args
+	 *            arguments
+	 * @param dataTypes
+	 *            column data types
+	 * @param limit
+	 *            result row limit
+	 * @return results
+	 */
+	private List<List<Object>> readResults(String sql, String[] args,
+			GeoPackageDataType[] dataTypes, Integer limit) {
+		long start = System.nanoTime();
+		List<List<Object>> results;
+		GeoPackageCoreConnection reader = acquireReader(sql);
+		try {
+			results = reader.cachedResults(sql, args, dataTypes, limit);
+		} finally {
+			releaseReader(reader);
+		}
+		instrument(sql, args, null, results.size(), start, null);
+		return results;
+	}
+
+	/**
+	 * Query the SQL for a single result using a cached compiled statement when
+	 * the statement cache is enabled and the query is cacheable
+	 *
+	 * @param sql
+	 *            sql statement
+	 * @param args
+	 *            arguments
+	 * @param column
+	 *            column index
+	 * @param dataType
+	 *            GeoPackage data type
+	 * @return result, null if no result
+	 */
+	private Object cachedSingleResult(String sql, String[] args, int column,
+			GeoPackageDataType dataType) {
+		Object result;
+		QueryStatementCache cache = statementCache;
+		if (cache != null && isCacheableQuery(sql)) {
+			QueryStatement statement = cache.acquire(sql);
+			try {
+				result = statement.querySingleResult(args, column, dataType);
+			} finally {
+				cache.release(statement);
+			}
+		} else {
+			result = querySingleResult(sql, args, column, dataType);
+		}
+		return result;
+	}
+
+	/**
+	 * Query for values from a single column using a cached compiled statement
+	 * when the statement cache is enabled and the query is cacheable
+	 *
+	 * @param sql
+	 *            sql statement
+	 * @param args
+	 *            arguments
+	 * @param column
+	 *            column index
+	 * @param dataType
+	 *            GeoPackage data type
+	 * @param limit
+	 *            result row limit
+	 * @return single column results
+	 */
+	private List<Object> cachedSingleColumnResults(String sql, String[] args,
+			int column, GeoPackageDataType dataType, Integer limit) {
+		List<Object> results;
+		QueryStatementCache cache = statementCache;
+		if (cache != null && isCacheableQuery(sql)) {
+			QueryStatement statement = cache.acquire(sql);
+			try {
+				results = statement.querySingleColumnResults(args, column,
+						dataType, limit);
+			} finally {
+				cache.release(statement);
+			}
+		} else {
+			results = querySingleColumnResults(sql, args, column, dataType,
+					limit);
+		}
+		return results;
+	}
+
+	/**
+	 * Query for values using a cached compiled statement when the statement
+	 * cache is enabled and the query is cacheable
+	 *
+	 * @param sql
+	 *            sql statement
+	 * @param args
+	 *            arguments
+	 * @param dataTypes
+	 *            column data types
+	 * @param limit
+	 *            result row limit
+	 * @return results
+	 */
+	private List<List<Object>> cachedResults(String sql, String[] args,
+			GeoPackageDataType[] dataTypes, Integer limit) {
+		List<List<Object>> results;
+		QueryStatementCache cache = statementCache;
+		if (cache != null && isCacheableQuery(sql)) {
+			QueryStatement statement = cache.acquire(sql);
+			try {
+				results = statement.queryResults(args, dataTypes, limit);
+			} finally {
+				cache.release(statement);
+			}
+		} else {
+			results = queryResults(sql, args, dataTypes, limit);
+		}
+		return results;
+	}
+
 }
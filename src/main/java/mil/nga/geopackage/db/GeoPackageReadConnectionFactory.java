@@ -0,0 +1,21 @@
+package mil.nga.geopackage.db;
+
+/**
+ * GeoPackage read connection factory, opening additional read only
+ * connections to the same GeoPackage file for a {@link GeoPackageReadPool}
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public interface GeoPackageReadConnectionFactory {
+
+	/**
+	 * Open a new read only connection to the GeoPackage. Connections should
+	 * use WAL journal mode so reads do not block, and are not blocked by, the
+	 * primary writing connection.
+	 *
+	 * @return connection
+	 */
+	public GeoPackageCoreConnection open();
+
+}
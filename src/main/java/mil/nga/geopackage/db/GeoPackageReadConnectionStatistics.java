@@ -0,0 +1,130 @@
+package mil.nga.geopackage.db;
+
+/**
+ * GeoPackage read connection statistics snapshot of a pooled read connection
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class GeoPackageReadConnectionStatistics {
+
+	/**
+	 * Pool assigned connection id
+	 */
+	private final int id;
+
+	/**
+	 * Created time in milliseconds
+	 */
+	private final long created;
+
+	/**
+	 * Last released time in milliseconds
+	 */
+	private final long lastUsed;
+
+	/**
+	 * Number of times acquired
+	 */
+	private final long acquisitions;
+
+	/**
+	 * Total acquired time in nanoseconds
+	 */
+	private final long busyNanos;
+
+	/**
+	 * Currently acquired flag
+	 */
+	private final boolean busy;
+
+	/**
+	 * Constructor
+	 *
+	 * @param id
+	 *            pool assigned connection id
+	 * @param created
+	 *            created time in milliseconds
+	 * @param lastUsed
+	 *            last released time in milliseconds
+	 * @param acquisitions
+	 *            number of times acquired
+	 * @param busyNanos
+	 *            total acquired time in nanoseconds
+	 * @param busy
+	 *            true if currently acquired
+	 */
+	public GeoPackageReadConnectionStatistics(int id, long created,
+			long lastUsed, long acquisitions, long busyNanos, boolean busy) {
+		this.id = id;
+		this.created = created;
+		this.lastUsed = lastUsed;
+		this.acquisitions = acquisitions;
+		this.busyNanos = busyNanos;
+		this.busy = busy;
+	}
+
+	/**
+	 * Get the pool assigned connection id
+	 *
+	 * @return id
+	 */
+	public int getId() {
+		return id;
+	}
+
+	/**
+	 * Get the created time in milliseconds
+	 *
+	 * @return created time
+	 */
+	public long getCreated() {
+		return created;
+	}
+
+	/**
+	 * Get the last released time in milliseconds
+	 *
+	 * @return last used time
+	 */
+	public long getLastUsed() {
+		return lastUsed;
+	}
+
+	/**
+	 * Get the number of times acquired
+	 *
+	 * @return acquisitions
+	 */
+	public long getAcquisitions() {
+		return acquisitions;
+	}
+
+	/**
+	 * Get the total acquired time in nanoseconds
+	 *
+	 * @return busy nanoseconds
+	 */
+	public long getBusyNanos() {
+		return busyNanos;
+	}
+
+	/**
+	 * Check if currently acquired
+	 *
+	 * @return true if busy
+	 */
+	public boolean isBusy() {
+		return busy;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "Read Connection " + id + ": acquisitions=" + acquisitions
+				+ ", busyNanos=" + busyNanos + ", busy=" + busy;
+	}
+
+}
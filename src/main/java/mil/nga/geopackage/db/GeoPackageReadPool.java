@@ -0,0 +1,601 @@
+package mil.nga.geopackage.db;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * GeoPackage read connection pool of additional read only connections to the
+ * same GeoPackage file. When set on a {@link GeoPackageCoreConnection}, single
+ * result, single column, and multiple row queries (including counts and
+ * aggregate functions) run outside of a transaction are routed to a pooled
+ * reader, while writes, transactions, and queries on a primary connection
+ * with temp tables stay on the primary connection.
+ * <p>
+ * Readers are created on demand up to the max size and closed after idling
+ * longer than the idle timeout. When all readers are busy, an acquire waits
+ * up to the acquire timeout before falling back to the primary connection.
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class GeoPackageReadPool implements Closeable {
+
+	/**
+	 * Logger
+	 */
+	private static final Logger logger = Logger
+			.getLogger(GeoPackageReadPool.class.getName());
+
+	/**
+	 * Default maximum number of read connections
+	 */
+	public static final int DEFAULT_MAX_SIZE = 4;
+
+	/**
+	 * Default idle timeout in milliseconds
+	 */
+	public static final long DEFAULT_IDLE_TIMEOUT = 60000;
+
+	/**
+	 * Default acquire timeout in milliseconds
+	 */
+	public static final long DEFAULT_ACQUIRE_TIMEOUT = 0;
+
+	/**
+	 * Read connection factory
+	 */
+	private final GeoPackageReadConnectionFactory factory;
+
+	/**
+	 * Maximum number of read connections
+	 */
+	private int maxSize;
+
+	/**
+	 * Idle timeout in milliseconds
+	 */
+	private long idleTimeout = DEFAULT_IDLE_TIMEOUT;
+
+	/**
+	 * Acquire timeout in milliseconds
+	 */
+	private long acquireTimeout = DEFAULT_ACQUIRE_TIMEOUT;
+
+	/**
+	 * Idle readers, most recently used first
+	 */
+	private final Deque<PooledReader> idle = new ArrayDeque<>();
+
+	/**
+	 * All readers by connection
+	 */
+	private final Map<GeoPackageCoreConnection, PooledReader> readers = new IdentityHashMap<>();
+
+	/**
+	 * Readers being created
+	 */
+	private int creating = 0;
+
+	/**
+	 * Next reader id
+	 */
+	private int nextId = 1;
+
+	/**
+	 * Closed flag
+	 */
+	private boolean closed = false;
+
+	/**
+	 * Successful acquire count
+	 */
+	private long acquisitions = 0;
+
+	/**
+	 * Acquires with no available reader
+	 */
+	private long misses = 0;
+
+	/**
+	 * Created reader count
+	 */
+	private long created = 0;
+
+	/**
+	 * Idle evicted reader count
+	 */
+	private long evicted = 0;
+
+	/**
+	 * Constructor
+	 *
+	 * @param factory
+	 *            read connection factory
+	 */
+	public GeoPackageReadPool(GeoPackageReadConnectionFactory factory) {
+		this(factory, DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param factory
+	 *            read connection factory
+	 * @param maxSize
+	 *            maximum number of read connections
+	 */
+	public GeoPackageReadPool(GeoPackageReadConnectionFactory factory,
+			int maxSize) {
+		this.factory = factory;
+		this.maxSize = Math.max(maxSize, 0);
+	}
+
+	/**
+	 * Get the maximum number of read connections
+	 *
+	 * @return max size
+	 */
+	public synchronized int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Set the maximum number of read connections, closing idle readers over
+	 * the size
+	 *
+	 * @param maxSize
+	 *            max size
+	 */
+	public void setMaxSize(int maxSize) {
+		List<PooledReader> close = new ArrayList<>();
+		synchronized (this) {
+			this.maxSize = Math.max(maxSize, 0);
+			while (readers.size() > this.maxSize && !idle.isEmpty()) {
+				PooledReader reader = idle.removeLast();
+				readers.remove(reader.connection);
+				close.add(reader);
+			}
+		}
+		close(close);
+	}
+
+	/**
+	 * Get the idle timeout in milliseconds
+	 *
+	 * @return idle timeout
+	 */
+	public synchronized long getIdleTimeout() {
+		return idleTimeout;
+	}
+
+	/**
+	 * Set the idle timeout in milliseconds, 0 or less to never evict idle
+	 * readers
+	 *
+	 * @param idleTimeout
+	 *            idle timeout
+	 */
+	public synchronized void setIdleTimeout(long idleTimeout) {
+		this.idleTimeout = idleTimeout;
+	}
+
+	/**
+	 * Get the acquire timeout in milliseconds
+	 *
+	 * @return acquire timeout
+	 */
+	public synchronized long getAcquireTimeout() {
+		return acquireTimeout;
+	}
+
+	/**
+	 * Set the acquire timeout in milliseconds to wait for a busy reader, 0 to
+	 * not wait
+	 *
+	 * @param acquireTimeout
+	 *            acquire timeout
+	 */
+	public synchronized void setAcquireTimeout(long acquireTimeout) {
+		this.acquireTimeout = Math.max(acquireTimeout, 0);
+	}
+
+	/**
+	 * Get the current number of read connections
+	 *
+	 * @return size
+	 */
+	public synchronized int size() {
+		return readers.size();
+	}
+
+	/**
+	 * Get the number of idle read connections
+	 *
+	 * @return idle count
+	 */
+	public synchronized int getIdleCount() {
+		return idle.size();
+	}
+
+	/**
+	 * Get the successful acquire count
+	 *
+	 * @return acquisitions
+	 */
+	public synchronized long getAcquisitions() {
+		return acquisitions;
+	}
+
+	/**
+	 * Get the count of acquires with no available reader
+	 *
+	 * @return misses
+	 */
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Get the created reader count
+	 *
+	 * @return created readers
+	 */
+	public synchronized long getCreated() {
+		return created;
+	}
+
+	/**
+	 * Get the idle evicted reader count
+	 *
+	 * @return evicted readers
+	 */
+	public synchronized long getEvicted() {
+		return evicted;
+	}
+
+	/**
+	 * Get statistics snapshots of the read connections
+	 *
+	 * @return statistics
+	 */
+	public synchronized List<GeoPackageReadConnectionStatistics> getStatistics() {
+		List<GeoPackageReadConnectionStatistics> statistics = new ArrayList<>();
+		for (PooledReader reader : readers.values()) {
+			statistics.add(reader.statistics());
+		}
+		return statistics;
+	}
+
+	/**
+	 * Acquire a read connection, creating one when below the max size
+	 *
+	 * @return read connection, or null if none are available within the
+	 *         acquire timeout
+	 */
+	public GeoPackageCoreConnection acquire() {
+
+		PooledReader reader = null;
+		boolean create = false;
+
+		synchronized (this) {
+			long deadline = 0;
+			while (!closed) {
+				reader = idle.pollFirst();
+				if (reader != null) {
+					break;
+				}
+				if (readers.size() + creating < maxSize) {
+					creating++;
+					create = true;
+					break;
+				}
+				long remaining;
+				if (deadline == 0) {
+					deadline = currentTimeMillis() + acquireTimeout;
+					remaining = acquireTimeout;
+				} else {
+					remaining = deadline - currentTimeMillis();
+				}
+				if (remaining <= 0) {
+					break;
+				}
+				try {
+					wait(remaining);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+			}
+			if (reader == null && !create) {
+				misses++;
+			}
+		}
+
+		if (create) {
+			reader = create();
+		}
+
+		GeoPackageCoreConnection connection = null;
+		if (reader != null) {
+			synchronized (this) {
+				acquisitions++;
+			}
+			reader.acquired();
+			connection = reader.connection;
+		}
+
+		return connection;
+	}
+
+	/**
+	 * Release an acquired read connection back to the pool. Connections not
+	 * from this pool, or released after the pool closed, are closed.
+	 *
+	 * @param connection
+	 *            read connection
+	 */
+	public void release(GeoPackageCoreConnection connection) {
+		List<PooledReader> close = new ArrayList<>();
+		boolean closeConnection = false;
+		synchronized (this) {
+			PooledReader reader = readers.get(connection);
+			if (reader == null || closed) {
+				closeConnection = true;
+			} else {
+				reader.released(currentTimeMillis());
+				if (readers.size() > maxSize) {
+					readers.remove(connection);
+					close.add(reader);
+				} else {
+					idle.addFirst(reader);
+					notify();
+				}
+			}
+			close.addAll(removeIdle(currentTimeMillis()));
+		}
+		if (closeConnection) {
+			closeQuietly(connection);
+		}
+		close(close);
+	}
+
+	/**
+	 * Close read connections idle longer than the idle timeout
+	 *
+	 * @return evicted count
+	 */
+	public int evictIdle() {
+		List<PooledReader> close;
+		synchronized (this) {
+			close = removeIdle(currentTimeMillis());
+		}
+		close(close);
+		return close.size();
+	}
+
+	/**
+	 * Close the pool and all idle read connections. Busy read connections
+	 * are closed when released.
+	 */
+	@Override
+	public void close() {
+		List<PooledReader> close;
+		synchronized (this) {
+			closed = true;
+			close = new ArrayList<>(idle);
+			for (PooledReader reader : close) {
+				readers.remove(reader.connection);
+			}
+			idle.clear();
+			notifyAll();
+		}
+		close(close);
+	}
+
+	/**
+	 * Check if the pool is closed
+	 *
+	 * @return true if closed
+	 */
+	public synchronized boolean isClosed() {
+		return closed;
+	}
+
+	/**
+	 * Get the current time in milliseconds used for acquire timeouts and idle
+	 * eviction
+	 *
+	 * @return current time in milliseconds
+	 */
+	protected long currentTimeMillis() {
+		return System.currentTimeMillis();
+	}
+
+	/**
+	 * Create a reader for a reserved slot
+	 *
+	 * @return reader or null if creation failed
+	 */
+	private PooledReader create() {
+		PooledReader reader = null;
+		GeoPackageCoreConnection connection = null;
+		try {
+			connection = factory.open();
+		} catch (RuntimeException e) {
+			logger.log(Level.WARNING, "Failed to open read connection", e);
+		}
+		boolean closeConnection = false;
+		synchronized (this) {
+			creating--;
+			if (connection != null) {
+				if (closed) {
+					closeConnection = true;
+				} else {
+					reader = new PooledReader(nextId++, connection,
+							currentTimeMillis());
+					readers.put(connection, reader);
+					created++;
+				}
+			}
+			if (reader == null) {
+				misses++;
+				notify();
+			}
+		}
+		if (closeConnection) {
+			closeQuietly(connection);
+		}
+		return reader;
+	}
+
+	/**
+	 * Remove idle readers past the idle timeout, least recently used first
+	 *
+	 * @param now
+	 *            current time in milliseconds
+	 * @return removed readers to close
+	 */
+	private List<PooledReader> removeIdle(long now) {
+		List<PooledReader> removed = new ArrayList<>();
+		if (idleTimeout > 0) {
+			Iterator<PooledReader> iterator = idle.descendingIterator();
+			while (iterator.hasNext()) {
+				PooledReader reader = iterator.next();
+				if (now - reader.lastUsed <= idleTimeout) {
+					break;
+				}
+				iterator.remove();
+				readers.remove(reader.connection);
+				removed.add(reader);
+				evicted++;
+			}
+		}
+		return removed;
+	}
+
+	/**
+	 * Close the readers
+	 *
+	 * @param readers
+	 *            readers
+	 */
+	private static void close(List<PooledReader> readers) {
+		for (PooledReader reader : readers) {
+			closeQuietly(reader.connection);
+		}
+	}
+
+	/**
+	 * Close the connection, logging failures
+	 *
+	 * @param connection
+	 *            connection
+	 */
+	private static void closeQuietly(GeoPackageCoreConnection connection) {
+		try {
+			connection.close();
+		} catch (RuntimeException e) {
+			logger.log(Level.WARNING, "Failed to close read connection", e);
+		}
+	}
+
+	/**
+	 * Pooled reader connection and its statistics
+	 */
+	private static class PooledReader {
+
+		/**
+		 * Pool assigned id
+		 */
+		private final int id;
+
+		/**
+		 * Read connection
+		 */
+		private final GeoPackageCoreConnection connection;
+
+		/**
+		 * Created time in milliseconds
+		 */
+		private final long created;
+
+		/**
+		 * Last released time in milliseconds
+		 */
+		private volatile long lastUsed;
+
+		/**
+		 * Acquired count
+		 */
+		private volatile long acquisitions = 0;
+
+		/**
+		 * Total acquired nanoseconds
+		 */
+		private volatile long busyNanos = 0;
+
+		/**
+		 * Acquired time in nanoseconds, 0 when idle
+		 */
+		private volatile long acquiredNanos = 0;
+
+		/**
+		 * Constructor
+		 *
+		 * @param id
+		 *            pool assigned id
+		 * @param connection
+		 *            read connection
+		 * @param created
+		 *            created time in milliseconds
+		 */
+		PooledReader(int id, GeoPackageCoreConnection connection,
+				long created) {
+			this.id = id;
+			this.connection = connection;
+			this.created = created;
+			this.lastUsed = created;
+		}
+
+		/**
+		 * Record an acquire by the single owning thread
+		 */
+		void acquired() {
+			acquisitions++;
+			acquiredNanos = System.nanoTime();
+		}
+
+		/**
+		 * Record a release by the single owning thread
+		 *
+		 * @param now
+		 *            current time in milliseconds
+		 */
+		void released(long now) {
+			long nanos = System.nanoTime();
+			busyNanos += nanos - acquiredNanos;
+			acquiredNanos = 0;
+			lastUsed = now;
+		}
+
+		/**
+		 * Get a statistics snapshot
+		 *
+		 * @return statistics
+		 */
+		GeoPackageReadConnectionStatistics statistics() {
+			return new GeoPackageReadConnectionStatistics(id, created,
+					lastUsed, acquisitions, busyNanos, acquiredNanos != 0);
+		}
+
+	}
+
+}
@@ -0,0 +1,23 @@
+package mil.nga.geopackage.db;
+
+/**
+ * Database result supporting close listeners. Results implementing this
+ * interface are instrumented when closed, reporting the rows read and the
+ * time from the query until close, instead of only the time to create the
+ * result.
+ * 
+ * @author osbornb
+ * @since 6.6.8
+ */
+public interface ListenableResult extends Result {
+
+	/**
+	 * Add a listener notified once when the result is closed with the number
+	 * of rows read, counted as the rows successfully moved to
+	 * 
+	 * @param listener
+	 *            close listener
+	 */
+	public void addCloseListener(ResultCloseListener listener);
+
+}
@@ -0,0 +1,386 @@
+package mil.nga.geopackage.db;
+
+import java.io.Closeable;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.j256.ormlite.field.FieldType;
+import com.j256.ormlite.field.SqlType;
+import com.j256.ormlite.stmt.StatementBuilder.StatementType;
+import com.j256.ormlite.support.CompiledStatement;
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+import com.j256.ormlite.support.DatabaseResults;
+
+import mil.nga.geopackage.GeoPackageException;
+
+/**
+ * Query Statement, a single compiled SQL query reused by rebinding the string
+ * arguments for each execution. Values are read in the same types as the
+ * connection query helper methods.
+ * <p>
+ * The statement is compiled on a connection from the GeoPackage connection
+ * source, or on a provided connection owned by the caller. Close the statement
+ * to release an acquired connection.
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class QueryStatement implements Closeable {
+
+	/**
+	 * No argument field types
+	 */
+	private static final FieldType[] NO_FIELD_TYPES = new FieldType[0];
+
+	/**
+	 * Connection source
+	 */
+	private final ConnectionSource connectionSource;
+
+	/**
+	 * Database connection
+	 */
+	private final DatabaseConnection connection;
+
+	/**
+	 * True when the connection was acquired from the connection source and is
+	 * released when closed
+	 */
+	private final boolean releaseConnection;
+
+	/**
+	 * Compiled statement
+	 */
+	private final CompiledStatement statement;
+
+	/**
+	 * SQL statement
+	 */
+	private final String sql;
+
+	/**
+	 * Constructor
+	 *
+	 * @param db
+	 *            connection
+	 * @param sql
+	 *            SQL query with argument placeholders
+	 */
+	public QueryStatement(GeoPackageCoreConnection db, String sql) {
+		this(db, null, sql);
+	}
+
+	/**
+	 * Constructor, compiling on the provided connection when not null. A
+	 * provided connection remains owned by the caller and is not released when
+	 * the statement is closed.
+	 *
+	 * @param db
+	 *            connection
+	 * @param connection
+	 *            database connection from the connection source, or null to
+	 *            acquire one
+	 * @param sql
+	 *            SQL query with argument placeholders
+	 */
+	public QueryStatement(GeoPackageCoreConnection db,
+			DatabaseConnection connection, String sql) {
+		this.connectionSource = db.getConnectionSource();
+		this.sql = sql;
+		this.releaseConnection = connection == null;
+		try {
+			if (releaseConnection) {
+				connection = connectionSource.getReadWriteConnection(null);
+			}
+			statement = connection.compileStatement(sql,
+					StatementType.SELECT, NO_FIELD_TYPES,
+					DatabaseConnection.DEFAULT_RESULT_FLAGS, false);
+		} catch (SQLException e) {
+			if (releaseConnection && connection != null) {
+				release(connection);
+			}
+			throw new GeoPackageException(
+					"Failed to compile query statement. SQL: " + sql, e);
+		}
+		this.connection = connection;
+	}
+
+	/**
+	 * Get the SQL statement
+	 *
+	 * @return SQL statement
+	 */
+	public String getSql() {
+		return sql;
+	}
+
+	/**
+	 * Determine if the statement acquired its connection from the connection
+	 * source and releases it when closed
+	 *
+	 * @return true if the statement owns its connection
+	 */
+	public boolean isConnectionOwner() {
+		return releaseConnection;
+	}
+
+	/**
+	 * Query for a single result object
+	 *
+	 * @param args
+	 *            arguments
+	 * @param column
+	 *            column index
+	 * @param dataType
+	 *            GeoPackage data type
+	 * @return result, null if no result
+	 */
+	public Object querySingleResult(String[] args, int column,
+			GeoPackageDataType dataType) {
+		Object value = null;
+		DatabaseResults results = query(args);
+		try {
+			if (results.next()) {
+				value = getValue(results, column, dataType);
+			}
+		} catch (SQLException e) {
+			throw new GeoPackageException(
+					"Failed to read query result. SQL: " + sql, e);
+		} finally {
+			results.closeQuietly();
+		}
+		return value;
+	}
+
+	/**
+	 * Query for values from a single column up to the limit
+	 *
+	 * @param args
+	 *            arguments
+	 * @param column
+	 *            column index
+	 * @param dataType
+	 *            GeoPackage data type
+	 * @param limit
+	 *            result row limit
+	 * @return single column results
+	 */
+	public List<Object> querySingleColumnResults(String[] args, int column,
+			GeoPackageDataType dataType, Integer limit) {
+		List<Object> values = new ArrayList<>();
+		DatabaseResults results = query(args);
+		try {
+			while ((limit == null || values.size() < limit)
+					&& results.next()) {
+				values.add(getValue(results, column, dataType));
+			}
+		} catch (SQLException e) {
+			throw new GeoPackageException(
+					"Failed to read query results. SQL: " + sql, e);
+		} finally {
+			results.closeQuietly();
+		}
+		return values;
+	}
+
+	/**
+	 * Query for values up to the limit
+	 *
+	 * @param args
+	 *            arguments
+	 * @param dataTypes
+	 *            column data types
+	 * @param limit
+	 *            result row limit
+	 * @return results
+	 */
+	public List<List<Object>> queryResults(String[] args,
+			GeoPackageDataType[] dataTypes, Integer limit) {
+		List<List<Object>> rows = new ArrayList<>();
+		DatabaseResults results = query(args);
+		try {
+			int columns = results.getColumnCount();
+			while ((limit == null || rows.size() < limit) && results.next()) {
+				List<Object> row = new ArrayList<>(columns);
+				for (int i = 0; i < columns; i++) {
+					row.add(getValue(results, i,
+							dataTypes != null ? dataTypes[i] : null));
+				}
+				rows.add(row);
+			}
+		} catch (SQLException e) {
+			throw new GeoPackageException(
+					"Failed to read query results. SQL: " + sql, e);
+		} finally {
+			results.closeQuietly();
+		}
+		return rows;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close() {
+		statement.closeQuietly();
+		if (releaseConnection) {
+			release(connection);
+		}
+	}
+
+	/**
+	 * Bind the arguments and run the query
+	 *
+	 * @param args
+	 *            arguments
+	 * @return database results
+	 */
+	private DatabaseResults query(String[] args) {
+		try {
+			if (args != null) {
+				for (int i = 0; i < args.length; i++) {
+					statement.setObject(i, args[i], SqlType.STRING);
+				}
+			}
+			return statement.runQuery(null);
+		} catch (SQLException e) {
+			throw new GeoPackageException(
+					"Failed to execute query statement. SQL: " + sql, e);
+		}
+	}
+
+	/**
+	 * Release the connection back to the connection source
+	 *
+	 * @param connection
+	 *            database connection
+	 */
+	private void release(DatabaseConnection connection) {
+		try {
+			connectionSource.releaseConnection(connection);
+		} catch (SQLException e) {
+			throw new GeoPackageException(
+					"Failed to release query statement connection. SQL: "
+							+ sql,
+					e);
+		}
+	}
+
+	/**
+	 * Get the value of the column in the current result row, converted by the
+	 * column storage type and data type with the same rules as
+	 * {@link ResultUtils#getValue(Result, int, GeoPackageDataType)}
+	 *
+	 * @param results
+	 *            database results
+	 * @param index
+	 *            column index
+	 * @param dataType
+	 *            GeoPackage data type
+	 * @return value
+	 * @throws SQLException
+	 *             upon failure
+	 */
+	private static Object getValue(DatabaseResults results, int index,
+			GeoPackageDataType dataType) throws SQLException {
+
+		Object value = results.getObject(index);
+
+		if (value instanceof Long || value instanceof Integer
+				|| value instanceof Short || value instanceof Byte) {
+			value = getIntegerValue((Number) value, dataType);
+		} else if (value instanceof Double || value instanceof Float) {
+			value = getFloatValue((Number) value, dataType);
+		} else if (value instanceof String && dataType != null
+				&& (dataType == GeoPackageDataType.DATE
+						|| dataType == GeoPackageDataType.DATETIME)) {
+			value = ResultUtils.getValue(value, dataType);
+		}
+
+		return value;
+	}
+
+	/**
+	 * Get the value of an integer storage class column, as
+	 * {@link ResultUtils#getIntegerValue(Result, int, GeoPackageDataType)}
+	 *
+	 * @param number
+	 *            integer value
+	 * @param dataType
+	 *            GeoPackage data type
+	 * @return value
+	 */
+	private static Object getIntegerValue(Number number,
+			GeoPackageDataType dataType) {
+
+		Object value;
+
+		if (dataType == null) {
+			dataType = GeoPackageDataType.INTEGER;
+		}
+
+		switch (dataType) {
+		case BOOLEAN:
+			value = number.shortValue() == 0 ? Boolean.FALSE : Boolean.TRUE;
+			break;
+		case TINYINT:
+			value = (byte) number.shortValue();
+			break;
+		case SMALLINT:
+			value = number.shortValue();
+			break;
+		case MEDIUMINT:
+			value = number.intValue();
+			break;
+		case INT:
+		case INTEGER:
+			value = number.longValue();
+			break;
+		default:
+			throw new GeoPackageException(
+					"Data Type " + dataType + " is not an integer type");
+		}
+
+		return value;
+	}
+
+	/**
+	 * Get the value of a real storage class column, as
+	 * {@link ResultUtils#getFloatValue(Result, int, GeoPackageDataType)}
+	 *
+	 * @param number
+	 *            real value
+	 * @param dataType
+	 *            GeoPackage data type
+	 * @return value
+	 */
+	private static Object getFloatValue(Number number,
+			GeoPackageDataType dataType) {
+
+		Object value;
+
+		if (dataType == null) {
+			dataType = GeoPackageDataType.DOUBLE;
+		}
+
+		switch (dataType) {
+		case FLOAT:
+			value = number.floatValue();
+			break;
+		case DOUBLE:
+		case REAL:
+		case INTEGER:
+		case INT:
+			value = number.doubleValue();
+			break;
+		default:
+			throw new GeoPackageException(
+					"Data Type " + dataType + " is not a float type");
+		}
+
+		return value;
+	}
+
+}
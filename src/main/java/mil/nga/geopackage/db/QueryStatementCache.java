@@ -0,0 +1,341 @@
+package mil.nga.geopackage.db;
+
+import java.io.Closeable;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+
+import mil.nga.geopackage.GeoPackageException;
+
+/**
+ * Least recently used cache of compiled {@link QueryStatement} statements by
+ * SQL for a connection. Statements are checked out while executing so a
+ * statement is never shared between threads or closed while in use, and are
+ * returned to the cache when released. Evicted statements are closed.
+ * <p>
+ * All statements are compiled on a single connection from the connection
+ * source, held until the cache is closed and no statement is checked out, so
+ * the cache never holds more than one pooled connection. Use of the shared
+ * connection is serialized: a statement checked out on it holds the cache
+ * connection lock until released, so concurrent callers wait instead of
+ * running statements on the same connection at once.
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class QueryStatementCache implements Closeable {
+
+	/**
+	 * Logger
+	 */
+	private static final Logger logger = Logger
+			.getLogger(QueryStatementCache.class.getName());
+
+	/**
+	 * Default maximum cached statements
+	 */
+	public static final int DEFAULT_MAX_STATEMENTS = 32;
+
+	/**
+	 * Connection
+	 */
+	private final GeoPackageCoreConnection db;
+
+	/**
+	 * Maximum cached statements
+	 */
+	private final int maxStatements;
+
+	/**
+	 * Idle statements by SQL, least recently used first
+	 */
+	private final Map<String, QueryStatement> statements;
+
+	/**
+	 * Shared statement connection, acquired on the first compile
+	 */
+	private DatabaseConnection connection;
+
+	/**
+	 * Shared statement connection lock, held by the thread with a statement
+	 * checked out on the shared connection
+	 */
+	private final ReentrantLock connectionLock = new ReentrantLock();
+
+	/**
+	 * Checked out statement count
+	 */
+	private int checkedOut = 0;
+
+	/**
+	 * Cache hits
+	 */
+	private long hits = 0;
+
+	/**
+	 * Cache misses
+	 */
+	private long misses = 0;
+
+	/**
+	 * Evicted statements
+	 */
+	private long evictions = 0;
+
+	/**
+	 * Closed flag
+	 */
+	private boolean closed = false;
+
+	/**
+	 * Constructor
+	 *
+	 * @param db
+	 *            connection
+	 */
+	public QueryStatementCache(GeoPackageCoreConnection db) {
+		this(db, DEFAULT_MAX_STATEMENTS);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param db
+	 *            connection
+	 * @param maxStatements
+	 *            maximum cached statements
+	 */
+	public QueryStatementCache(GeoPackageCoreConnection db,
+			int maxStatements) {
+		this.db = db;
+		this.maxStatements = Math.max(maxStatements, 1);
+		statements = new LinkedHashMap<String, QueryStatement>(16, 0.75f,
+				true) {
+
+			/**
+			 * Serial version id
+			 */
+			private static final long serialVersionUID = 1L;
+
+			/**
+			 * {@inheritDoc}
+			 */
+			@Override
+			protected boolean removeEldestEntry(
+					Map.Entry<String, QueryStatement> eldest) {
+				boolean remove = size() > QueryStatementCache.this.maxStatements;
+				if (remove) {
+					evictions++;
+					eldest.getValue().close();
+				}
+				return remove;
+			}
+
+		};
+	}
+
+	/**
+	 * Get the maximum cached statements
+	 *
+	 * @return maximum statements
+	 */
+	public int getMaxStatements() {
+		return maxStatements;
+	}
+
+	/**
+	 * Check out the compiled statement for the SQL, compiling it on a cache
+	 * miss. Waits while another thread has a statement checked out on the
+	 * shared connection. After the cache is closed, statements are compiled on
+	 * their own connection and closed when released. The statement must be
+	 * returned with {@link #release(QueryStatement)} once the query results
+	 * are read.
+	 *
+	 * @param sql
+	 *            SQL query with argument placeholders
+	 * @return query statement
+	 */
+	public QueryStatement acquire(String sql) {
+		QueryStatement statement;
+		DatabaseConnection statementConnection = null;
+		connectionLock.lock();
+		try {
+			synchronized (this) {
+				statement = statements.remove(sql);
+				if (statement != null) {
+					hits++;
+				} else {
+					misses++;
+				}
+				if (!closed) {
+					statementConnection = connection();
+					checkedOut++;
+				}
+			}
+		} finally {
+			if (statementConnection == null) {
+				connectionLock.unlock();
+			}
+		}
+		if (statement == null) {
+			try {
+				statement = new QueryStatement(db, statementConnection, sql);
+			} catch (RuntimeException e) {
+				if (statementConnection != null) {
+					released();
+				}
+				throw e;
+			}
+		}
+		return statement;
+	}
+
+	/**
+	 * Return a checked out statement to the cache, from the thread that
+	 * acquired it. The statement is closed when the cache is closed or already
+	 * holds a statement for the same SQL.
+	 *
+	 * @param statement
+	 *            query statement
+	 */
+	public void release(QueryStatement statement) {
+		boolean close;
+		synchronized (this) {
+			close = closed || statements.containsKey(statement.getSql());
+			if (!close) {
+				statements.put(statement.getSql(), statement);
+			}
+		}
+		if (close) {
+			statement.close();
+		}
+		if (!statement.isConnectionOwner()) {
+			released();
+		}
+	}
+
+	/**
+	 * Get the number of cache hits
+	 *
+	 * @return hits
+	 */
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Get the number of cache misses, each compiling a statement
+	 *
+	 * @return misses
+	 */
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Get the number of statements evicted from the cache
+	 *
+	 * @return evictions
+	 */
+	public synchronized long getEvictions() {
+		return evictions;
+	}
+
+	/**
+	 * Get the number of idle cached statements
+	 *
+	 * @return cached statements
+	 */
+	public synchronized int size() {
+		return statements.size();
+	}
+
+	/**
+	 * Reset the hit, miss, and eviction counters
+	 */
+	public synchronized void resetCounters() {
+		hits = 0;
+		misses = 0;
+		evictions = 0;
+	}
+
+	/**
+	 * Close all cached statements. Statements checked out when closed are
+	 * closed as they are released, after which the shared connection is
+	 * released.
+	 */
+	@Override
+	public void close() {
+		synchronized (this) {
+			closed = true;
+			for (QueryStatement statement : statements.values()) {
+				statement.close();
+			}
+			statements.clear();
+		}
+		releaseConnection();
+	}
+
+	/**
+	 * Get the shared statement connection, acquiring it from the connection
+	 * source when needed
+	 *
+	 * @return database connection
+	 */
+	private DatabaseConnection connection() {
+		if (connection == null) {
+			try {
+				connection = db.getConnectionSource()
+						.getReadWriteConnection(null);
+			} catch (SQLException e) {
+				throw new GeoPackageException(
+						"Failed to get query statement cache connection", e);
+			}
+		}
+		return connection;
+	}
+
+	/**
+	 * Record a released statement, unlocking the shared connection and
+	 * releasing it when closed and no statements remain checked out
+	 */
+	private void released() {
+		synchronized (this) {
+			checkedOut--;
+		}
+		connectionLock.unlock();
+		releaseConnection();
+	}
+
+	/**
+	 * Release the shared connection to the connection source when closed and
+	 * no statements are checked out
+	 */
+	private void releaseConnection() {
+		DatabaseConnection release = null;
+		ConnectionSource connectionSource = null;
+		synchronized (this) {
+			if (closed && checkedOut == 0 && connection != null) {
+				release = connection;
+				connection = null;
+				connectionSource = db.getConnectionSource();
+			}
+		}
+		if (release != null) {
+			try {
+				connectionSource.releaseConnection(release);
+			} catch (SQLException e) {
+				logger.log(Level.WARNING,
+						"Failed to release query statement cache connection",
+						e);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,22 @@
+package mil.nga.geopackage.db;
+
+/**
+ * Result close listener, notified once when a {@link ListenableResult} is
+ * closed
+ * 
+ * @author osbornb
+ * @since 6.6.8
+ */
+public interface ResultCloseListener {
+
+	/**
+	 * Result closed
+	 * 
+	 * @param result
+	 *            closed result
+	 * @param rows
+	 *            rows read from the result before it was closed
+	 */
+	public void closed(Result result, long rows);
+
+}
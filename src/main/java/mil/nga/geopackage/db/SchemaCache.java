@@ -0,0 +1,223 @@
+package mil.nga.geopackage.db;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import mil.nga.geopackage.db.table.TableConstraints;
+import mil.nga.geopackage.db.table.TableInfo;
+import mil.nga.geopackage.user.UserColumn;
+import mil.nga.geopackage.user.UserTable;
+
+/**
+ * Schema metadata cache of table info, parsed table constraints, and user
+ * table definitions, shared by all DAOs of a GeoPackage connection. Cached
+ * values are valid while the SQLite schema version is unchanged and are
+ * cleared on the first access after any schema change.
+ * <p>
+ * Mutable values are copied on the way in and out.
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class SchemaCache {
+
+	/**
+	 * Connection
+	 */
+	private final GeoPackageCoreConnection db;
+
+	/**
+	 * Caching enabled flag
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * Schema version of the cached values
+	 */
+	private Long schemaVersion;
+
+	/**
+	 * Table info by table name
+	 */
+	private final Map<String, TableInfo> tableInfos = new HashMap<>();
+
+	/**
+	 * Table constraints by table name
+	 */
+	private final Map<String, TableConstraints> constraints = new HashMap<>();
+
+	/**
+	 * User tables by reader cache key and table name
+	 */
+	private final Map<String, Map<String, UserTable<? extends UserColumn>>> tables = new HashMap<>();
+
+	/**
+	 * Constructor
+	 *
+	 * @param db
+	 *            connection
+	 */
+	public SchemaCache(GeoPackageCoreConnection db) {
+		this.db = db;
+	}
+
+	/**
+	 * Check if caching is enabled
+	 *
+	 * @return true if enabled
+	 */
+	public synchronized boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Set if caching is enabled, clearing the cache
+	 *
+	 * @param enabled
+	 *            true to enable
+	 */
+	public synchronized void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+		clear();
+	}
+
+	/**
+	 * Get the cached table info
+	 *
+	 * @param tableName
+	 *            table name
+	 * @return table info or null
+	 */
+	public synchronized TableInfo getTableInfo(String tableName) {
+		TableInfo tableInfo = null;
+		if (validate()) {
+			tableInfo = tableInfos.get(tableName);
+		}
+		return tableInfo;
+	}
+
+	/**
+	 * Cache the table info
+	 *
+	 * @param tableName
+	 *            table name
+	 * @param tableInfo
+	 *            table info
+	 */
+	public synchronized void putTableInfo(String tableName,
+			TableInfo tableInfo) {
+		if (enabled && tableInfo != null) {
+			tableInfos.put(tableName, tableInfo);
+		}
+	}
+
+	/**
+	 * Get a copy of the cached table constraints
+	 *
+	 * @param tableName
+	 *            table name
+	 * @return table constraints or null
+	 */
+	public synchronized TableConstraints getConstraints(String tableName) {
+		TableConstraints tableConstraints = null;
+		if (validate()) {
+			tableConstraints = constraints.get(tableName);
+			if (tableConstraints != null) {
+				tableConstraints = tableConstraints.copy();
+			}
+		}
+		return tableConstraints;
+	}
+
+	/**
+	 * Cache a copy of the table constraints
+	 *
+	 * @param tableName
+	 *            table name
+	 * @param tableConstraints
+	 *            table constraints
+	 */
+	public synchronized void putConstraints(String tableName,
+			TableConstraints tableConstraints) {
+		if (enabled && tableConstraints != null) {
+			constraints.put(tableName, tableConstraints.copy());
+		}
+	}
+
+	/**
+	 * Get a copy of the cached user table
+	 *
+	 * @param key
+	 *            table reader cache key
+	 * @param tableName
+	 *            table name
+	 * @return user table or null
+	 */
+	public synchronized UserTable<? extends UserColumn> getTable(String key,
+			String tableName) {
+		UserTable<? extends UserColumn> table = null;
+		if (validate()) {
+			Map<String, UserTable<? extends UserColumn>> keyTables = tables
+					.get(key);
+			if (keyTables != null) {
+				table = keyTables.get(tableName);
+				if (table != null) {
+					table = table.copy();
+				}
+			}
+		}
+		return table;
+	}
+
+	/**
+	 * Cache a copy of the user table
+	 *
+	 * @param key
+	 *            table reader cache key
+	 * @param tableName
+	 *            table name
+	 * @param table
+	 *            user table
+	 */
+	public synchronized void putTable(String key, String tableName,
+			UserTable<? extends UserColumn> table) {
+		if (enabled && table != null) {
+			Map<String, UserTable<? extends UserColumn>> keyTables = tables
+					.get(key);
+			if (keyTables == null) {
+				keyTables = new HashMap<>();
+				tables.put(key, keyTables);
+			}
+			keyTables.put(tableName, table.copy());
+		}
+	}
+
+	/**
+	 * Clear all cached values
+	 */
+	public synchronized void clear() {
+		schemaVersion = null;
+		tableInfos.clear();
+		constraints.clear();
+		tables.clear();
+	}
+
+	/**
+	 * Validate the cached values against the current schema version, clearing
+	 * them when changed
+	 *
+	 * @return true if enabled
+	 */
+	private boolean validate() {
+		if (enabled) {
+			Long version = db.getSchemaVersion();
+			if (!Objects.equals(schemaVersion, version)) {
+				clear();
+				schemaVersion = version;
+			}
+		}
+		return enabled;
+	}
+
+}
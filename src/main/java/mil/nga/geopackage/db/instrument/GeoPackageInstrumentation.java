@@ -0,0 +1,23 @@
+package mil.nga.geopackage.db.instrument;
+
+/**
+ * GeoPackage instrumentation, notified of each timed database operation.
+ * Register with
+ * {@link mil.nga.geopackage.GeoPackageCore#addInstrumentation(GeoPackageInstrumentation)}.
+ * Implementations are called on the thread running the operation and should
+ * return quickly.
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public interface GeoPackageInstrumentation {
+
+	/**
+	 * Operation completed
+	 *
+	 * @param operation
+	 *            operation event
+	 */
+	public void operation(GeoPackageOperation operation);
+
+}
@@ -0,0 +1,146 @@
+package mil.nga.geopackage.db.instrument;
+
+/**
+ * GeoPackage operation event of a timed database operation
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class GeoPackageOperation {
+
+	/**
+	 * Unknown row count
+	 */
+	public static final long UNKNOWN_ROWS = -1;
+
+	/**
+	 * SQL statement
+	 */
+	private final String sql;
+
+	/**
+	 * SQL arguments
+	 */
+	private final String[] args;
+
+	/**
+	 * Table name
+	 */
+	private final String table;
+
+	/**
+	 * Rows returned or changed
+	 */
+	private final long rows;
+
+	/**
+	 * Elapsed time in nanoseconds
+	 */
+	private final long elapsedNanos;
+
+	/**
+	 * Calling DAO or source type
+	 */
+	private final Class<?> source;
+
+	/**
+	 * Constructor
+	 *
+	 * @param sql
+	 *            SQL statement
+	 * @param args
+	 *            SQL arguments or null
+	 * @param table
+	 *            table name or null when unknown
+	 * @param rows
+	 *            rows returned or changed, {@link #UNKNOWN_ROWS} when unknown
+	 * @param elapsedNanos
+	 *            elapsed time in nanoseconds
+	 * @param source
+	 *            calling DAO or source type, null for direct connection calls
+	 */
+	public GeoPackageOperation(String sql, String[] args, String table,
+			long rows, long elapsedNanos, Class<?> source) {
+		this.sql = sql;
+		this.args = args;
+		this.table = table;
+		this.rows = rows;
+		this.elapsedNanos = elapsedNanos;
+		this.source = source;
+	}
+
+	/**
+	 * Get the SQL statement
+	 *
+	 * @return SQL
+	 */
+	public String getSql() {
+		return sql;
+	}
+
+	/**
+	 * Get the SQL arguments
+	 *
+	 * @return arguments or null
+	 */
+	public String[] getArgs() {
+		return args;
+	}
+
+	/**
+	 * Get the table name
+	 *
+	 * @return table name or null
+	 */
+	public String getTable() {
+		return table;
+	}
+
+	/**
+	 * Get the rows returned or changed
+	 *
+	 * @return rows, {@link #UNKNOWN_ROWS} when unknown
+	 */
+	public long getRows() {
+		return rows;
+	}
+
+	/**
+	 * Get the elapsed time in nanoseconds
+	 *
+	 * @return elapsed nanoseconds
+	 */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * Get the calling DAO or source type
+	 *
+	 * @return source type or null
+	 */
+	public Class<?> getSource() {
+		return source;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		StringBuilder value = new StringBuilder();
+		value.append(elapsedNanos / 1000000.0).append(" ms");
+		if (table != null) {
+			value.append(", table: ").append(table);
+		}
+		if (rows != UNKNOWN_ROWS) {
+			value.append(", rows: ").append(rows);
+		}
+		if (source != null) {
+			value.append(", source: ").append(source.getSimpleName());
+		}
+		value.append(", SQL: ").append(sql);
+		return value.toString();
+	}
+
+}
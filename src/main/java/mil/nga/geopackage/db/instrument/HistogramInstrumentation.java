@@ -0,0 +1,131 @@
+package mil.nga.geopackage.db.instrument;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Histogram instrumentation collecting elapsed time histograms of all
+ * operations, per table, and per source type
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class HistogramInstrumentation implements GeoPackageInstrumentation {
+
+	/**
+	 * All operations histogram
+	 */
+	private final OperationHistogram histogram = new OperationHistogram();
+
+	/**
+	 * Histograms by table name
+	 */
+	private final Map<String, OperationHistogram> tables = new ConcurrentHashMap<>();
+
+	/**
+	 * Histograms by source type
+	 */
+	private final Map<Class<?>, OperationHistogram> sources = new ConcurrentHashMap<>();
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void operation(GeoPackageOperation operation) {
+		long nanos = operation.getElapsedNanos();
+		long rows = operation.getRows();
+		histogram.record(nanos, rows);
+		String table = operation.getTable();
+		if (table != null) {
+			getOrCreate(tables, table).record(nanos, rows);
+		}
+		Class<?> source = operation.getSource();
+		if (source != null) {
+			getOrCreate(sources, source).record(nanos, rows);
+		}
+	}
+
+	/**
+	 * Get the histogram of all operations
+	 *
+	 * @return histogram
+	 */
+	public OperationHistogram getHistogram() {
+		return histogram;
+	}
+
+	/**
+	 * Get the histogram of a table
+	 *
+	 * @param table
+	 *            table name
+	 * @return histogram or null
+	 */
+	public OperationHistogram getHistogram(String table) {
+		return tables.get(table);
+	}
+
+	/**
+	 * Get the histogram of a source type
+	 *
+	 * @param source
+	 *            DAO or source type
+	 * @return histogram or null
+	 */
+	public OperationHistogram getHistogram(Class<?> source) {
+		return sources.get(source);
+	}
+
+	/**
+	 * Get the table names with histograms
+	 *
+	 * @return table names
+	 */
+	public Set<String> getTables() {
+		return tables.keySet();
+	}
+
+	/**
+	 * Get the source types with histograms
+	 *
+	 * @return source types
+	 */
+	public Set<Class<?>> getSources() {
+		return sources.keySet();
+	}
+
+	/**
+	 * Reset all histograms
+	 */
+	public void reset() {
+		histogram.reset();
+		tables.clear();
+		sources.clear();
+	}
+
+	/**
+	 * Get or create the histogram of the key
+	 *
+	 * @param <K>
+	 *            key type
+	 * @param histograms
+	 *            histograms by key
+	 * @param key
+	 *            key
+	 * @return histogram
+	 */
+	private static <K> OperationHistogram getOrCreate(
+			Map<K, OperationHistogram> histograms, K key) {
+		OperationHistogram histogram = histograms.get(key);
+		if (histogram == null) {
+			OperationHistogram created = new OperationHistogram();
+			histogram = histograms.putIfAbsent(key, created);
+			if (histogram == null) {
+				histogram = created;
+			}
+		}
+		return histogram;
+	}
+
+}
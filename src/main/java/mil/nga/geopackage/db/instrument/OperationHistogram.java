@@ -0,0 +1,204 @@
+package mil.nga.geopackage.db.instrument;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock free histogram of operation elapsed times in power of two nanosecond
+ * buckets. Bucket i counts times in [2^(i-1), 2^i) nanoseconds, bucket 0
+ * counts times under one nanosecond.
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class OperationHistogram {
+
+	/**
+	 * Number of buckets
+	 */
+	public static final int BUCKETS = 64;
+
+	/**
+	 * Bucket counts
+	 */
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+	/**
+	 * Operation count
+	 */
+	private final AtomicLong count = new AtomicLong();
+
+	/**
+	 * Total elapsed nanoseconds
+	 */
+	private final AtomicLong totalNanos = new AtomicLong();
+
+	/**
+	 * Maximum elapsed nanoseconds
+	 */
+	private final AtomicLong maxNanos = new AtomicLong();
+
+	/**
+	 * Total rows of operations with known row counts
+	 */
+	private final AtomicLong rows = new AtomicLong();
+
+	/**
+	 * Record an operation
+	 *
+	 * @param elapsedNanos
+	 *            elapsed nanoseconds
+	 * @param rows
+	 *            rows, negative when unknown
+	 */
+	public void record(long elapsedNanos, long rows) {
+		long nanos = Math.max(elapsedNanos, 0);
+		buckets.incrementAndGet(getBucket(nanos));
+		count.incrementAndGet();
+		totalNanos.addAndGet(nanos);
+		if (rows > 0) {
+			this.rows.addAndGet(rows);
+		}
+		long max = maxNanos.get();
+		while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+			max = maxNanos.get();
+		}
+	}
+
+	/**
+	 * Get the operation count
+	 *
+	 * @return count
+	 */
+	public long getCount() {
+		return count.get();
+	}
+
+	/**
+	 * Get the total elapsed nanoseconds
+	 *
+	 * @return total nanoseconds
+	 */
+	public long getTotalNanos() {
+		return totalNanos.get();
+	}
+
+	/**
+	 * Get the maximum elapsed nanoseconds
+	 *
+	 * @return maximum nanoseconds
+	 */
+	public long getMaxNanos() {
+		return maxNanos.get();
+	}
+
+	/**
+	 * Get the mean elapsed nanoseconds
+	 *
+	 * @return mean nanoseconds
+	 */
+	public double getMeanNanos() {
+		long count = getCount();
+		return count > 0 ? getTotalNanos() / (double) count : 0;
+	}
+
+	/**
+	 * Get the total rows of operations with known row counts
+	 *
+	 * @return rows
+	 */
+	public long getRows() {
+		return rows.get();
+	}
+
+	/**
+	 * Get the count of a bucket
+	 *
+	 * @param bucket
+	 *            bucket index
+	 * @return bucket count
+	 */
+	public long getBucketCount(int bucket) {
+		return buckets.get(bucket);
+	}
+
+	/**
+	 * Get the exclusive upper bound in nanoseconds of a bucket
+	 *
+	 * @param bucket
+	 *            bucket index
+	 * @return upper bound nanoseconds
+	 */
+	public static long getBucketUpperBound(int bucket) {
+		return bucket >= BUCKETS - 1 ? Long.MAX_VALUE : 1L << bucket;
+	}
+
+	/**
+	 * Get the estimated elapsed nanoseconds at the percentile, as the upper
+	 * bound of the bucket containing it
+	 *
+	 * @param percentile
+	 *            percentile between 0.0 and 100.0
+	 * @return estimated nanoseconds, 0 when empty
+	 */
+	public long getPercentileNanos(double percentile) {
+		long total = 0;
+		long[] counts = new long[BUCKETS];
+		for (int i = 0; i < BUCKETS; i++) {
+			counts[i] = buckets.get(i);
+			total += counts[i];
+		}
+		long nanos = 0;
+		if (total > 0) {
+			long rank = (long) Math
+					.ceil(Math.min(Math.max(percentile, 0), 100) / 100.0
+							* total);
+			rank = Math.max(rank, 1);
+			long cumulative = 0;
+			for (int i = 0; i < BUCKETS; i++) {
+				cumulative += counts[i];
+				if (cumulative >= rank) {
+					nanos = Math.min(getBucketUpperBound(i), getMaxNanos());
+					break;
+				}
+			}
+		}
+		return nanos;
+	}
+
+	/**
+	 * Reset the histogram
+	 */
+	public void reset() {
+		for (int i = 0; i < BUCKETS; i++) {
+			buckets.set(i, 0);
+		}
+		count.set(0);
+		totalNanos.set(0);
+		maxNanos.set(0);
+		rows.set(0);
+	}
+
+	/**
+	 * Get the bucket of the elapsed nanoseconds
+	 *
+	 * @param nanos
+	 *            elapsed nanoseconds
+	 * @return bucket index
+	 */
+	private static int getBucket(long nanos) {
+		return Math.min(64 - Long.numberOfLeadingZeros(nanos), BUCKETS - 1);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "count=" + getCount() + ", mean=" + getMeanNanos()
+				+ " ns, p50=" + getPercentileNanos(50) + " ns, p99="
+				+ getPercentileNanos(99) + " ns, max=" + getMaxNanos()
+				+ " ns";
+	}
+
+}
@@ -0,0 +1,243 @@
+package mil.nga.geopackage.db.instrument;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import mil.nga.geopackage.db.GeoPackageCoreConnection;
+
+/**
+ * Slow query instrumentation logging operations over a time threshold. The
+ * SQLite query plan from EXPLAIN QUERY PLAN is captured for slow queries.
+ * <p>
+ * Query plans are explained synchronously on the thread reporting the slow
+ * operation, always through the connection provided at construction, even
+ * when the query ran on another connection such as a pooled read connection.
+ * The explain adds a query on that connection to the slow operation's
+ * thread, waiting on and holding the connection like any other query. Disable
+ * with {@link #setExplain(boolean)} when the extra latency or contention is
+ * not acceptable.
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class SlowQueryInstrumentation implements GeoPackageInstrumentation {
+
+	/**
+	 * Default logger
+	 */
+	private static final Logger defaultLogger = Logger
+			.getLogger(SlowQueryInstrumentation.class.getName());
+
+	/**
+	 * Default threshold in milliseconds
+	 */
+	public static final long DEFAULT_THRESHOLD = 100;
+
+	/**
+	 * Connection used to explain query plans
+	 */
+	private final GeoPackageCoreConnection db;
+
+	/**
+	 * Threshold in nanoseconds
+	 */
+	private volatile long thresholdNanos;
+
+	/**
+	 * Logger
+	 */
+	private volatile Logger logger = defaultLogger;
+
+	/**
+	 * Log level
+	 */
+	private volatile Level level = Level.WARNING;
+
+	/**
+	 * Explain query plans flag
+	 */
+	private volatile boolean explain = true;
+
+	/**
+	 * Slow operation count
+	 */
+	private final AtomicLong count = new AtomicLong();
+
+	/**
+	 * Constructor
+	 *
+	 * @param db
+	 *            connection used to explain query plans
+	 */
+	public SlowQueryInstrumentation(GeoPackageCoreConnection db) {
+		this(db, DEFAULT_THRESHOLD);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param db
+	 *            connection used to explain query plans
+	 * @param threshold
+	 *            threshold in milliseconds
+	 */
+	public SlowQueryInstrumentation(GeoPackageCoreConnection db,
+			long threshold) {
+		this.db = db;
+		setThreshold(threshold);
+	}
+
+	/**
+	 * Get the threshold in milliseconds
+	 *
+	 * @return threshold
+	 */
+	public long getThreshold() {
+		return thresholdNanos / 1000000;
+	}
+
+	/**
+	 * Set the threshold in milliseconds
+	 *
+	 * @param threshold
+	 *            threshold
+	 */
+	public void setThreshold(long threshold) {
+		this.thresholdNanos = threshold * 1000000;
+	}
+
+	/**
+	 * Get the logger
+	 *
+	 * @return logger
+	 */
+	public Logger getLogger() {
+		return logger;
+	}
+
+	/**
+	 * Set the logger
+	 *
+	 * @param logger
+	 *            logger
+	 */
+	public void setLogger(Logger logger) {
+		this.logger = logger;
+	}
+
+	/**
+	 * Get the log level
+	 *
+	 * @return log level
+	 */
+	public Level getLevel() {
+		return level;
+	}
+
+	/**
+	 * Set the log level
+	 *
+	 * @param level
+	 *            log level
+	 */
+	public void setLevel(Level level) {
+		this.level = level;
+	}
+
+	/**
+	 * Check if query plans are explained
+	 *
+	 * @return true if explained
+	 */
+	public boolean isExplain() {
+		return explain;
+	}
+
+	/**
+	 * Set if query plans are explained, synchronously on the provided
+	 * connection for each slow query
+	 *
+	 * @param explain
+	 *            true to explain query plans
+	 */
+	public void setExplain(boolean explain) {
+		this.explain = explain;
+	}
+
+	/**
+	 * Get the number of slow operations
+	 *
+	 * @return slow operations
+	 */
+	public long getCount() {
+		return count.get();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void operation(GeoPackageOperation operation) {
+		if (operation.getElapsedNanos() >= thresholdNanos
+				&& logger.isLoggable(level)) {
+			count.incrementAndGet();
+			StringBuilder message = new StringBuilder();
+			message.append("Slow GeoPackage operation: ").append(operation);
+			if (explain && isQuery(operation.getSql())) {
+				String plan = explain(operation);
+				if (plan != null) {
+					message.append("\nQuery Plan:").append(plan);
+				}
+			}
+			logger.log(level, message.toString());
+		}
+	}
+
+	/**
+	 * Explain the query plan of the operation on the provided connection,
+	 * which may differ from the connection that ran the query
+	 *
+	 * @param operation
+	 *            query operation
+	 * @return query plan lines or null
+	 */
+	private String explain(GeoPackageOperation operation) {
+		String plan = null;
+		try {
+			// Query directly on the connection, bypassing the instrumented
+			// query helpers
+			List<List<Object>> results = db.queryResults(
+					"EXPLAIN QUERY PLAN " + operation.getSql(),
+					operation.getArgs(), null, null);
+			StringBuilder lines = new StringBuilder();
+			for (List<Object> row : results) {
+				lines.append("\n    ").append(row.get(row.size() - 1));
+			}
+			plan = lines.toString();
+		} catch (Exception e) {
+			logger.log(Level.FINE, "Failed to explain query plan. SQL: "
+					+ operation.getSql(), e);
+		}
+		return plan;
+	}
+
+	/**
+	 * Determine if the SQL is a query that can be explained
+	 *
+	 * @param sql
+	 *            SQL statement
+	 * @return true if query
+	 */
+	private static boolean isQuery(String sql) {
+		boolean query = false;
+		if (sql != null) {
+			String lower = sql.trim().toLowerCase(Locale.ENGLISH);
+			query = lower.startsWith("select") || lower.startsWith("with");
+		}
+		return query;
+	}
+
+}
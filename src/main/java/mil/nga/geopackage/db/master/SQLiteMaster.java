@@ -8,6 +8,7 @@ import java.util.Map;
 import java.util.Set;
 
 import mil.nga.geopackage.db.GeoPackageCoreConnection;
+import mil.nga.geopackage.db.SchemaCache;
 import mil.nga.geopackage.db.table.ConstraintParser;
 import mil.nga.geopackage.db.table.TableConstraints;
 
@@ -940,11 +941,16 @@ public class SQLiteMaster {
 	 */
 	public static TableConstraints queryForConstraints(
 			GeoPackageCoreConnection db, String tableName) {
-		TableConstraints constraints = new TableConstraints();
-		SQLiteMaster tableMaster = SQLiteMaster.queryByType(db,
-				SQLiteMasterType.TABLE, tableName);
-		for (int i = 0; i < tableMaster.count(); i++) {
-			constraints.addConstraints(tableMaster.getConstraints(i));
+		SchemaCache schemaCache = db.getSchemaCache();
+		TableConstraints constraints = schemaCache.getConstraints(tableName);
+		if (constraints == null) {
+			constraints = new TableConstraints();
+			SQLiteMaster tableMaster = SQLiteMaster.queryByType(db,
+					SQLiteMasterType.TABLE, tableName);
+			for (int i = 0; i < tableMaster.count(); i++) {
+				constraints.addConstraints(tableMaster.getConstraints(i));
+			}
+			schemaCache.putConstraints(tableName, constraints);
 		}
 		return constraints;
 	}
@@ -30,6 +30,25 @@ public class TableConstraints {
 
 	}
 
+	/**
+	 * Copy the table and column constraints
+	 * 
+	 * @return copied table constraints
+	 * @since 6.6.8
+	 */
+	public TableConstraints copy() {
+		TableConstraints copy = new TableConstraints();
+		copy.constraints = constraints.copy();
+		for (Map.Entry<String, ColumnConstraints> entry : columnConstraints
+				.entrySet()) {
+			ColumnConstraints columnCopy = new ColumnConstraints(
+					entry.getValue().getName());
+			columnCopy.addConstraints(entry.getValue().getConstraints().copy());
+			copy.columnConstraints.put(entry.getKey(), columnCopy);
+		}
+		return copy;
+	}
+
 	/**
 	 * Add a table constraint
 	 * 
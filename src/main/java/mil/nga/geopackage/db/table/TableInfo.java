@@ -13,6 +13,7 @@ import mil.nga.geopackage.db.CoreSQLUtils;
 import mil.nga.geopackage.db.DateConverter;
 import mil.nga.geopackage.db.GeoPackageCoreConnection;
 import mil.nga.geopackage.db.GeoPackageDataType;
+import mil.nga.geopackage.db.SchemaCache;
 import mil.nga.sf.GeometryType;
 
 /**
@@ -240,6 +241,28 @@ public class TableInfo {
 	public static TableInfo info(GeoPackageCoreConnection db,
 			String tableName) {
 
+		SchemaCache schemaCache = db.getSchemaCache();
+		TableInfo tableInfo = schemaCache.getTableInfo(tableName);
+		if (tableInfo == null) {
+			tableInfo = query(db, tableName);
+			schemaCache.putTableInfo(tableName, tableInfo);
+		}
+
+		return tableInfo;
+	}
+
+	/**
+	 * Query for the table_info of the table name
+	 * 
+	 * @param db
+	 *            connection
+	 * @param tableName
+	 *            table name
+	 * @return table info or null if no table
+	 */
+	private static TableInfo query(GeoPackageCoreConnection db,
+			String tableName) {
+
 		String sql = "PRAGMA table_info(" + CoreSQLUtils.quoteWrap(tableName)
 				+ ")";
 
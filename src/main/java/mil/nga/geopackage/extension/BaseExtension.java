@@ -118,10 +118,8 @@ public abstract class BaseExtension {
 
 		Extensions extension = null;
 		try {
-			if (extensionsDao.isTableExists()) {
-				extension = extensionsDao.queryByExtension(extensionName,
-						tableName, columnName);
-			}
+			extension = extensionsDao.queryByExtensionIfTableExists(
+					extensionName, tableName, columnName);
 		} catch (SQLException e) {
 			throw new GeoPackageException("Failed to query for '"
 					+ extensionName + "' extension for GeoPackage: "
@@ -162,10 +160,8 @@ public abstract class BaseExtension {
 
 		List<Extensions> extensions = null;
 		try {
-			if (extensionsDao.isTableExists()) {
-				extensions = extensionsDao.queryByExtension(extensionName,
-						tableName);
-			}
+			extensions = extensionsDao
+					.queryByExtensionIfTableExists(extensionName, tableName);
 		} catch (SQLException e) {
 			throw new GeoPackageException("Failed to query for '"
 					+ extensionName + "' extension for GeoPackage: "
@@ -199,9 +195,8 @@ public abstract class BaseExtension {
 
 		List<Extensions> extensions = null;
 		try {
-			if (extensionsDao.isTableExists()) {
-				extensions = extensionsDao.queryByExtension(extensionName);
-			}
+			extensions = extensionsDao
+					.queryByExtensionIfTableExists(extensionName);
 		} catch (SQLException e) {
 			throw new GeoPackageException("Failed to query for '"
 					+ extensionName + "' extension for GeoPackage: "
@@ -0,0 +1,215 @@
+package mil.nga.geopackage.extension;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * In memory snapshot of the GeoPackage Extensions table, held by the
+ * {@link ExtensionsDao} of a GeoPackage connection. The snapshot is valid
+ * while the SQLite data version, changed by commits of other connections, is
+ * unchanged. Changes made on the same connection do not change the data
+ * version, so the snapshot is cleared by writes through the DAO and by
+ * creating or dropping the extensions table through the GeoPackage. The
+ * snapshot is not loaded or used within transactions.
+ * <p>
+ * Returned extensions are copies and may be modified by callers.
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class ExtensionsCache {
+
+	/**
+	 * Caching enabled flag
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * Snapshot loaded flag
+	 */
+	private boolean loaded = false;
+
+	/**
+	 * Extensions table exists flag
+	 */
+	private boolean tableExists = false;
+
+	/**
+	 * Data version of the snapshot
+	 */
+	private Long dataVersion;
+
+	/**
+	 * Extensions by extension name
+	 */
+	private final Map<String, List<Extensions>> extensions = new HashMap<>();
+
+	/**
+	 * Constructor
+	 */
+	public ExtensionsCache() {
+
+	}
+
+	/**
+	 * Check if caching is enabled
+	 *
+	 * @return true if enabled
+	 */
+	public synchronized boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Set if caching is enabled, clearing the snapshot
+	 *
+	 * @param enabled
+	 *            true to enable
+	 */
+	public synchronized void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+		clear();
+	}
+
+	/**
+	 * Check if the snapshot is loaded and matches the database data version
+	 *
+	 * @param dataVersion
+	 *            current data version
+	 * @return true if valid
+	 */
+	public synchronized boolean isValid(Long dataVersion) {
+		return loaded && Objects.equals(this.dataVersion, dataVersion);
+	}
+
+	/**
+	 * Load the snapshot
+	 *
+	 * @param tableExists
+	 *            true if the extensions table exists
+	 * @param extensions
+	 *            all extensions
+	 * @param dataVersion
+	 *            data version
+	 */
+	public synchronized void load(boolean tableExists,
+			List<Extensions> extensions, Long dataVersion) {
+		clear();
+		if (enabled) {
+			this.tableExists = tableExists;
+			if (extensions != null) {
+				for (Extensions extension : extensions) {
+					put(extension);
+				}
+			}
+			this.dataVersion = dataVersion;
+			loaded = true;
+		}
+	}
+
+	/**
+	 * Check if the loaded snapshot has an extensions table
+	 *
+	 * @return true if the table exists
+	 */
+	public synchronized boolean isTableExists() {
+		return tableExists;
+	}
+
+	/**
+	 * Get the extensions by extension name
+	 *
+	 * @param extensionName
+	 *            extension name
+	 * @return extension copies
+	 */
+	public synchronized List<Extensions> get(String extensionName) {
+		List<Extensions> results = new ArrayList<>();
+		List<Extensions> named = extensions.get(extensionName);
+		if (named != null) {
+			for (Extensions extension : named) {
+				results.add(new Extensions(extension));
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * Get the extensions by extension name and table name
+	 *
+	 * @param extensionName
+	 *            extension name
+	 * @param tableName
+	 *            table name
+	 * @return extension copies
+	 */
+	public synchronized List<Extensions> get(String extensionName,
+			String tableName) {
+		List<Extensions> results = new ArrayList<>();
+		List<Extensions> named = extensions.get(extensionName);
+		if (named != null) {
+			for (Extensions extension : named) {
+				if (Objects.equals(tableName, extension.getTableName())) {
+					results.add(new Extensions(extension));
+				}
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * Get the extensions by extension name, table name, and column name
+	 *
+	 * @param extensionName
+	 *            extension name
+	 * @param tableName
+	 *            table name
+	 * @param columnName
+	 *            column name
+	 * @return extension copies
+	 */
+	public synchronized List<Extensions> get(String extensionName,
+			String tableName, String columnName) {
+		List<Extensions> results = new ArrayList<>();
+		List<Extensions> named = extensions.get(extensionName);
+		if (named != null) {
+			for (Extensions extension : named) {
+				if (Objects.equals(tableName, extension.getTableName())
+						&& Objects.equals(columnName,
+								extension.getColumnName())) {
+					results.add(new Extensions(extension));
+				}
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * Clear the snapshot
+	 */
+	public synchronized void clear() {
+		loaded = false;
+		tableExists = false;
+		dataVersion = null;
+		extensions.clear();
+	}
+
+	/**
+	 * Put a copy of the extension into the snapshot
+	 *
+	 * @param extension
+	 *            extension
+	 */
+	private void put(Extensions extension) {
+		List<Extensions> named = extensions.get(extension.getExtensionName());
+		if (named == null) {
+			named = new ArrayList<>();
+			extensions.put(extension.getExtensionName(), named);
+		}
+		named.add(new Extensions(extension));
+	}
+
+}
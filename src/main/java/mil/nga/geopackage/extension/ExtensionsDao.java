@@ -1,9 +1,11 @@
 package mil.nga.geopackage.extension;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
 
 import com.j256.ormlite.stmt.DeleteBuilder;
+import com.j256.ormlite.stmt.PreparedDelete;
 import com.j256.ormlite.stmt.PreparedUpdate;
 import com.j256.ormlite.stmt.QueryBuilder;
 import com.j256.ormlite.stmt.UpdateBuilder;
@@ -22,6 +24,11 @@ import mil.nga.geopackage.db.GeoPackageDao;
  */
 public class ExtensionsDao extends GeoPackageDao<Extensions, Void> {
 
+	/**
+	 * Extensions table snapshot cache
+	 */
+	private final ExtensionsCache cache = new ExtensionsCache();
+
 	/**
 	 * Create the DAO
 	 * 
@@ -61,6 +68,201 @@ public class ExtensionsDao extends GeoPackageDao<Extensions, Void> {
 		super(connectionSource, dataClass);
 	}
 
+	/**
+	 * Get the extensions table snapshot cache
+	 * 
+	 * @return extensions cache
+	 * @since 6.6.8
+	 */
+	public ExtensionsCache getCache() {
+		return cache;
+	}
+
+	/**
+	 * Validate the extensions cache against the current data version,
+	 * reloading the snapshot when changed. The cache is bypassed within
+	 * transactions so rows of a rolled back transaction are never loaded into
+	 * the snapshot.
+	 * <p>
+	 * The data version only changes for commits made by other connections.
+	 * Writes through this DAO clear the snapshot, as do creating and dropping
+	 * the extensions table through the GeoPackage. Writes or schema changes to
+	 * the extensions table on this connection outside of the DAO and
+	 * GeoPackage, such as raw SQL, must clear it through {@link #getCache()}.
+	 * 
+	 * @return true if the cache is enabled and valid
+	 * @throws SQLException
+	 *             upon failure
+	 */
+	private boolean validateCache() throws SQLException {
+		boolean valid = false;
+		if (db != null && cache.isEnabled() && !db.inTransaction()) {
+			Long dataVersion = db.getDataVersion();
+			valid = cache.isValid(dataVersion);
+			if (!valid) {
+				boolean tableExists = super.isTableExists();
+				List<Extensions> extensions = null;
+				if (tableExists) {
+					extensions = super.queryForAll();
+				}
+				cache.load(tableExists, extensions, dataVersion);
+				valid = cache.isEnabled();
+			}
+		}
+		return valid;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Served from the extensions cache when valid
+	 */
+	@Override
+	public boolean isTableExists() throws SQLException {
+		boolean exists;
+		if (validateCache()) {
+			exists = cache.isTableExists();
+		} else {
+			exists = super.isTableExists();
+		}
+		return exists;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int create(Extensions extensions) throws SQLException {
+		int result = super.create(extensions);
+		cache.clear();
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int create(Collection<Extensions> datas) throws SQLException {
+		int result = super.create(datas);
+		cache.clear();
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Extensions createIfNotExists(Extensions data) throws SQLException {
+		Extensions extensions = super.createIfNotExists(data);
+		cache.clear();
+		return extensions;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public CreateOrUpdateStatus createOrUpdate(Extensions data)
+			throws SQLException {
+		CreateOrUpdateStatus status = super.createOrUpdate(data);
+		cache.clear();
+		return status;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int update(PreparedUpdate<Extensions> preparedUpdate)
+			throws SQLException {
+		int result = super.update(preparedUpdate);
+		cache.clear();
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int delete(PreparedDelete<Extensions> preparedDelete)
+			throws SQLException {
+		int result = super.delete(preparedDelete);
+		cache.clear();
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int delete(Collection<Extensions> datas) throws SQLException {
+		int result = super.delete(datas);
+		cache.clear();
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int updateId(Extensions data, Void newId) throws SQLException {
+		int result = super.updateId(data, newId);
+		cache.clear();
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int deleteById(Void id) throws SQLException {
+		int result = super.deleteById(id);
+		cache.clear();
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int deleteIds(Collection<Void> ids) throws SQLException {
+		int result = super.deleteIds(ids);
+		cache.clear();
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int updateRaw(String statement, String... arguments)
+			throws SQLException {
+		int result = super.updateRaw(statement, arguments);
+		cache.clear();
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int executeRaw(String statement, String... arguments)
+			throws SQLException {
+		int result = super.executeRaw(statement, arguments);
+		cache.clear();
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int executeRawNoArgs(String statement) throws SQLException {
+		int result = super.executeRawNoArgs(statement);
+		cache.clear();
+		return result;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * <p>
@@ -218,14 +420,25 @@ public class ExtensionsDao extends GeoPackageDao<Extensions, Void> {
 	 */
 	public List<Extensions> queryByExtension(String extensionName)
 			throws SQLException {
+		return queryByExtension(false, extensionName, false, null, false,
+				null);
+	}
 
-		QueryBuilder<Extensions, Void> qb = queryBuilder();
-
-		setUniqueWhere(qb.where(), extensionName, false, null, false, null);
-
-		List<Extensions> extensions = qb.query();
-
-		return extensions;
+	/**
+	 * Query by extension name if the extensions table exists, validating the
+	 * extensions cache once for both the table check and query
+	 * 
+	 * @param extensionName
+	 *            extension name
+	 * @return extensions or null if the table does not exist
+	 * @throws SQLException
+	 *             upon failure
+	 * @since 6.6.8
+	 */
+	public List<Extensions> queryByExtensionIfTableExists(
+			String extensionName) throws SQLException {
+		return queryByExtension(true, extensionName, false, null, false,
+				null);
 	}
 
 	/**
@@ -241,14 +454,27 @@ public class ExtensionsDao extends GeoPackageDao<Extensions, Void> {
 	 */
 	public List<Extensions> queryByExtension(String extensionName,
 			String tableName) throws SQLException {
+		return queryByExtension(false, extensionName, true, tableName, false,
+				null);
+	}
 
-		QueryBuilder<Extensions, Void> qb = queryBuilder();
-
-		setUniqueWhere(qb.where(), extensionName, true, tableName, false, null);
-
-		List<Extensions> extensions = qb.query();
-
-		return extensions;
+	/**
+	 * Query by extension name and table name if the extensions table exists,
+	 * validating the extensions cache once for both the table check and query
+	 * 
+	 * @param extensionName
+	 *            extension name
+	 * @param tableName
+	 *            table name
+	 * @return extensions or null if the table does not exist
+	 * @throws SQLException
+	 *             upon failure
+	 * @since 6.6.8
+	 */
+	public List<Extensions> queryByExtensionIfTableExists(
+			String extensionName, String tableName) throws SQLException {
+		return queryByExtension(true, extensionName, true, tableName, false,
+				null);
 	}
 
 	/**
@@ -266,23 +492,106 @@ public class ExtensionsDao extends GeoPackageDao<Extensions, Void> {
 	 */
 	public Extensions queryByExtension(String extensionName, String tableName,
 			String columnName) throws SQLException {
+		List<Extensions> extensions = queryByExtension(false, extensionName,
+				true, tableName, true, columnName);
+		return getUnique(extensions, extensionName, tableName, columnName);
+	}
 
-		QueryBuilder<Extensions, Void> qb = queryBuilder();
+	/**
+	 * Query by extension name, table name, and column name if the extensions
+	 * table exists, validating the extensions cache once for both the table
+	 * check and query
+	 * 
+	 * @param extensionName
+	 *            extension name
+	 * @param tableName
+	 *            table name
+	 * @param columnName
+	 *            column name
+	 * @return extension or null if the table or extension does not exist
+	 * @throws SQLException
+	 *             upon failure
+	 * @since 6.6.8
+	 */
+	public Extensions queryByExtensionIfTableExists(String extensionName,
+			String tableName, String columnName) throws SQLException {
+		List<Extensions> extensions = queryByExtension(true, extensionName,
+				true, tableName, true, columnName);
+		return getUnique(extensions, extensionName, tableName, columnName);
+	}
 
-		setUniqueWhere(qb.where(), extensionName, true, tableName, true,
-				columnName);
+	/**
+	 * Query by the unique columns, from the extensions cache when valid
+	 * 
+	 * @param checkTable
+	 *            true to return null when the extensions table does not exist
+	 * @param extensionName
+	 *            extension name
+	 * @param queryTableName
+	 *            query table name
+	 * @param tableName
+	 *            table name
+	 * @param queryColumnName
+	 *            query column name
+	 * @param columnName
+	 *            column name
+	 * @return extensions, or null if checking the table and it does not exist
+	 * @throws SQLException
+	 *             upon failure
+	 */
+	private List<Extensions> queryByExtension(boolean checkTable,
+			String extensionName, boolean queryTableName, String tableName,
+			boolean queryColumnName, String columnName) throws SQLException {
+
+		List<Extensions> extensions = null;
+		if (validateCache()) {
+			if (!checkTable || cache.isTableExists()) {
+				if (queryColumnName) {
+					extensions = cache.get(extensionName, tableName,
+							columnName);
+				} else if (queryTableName) {
+					extensions = cache.get(extensionName, tableName);
+				} else {
+					extensions = cache.get(extensionName);
+				}
+			}
+		} else if (!checkTable || super.isTableExists()) {
+			QueryBuilder<Extensions, Void> qb = queryBuilder();
+			setUniqueWhere(qb.where(), extensionName, queryTableName,
+					tableName, queryColumnName, columnName);
+			extensions = qb.query();
+		}
+
+		return extensions;
+	}
 
-		List<Extensions> extensions = qb.query();
+	/**
+	 * Get the single extension of the unique columns
+	 * 
+	 * @param extensions
+	 *            queried extensions or null
+	 * @param extensionName
+	 *            extension name
+	 * @param tableName
+	 *            table name
+	 * @param columnName
+	 *            column name
+	 * @return extension or null
+	 */
+	private Extensions getUnique(List<Extensions> extensions,
+			String extensionName, String tableName, String columnName) {
 
 		Extensions extension = null;
-		if (extensions.size() > 1) {
-			throw new GeoPackageException("More than one "
-					+ Extensions.class.getSimpleName()
-					+ " existed for unique combination of Extension Name: "
-					+ extensionName + ", Table Name: " + tableName
-					+ ", Column Name: " + columnName);
-		} else if (extensions.size() == 1) {
-			extension = extensions.get(0);
+		if (extensions != null) {
+			if (extensions.size() > 1) {
+				throw new GeoPackageException("More than one "
+						+ Extensions.class.getSimpleName()
+						+ " existed for unique combination of Extension Name: "
+						+ extensionName + ", Table Name: " + tableName
+						+ ", Column Name: " + columnName);
+			} else if (extensions.size() == 1) {
+				extension = extensions.get(0);
+			}
 		}
 
 		return extension;
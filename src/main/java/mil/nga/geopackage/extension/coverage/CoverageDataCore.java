@@ -2,23 +2,35 @@ package mil.nga.geopackage.extension.coverage;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
+import org.locationtech.proj4j.CoordinateTransform;
 import org.locationtech.proj4j.ProjCoordinate;
 
 import mil.nga.geopackage.BoundingBox;
 import mil.nga.geopackage.GeoPackageConstants;
 import mil.nga.geopackage.GeoPackageCore;
 import mil.nga.geopackage.GeoPackageException;
+import mil.nga.geopackage.db.BatchStatement;
+import mil.nga.geopackage.db.CoreSQLUtils;
 import mil.nga.geopackage.db.GeoPackageCoreConnection;
+import mil.nga.geopackage.db.GeoPackageDataType;
 import mil.nga.geopackage.extension.BaseExtension;
 import mil.nga.geopackage.extension.ExtensionScopeType;
 import mil.nga.geopackage.extension.Extensions;
 import mil.nga.geopackage.property.GeoPackageProperties;
 import mil.nga.geopackage.property.PropertyConstants;
+import mil.nga.geopackage.tiles.TileBoundingBoxUtils;
+import mil.nga.geopackage.tiles.TileGrid;
 import mil.nga.geopackage.tiles.matrix.TileMatrix;
 import mil.nga.geopackage.tiles.matrixset.TileMatrixSet;
+import mil.nga.geopackage.tiles.reproject.ApproximateTransform;
+import mil.nga.geopackage.tiles.user.TileDaoUtils;
 import mil.nga.geopackage.tiles.user.TileTable;
 import mil.nga.geopackage.tiles.user.TileTableMetadata;
 import mil.nga.proj.Projection;
@@ -69,6 +81,12 @@ public abstract class CoverageDataCore<TImage extends CoverageDataImage>
 	 */
 	public static final String GRIDDED_COVERAGE = "2d-gridded-coverage";
 
+	/**
+	 * Minimum tiles retained in memory while sampling requests and batches of
+	 * points
+	 */
+	private static final int POINT_TILE_CACHE_SIZE = 64;
+
 	/**
 	 * Tile Matrix Set
 	 */
@@ -146,6 +164,17 @@ public abstract class CoverageDataCore<TImage extends CoverageDataImage>
 	 */
 	protected GriddedCoverageEncodingType encoding = GriddedCoverageEncodingType.CENTER;
 
+	/**
+	 * Approximate reprojection transform tolerance in coverage pixels, 0 for
+	 * an exact transform of every pixel
+	 */
+	protected double transformTolerance = 0;
+
+	/**
+	 * Decoded coverage data tile cache, null to decode tiles for each request
+	 */
+	protected CoverageDataTileCache tileCache;
+
 	/**
 	 * Constructor
 	 * 
@@ -163,12 +192,40 @@ public abstract class CoverageDataCore<TImage extends CoverageDataImage>
 	protected CoverageDataCore(GeoPackageCore geoPackage,
 			TileMatrixSet tileMatrixSet, Integer width, Integer height,
 			Projection requestProjection) {
+		this(geoPackage, tileMatrixSet, width, height, requestProjection,
+				null);
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param geoPackage
+	 *            GeoPackage
+	 * @param tileMatrixSet
+	 *            tile matrix set
+	 * @param width
+	 *            specified results width
+	 * @param height
+	 *            specified results height
+	 * @param requestProjection
+	 *            request projection
+	 * @param griddedCoverage
+	 *            gridded coverage, or null to create the gridded coverage and
+	 *            tile DAOs and query the gridded coverage
+	 */
+	CoverageDataCore(GeoPackageCore geoPackage, TileMatrixSet tileMatrixSet,
+			Integer width, Integer height, Projection requestProjection,
+			GriddedCoverage griddedCoverage) {
 		super(geoPackage);
 
 		this.tileMatrixSet = tileMatrixSet;
-		griddedCoverageDao = getGriddedCoverageDao();
-		griddedTileDao = getGriddedTileDao();
-		queryGriddedCoverage();
+		if (griddedCoverage != null) {
+			this.griddedCoverage = griddedCoverage;
+		} else {
+			griddedCoverageDao = getGriddedCoverageDao();
+			griddedTileDao = getGriddedTileDao();
+			queryGriddedCoverage();
+		}
 
 		this.width = width;
 		this.height = height;
@@ -217,7 +274,8 @@ public abstract class CoverageDataCore<TImage extends CoverageDataImage>
 
 	/**
 	 * Get the requested coverage data values with the requested width and
-	 * height
+	 * height, read through the decoded tile cache by
+	 * {@link #getPrimitiveValues(CoverageDataRequest, Integer, Integer)}
 	 * 
 	 * @param request
 	 *            coverage data request
@@ -227,20 +285,38 @@ public abstract class CoverageDataCore<TImage extends CoverageDataImage>
 	 *            coverage data request height
 	 * @return coverage data results
 	 */
-	public abstract CoverageDataResults getValues(CoverageDataRequest request,
-			Integer width, Integer height);
+	public CoverageDataResults getValues(CoverageDataRequest request,
+			Integer width, Integer height) {
+		CoverageDataResults results = null;
+		CoverageDataPrimitiveResults primitiveResults = getPrimitiveValues(
+				request, width, height);
+		if (primitiveResults != null) {
+			results = primitiveResults.toResults();
+		}
+		return results;
+	}
 
 	/**
 	 * Get the requested unbounded coverage data values. Unbounded results
 	 * retrieves and returns each coverage data pixel. The results size equals
-	 * the width and height of all matching pixels.
+	 * the width and height of all matching pixels. Values are read through
+	 * the decoded tile cache by
+	 * {@link #getPrimitiveValuesUnbounded(CoverageDataRequest)}.
 	 * 
 	 * @param request
 	 *            coverage data request
 	 * @return coverage data results
 	 */
-	public abstract CoverageDataResults getValuesUnbounded(
-			CoverageDataRequest request);
+	public CoverageDataResults getValuesUnbounded(
+			CoverageDataRequest request) {
+		CoverageDataResults results = null;
+		CoverageDataPrimitiveResults primitiveResults = getPrimitiveValuesUnbounded(
+				request);
+		if (primitiveResults != null) {
+			results = primitiveResults.toResults();
+		}
+		return results;
+	}
 
 	/**
 	 * Get the Tile Matrix Set
@@ -432,264 +508,1173 @@ public abstract class CoverageDataCore<TImage extends CoverageDataImage>
 	}
 
 	/**
-	 * Get or create the extension
+	 * Get the approximate reprojection transform tolerance in coverage pixels
 	 * 
-	 * @return extensions list
+	 * @return tolerance, 0 for exact transforms
+	 * @since 6.6.8
 	 */
-	public List<Extensions> getOrCreate() {
-
-		// Create tables
-		createGriddedCoverageTable();
-		createGriddedTileTable();
-
-		List<Extensions> extensionList = new ArrayList<>();
-
-		Extensions coverage = getOrCreate(EXTENSION_NAME,
-				GriddedCoverage.TABLE_NAME, null, EXTENSION_DEFINITION,
-				ExtensionScopeType.READ_WRITE);
-		Extensions tile = getOrCreate(EXTENSION_NAME, GriddedTile.TABLE_NAME,
-				null, EXTENSION_DEFINITION, ExtensionScopeType.READ_WRITE);
-		Extensions table = getOrCreate(EXTENSION_NAME,
-				tileMatrixSet.getTableName(), TileTable.COLUMN_TILE_DATA,
-				EXTENSION_DEFINITION, ExtensionScopeType.READ_WRITE);
-
-		extensionList.add(coverage);
-		extensionList.add(tile);
-		extensionList.add(table);
-
-		return extensionList;
+	public double getTransformTolerance() {
+		return transformTolerance;
 	}
 
 	/**
-	 * Determine if the Tile Matrix Set has the extension
+	 * Set the approximate reprojection transform tolerance in coverage
+	 * pixels. When greater than 0, requests in a different projection
+	 * transform a grid of control points exactly and interpolate between
+	 * them, subdividing where the error exceeds the tolerance.
+	 * {@link ApproximateTransform#DEFAULT_TOLERANCE} is a typical value.
 	 * 
-	 * @return true if has extension
+	 * @param transformTolerance
+	 *            tolerance, 0 for exact transforms
+	 * @since 6.6.8
 	 */
-	public boolean has() {
-
-		boolean exists = has(EXTENSION_NAME, tileMatrixSet.getTableName(),
-				TileTable.COLUMN_TILE_DATA);
-
-		return exists;
+	public void setTransformTolerance(double transformTolerance) {
+		this.transformTolerance = Math.max(transformTolerance, 0);
 	}
 
 	/**
-	 * Get a 2D Gridded Coverage DAO
+	 * Get the decoded coverage data tile cache
 	 * 
-	 * @return 2d gridded coverage dao
+	 * @return tile cache or null
+	 * @since 6.6.8
 	 */
-	public GriddedCoverageDao getGriddedCoverageDao() {
-		if (griddedCoverageDao == null) {
-			griddedCoverageDao = GriddedCoverageDao.create(geoPackage);
-		}
-		return griddedCoverageDao;
+	public CoverageDataTileCache getTileCache() {
+		return tileCache;
 	}
 
 	/**
-	 * Get a 2D Gridded Coverage DAO
+	 * Set the decoded coverage data tile cache, shared between coverage data
+	 * instances of the GeoPackage to reuse decoded tiles across requests
 	 * 
-	 * @param geoPackage
-	 *            GeoPackage
-	 * @return 2d gridded coverage dao
-	 * @since 4.0.0
+	 * @param tileCache
+	 *            tile cache or null
+	 * @since 6.6.8
 	 */
-	public static GriddedCoverageDao getGriddedCoverageDao(
-			GeoPackageCore geoPackage) {
-		return GriddedCoverageDao.create(geoPackage);
+	public void setTileCache(CoverageDataTileCache tileCache) {
+		this.tileCache = tileCache;
 	}
 
 	/**
-	 * Get a 2D Gridded Coverage DAO
+	 * Validate the tile cache against the database before a request, clearing
+	 * it when another connection has committed changes. Tiles written through
+	 * this connection are invalidated with
+	 * {@link #invalidateTile(long, long, long)}.
 	 * 
-	 * @param db
-	 *            database connection
-	 * @return 2d gridded coverage dao
-	 * @since 4.0.0
+	 * @since 6.6.8
 	 */
-	public static GriddedCoverageDao getGriddedCoverageDao(
-			GeoPackageCoreConnection db) {
-		return GriddedCoverageDao.create(db);
+	public void validateTileCache() {
+		CoverageDataTileCache cache = tileCache;
+		if (cache != null) {
+			cache.validate(geoPackage.getDatabase());
+		}
 	}
 
 	/**
-	 * Create the 2D Gridded Coverage Table if it does not exist
+	 * Invalidate a written tile in the tile cache
 	 * 
-	 * @return true if created
-	 * @since 4.0.0
+	 * @param zoom
+	 *            zoom level
+	 * @param column
+	 *            tile column
+	 * @param row
+	 *            tile row
+	 * @since 6.6.8
 	 */
-	public boolean createGriddedCoverageTable() {
-		verifyWritable();
-
-		boolean created = false;
-
-		try {
-			if (!griddedCoverageDao.isTableExists()) {
-				created = geoPackage.getTableCreator()
-						.createGriddedCoverage() > 0;
-			}
-		} catch (SQLException e) {
-			throw new GeoPackageException("Failed to check if "
-					+ GriddedCoverage.class.getSimpleName()
-					+ " table exists and create it", e);
+	public void invalidateTile(long zoom, long column, long row) {
+		CoverageDataTileCache cache = tileCache;
+		if (cache != null) {
+			cache.invalidate(tileMatrixSet.getTableName(), zoom, column, row);
 		}
-
-		return created;
 	}
 
 	/**
-	 * Get a 2D Gridded Tile DAO
+	 * Get the decoded coverage data tile, from the tile cache when enabled
 	 * 
-	 * @return 2d gridded tile dao
+	 * @param zoom
+	 *            zoom level
+	 * @param column
+	 *            tile column
+	 * @param row
+	 *            tile row
+	 * @return decoded tile, null when the tile does not exist
+	 * @since 6.6.8
 	 */
-	public GriddedTileDao getGriddedTileDao() {
-		if (griddedTileDao == null) {
-			griddedTileDao = getGriddedTileDao(geoPackage);
+	public CoverageDataTile getCoverageDataTile(long zoom, long column,
+			long row) {
+		CoverageDataTile tile = getCachedTile(zoom, column, row);
+		if (tile == null) {
+			tile = decodeTile(null, zoom, column, row,
+					queryTile(null, zoom, column, row));
 		}
-		return griddedTileDao;
+		return tile;
 	}
 
 	/**
-	 * Get a 2D Gridded Tile DAO
+	 * Get the decoded coverage data tile from the tile cache
 	 * 
-	 * @param geoPackage
-	 *            GeoPackage
-	 * @return 2d gridded tile dao
-	 * @since 4.0.0
+	 * @param zoom
+	 *            zoom level
+	 * @param column
+	 *            tile column
+	 * @param row
+	 *            tile row
+	 * @return cached tile or null
 	 */
-	public static GriddedTileDao getGriddedTileDao(GeoPackageCore geoPackage) {
-		return GriddedTileDao.create(geoPackage);
+	private CoverageDataTile getCachedTile(long zoom, long column, long row) {
+		CoverageDataTile tile = null;
+		CoverageDataTileCache cache = tileCache;
+		if (cache != null) {
+			tile = cache.get(tileMatrixSet.getTableName(), zoom, column, row);
+		}
+		return tile;
 	}
 
 	/**
-	 * Get a 2D Gridded Tile DAO
+	 * Decode a queried tile and add it to the tile cache when enabled
 	 * 
-	 * @param db
-	 *            database connection
-	 * @return 2d gridded tile dao
-	 * @since 4.0.0
+	 * @param connection
+	 *            read connection, null for the GeoPackage connection
+	 * @param zoom
+	 *            zoom level
+	 * @param column
+	 *            tile column
+	 * @param row
+	 *            tile row
+	 * @param result
+	 *            queried tile id and tile data, or null
+	 * @return decoded tile, null when the tile does not exist
 	 */
-	public static GriddedTileDao getGriddedTileDao(
-			GeoPackageCoreConnection db) {
-		return GriddedTileDao.create(db);
+	private CoverageDataTile decodeTile(GeoPackageCoreConnection connection,
+			long zoom, long column, long row, List<Object> result) {
+		CoverageDataTile tile = null;
+		if (result != null && result.get(1) != null) {
+			GriddedTile griddedTile = getGriddedTile(connection,
+					((Number) result.get(0)).longValue());
+			tile = decodeTile(griddedTile, (byte[]) result.get(1));
+			if (tile == null) {
+				throw new GeoPackageException(
+						"Failed to decode coverage data tile. Table: "
+								+ tileMatrixSet.getTableName() + ", Zoom: "
+								+ zoom + ", Column: " + column + ", Row: "
+								+ row);
+			}
+			CoverageDataTileCache cache = tileCache;
+			if (cache != null) {
+				cache.put(tileMatrixSet.getTableName(), zoom, column, row,
+						tile);
+			}
+		}
+		return tile;
 	}
 
 	/**
-	 * Create the 2D Gridded Tile Table if it does not exist
+	 * Decode tile data into raw pixel values. Platform implementations decode
+	 * their tile image formats, backing the coverage data requests, tile
+	 * values, and the tile cache.
 	 * 
-	 * @return true if created
-	 * @since 4.0.0
+	 * @param griddedTile
+	 *            gridded tile
+	 * @param tileData
+	 *            tile data bytes
+	 * @return decoded tile
+	 * @since 6.6.8
 	 */
-	public boolean createGriddedTileTable() {
-		verifyWritable();
+	protected abstract CoverageDataTile decodeTile(GriddedTile griddedTile,
+			byte[] tileData);
 
-		boolean created = false;
+	/**
+	 * Get the row major coverage data values of a tile, decoded through
+	 * {@link #decodeTile(GriddedTile, byte[])} and the tile cache
+	 * 
+	 * @param tileMatrix
+	 *            tile matrix
+	 * @param column
+	 *            tile column
+	 * @param row
+	 *            tile row
+	 * @return tile width by tile height values with {@link Double#NaN} for
+	 *         data null, or null when the tile does not exist
+	 * @since 6.6.8
+	 */
+	public double[] getTileValues(TileMatrix tileMatrix, long column,
+			long row) {
+		return getTileValues(null, tileMatrix, column, row);
+	}
 
-		try {
-			if (!griddedTileDao.isTableExists()) {
-				created = geoPackage.getTableCreator().createGriddedTile() > 0;
+	/**
+	 * Get the row major coverage data values of a tile, reading the tile and
+	 * gridded tile through a read connection such as a pooled reader instead
+	 * of the GeoPackage connection
+	 * 
+	 * @param connection
+	 *            read connection
+	 * @param tileMatrix
+	 *            tile matrix
+	 * @param column
+	 *            tile column
+	 * @param row
+	 *            tile row
+	 * @return tile width by tile height values with {@link Double#NaN} for
+	 *         data null, or null when the tile does not exist
+	 * @since 6.6.8
+	 */
+	public double[] getTileValues(GeoPackageCoreConnection connection,
+			TileMatrix tileMatrix, long column, long row) {
+
+		int tileWidth = (int) tileMatrix.getTileWidth();
+		int tileHeight = (int) tileMatrix.getTileHeight();
+		double[] values = null;
+
+		long zoom = tileMatrix.getZoomLevel();
+		CoverageDataTile tile = getCachedTile(zoom, column, row);
+		if (tile == null) {
+			tile = decodeTile(connection, zoom, column, row,
+					queryTile(connection, zoom, column, row));
+		}
+		if (tile != null) {
+			values = new double[tileWidth * tileHeight];
+			Arrays.fill(values, Double.NaN);
+			int width = Math.min(tileWidth, tile.getWidth());
+			int height = Math.min(tileHeight, tile.getHeight());
+			for (int y = 0; y < height; y++) {
+				for (int x = 0; x < width; x++) {
+					values[(y * tileWidth) + x] = getPrimitiveValue(tile, x,
+							y);
+				}
 			}
-		} catch (SQLException e) {
-			throw new GeoPackageException(
-					"Failed to check if " + GriddedTile.class.getSimpleName()
-							+ " table exists and create it",
-					e);
 		}
 
-		return created;
+		return values;
 	}
 
 	/**
-	 * Get the gridded coverage
+	 * Create encoded tile data from row major coverage data values. Platform
+	 * implementations must override to support the coverage raster bulk writer
+	 * and tile output, which fail when null is returned.
 	 * 
-	 * @return gridded coverage
+	 * @param griddedTile
+	 *            gridded tile with the tile scale and offset
+	 * @param values
+	 *            row major coverage data values, {@link Double#NaN} for data
+	 *            null
+	 * @param width
+	 *            tile width
+	 * @param height
+	 *            tile height
+	 * @return tile data bytes or null
+	 * @since 6.6.8
 	 */
-	public GriddedCoverage getGriddedCoverage() {
-		return griddedCoverage;
+	public byte[] createTileData(GriddedTile griddedTile, double[] values,
+			int width, int height) {
+		return null;
 	}
 
 	/**
-	 * Query and update the gridded coverage
+	 * Create a gridded tile for the primitive coverage data values of a tile,
+	 * with the tile min, max, mean, and standard deviation coverage data
+	 * value statistics. Integer coverage data gridded tiles get the scale and
+	 * offset spreading the tile value range across the full "unsigned short"
+	 * pixel range, excluding the data null pixel value, for the best tile
+	 * precision.
 	 * 
-	 * @return gridded coverage
+	 * @param values
+	 *            coverage data values, {@link Double#NaN} for data null
+	 * @return gridded tile with scale, offset, and statistics
+	 * @since 6.6.8
 	 */
-	public GriddedCoverage queryGriddedCoverage() {
-		try {
-			if (griddedCoverageDao.isTableExists()) {
-				griddedCoverage = griddedCoverageDao.query(tileMatrixSet);
+	public GriddedTile createGriddedTile(double[] values) {
+		return createGriddedTile(griddedCoverage, values);
+	}
+
+	/**
+	 * Create a gridded tile for the primitive coverage data values of a tile
+	 * in the gridded coverage
+	 * 
+	 * @param griddedCoverage
+	 *            gridded coverage or null
+	 * @param values
+	 *            coverage data values, {@link Double#NaN} for data null
+	 * @return gridded tile with scale, offset, and statistics
+	 * @see #createGriddedTile(double[])
+	 */
+	static GriddedTile createGriddedTile(GriddedCoverage griddedCoverage,
+			double[] values) {
+
+		GriddedTile griddedTile = new GriddedTile();
+
+		long count = 0;
+		double min = Double.POSITIVE_INFINITY;
+		double max = Double.NEGATIVE_INFINITY;
+		double sum = 0;
+		double sumSquares = 0;
+		for (double value : values) {
+			if (!Double.isNaN(value)) {
+				count++;
+				min = Math.min(min, value);
+				max = Math.max(max, value);
+				sum += value;
+				sumSquares += value * value;
 			}
-		} catch (SQLException e) {
-			throw new GeoPackageException(
-					"Failed to get Gridded Coverage for table name: "
-							+ tileMatrixSet.getTableName(),
-					e);
 		}
-		return griddedCoverage;
+
+		if (count > 0) {
+
+			double mean = sum / count;
+			griddedTile.setMin(min);
+			griddedTile.setMax(max);
+			griddedTile.setMean(mean);
+			griddedTile.setStandardDeviation(
+					Math.sqrt(Math.max((sumSquares / count) - (mean * mean), 0)));
+
+			if (griddedCoverage != null && griddedCoverage
+					.getDataType() == GriddedCoverageDataType.INTEGER) {
+
+				int minPixel = 0;
+				int maxPixel = 0xffff;
+				Double dataNull = griddedCoverage.getDataNull();
+				if (dataNull != null && dataNull >= minPixel
+						&& dataNull <= maxPixel) {
+					int dataNullPixel = dataNull.intValue();
+					if (dataNullPixel - minPixel >= maxPixel - dataNullPixel) {
+						maxPixel = dataNullPixel - 1;
+					} else {
+						minPixel = dataNullPixel + 1;
+					}
+				}
+
+				double low = (min - griddedCoverage.getOffset())
+						/ griddedCoverage.getScale();
+				double high = (max - griddedCoverage.getOffset())
+						/ griddedCoverage.getScale();
+				double scale = (high - low) / (maxPixel - minPixel);
+				if (scale <= 0 || Double.isNaN(scale)) {
+					scale = 1.0;
+				}
+				griddedTile.setScale(scale);
+				griddedTile.setOffset(low - (minPixel * scale));
+			}
+
+		}
+
+		return griddedTile;
 	}
 
 	/**
-	 * Get the gridded tile
+	 * Get the coverage data tile matrices from lowest to highest zoom
 	 * 
-	 * @return gridded tiles
+	 * @return tile matrices
+	 * @since 6.6.8
 	 */
-	public List<GriddedTile> getGriddedTile() {
-		List<GriddedTile> griddedTile = null;
+	public List<TileMatrix> getTileMatrices() {
 		try {
-			if (griddedTileDao.isTableExists()) {
-				griddedTile = griddedTileDao
-						.query(tileMatrixSet.getTableName());
-			}
+			return geoPackage.getTileMatrixDao()
+					.queryForTableName(tileMatrixSet.getTableName());
 		} catch (SQLException e) {
 			throw new GeoPackageException(
-					"Failed to get Gridded Tile for table name: "
+					"Failed to query for Tile Matrices. Table Name: "
 							+ tileMatrixSet.getTableName(),
 					e);
 		}
-		return griddedTile;
 	}
 
 	/**
-	 * Get the gridded tile by id
+	 * Get the minimum and maximum coverage data values within the bounding box
+	 * at the highest zoom level
 	 * 
-	 * @param tileId
-	 *            tile id
-	 * @return gridded tile
+	 * @param boundingBox
+	 *            bounding box in the request projection
+	 * @return value range
+	 * @since 6.6.8
 	 */
-	public GriddedTile getGriddedTile(long tileId) {
-		GriddedTile griddedTile = null;
-		try {
-			if (griddedTileDao.isTableExists()) {
-				griddedTile = griddedTileDao.query(tileMatrixSet.getTableName(),
-						tileId);
-			}
-		} catch (SQLException e) {
-			throw new GeoPackageException(
-					"Failed to get Gridded Tile for table name: "
-							+ tileMatrixSet.getTableName() + ", tile id: "
-							+ tileId,
-					e);
+	public CoverageDataValueRange getValueRange(BoundingBox boundingBox) {
+		CoverageDataValueRange range;
+		TileMatrix tileMatrix = getPointTileMatrix();
+		if (tileMatrix != null) {
+			range = getValueRange(boundingBox, tileMatrix.getZoomLevel());
+		} else {
+			range = new CoverageDataValueRange();
 		}
-		return griddedTile;
+		return range;
 	}
 
 	/**
-	 * Get the data null value
+	 * Get the minimum and maximum coverage data values within the bounding box
+	 * at the zoom level. Tiles fully covered by the bounding box are answered
+	 * from the gridded tile min and max statistics. Partially covered edge
+	 * tiles and tiles without statistics are decoded, unless their statistics
+	 * show they can not change the range.
 	 * 
-	 * @return data null value or null
+	 * @param boundingBox
+	 *            bounding box in the request projection
+	 * @param zoom
+	 *            zoom level
+	 * @return value range
+	 * @since 6.6.8
 	 */
-	public Double getDataNull() {
+	public CoverageDataValueRange getValueRange(BoundingBox boundingBox,
+			long zoom) {
 
-		Double dataNull = null;
-		if (griddedCoverage != null) {
-			dataNull = griddedCoverage.getDataNull();
+		CoverageDataValueRange range = new CoverageDataValueRange();
+
+		TileMatrix tileMatrix = getTileMatrix(zoom);
+		if (tileMatrix == null) {
+			return range;
 		}
 
-		return dataNull;
+		BoundingBox coverageBoundingBox = boundingBox;
+		if (requestProjection != null
+				&& !requestProjection.equals(coverageProjection)) {
+			coverageBoundingBox = boundingBox.transform(
+					requestProjection.getTransformation(coverageProjection));
+		}
+		BoundingBox totalBox = tileMatrixSet.getBoundingBox();
+		coverageBoundingBox = coverageBoundingBox.overlap(totalBox);
+		if (coverageBoundingBox == null) {
+			return range;
+		}
+
+		validateTileCache();
+
+		TileGrid tileGrid = TileBoundingBoxUtils.getTileGrid(totalBox,
+				tileMatrix.getMatrixWidth(), tileMatrix.getMatrixHeight(),
+				coverageBoundingBox);
+		List<CoverageDataTileStatistics> tiles = queryTileStatistics(zoom,
+				tileGrid, null, null);
+
+		// Answer the fully covered tiles from their statistics first
+		List<CoverageDataTileStatistics> edgeTiles = new ArrayList<>();
+		for (CoverageDataTileStatistics tile : tiles) {
+			BoundingBox tileBoundingBox = TileBoundingBoxUtils.getBoundingBox(
+					totalBox, tileMatrix, tile.getColumn(), tile.getRow());
+			if (tile.hasRange()
+					&& coverageBoundingBox.contains(tileBoundingBox)) {
+				range.expand(tile.getMin(), tile.getMax());
+				range.addStatisticsTile();
+			} else {
+				edgeTiles.add(tile);
+			}
+		}
+
+		// Decode the edge tiles that could change the range
+		for (CoverageDataTileStatistics tile : edgeTiles) {
+			if (tile.hasRange()
+					&& range.contains(tile.getMin(), tile.getMax())) {
+				range.addSkippedTile();
+			} else {
+				expandValueRange(range, tileMatrix, tile.getColumn(),
+						tile.getRow(), coverageBoundingBox);
+			}
+		}
+
+		return range;
 	}
 
 	/**
-	 * Check the pixel value to see if it is the null equivalent
+	 * Get the tile statistics of the tiles at the zoom level that may contain
+	 * coverage data values within the threshold range, such as tiles above a
+	 * minimum value. Tiles are filtered by their gridded tile min and max
+	 * statistics, and tiles without statistics are decoded.
 	 * 
-	 * @param value
+	 * @param zoom
+	 *            zoom level
+	 * @param minValue
+	 *            minimum value, null for no minimum
+	 * @param maxValue
+	 *            maximum value, null for no maximum
+	 * @return tile statistics of tiles overlapping the range
+	 * @since 6.6.8
+	 */
+	public List<CoverageDataTileStatistics> getTileStatistics(long zoom,
+			Double minValue, Double maxValue) {
+
+		List<CoverageDataTileStatistics> results = new ArrayList<>();
+
+		TileMatrix tileMatrix = getTileMatrix(zoom);
+		if (tileMatrix != null) {
+			validateTileCache();
+			for (CoverageDataTileStatistics tile : queryTileStatistics(zoom,
+					null, minValue, maxValue)) {
+				if (!tile.hasRange()) {
+					decodeTileStatistics(tileMatrix, tile);
+				}
+				if (tile.hasRange() && tile.overlaps(minValue, maxValue)) {
+					results.add(tile);
+				}
+			}
+		}
+
+		return results;
+	}
+
+	/**
+	 * Calculate and store the gridded tile statistics of tiles missing them,
+	 * decoding each tile
+	 * 
+	 * @return updated gridded tile count
+	 * @since 6.6.8
+	 */
+	public int updateTileStatistics() {
+
+		verifyWritable();
+
+		String table = tileMatrixSet.getTableName();
+		List<CoverageDataTileStatistics> missing = new ArrayList<>();
+		for (TileMatrix tileMatrix : getTileMatrices()) {
+			for (CoverageDataTileStatistics tile : queryTileStatistics(
+					tileMatrix.getZoomLevel(), null, null, null)) {
+				if (!tile.hasRange()) {
+					decodeTileStatistics(tileMatrix, tile);
+					if (tile.hasRange()) {
+						missing.add(tile);
+					}
+				}
+			}
+		}
+
+		if (missing.isEmpty()) {
+			return 0;
+		}
+
+		StringBuilder sql = new StringBuilder("UPDATE ");
+		sql.append(CoreSQLUtils.quoteWrap(GriddedTile.TABLE_NAME));
+		sql.append(" SET ");
+		sql.append(CoreSQLUtils.quoteWrap(GriddedTile.COLUMN_MIN));
+		sql.append(" = ?, ");
+		sql.append(CoreSQLUtils.quoteWrap(GriddedTile.COLUMN_MAX));
+		sql.append(" = ?, ");
+		sql.append(CoreSQLUtils.quoteWrap(GriddedTile.COLUMN_MEAN));
+		sql.append(" = ?, ");
+		sql.append(
+				CoreSQLUtils.quoteWrap(GriddedTile.COLUMN_STANDARD_DEVIATION));
+		sql.append(" = ? WHERE ");
+		sql.append(CoreSQLUtils.quoteWrap(GriddedTile.COLUMN_TABLE_NAME));
+		sql.append(" = ? AND ");
+		sql.append(CoreSQLUtils.quoteWrap(GriddedTile.COLUMN_TABLE_ID));
+		sql.append(" = ?");
+
+		int updated = 0;
+		GeoPackageCoreConnection db = geoPackage.getDatabase();
+		boolean successful = true;
+		db.beginTransaction();
+		try (BatchStatement statement = new BatchStatement(db,
+				GriddedTile.TABLE_NAME, sql.toString())) {
+			for (CoverageDataTileStatistics tile : missing) {
+				statement.setValue(0, tile.getMin());
+				statement.setValue(1, tile.getMax());
+				statement.setValue(2, tile.getMean());
+				statement.setValue(3, tile.getStandardDeviation());
+				statement.setValue(4, table);
+				statement.setLong(5, tile.getTileId());
+				updated += statement.execute();
+			}
+		} catch (Throwable e) {
+			successful = false;
+			throw e;
+		} finally {
+			db.endTransaction(successful);
+		}
+
+		return updated;
+	}
+
+	/**
+	 * Query the tile statistics of the zoom level tiles, joined with the
+	 * gridded tile statistics
+	 * 
+	 * @param zoom
+	 *            zoom level
+	 * @param tileGrid
+	 *            tile grid, null for all tiles
+	 * @param minValue
+	 *            minimum value filter of tiles with statistics, null for no
+	 *            minimum
+	 * @param maxValue
+	 *            maximum value filter of tiles with statistics, null for no
+	 *            maximum
+	 * @return tile statistics
+	 */
+	private List<CoverageDataTileStatistics> queryTileStatistics(long zoom,
+			TileGrid tileGrid, Double minValue, Double maxValue) {
+
+		boolean statistics;
+		try {
+			statistics = griddedTileDao.isTableExists();
+		} catch (SQLException e) {
+			throw new GeoPackageException(
+					"Failed to check if " + GriddedTile.class.getSimpleName()
+							+ " table exists",
+					e);
+		}
+
+		String min = "g." + CoreSQLUtils.quoteWrap(GriddedTile.COLUMN_MIN);
+		String max = "g." + CoreSQLUtils.quoteWrap(GriddedTile.COLUMN_MAX);
+		List<String> args = new ArrayList<>();
+
+		StringBuilder sql = new StringBuilder("SELECT t.");
+		sql.append(CoreSQLUtils.quoteWrap(TileTable.COLUMN_ID));
+		sql.append(", t.");
+		sql.append(CoreSQLUtils.quoteWrap(TileTable.COLUMN_TILE_COLUMN));
+		sql.append(", t.");
+		sql.append(CoreSQLUtils.quoteWrap(TileTable.COLUMN_TILE_ROW));
+		if (statistics) {
+			sql.append(", ").append(min);
+			sql.append(", ").append(max);
+			sql.append(", g.");
+			sql.append(CoreSQLUtils.quoteWrap(GriddedTile.COLUMN_MEAN));
+			sql.append(", g.");
+			sql.append(CoreSQLUtils
+					.quoteWrap(GriddedTile.COLUMN_STANDARD_DEVIATION));
+		} else {
+			sql.append(", NULL, NULL, NULL, NULL");
+		}
+		sql.append(" FROM ");
+		sql.append(CoreSQLUtils.quoteWrap(tileMatrixSet.getTableName()));
+		sql.append(" t");
+		if (statistics) {
+			sql.append(" LEFT JOIN ");
+			sql.append(CoreSQLUtils.quoteWrap(GriddedTile.TABLE_NAME));
+			sql.append(" g ON g.");
+			sql.append(CoreSQLUtils.quoteWrap(GriddedTile.COLUMN_TABLE_NAME));
+			sql.append(" = ? AND g.");
+			sql.append(CoreSQLUtils.quoteWrap(GriddedTile.COLUMN_TABLE_ID));
+			sql.append(" = t.");
+			sql.append(CoreSQLUtils.quoteWrap(TileTable.COLUMN_ID));
+			args.add(tileMatrixSet.getTableName());
+		}
+		sql.append(" WHERE t.");
+		sql.append(CoreSQLUtils.quoteWrap(TileTable.COLUMN_ZOOM_LEVEL));
+		sql.append(" = ?");
+		args.add(String.valueOf(zoom));
+		if (tileGrid != null) {
+			sql.append(" AND t.");
+			sql.append(CoreSQLUtils.quoteWrap(TileTable.COLUMN_TILE_COLUMN));
+			sql.append(" BETWEEN ? AND ? AND t.");
+			sql.append(CoreSQLUtils.quoteWrap(TileTable.COLUMN_TILE_ROW));
+			sql.append(" BETWEEN ? AND ?");
+			args.add(String.valueOf(tileGrid.getMinX()));
+			args.add(String.valueOf(tileGrid.getMaxX()));
+			args.add(String.valueOf(tileGrid.getMinY()));
+			args.add(String.valueOf(tileGrid.getMaxY()));
+		}
+		if (statistics && (minValue != null || maxValue != null)) {
+			sql.append(" AND (").append(min).append(" IS NULL OR ")
+					.append(max).append(" IS NULL OR (");
+			if (minValue != null) {
+				sql.append(max).append(" >= ?");
+				args.add(String.valueOf(minValue));
+			}
+			if (maxValue != null) {
+				if (minValue != null) {
+					sql.append(" AND ");
+				}
+				sql.append(min).append(" <= ?");
+				args.add(String.valueOf(maxValue));
+			}
+			sql.append("))");
+		}
+
+		List<List<Object>> results = geoPackage.getDatabase().queryResults(
+				sql.toString(), args.toArray(new String[0]),
+				new GeoPackageDataType[] { GeoPackageDataType.INTEGER,
+						GeoPackageDataType.INTEGER, GeoPackageDataType.INTEGER,
+						GeoPackageDataType.DOUBLE, GeoPackageDataType.DOUBLE,
+						GeoPackageDataType.DOUBLE,
+						GeoPackageDataType.DOUBLE });
+
+		List<CoverageDataTileStatistics> tiles = new ArrayList<>();
+		for (List<Object> result : results) {
+			CoverageDataTileStatistics tile = new CoverageDataTileStatistics(
+					((Number) result.get(0)).longValue(), zoom,
+					((Number) result.get(1)).longValue(),
+					((Number) result.get(2)).longValue());
+			tile.setMin(toDouble(result.get(3)));
+			tile.setMax(toDouble(result.get(4)));
+			tile.setMean(toDouble(result.get(5)));
+			tile.setStandardDeviation(toDouble(result.get(6)));
+			tiles.add(tile);
+		}
+
+		return tiles;
+	}
+
+	/**
+	 * Decode the tile and set its statistics
+	 * 
+	 * @param tileMatrix
+	 *            tile matrix
+	 * @param tile
+	 *            tile statistics
+	 */
+	private void decodeTileStatistics(TileMatrix tileMatrix,
+			CoverageDataTileStatistics tile) {
+		double[] values = getTileValues(tileMatrix, tile.getColumn(),
+				tile.getRow());
+		if (values != null) {
+			GriddedTile griddedTile = createGriddedTile(values);
+			tile.setMin(griddedTile.getMin());
+			tile.setMax(griddedTile.getMax());
+			tile.setMean(griddedTile.getMean());
+			tile.setStandardDeviation(griddedTile.getStandardDeviation());
+			tile.setDecoded(true);
+		}
+	}
+
+	/**
+	 * Decode the tile and expand the value range with the tile values within
+	 * the bounding box, located by the gridded coverage grid cell encoding
+	 * 
+	 * @param range
+	 *            value range
+	 * @param tileMatrix
+	 *            tile matrix
+	 * @param column
+	 *            tile column
+	 * @param row
+	 *            tile row
+	 * @param boundingBox
+	 *            bounding box in the coverage projection
+	 */
+	private void expandValueRange(CoverageDataValueRange range,
+			TileMatrix tileMatrix, long column, long row,
+			BoundingBox boundingBox) {
+
+		BoundingBox tileBoundingBox = TileBoundingBoxUtils.getBoundingBox(
+				tileMatrixSet.getBoundingBox(), tileMatrix, column, row);
+
+		double[] values = getTileValues(tileMatrix, column, row);
+		if (values == null) {
+			return;
+		}
+		range.addDecodedTile();
+
+		int tileWidth = (int) tileMatrix.getTileWidth();
+		int tileHeight = (int) tileMatrix.getTileHeight();
+		double pixelXSize = tileMatrix.getPixelXSize();
+		double pixelYSize = tileMatrix.getPixelYSize();
+
+		// Pixel value locations as fractions of a pixel from the top left
+		double xLocation = 0.5;
+		double yLocation = 0.5;
+		if (griddedCoverage != null && griddedCoverage
+				.getGridCellEncodingType() == GriddedCoverageEncodingType.CORNER) {
+			xLocation = 0.0;
+			yLocation = 1.0;
+		}
+
+		int minX = (int) Math.max(0,
+				Math.ceil((boundingBox.getMinLongitude()
+						- tileBoundingBox.getMinLongitude()) / pixelXSize
+						- xLocation));
+		int maxX = (int) Math.min(tileWidth - 1,
+				Math.floor((boundingBox.getMaxLongitude()
+						- tileBoundingBox.getMinLongitude()) / pixelXSize
+						- xLocation));
+		int minY = (int) Math.max(0,
+				Math.ceil((tileBoundingBox.getMaxLatitude()
+						- boundingBox.getMaxLatitude()) / pixelYSize
+						- yLocation));
+		int maxY = (int) Math.min(tileHeight - 1,
+				Math.floor((tileBoundingBox.getMaxLatitude()
+						- boundingBox.getMinLatitude()) / pixelYSize
+						- yLocation));
+
+		double min = Double.POSITIVE_INFINITY;
+		double max = Double.NEGATIVE_INFINITY;
+		for (int y = minY; y <= maxY; y++) {
+			int index = y * tileWidth + minX;
+			for (int x = minX; x <= maxX; x++) {
+				double value = values[index++];
+				if (!Double.isNaN(value)) {
+					min = Math.min(min, value);
+					max = Math.max(max, value);
+				}
+			}
+		}
+		if (min <= max) {
+			range.expand(min, max);
+		}
+	}
+
+	/**
+	 * Get the tile matrix at the zoom level
+	 * 
+	 * @param zoom
+	 *            zoom level
+	 * @return tile matrix or null
+	 */
+	private TileMatrix getTileMatrix(long zoom) {
+		TileMatrix tileMatrix = null;
+		for (TileMatrix matrix : getTileMatrices()) {
+			if (matrix.getZoomLevel() == zoom) {
+				tileMatrix = matrix;
+				break;
+			}
+		}
+		return tileMatrix;
+	}
+
+	/**
+	 * Get the double value of a numeric query result
+	 * 
+	 * @param value
+	 *            query result value
+	 * @return double value or null
+	 */
+	private static Double toDouble(Object value) {
+		return value != null ? ((Number) value).doubleValue() : null;
+	}
+
+	/**
+	 * Get the coverage data value of a decoded tile pixel
+	 * 
+	 * @param tile
+	 *            decoded tile
+	 * @param x
+	 *            x pixel
+	 * @param y
+	 *            y pixel
+	 * @return coverage data value or null
+	 * @since 6.6.8
+	 */
+	public Double getValue(CoverageDataTile tile, int x, int y) {
+		Double value;
+		if (tile.isFloat()) {
+			value = getValue(tile.getGriddedTile(),
+					tile.getFloatPixelValue(x, y));
+		} else {
+			value = getValue(tile.getGriddedTile(),
+					tile.getUnsignedPixelValue(x, y));
+		}
+		return value;
+	}
+
+	/**
+	 * Get or create the extension
+	 * 
+	 * @return extensions list
+	 */
+	public List<Extensions> getOrCreate() {
+
+		// Create tables
+		createGriddedCoverageTable();
+		createGriddedTileTable();
+
+		List<Extensions> extensionList = new ArrayList<>();
+
+		Extensions coverage = getOrCreate(EXTENSION_NAME,
+				GriddedCoverage.TABLE_NAME, null, EXTENSION_DEFINITION,
+				ExtensionScopeType.READ_WRITE);
+		Extensions tile = getOrCreate(EXTENSION_NAME, GriddedTile.TABLE_NAME,
+				null, EXTENSION_DEFINITION, ExtensionScopeType.READ_WRITE);
+		Extensions table = getOrCreate(EXTENSION_NAME,
+				tileMatrixSet.getTableName(), TileTable.COLUMN_TILE_DATA,
+				EXTENSION_DEFINITION, ExtensionScopeType.READ_WRITE);
+
+		extensionList.add(coverage);
+		extensionList.add(tile);
+		extensionList.add(table);
+
+		return extensionList;
+	}
+
+	/**
+	 * Determine if the Tile Matrix Set has the extension
+	 * 
+	 * @return true if has extension
+	 */
+	public boolean has() {
+
+		boolean exists = has(EXTENSION_NAME, tileMatrixSet.getTableName(),
+				TileTable.COLUMN_TILE_DATA);
+
+		return exists;
+	}
+
+	/**
+	 * Get a 2D Gridded Coverage DAO
+	 * 
+	 * @return 2d gridded coverage dao
+	 */
+	public GriddedCoverageDao getGriddedCoverageDao() {
+		if (griddedCoverageDao == null) {
+			griddedCoverageDao = GriddedCoverageDao.create(geoPackage);
+		}
+		return griddedCoverageDao;
+	}
+
+	/**
+	 * Get a 2D Gridded Coverage DAO
+	 * 
+	 * @param geoPackage
+	 *            GeoPackage
+	 * @return 2d gridded coverage dao
+	 * @since 4.0.0
+	 */
+	public static GriddedCoverageDao getGriddedCoverageDao(
+			GeoPackageCore geoPackage) {
+		return GriddedCoverageDao.create(geoPackage);
+	}
+
+	/**
+	 * Get a 2D Gridded Coverage DAO
+	 * 
+	 * @param db
+	 *            database connection
+	 * @return 2d gridded coverage dao
+	 * @since 4.0.0
+	 */
+	public static GriddedCoverageDao getGriddedCoverageDao(
+			GeoPackageCoreConnection db) {
+		return GriddedCoverageDao.create(db);
+	}
+
+	/**
+	 * Create the 2D Gridded Coverage Table if it does not exist
+	 * 
+	 * @return true if created
+	 * @since 4.0.0
+	 */
+	public boolean createGriddedCoverageTable() {
+		verifyWritable();
+
+		boolean created = false;
+
+		try {
+			if (!griddedCoverageDao.isTableExists()) {
+				created = geoPackage.getTableCreator()
+						.createGriddedCoverage() > 0;
+			}
+		} catch (SQLException e) {
+			throw new GeoPackageException("Failed to check if "
+					+ GriddedCoverage.class.getSimpleName()
+					+ " table exists and create it", e);
+		}
+
+		return created;
+	}
+
+	/**
+	 * Get a 2D Gridded Tile DAO
+	 * 
+	 * @return 2d gridded tile dao
+	 */
+	public GriddedTileDao getGriddedTileDao() {
+		if (griddedTileDao == null) {
+			griddedTileDao = getGriddedTileDao(geoPackage);
+		}
+		return griddedTileDao;
+	}
+
+	/**
+	 * Get a 2D Gridded Tile DAO
+	 * 
+	 * @param geoPackage
+	 *            GeoPackage
+	 * @return 2d gridded tile dao
+	 * @since 4.0.0
+	 */
+	public static GriddedTileDao getGriddedTileDao(GeoPackageCore geoPackage) {
+		return GriddedTileDao.create(geoPackage);
+	}
+
+	/**
+	 * Get a 2D Gridded Tile DAO
+	 * 
+	 * @param db
+	 *            database connection
+	 * @return 2d gridded tile dao
+	 * @since 4.0.0
+	 */
+	public static GriddedTileDao getGriddedTileDao(
+			GeoPackageCoreConnection db) {
+		return GriddedTileDao.create(db);
+	}
+
+	/**
+	 * Create the 2D Gridded Tile Table if it does not exist
+	 * 
+	 * @return true if created
+	 * @since 4.0.0
+	 */
+	public boolean createGriddedTileTable() {
+		verifyWritable();
+
+		boolean created = false;
+
+		try {
+			if (!griddedTileDao.isTableExists()) {
+				created = geoPackage.getTableCreator().createGriddedTile() > 0;
+			}
+		} catch (SQLException e) {
+			throw new GeoPackageException(
+					"Failed to check if " + GriddedTile.class.getSimpleName()
+							+ " table exists and create it",
+					e);
+		}
+
+		return created;
+	}
+
+	/**
+	 * Get the gridded coverage
+	 * 
+	 * @return gridded coverage
+	 */
+	public GriddedCoverage getGriddedCoverage() {
+		return griddedCoverage;
+	}
+
+	/**
+	 * Query and update the gridded coverage
+	 * 
+	 * @return gridded coverage
+	 */
+	public GriddedCoverage queryGriddedCoverage() {
+		try {
+			if (griddedCoverageDao.isTableExists()) {
+				griddedCoverage = griddedCoverageDao.query(tileMatrixSet);
+			}
+		} catch (SQLException e) {
+			throw new GeoPackageException(
+					"Failed to get Gridded Coverage for table name: "
+							+ tileMatrixSet.getTableName(),
+					e);
+		}
+		return griddedCoverage;
+	}
+
+	/**
+	 * Get the gridded tile
+	 * 
+	 * @return gridded tiles
+	 */
+	public List<GriddedTile> getGriddedTile() {
+		List<GriddedTile> griddedTile = null;
+		try {
+			if (griddedTileDao.isTableExists()) {
+				griddedTile = griddedTileDao
+						.query(tileMatrixSet.getTableName());
+			}
+		} catch (SQLException e) {
+			throw new GeoPackageException(
+					"Failed to get Gridded Tile for table name: "
+							+ tileMatrixSet.getTableName(),
+					e);
+		}
+		return griddedTile;
+	}
+
+	/**
+	 * Get the gridded tile by id
+	 * 
+	 * @param tileId
+	 *            tile id
+	 * @return gridded tile
+	 */
+	public GriddedTile getGriddedTile(long tileId) {
+		GriddedTile griddedTile = null;
+		try {
+			if (griddedTileDao.isTableExists()) {
+				griddedTile = griddedTileDao.query(tileMatrixSet.getTableName(),
+						tileId);
+			}
+		} catch (SQLException e) {
+			throw new GeoPackageException(
+					"Failed to get Gridded Tile for table name: "
+							+ tileMatrixSet.getTableName() + ", tile id: "
+							+ tileId,
+					e);
+		}
+		return griddedTile;
+	}
+
+	/**
+	 * Get the gridded tile by id, read through a read connection
+	 * 
+	 * @param connection
+	 *            read connection, null for the GeoPackage connection
+	 * @param tileId
+	 *            tile id
+	 * @return gridded tile
+	 */
+	private GriddedTile getGriddedTile(GeoPackageCoreConnection connection,
+			long tileId) {
+
+		if (connection == null) {
+			return getGriddedTile(tileId);
+		}
+
+		GriddedTile griddedTile = null;
+		if (connection.tableExists(GriddedTile.TABLE_NAME)) {
+
+			StringBuilder sql = new StringBuilder("SELECT ");
+			sql.append(CoreSQLUtils.quoteWrap(GriddedTile.COLUMN_SCALE));
+			sql.append(", ");
+			sql.append(CoreSQLUtils.quoteWrap(GriddedTile.COLUMN_OFFSET));
+			sql.append(", ");
+			sql.append(CoreSQLUtils.quoteWrap(GriddedTile.COLUMN_MIN));
+			sql.append(", ");
+			sql.append(CoreSQLUtils.quoteWrap(GriddedTile.COLUMN_MAX));
+			sql.append(", ");
+			sql.append(CoreSQLUtils.quoteWrap(GriddedTile.COLUMN_MEAN));
+			sql.append(", ");
+			sql.append(CoreSQLUtils
+					.quoteWrap(GriddedTile.COLUMN_STANDARD_DEVIATION));
+			sql.append(" FROM ");
+			sql.append(CoreSQLUtils.quoteWrap(GriddedTile.TABLE_NAME));
+			sql.append(" WHERE ");
+			sql.append(CoreSQLUtils.quoteWrap(GriddedTile.COLUMN_TABLE_NAME));
+			sql.append(" = ? AND ");
+			sql.append(CoreSQLUtils.quoteWrap(GriddedTile.COLUMN_TABLE_ID));
+			sql.append(" = ?");
+
+			List<Object> result = connection.querySingleRowResults(
+					sql.toString(),
+					new String[] { tileMatrixSet.getTableName(),
+							String.valueOf(tileId) },
+					new GeoPackageDataType[] { GeoPackageDataType.DOUBLE,
+							GeoPackageDataType.DOUBLE,
+							GeoPackageDataType.DOUBLE,
+							GeoPackageDataType.DOUBLE,
+							GeoPackageDataType.DOUBLE,
+							GeoPackageDataType.DOUBLE });
+
+			if (result != null) {
+				griddedTile = new GriddedTile();
+				griddedTile.setContents(tileMatrixSet.getContents());
+				griddedTile.setTableId(tileId);
+				griddedTile.setScale(((Number) result.get(0)).doubleValue());
+				griddedTile
+						.setOffset(((Number) result.get(1)).doubleValue());
+				griddedTile.setMin(toDouble(result.get(2)));
+				griddedTile.setMax(toDouble(result.get(3)));
+				griddedTile.setMean(toDouble(result.get(4)));
+				griddedTile.setStandardDeviation(toDouble(result.get(5)));
+			}
+		}
+
+		return griddedTile;
+	}
+
+	/**
+	 * Get the data null value
+	 * 
+	 * @return data null value or null
+	 */
+	public Double getDataNull() {
+
+		Double dataNull = null;
+		if (griddedCoverage != null) {
+			dataNull = griddedCoverage.getDataNull();
+		}
+
+		return dataNull;
+	}
+
+	/**
+	 * Check the pixel value to see if it is the null equivalent
+	 * 
+	 * @param value
 	 *            pixel value
 	 * @return true if equivalent to data null
 	 */
@@ -748,20 +1733,37 @@ public abstract class CoverageDataCore<TImage extends CoverageDataImage>
 
 		Double[][] projectedValues = new Double[requestedCoverageHeight][requestedCoverageWidth];
 
+		double[][] coordinates = approximateTransform(width, height,
+				requestedCoverageWidth, requestedCoverageHeight,
+				requestBoundingBox, transformRequestToCoverage,
+				coverageBoundingBox);
+
+		// Reuse the coordinates across all transformed pixels
+		CoordinateTransform transform = transformRequestToCoverage
+				.getTransform();
+		ProjCoordinate fromCoord = new ProjCoordinate();
+		ProjCoordinate toCoord = new ProjCoordinate();
+
 		// Retrieve each coverage data value in the unprojected coverage data
+		int index = 0;
 		for (int y = 0; y < requestedCoverageHeight; y++) {
 			for (int x = 0; x < requestedCoverageWidth; x++) {
 
-				double longitude = requestBoundingBox.getMinLongitude()
-						+ (x * requestedWidthUnitsPerPixel);
-				double latitude = requestBoundingBox.getMaxLatitude()
-						- (y * requestedHeightUnitsPerPixel);
-				ProjCoordinate fromCoord = new ProjCoordinate(longitude,
-						latitude);
-				ProjCoordinate toCoord = transformRequestToCoverage
-						.transform(fromCoord);
-				double projectedLongitude = toCoord.x;
-				double projectedLatitude = toCoord.y;
+				double projectedLongitude;
+				double projectedLatitude;
+				if (coordinates != null) {
+					projectedLongitude = coordinates[0][index];
+					projectedLatitude = coordinates[1][index];
+					index++;
+				} else {
+					fromCoord.x = requestBoundingBox.getMinLongitude()
+							+ (x * requestedWidthUnitsPerPixel);
+					fromCoord.y = requestBoundingBox.getMaxLatitude()
+							- (y * requestedHeightUnitsPerPixel);
+					transform.transform(fromCoord, toCoord);
+					projectedLongitude = toCoord.x;
+					projectedLatitude = toCoord.y;
+				}
 
 				int xPixel = (int) Math.round(((projectedLongitude
 						- coverageBoundingBox.getMinLongitude())
@@ -785,6 +1787,147 @@ public abstract class CoverageDataCore<TImage extends CoverageDataImage>
 		return projectedValues;
 	}
 
+	/**
+	 * Reproject the row major primitive coverage data to the requested
+	 * projection
+	 *
+	 * @param values
+	 *            row major coverage data values
+	 * @param width
+	 *            coverage data width
+	 * @param height
+	 *            coverage data height
+	 * @param requestedCoverageWidth
+	 *            requested coverage data width
+	 * @param requestedCoverageHeight
+	 *            requested coverage data height
+	 * @param requestBoundingBox
+	 *            request bounding box in the request projection
+	 * @param transformRequestToCoverage
+	 *            transformation from request to coverage data
+	 * @param coverageBoundingBox
+	 *            coverage data bounding box
+	 * @return row major projected coverage data
+	 * @since 6.6.8
+	 */
+	protected double[] reprojectCoverageData(double[] values, int width,
+			int height, int requestedCoverageWidth,
+			int requestedCoverageHeight, BoundingBox requestBoundingBox,
+			ProjectionTransform transformRequestToCoverage,
+			BoundingBox coverageBoundingBox) {
+
+		final double requestedWidthUnitsPerPixel = requestBoundingBox
+				.getLongitudeRange() / requestedCoverageWidth;
+		final double requestedHeightUnitsPerPixel = requestBoundingBox
+				.getLatitudeRange() / requestedCoverageHeight;
+
+		final double tilesDistanceWidth = coverageBoundingBox.getMaxLongitude()
+				- coverageBoundingBox.getMinLongitude();
+		final double tilesDistanceHeight = coverageBoundingBox.getMaxLatitude()
+				- coverageBoundingBox.getMinLatitude();
+
+		double[] projectedValues = new double[requestedCoverageHeight
+				* requestedCoverageWidth];
+
+		double[][] coordinates = approximateTransform(width, height,
+				requestedCoverageWidth, requestedCoverageHeight,
+				requestBoundingBox, transformRequestToCoverage,
+				coverageBoundingBox);
+
+		// Reuse the coordinates across all transformed pixels
+		CoordinateTransform transform = transformRequestToCoverage
+				.getTransform();
+		ProjCoordinate fromCoord = new ProjCoordinate();
+		ProjCoordinate toCoord = new ProjCoordinate();
+
+		// Retrieve each coverage data value in the unprojected coverage data
+		int index = 0;
+		for (int y = 0; y < requestedCoverageHeight; y++) {
+
+			double latitude = requestBoundingBox.getMaxLatitude()
+					- (y * requestedHeightUnitsPerPixel);
+
+			for (int x = 0; x < requestedCoverageWidth; x++) {
+
+				if (coordinates != null) {
+					toCoord.x = coordinates[0][index];
+					toCoord.y = coordinates[1][index];
+				} else {
+					fromCoord.x = requestBoundingBox.getMinLongitude()
+							+ (x * requestedWidthUnitsPerPixel);
+					fromCoord.y = latitude;
+					transform.transform(fromCoord, toCoord);
+				}
+
+				int xPixel = (int) Math.round(((toCoord.x
+						- coverageBoundingBox.getMinLongitude())
+						/ tilesDistanceWidth) * width);
+				int yPixel = (int) Math
+						.round(((coverageBoundingBox.getMaxLatitude()
+								- toCoord.y) / tilesDistanceHeight) * height);
+
+				xPixel = Math.max(0, xPixel);
+				xPixel = Math.min(width - 1, xPixel);
+
+				yPixel = Math.max(0, yPixel);
+				yPixel = Math.min(height - 1, yPixel);
+
+				projectedValues[index++] = values[(yPixel * width) + xPixel];
+			}
+		}
+
+		return projectedValues;
+	}
+
+	/**
+	 * Approximately transform the requested coverage pixel coordinates to the
+	 * coverage projection when a transform tolerance is set
+	 *
+	 * @param width
+	 *            coverage data width
+	 * @param height
+	 *            coverage data height
+	 * @param requestedCoverageWidth
+	 *            requested coverage data width
+	 * @param requestedCoverageHeight
+	 *            requested coverage data height
+	 * @param requestBoundingBox
+	 *            request bounding box in the request projection
+	 * @param transformRequestToCoverage
+	 *            transformation from request to coverage data
+	 * @param coverageBoundingBox
+	 *            coverage data bounding box
+	 * @return row major transformed x and y coordinates, null when exact
+	 *         transforms are used
+	 */
+	private double[][] approximateTransform(int width, int height,
+			int requestedCoverageWidth, int requestedCoverageHeight,
+			BoundingBox requestBoundingBox,
+			ProjectionTransform transformRequestToCoverage,
+			BoundingBox coverageBoundingBox) {
+
+		double[][] coordinates = null;
+
+		if (transformTolerance > 0) {
+			int pixels = requestedCoverageWidth * requestedCoverageHeight;
+			coordinates = new double[2][pixels];
+			ApproximateTransform approximate = new ApproximateTransform(
+					transformRequestToCoverage, transformTolerance);
+			approximate.transform(requestBoundingBox.getMinLongitude(),
+					requestBoundingBox.getMaxLatitude(),
+					requestBoundingBox.getLongitudeRange()
+							/ requestedCoverageWidth,
+					requestBoundingBox.getLatitudeRange()
+							/ requestedCoverageHeight,
+					requestedCoverageWidth, requestedCoverageHeight,
+					coverageBoundingBox.getLongitudeRange() / width,
+					coverageBoundingBox.getLatitudeRange() / height,
+					coordinates[0], coordinates[1]);
+		}
+
+		return coordinates;
+	}
+
 	/**
 	 * Format the unbounded results from coverage data tiles into a single
 	 * double array of coverage data
@@ -901,6 +2044,125 @@ public abstract class CoverageDataCore<TImage extends CoverageDataImage>
 		return values;
 	}
 
+	/**
+	 * Format the unbounded primitive results from coverage data tiles into a
+	 * single row major primitive coverage data result
+	 * 
+	 * @param tileMatrix
+	 *            tile matrix
+	 * @param rowsMap
+	 *            rows map
+	 * @param tileCount
+	 *            tile count
+	 * @param minRow
+	 *            min row
+	 * @param maxRow
+	 *            max row
+	 * @param minColumn
+	 *            min column
+	 * @param maxColumn
+	 *            max column
+	 * @return coverage data primitive results
+	 * @since 6.6.8
+	 */
+	protected CoverageDataPrimitiveResults formatUnboundedPrimitiveResults(
+			TileMatrix tileMatrix,
+			Map<Long, Map<Long, CoverageDataPrimitiveResults>> rowsMap,
+			int tileCount, long minRow, long maxRow, long minColumn,
+			long maxColumn) {
+
+		// Handle formatting the results
+		CoverageDataPrimitiveResults results = null;
+		if (!rowsMap.isEmpty()) {
+
+			// If only one tile result, use the coverage data as the result
+			if (tileCount == 1) {
+				results = rowsMap.get(minRow).get(minColumn);
+			} else {
+
+				// Else, combine all results into a single coverage data result
+
+				// Get the top left and bottom right coverage data values
+				CoverageDataPrimitiveResults topLeft = rowsMap.get(minRow)
+						.get(minColumn);
+				CoverageDataPrimitiveResults bottomRight = rowsMap.get(maxRow)
+						.get(maxColumn);
+
+				// Determine the width and height of the top left coverage data
+				// results
+				int firstWidth = topLeft.getWidth();
+				int firstHeight = topLeft.getHeight();
+
+				// Determine the final result width and height
+				int width = firstWidth;
+				int height = firstHeight;
+				if (minColumn < maxColumn) {
+					width += bottomRight.getWidth();
+					long middleColumns = maxColumn - minColumn - 1;
+					if (middleColumns > 0) {
+						width += (middleColumns * tileMatrix.getTileWidth());
+					}
+				}
+				if (minRow < maxRow) {
+					height += bottomRight.getHeight();
+					long middleRows = maxRow - minRow - 1;
+					if (middleRows > 0) {
+						height += (middleRows * tileMatrix.getTileHeight());
+					}
+				}
+
+				// Create the coverage data result
+				results = new CoverageDataPrimitiveResults(width, height,
+						tileMatrix);
+				double[] values = results.getValues();
+
+				// Copy the coverage data values from each tile results into the
+				// final result array
+				for (Map.Entry<Long, Map<Long, CoverageDataPrimitiveResults>> rows : rowsMap
+						.entrySet()) {
+
+					// Determine the starting base row for this tile
+					long row = rows.getKey();
+					int baseRow = 0;
+					if (minRow < row) {
+						baseRow = firstHeight + (int) ((row - minRow - 1)
+								* tileMatrix.getTileHeight());
+					}
+
+					for (Map.Entry<Long, CoverageDataPrimitiveResults> columns : rows
+							.getValue().entrySet()) {
+
+						// Determine the starting base column for this tile
+						long column = columns.getKey();
+						int baseColumn = 0;
+						if (minColumn < column) {
+							baseColumn = firstWidth
+									+ (int) ((column - minColumn - 1)
+											* tileMatrix.getTileWidth());
+						}
+
+						// Copy each local coverage data row to the global row
+						// and column result location
+						CoverageDataPrimitiveResults local = columns.getValue();
+						double[] localValues = local.getValues();
+						int localWidth = local.getWidth();
+						for (int localRow = 0; localRow < local
+								.getHeight(); localRow++) {
+							System.arraycopy(localValues, localRow * localWidth,
+									values,
+									((baseRow + localRow) * width) + baseColumn,
+									localWidth);
+						}
+					}
+
+				}
+			}
+
+		}
+
+		return results;
+	}
+
 	/**
 	 * Determine the x source pixel location
 	 * 
@@ -1294,6 +2556,63 @@ public abstract class CoverageDataCore<TImage extends CoverageDataImage>
 		return value;
 	}
 
+	/**
+	 * Get the Bilinear Interpolation coverage data value from primitive values
+	 * 
+	 * @param sourcePixelX
+	 *            source pixel x
+	 * @param sourcePixelY
+	 *            source pixel y
+	 * @param values
+	 *            2 x 2 row major coverage data values, {@link Double#NaN} for
+	 *            missing values
+	 * @return coverage data value or {@link Double#NaN}
+	 * @since 6.6.8
+	 */
+	protected double getBilinearInterpolationValue(
+			CoverageDataSourcePixel sourcePixelX,
+			CoverageDataSourcePixel sourcePixelY, double[] values) {
+		return getBilinearInterpolationValue(sourcePixelX.getOffset(),
+				sourcePixelY.getOffset(), sourcePixelX.getMin(),
+				sourcePixelX.getMax(), sourcePixelY.getMin(),
+				sourcePixelY.getMax(), values[0], values[1], values[2],
+				values[3]);
+	}
+
+	/**
+	 * Get the Bilinear Interpolation coverage data value from primitive values
+	 * 
+	 * @param offsetX
+	 *            x source pixel offset
+	 * @param offsetY
+	 *            y source pixel offset
+	 * @param minX
+	 *            min x value
+	 * @param maxX
+	 *            max x value
+	 * @param minY
+	 *            min y value
+	 * @param maxY
+	 *            max y value
+	 * @param topLeft
+	 *            top left coverage value or {@link Double#NaN}
+	 * @param topRight
+	 *            top right coverage value or {@link Double#NaN}
+	 * @param bottomLeft
+	 *            bottom left coverage value or {@link Double#NaN}
+	 * @param bottomRight
+	 *            bottom right coverage value or {@link Double#NaN}
+	 * @return coverage data value or {@link Double#NaN}
+	 * @since 6.6.8
+	 */
+	protected double getBilinearInterpolationValue(float offsetX,
+			float offsetY, float minX, float maxX, float minY, float maxY,
+			double topLeft, double topRight, double bottomLeft,
+			double bottomRight) {
+		return CoverageDataInterpolation.bilinear(offsetX, offsetY, minX, maxX,
+				minY, maxY, topLeft, topRight, bottomLeft, bottomRight);
+	}
+
 	/**
 	 * Get the bicubic interpolation coverage data value from the 4 x 4 coverage
 	 * data values
@@ -1369,38 +2688,101 @@ public abstract class CoverageDataCore<TImage extends CoverageDataImage>
 	}
 
 	/**
-	 * Interpolate 4 values using the offset between value1 and value2
+	 * Interpolate 4 values using the offset between value1 and value2
+	 * 
+	 * @param value0
+	 *            index 0 value
+	 * @param value1
+	 *            index 1 value
+	 * @param value2
+	 *            index 2 value
+	 * @param value3
+	 *            index 3 value
+	 * @param offset
+	 *            offset between the middle two pixels
+	 * @return value coverage data value
+	 */
+	protected Double getCubicInterpolationValue(Double value0, Double value1,
+			Double value2, Double value3, double offset) {
+
+		Double value = null;
+
+		if (value0 != null && value1 != null && value2 != null
+				&& value3 != null) {
+
+			double coefficient0 = 2 * value1;
+			double coefficient1 = value2 - value0;
+			double coefficient2 = 2 * value0 - 5 * value1 + 4 * value2 - value3;
+			double coefficient3 = -value0 + 3 * value1 - 3 * value2 + value3;
+			value = (coefficient3 * offset * offset * offset
+					+ coefficient2 * offset * offset + coefficient1 * offset
+					+ coefficient0) / 2;
+		}
+
+		return value;
+	}
+
+	/**
+	 * Get the bicubic interpolation coverage data value from the 4 x 4 row
+	 * major primitive coverage data values
+	 * 
+	 * @param values
+	 *            4 x 4 row major coverage data values, {@link Double#NaN} for
+	 *            missing values
+	 * @param sourcePixelX
+	 *            source pixel x
+	 * @param sourcePixelY
+	 *            source pixel y
+	 * @return bicubic coverage data value or {@link Double#NaN}
+	 * @since 6.6.8
+	 */
+	protected double getBicubicInterpolationValue(double[] values,
+			CoverageDataSourcePixel sourcePixelX,
+			CoverageDataSourcePixel sourcePixelY) {
+		return getBicubicInterpolationValue(values, sourcePixelX.getOffset(),
+				sourcePixelY.getOffset());
+	}
+
+	/**
+	 * Get the bicubic interpolation coverage data value from the 4 x 4 row
+	 * major primitive coverage data values
+	 * 
+	 * @param values
+	 *            4 x 4 row major coverage data values, {@link Double#NaN} for
+	 *            missing values
+	 * @param offsetX
+	 *            x source pixel offset
+	 * @param offsetY
+	 *            y source pixel offset
+	 * @return bicubic coverage data value or {@link Double#NaN}
+	 * @since 6.6.8
+	 */
+	protected double getBicubicInterpolationValue(double[] values,
+			float offsetX, float offsetY) {
+		return CoverageDataInterpolation.bicubic(values, offsetX, offsetY);
+	}
+
+	/**
+	 * Interpolate 4 primitive values using the offset between value1 and
+	 * value2
 	 * 
 	 * @param value0
-	 *            index 0 value
+	 *            index 0 value or {@link Double#NaN}
 	 * @param value1
-	 *            index 1 value
+	 *            index 1 value or {@link Double#NaN}
 	 * @param value2
-	 *            index 2 value
+	 *            index 2 value or {@link Double#NaN}
 	 * @param value3
-	 *            index 3 value
+	 *            index 3 value or {@link Double#NaN}
 	 * @param offset
 	 *            offset between the middle two pixels
-	 * @return value coverage data value
+	 * @return value coverage data value or {@link Double#NaN}
+	 * @since 6.6.8
 	 */
-	protected Double getCubicInterpolationValue(Double value0, Double value1,
-			Double value2, Double value3, double offset) {
-
-		Double value = null;
-
-		if (value0 != null && value1 != null && value2 != null
-				&& value3 != null) {
-
-			double coefficient0 = 2 * value1;
-			double coefficient1 = value2 - value0;
-			double coefficient2 = 2 * value0 - 5 * value1 + 4 * value2 - value3;
-			double coefficient3 = -value0 + 3 * value1 - 3 * value2 + value3;
-			value = (coefficient3 * offset * offset * offset
-					+ coefficient2 * offset * offset + coefficient1 * offset
-					+ coefficient0) / 2;
-		}
-
-		return value;
+	protected double getCubicInterpolationValue(double value0, double value1,
+			double value2, double value3, double offset) {
+		return CoverageDataInterpolation.cubic(value0, value1, value2, value3,
+				offset);
 	}
 
 	/**
@@ -1572,8 +2954,26 @@ public abstract class CoverageDataCore<TImage extends CoverageDataImage>
 	 */
 	private Double pixelValueToValue(GriddedTile griddedTile,
 			Double pixelValue) {
+		return pixelValueToValue(griddedCoverage, griddedTile,
+				pixelValue.doubleValue());
+	}
 
-		Double value = pixelValue;
+	/**
+	 * Convert integer coverage typed pixel value to a coverage data value
+	 * through scales and offsets
+	 * 
+	 * @param griddedCoverage
+	 *            gridded coverage or null
+	 * @param griddedTile
+	 *            gridded tile
+	 * @param pixelValue
+	 *            pixel value
+	 * @return coverage data value
+	 */
+	private static double pixelValueToValue(GriddedCoverage griddedCoverage,
+			GriddedTile griddedTile, double pixelValue) {
+
+		double value = pixelValue;
 
 		if (griddedCoverage != null && griddedCoverage
 				.getDataType() == GriddedCoverageDataType.INTEGER) {
@@ -1625,6 +3025,98 @@ public abstract class CoverageDataCore<TImage extends CoverageDataImage>
 		return values;
 	}
 
+	/**
+	 * Get the coverage data values from the "unsigned short" pixel values into
+	 * the primitive values array, {@link Double#NaN} for data null values
+	 * 
+	 * @param griddedTile
+	 *            gridded tile
+	 * @param pixelValues
+	 *            pixel values as "unsigned shorts"
+	 * @param values
+	 *            coverage data values to populate, at least the pixel values
+	 *            length
+	 * @since 6.6.8
+	 */
+	public void getValues(GriddedTile griddedTile, short[] pixelValues,
+			double[] values) {
+		getValues(griddedCoverage, griddedTile, pixelValues, values);
+	}
+
+	/**
+	 * Get the coverage data values from the "unsigned short" pixel values of a
+	 * tile in the gridded coverage into the primitive values array
+	 * 
+	 * @param griddedCoverage
+	 *            gridded coverage or null
+	 * @param griddedTile
+	 *            gridded tile
+	 * @param pixelValues
+	 *            pixel values as "unsigned shorts"
+	 * @param values
+	 *            coverage data values to populate, at least the pixel values
+	 *            length
+	 * @see #getValues(GriddedTile, short[], double[])
+	 */
+	static void getValues(GriddedCoverage griddedCoverage,
+			GriddedTile griddedTile, short[] pixelValues, double[] values) {
+		Double dataNull = griddedCoverage != null
+				? griddedCoverage.getDataNull()
+				: null;
+		for (int i = 0; i < pixelValues.length; i++) {
+			values[i] = getPrimitiveValue(griddedCoverage, griddedTile,
+					pixelValues[i] & 0xffff, dataNull);
+		}
+	}
+
+	/**
+	 * Get the coverage data values from the unsigned 16 bit integer pixel
+	 * values into the primitive values array, {@link Double#NaN} for data
+	 * null values
+	 * 
+	 * @param griddedTile
+	 *            gridded tile
+	 * @param unsignedPixelValues
+	 *            pixel values as 16 bit integers
+	 * @param values
+	 *            coverage data values to populate, at least the pixel values
+	 *            length
+	 * @since 6.6.8
+	 */
+	public void getValues(GriddedTile griddedTile, int[] unsignedPixelValues,
+			double[] values) {
+		Double dataNull = getDataNull();
+		for (int i = 0; i < unsignedPixelValues.length; i++) {
+			values[i] = getPrimitiveValue(griddedCoverage, griddedTile,
+					unsignedPixelValues[i], dataNull);
+		}
+	}
+
+	/**
+	 * Get the primitive coverage data value for the pixel value
+	 * 
+	 * @param griddedCoverage
+	 *            gridded coverage or null
+	 * @param griddedTile
+	 *            gridded tile
+	 * @param pixelValue
+	 *            pixel value
+	 * @param dataNull
+	 *            data null value or null
+	 * @return coverage data value or {@link Double#NaN} for data null
+	 */
+	private static double getPrimitiveValue(GriddedCoverage griddedCoverage,
+			GriddedTile griddedTile, double pixelValue, Double dataNull) {
+		double value;
+		if (dataNull != null && dataNull == pixelValue) {
+			value = Double.NaN;
+		} else {
+			value = pixelValueToValue(griddedCoverage, griddedTile,
+					pixelValue);
+		}
+		return value;
+	}
+
 	/**
 	 * Create the coverage data tile table
 	 * 
@@ -1659,7 +3151,8 @@ public abstract class CoverageDataCore<TImage extends CoverageDataImage>
 				unsignedPixelValue = griddedCoverage.getDataNull().intValue();
 			}
 		} else {
-			double pixelValue = valueToPixelValue(griddedTile, value);
+			double pixelValue = valueToPixelValue(griddedCoverage,
+					griddedTile, value);
 			unsignedPixelValue = (int) Math.round(pixelValue);
 		}
 
@@ -1670,13 +3163,16 @@ public abstract class CoverageDataCore<TImage extends CoverageDataImage>
 	 * Convert integer coverage typed coverage data value to a pixel value
 	 * through offsets and scales
 	 * 
+	 * @param griddedCoverage
+	 *            gridded coverage or null
 	 * @param griddedTile
 	 *            gridded tile
 	 * @param value
 	 *            coverage data value
 	 * @return pixel value
 	 */
-	private double valueToPixelValue(GriddedTile griddedTile, double value) {
+	private static double valueToPixelValue(GriddedCoverage griddedCoverage,
+			GriddedTile griddedTile, double value) {
 
 		double pixelValue = value;
 
@@ -1710,6 +3206,73 @@ public abstract class CoverageDataCore<TImage extends CoverageDataImage>
 		return pixelValue;
 	}
 
+	/**
+	 * Get the "unsigned short" pixel values of the primitive coverage data
+	 * values into the pixel values array, with the data null pixel value for
+	 * {@link Double#NaN} values and pixel values clamped to the unsigned 16
+	 * bit range
+	 * 
+	 * @param griddedTile
+	 *            gridded tile
+	 * @param values
+	 *            coverage data values, {@link Double#NaN} for data null
+	 * @param pixelValues
+	 *            "unsigned short" pixel values to populate, at least the
+	 *            values length
+	 * @since 6.6.8
+	 */
+	public void getPixelValues(GriddedTile griddedTile, double[] values,
+			short[] pixelValues) {
+		getPixelValues(griddedCoverage, griddedTile, values, pixelValues);
+	}
+
+	/**
+	 * Get the "unsigned short" pixel values of the primitive coverage data
+	 * values of a tile in the gridded coverage into the pixel values array
+	 * 
+	 * @param griddedCoverage
+	 *            gridded coverage or null
+	 * @param griddedTile
+	 *            gridded tile
+	 * @param values
+	 *            coverage data values, {@link Double#NaN} for data null
+	 * @param pixelValues
+	 *            "unsigned short" pixel values to populate, at least the
+	 *            values length
+	 * @see #getPixelValues(GriddedTile, double[], short[])
+	 */
+	static void getPixelValues(GriddedCoverage griddedCoverage,
+			GriddedTile griddedTile, double[] values, short[] pixelValues) {
+
+		double scale = 1.0;
+		double offset = 0.0;
+		if (griddedCoverage != null && griddedCoverage
+				.getDataType() == GriddedCoverageDataType.INTEGER) {
+			double tileScale = griddedTile != null ? griddedTile.getScale()
+					: 1.0;
+			double tileOffset = griddedTile != null ? griddedTile.getOffset()
+					: 0.0;
+			scale = griddedCoverage.getScale() * tileScale;
+			offset = (griddedCoverage.getScale() * tileOffset)
+					+ griddedCoverage.getOffset();
+		}
+		Double dataNull = griddedCoverage != null
+				? griddedCoverage.getDataNull()
+				: null;
+		short dataNullPixel = (short) (dataNull != null ? dataNull.intValue()
+				: 0);
+
+		for (int i = 0; i < values.length; i++) {
+			double value = values[i];
+			if (Double.isNaN(value)) {
+				pixelValues[i] = dataNullPixel;
+			} else {
+				long pixel = Math.round((value - offset) / scale);
+				pixelValues[i] = (short) Math.max(0, Math.min(pixel, 0xffff));
+			}
+		}
+	}
+
 	/**
 	 * Get the pixel value at the coordinate from the pixel values
 	 * 
@@ -1763,6 +3326,50 @@ public abstract class CoverageDataCore<TImage extends CoverageDataImage>
 		return values;
 	}
 
+	/**
+	 * Get the coverage data values from the pixel values into the primitive
+	 * values array, {@link Double#NaN} for data null values
+	 * 
+	 * @param griddedTile
+	 *            gridded tile
+	 * @param pixelValues
+	 *            pixel values
+	 * @param values
+	 *            coverage data values to populate, at least the pixel values
+	 *            length
+	 * @since 6.6.8
+	 */
+	public void getValues(GriddedTile griddedTile, float[] pixelValues,
+			double[] values) {
+		getValues(griddedCoverage, griddedTile, pixelValues, values);
+	}
+
+	/**
+	 * Get the coverage data values from the pixel values of a tile in the
+	 * gridded coverage into the primitive values array
+	 * 
+	 * @param griddedCoverage
+	 *            gridded coverage or null
+	 * @param griddedTile
+	 *            gridded tile
+	 * @param pixelValues
+	 *            pixel values
+	 * @param values
+	 *            coverage data values to populate, at least the pixel values
+	 *            length
+	 * @see #getValues(GriddedTile, float[], double[])
+	 */
+	static void getValues(GriddedCoverage griddedCoverage,
+			GriddedTile griddedTile, float[] pixelValues, double[] values) {
+		Double dataNull = griddedCoverage != null
+				? griddedCoverage.getDataNull()
+				: null;
+		for (int i = 0; i < pixelValues.length; i++) {
+			values[i] = getPrimitiveValue(griddedCoverage, griddedTile,
+					pixelValues[i], dataNull);
+		}
+	}
+
 	/**
 	 * Get the pixel value of the coverage data value
 	 * 
@@ -1780,7 +3387,7 @@ public abstract class CoverageDataCore<TImage extends CoverageDataImage>
 				pixel = griddedCoverage.getDataNull();
 			}
 		} else {
-			pixel = valueToPixelValue(griddedTile, value);
+			pixel = valueToPixelValue(griddedCoverage, griddedTile, value);
 		}
 
 		float pixelValue = (float) pixel;
@@ -1788,6 +3395,56 @@ public abstract class CoverageDataCore<TImage extends CoverageDataImage>
 		return pixelValue;
 	}
 
+	/**
+	 * Get the float pixel values of the primitive coverage data values into
+	 * the pixel values array, with the data null value for {@link Double#NaN}
+	 * values
+	 * 
+	 * @param griddedTile
+	 *            gridded tile
+	 * @param values
+	 *            coverage data values, {@link Double#NaN} for data null
+	 * @param pixelValues
+	 *            pixel values to populate, at least the values length
+	 * @since 6.6.8
+	 */
+	public void getFloatPixelValues(GriddedTile griddedTile, double[] values,
+			float[] pixelValues) {
+		getFloatPixelValues(griddedCoverage, griddedTile, values,
+				pixelValues);
+	}
+
+	/**
+	 * Get the float pixel values of the primitive coverage data values of a
+	 * tile in the gridded coverage into the pixel values array
+	 * 
+	 * @param griddedCoverage
+	 *            gridded coverage or null
+	 * @param griddedTile
+	 *            gridded tile
+	 * @param values
+	 *            coverage data values, {@link Double#NaN} for data null
+	 * @param pixelValues
+	 *            pixel values to populate, at least the values length
+	 * @see #getFloatPixelValues(GriddedTile, double[], float[])
+	 */
+	static void getFloatPixelValues(GriddedCoverage griddedCoverage,
+			GriddedTile griddedTile, double[] values, float[] pixelValues) {
+		Double dataNull = griddedCoverage != null
+				? griddedCoverage.getDataNull()
+				: null;
+		float dataNullPixel = dataNull != null ? dataNull.floatValue() : 0;
+		for (int i = 0; i < values.length; i++) {
+			double value = values[i];
+			if (Double.isNaN(value)) {
+				pixelValues[i] = dataNullPixel;
+			} else {
+				pixelValues[i] = (float) valueToPixelValue(griddedCoverage,
+						griddedTile, value);
+			}
+		}
+	}
+
 	/**
 	 * Get the coverage data value at the coordinate
 	 * 
@@ -1808,6 +3465,139 @@ public abstract class CoverageDataCore<TImage extends CoverageDataImage>
 		return value;
 	}
 
+	/**
+	 * Get the coverage data values at the coordinates. Points are grouped by
+	 * the tile they fall in at the highest resolution tile matrix, each
+	 * decoded tile is read once through
+	 * {@link #getCoverageDataTile(long, long, long)}, and all points are
+	 * interpolated in a single pass using the configured algorithm, matching
+	 * {@link #getValue(double, double)}. Points within the coverage bounds
+	 * without a tile at that zoom level fall back to
+	 * {@link #getValue(double, double)}.
+	 * 
+	 * @param latitudes
+	 *            latitudes
+	 * @param longitudes
+	 *            longitudes
+	 * @return coverage data values, {@link Double#NaN} for missing values
+	 * @since 6.6.8
+	 */
+	public double[] getValues(double[] latitudes, double[] longitudes) {
+
+		if (latitudes.length != longitudes.length) {
+			throw new GeoPackageException("Latitudes length of "
+					+ latitudes.length + " does not match longitudes length of "
+					+ longitudes.length);
+		}
+
+		int count = latitudes.length;
+		double[] values = new double[count];
+		Arrays.fill(values, Double.NaN);
+
+		TileMatrix tileMatrix = null;
+		if (count > 0) {
+			validateTileCache();
+			tileMatrix = getPointTileMatrix();
+		}
+
+		if (tileMatrix != null) {
+
+			// Project the points to the coverage projection
+			double[] xs = longitudes;
+			double[] ys = latitudes;
+			if (!sameProjection) {
+				xs = new double[count];
+				ys = new double[count];
+				CoordinateTransform transform = requestProjection
+						.getTransformation(coverageProjection).getTransform();
+				ProjCoordinate fromCoord = new ProjCoordinate();
+				ProjCoordinate toCoord = new ProjCoordinate();
+				for (int i = 0; i < count; i++) {
+					fromCoord.x = longitudes[i];
+					fromCoord.y = latitudes[i];
+					transform.transform(fromCoord, toCoord);
+					xs[i] = toCoord.x;
+					ys[i] = toCoord.y;
+				}
+			}
+
+			double tileWidth = tileMatrix.getTileWidth()
+					* tileMatrix.getPixelXSize();
+			double tileHeight = tileMatrix.getTileHeight()
+					* tileMatrix.getPixelYSize();
+
+			// Group the point indices by tile
+			Map<Long, PointIndices> tilePoints = new HashMap<>();
+			PointIndices points = null;
+			long pointsKey = -1;
+			for (int i = 0; i < count; i++) {
+				double x = xs[i];
+				double y = ys[i];
+				if (x < coverageBoundingBox.getMinLongitude()
+						|| x > coverageBoundingBox.getMaxLongitude()
+						|| y < coverageBoundingBox.getMinLatitude()
+						|| y > coverageBoundingBox.getMaxLatitude()) {
+					continue;
+				}
+				long column = Math.min(
+						(long) ((x - coverageBoundingBox.getMinLongitude())
+								/ tileWidth),
+						tileMatrix.getMatrixWidth() - 1);
+				long row = Math.min(
+						(long) ((coverageBoundingBox.getMaxLatitude() - y)
+								/ tileHeight),
+						tileMatrix.getMatrixHeight() - 1);
+				long key = getPointTileKey(tileMatrix, column, row);
+				if (points == null || key != pointsKey) {
+					points = tilePoints.get(key);
+					if (points == null) {
+						points = new PointIndices();
+						tilePoints.put(key, points);
+					}
+					pointsKey = key;
+				}
+				points.add(i);
+			}
+
+			// Process the tiles in row major order
+			long[] keys = new long[tilePoints.size()];
+			int keyIndex = 0;
+			for (long key : tilePoints.keySet()) {
+				keys[keyIndex++] = key;
+			}
+			Arrays.sort(keys);
+
+			SampleTiles tiles = new SampleTiles();
+
+			for (long key : keys) {
+
+				long column = key % tileMatrix.getMatrixWidth();
+				long row = key / tileMatrix.getMatrixWidth();
+				boolean hasTile = tiles.get(tileMatrix, column, row) != null;
+
+				PointIndices indices = tilePoints.get(key);
+				for (int i = 0; i < indices.size(); i++) {
+					int index = indices.get(i);
+					double value = Double.NaN;
+					if (hasTile) {
+						value = getPointValue(tiles, tileMatrix, xs[index],
+								ys[index]);
+					} else {
+						Double pointValue = getValue(latitudes[index],
+								longitudes[index]);
+						if (pointValue != null) {
+							value = pointValue;
+						}
+					}
+					values[index] = value;
+				}
+			}
+
+		}
+
+		return values;
+	}
+
 	/**
 	 * Get the coverage data values within the bounding box
 	 * 
@@ -1822,36 +3612,158 @@ public abstract class CoverageDataCore<TImage extends CoverageDataImage>
 		return values;
 	}
 
-	/**
-	 * Get the coverage data values within the bounding box with the requested
-	 * width and height result size
-	 * 
-	 * @param requestBoundingBox
-	 *            request bounding box
-	 * @param width
-	 *            coverage data request width
-	 * @param height
-	 *            coverage data request height
-	 * @return coverage data results
-	 */
-	public CoverageDataResults getValues(BoundingBox requestBoundingBox,
-			Integer width, Integer height) {
-		CoverageDataRequest request = new CoverageDataRequest(
-				requestBoundingBox);
-		CoverageDataResults values = getValues(request, width, height);
-		return values;
-	}
+	/**
+	 * Get the coverage data values within the bounding box with the requested
+	 * width and height result size
+	 * 
+	 * @param requestBoundingBox
+	 *            request bounding box
+	 * @param width
+	 *            coverage data request width
+	 * @param height
+	 *            coverage data request height
+	 * @return coverage data results
+	 */
+	public CoverageDataResults getValues(BoundingBox requestBoundingBox,
+			Integer width, Integer height) {
+		CoverageDataRequest request = new CoverageDataRequest(
+				requestBoundingBox);
+		CoverageDataResults values = getValues(request, width, height);
+		return values;
+	}
+
+	/**
+	 * Get the requested coverage data values
+	 * 
+	 * @param request
+	 *            coverage data request
+	 * @return coverage data results
+	 */
+	public CoverageDataResults getValues(CoverageDataRequest request) {
+		CoverageDataResults values = getValues(request, width, height);
+		return values;
+	}
+
+	/**
+	 * Get the requested coverage data values as primitive results
+	 * 
+	 * @param request
+	 *            coverage data request
+	 * @return coverage data primitive results or null
+	 * @since 6.6.8
+	 */
+	public CoverageDataPrimitiveResults getPrimitiveValues(
+			CoverageDataRequest request) {
+		return getPrimitiveValues(request, width, height);
+	}
+
+	/**
+	 * Get the requested coverage data values as primitive results with the
+	 * requested width and height. Tiles are read as decoded tiles through
+	 * {@link #getCoverageDataTile(long, long, long)}, using the tile cache when
+	 * set, and the values are interpolated, and reprojected when needed, into
+	 * row major primitive values without boxing.
+	 * 
+	 * @param request
+	 *            coverage data request
+	 * @param width
+	 *            coverage data request width
+	 * @param height
+	 *            coverage data request height
+	 * @return coverage data primitive results or null
+	 * @since 6.6.8
+	 */
+	public CoverageDataPrimitiveResults getPrimitiveValues(
+			CoverageDataRequest request, Integer width, Integer height) {
+
+		validateTileCache();
+
+		CoverageDataPrimitiveResults results = null;
+
+		// Transform to the projection of the coverage data tiles
+		ProjectionTransform transformRequestToCoverage = null;
+		BoundingBox requestProjectedBoundingBox = request.getBoundingBox();
+		if (!sameProjection) {
+			transformRequestToCoverage = requestProjection
+					.getTransformation(coverageProjection);
+			requestProjectedBoundingBox = requestProjectedBoundingBox
+					.transform(transformRequestToCoverage);
+		}
+		request.setProjectedBoundingBox(requestProjectedBoundingBox);
+
+		// Determine how many overlapping pixels to read based upon the
+		// algorithm
+		int overlappingPixels;
+		switch (algorithm) {
+		case BICUBIC:
+			overlappingPixels = 3;
+			break;
+		default:
+			overlappingPixels = 1;
+		}
+
+		SampleTiles tiles = new SampleTiles();
+		TileMatrix tileMatrix = getRequestTileMatrix(request, tiles,
+				overlappingPixels);
+
+		if (tileMatrix != null) {
+
+			// Determine the requested coverage data dimensions, or use the
+			// dimensions of a single tile matrix coverage data tile
+			int requestedWidth = width != null ? width
+					: (int) tileMatrix.getTileWidth();
+			int requestedHeight = height != null ? height
+					: (int) tileMatrix.getTileHeight();
+
+			if (request.isPoint()) {
+
+				// Single points sample only the first destination pixel
+				results = new CoverageDataPrimitiveResults(requestedWidth,
+						requestedHeight, tileMatrix);
+				results.getValues()[0] = getPointValue(tiles, tileMatrix,
+						requestProjectedBoundingBox.getMinLongitude(),
+						requestProjectedBoundingBox.getMinLatitude());
+
+			} else {
+
+				// Determine the size of the non projected coverage data
+				// results
+				int valuesWidth = requestedWidth;
+				int valuesHeight = requestedHeight;
+				if (!sameProjection) {
+					int projectedWidth = (int) Math.round(
+							requestProjectedBoundingBox.getLongitudeRange()
+									/ tileMatrix.getPixelXSize());
+					if (projectedWidth > 0) {
+						valuesWidth = projectedWidth;
+					}
+					int projectedHeight = (int) Math.round(
+							requestProjectedBoundingBox.getLatitudeRange()
+									/ tileMatrix.getPixelYSize());
+					if (projectedHeight > 0) {
+						valuesHeight = projectedHeight;
+					}
+				}
+
+				double[] values = getRequestValues(tiles, tileMatrix,
+						requestProjectedBoundingBox, valuesWidth,
+						valuesHeight);
+
+				// Project the coverage data if needed
+				if (!sameProjection) {
+					values = reprojectCoverageData(values, valuesWidth,
+							valuesHeight, requestedWidth, requestedHeight,
+							request.getBoundingBox(),
+							transformRequestToCoverage,
+							requestProjectedBoundingBox);
+				}
+
+				results = new CoverageDataPrimitiveResults(values,
+						requestedWidth, requestedHeight, tileMatrix);
+			}
+		}
 
-	/**
-	 * Get the requested coverage data values
-	 * 
-	 * @param request
-	 *            coverage data request
-	 * @return coverage data results
-	 */
-	public CoverageDataResults getValues(CoverageDataRequest request) {
-		CoverageDataResults values = getValues(request, width, height);
-		return values;
+		return results;
 	}
 
 	/**
@@ -1870,6 +3782,160 @@ public abstract class CoverageDataCore<TImage extends CoverageDataImage>
 		return getValuesUnbounded(request);
 	}
 
+	/**
+	 * Get the requested unbounded coverage data values as primitive results.
+	 * Unbounded results retrieves and returns each coverage data pixel. The
+	 * results size equals the width and height of all matching pixels. Tiles
+	 * are read as decoded tiles through
+	 * {@link #getCoverageDataTile(long, long, long)}, using the tile cache when
+	 * set.
+	 * 
+	 * @param request
+	 *            coverage data request
+	 * @return coverage data primitive results or null
+	 * @since 6.6.8
+	 */
+	public CoverageDataPrimitiveResults getPrimitiveValuesUnbounded(
+			CoverageDataRequest request) {
+
+		validateTileCache();
+
+		CoverageDataPrimitiveResults results = null;
+
+		// Transform to the projection of the coverage data tiles
+		ProjectionTransform transformRequestToCoverage = null;
+		BoundingBox requestProjectedBoundingBox = request.getBoundingBox();
+		if (!sameProjection) {
+			transformRequestToCoverage = requestProjection
+					.getTransformation(coverageProjection);
+			requestProjectedBoundingBox = requestProjectedBoundingBox
+					.transform(transformRequestToCoverage);
+		}
+		request.setProjectedBoundingBox(requestProjectedBoundingBox);
+
+		SampleTiles tiles = new SampleTiles();
+		TileMatrix tileMatrix = getRequestTileMatrix(request, tiles, 0);
+
+		if (tileMatrix != null) {
+
+			int tileWidth = (int) tileMatrix.getTileWidth();
+			int tileHeight = (int) tileMatrix.getTileHeight();
+
+			// Build a map of rows to maps of columns and values
+			Map<Long, Map<Long, CoverageDataPrimitiveResults>> rowsMap = new TreeMap<>();
+
+			// Track the min and max row and column
+			long minRow = Long.MAX_VALUE;
+			long maxRow = Long.MIN_VALUE;
+			long minColumn = Long.MAX_VALUE;
+			long maxColumn = Long.MIN_VALUE;
+
+			// Track count
+			int tileCount = 0;
+
+			TileGrid tileGrid = getRequestTileGrid(tileMatrix,
+					requestProjectedBoundingBox);
+			for (long row = tileGrid.getMinY(); row <= tileGrid
+					.getMaxY(); row++) {
+				for (long column = tileGrid.getMinX(); column <= tileGrid
+						.getMaxX(); column++) {
+
+					CoverageDataTile tile = tiles.get(tileMatrix, column,
+							row);
+					if (tile == null) {
+						continue;
+					}
+
+					// Get the bounding box where the request and tile overlap
+					BoundingBox tileBoundingBox = TileBoundingBoxUtils
+							.getBoundingBox(coverageBoundingBox, tileMatrix,
+									column, row);
+					BoundingBox overlap = request.overlap(tileBoundingBox);
+					if (overlap == null) {
+						continue;
+					}
+
+					// Get the rectangle of the tile coverage data with
+					// matching values
+					int left = (int) Math.round(((overlap.getMinLongitude()
+							- tileBoundingBox.getMinLongitude())
+							/ tileBoundingBox.getLongitudeRange())
+							* tileWidth);
+					int right = (int) Math.round(((overlap.getMaxLongitude()
+							- tileBoundingBox.getMinLongitude())
+							/ tileBoundingBox.getLongitudeRange())
+							* tileWidth);
+					int top = (int) Math.round(((tileBoundingBox
+							.getMaxLatitude() - overlap.getMaxLatitude())
+							/ tileBoundingBox.getLatitudeRange())
+							* tileHeight);
+					int bottom = (int) Math.round(((tileBoundingBox
+							.getMaxLatitude() - overlap.getMinLatitude())
+							/ tileBoundingBox.getLatitudeRange())
+							* tileHeight);
+					if (left >= right || top >= bottom) {
+						continue;
+					}
+
+					// Get the source dimensions
+					int srcTop = Math.min(top, tileHeight - 1);
+					int srcBottom = Math.min(bottom, tileHeight - 1);
+					int srcLeft = Math.min(left, tileWidth - 1);
+					int srcRight = Math.min(right, tileWidth - 1);
+
+					// Read and set the coverage data values of this tile
+					CoverageDataPrimitiveResults tileResults = new CoverageDataPrimitiveResults(
+							srcRight - srcLeft + 1, srcBottom - srcTop + 1,
+							tileMatrix);
+					double[] values = tileResults.getValues();
+					int index = 0;
+					for (int y = srcTop; y <= srcBottom; y++) {
+						for (int x = srcLeft; x <= srcRight; x++) {
+							if (x < tile.getWidth() && y < tile.getHeight()) {
+								values[index] = getPrimitiveValue(tile, x, y);
+							}
+							index++;
+						}
+					}
+
+					// Get or add the columns map to the rows map
+					Map<Long, CoverageDataPrimitiveResults> columnsMap = rowsMap
+							.get(row);
+					if (columnsMap == null) {
+						columnsMap = new TreeMap<>();
+						rowsMap.put(row, columnsMap);
+					}
+					columnsMap.put(column, tileResults);
+
+					// Set the min and max rows and columns
+					minRow = Math.min(minRow, row);
+					maxRow = Math.max(maxRow, row);
+					minColumn = Math.min(minColumn, column);
+					maxColumn = Math.max(maxColumn, column);
+
+					tileCount++;
+				}
+			}
+
+			// Handle formatting the results
+			results = formatUnboundedPrimitiveResults(tileMatrix, rowsMap,
+					tileCount, minRow, maxRow, minColumn, maxColumn);
+
+			// Project the coverage data if needed
+			if (results != null && !sameProjection && !request.isPoint()) {
+				double[] values = reprojectCoverageData(results.getValues(),
+						results.getWidth(), results.getHeight(),
+						results.getWidth(), results.getHeight(),
+						request.getBoundingBox(), transformRequestToCoverage,
+						requestProjectedBoundingBox);
+				results = new CoverageDataPrimitiveResults(values,
+						results.getWidth(), results.getHeight(), tileMatrix);
+			}
+		}
+
+		return results;
+	}
+
 	/**
 	 * Get the bilinear interpolation coverage data value
 	 * 
@@ -2201,4 +4267,649 @@ public abstract class CoverageDataCore<TImage extends CoverageDataImage>
 		return value;
 	}
 
+	/**
+	 * Get the highest resolution tile matrix used to sample points
+	 * 
+	 * @return tile matrix or null
+	 */
+	private TileMatrix getPointTileMatrix() {
+		TileMatrix tileMatrix = null;
+		List<TileMatrix> tileMatrices = getTileMatrices();
+		if (!tileMatrices.isEmpty()) {
+			tileMatrix = tileMatrices.get(tileMatrices.size() - 1);
+		}
+		return tileMatrix;
+	}
+
+	/**
+	 * Get the row major tile key of the tile column and row
+	 * 
+	 * @param tileMatrix
+	 *            tile matrix
+	 * @param column
+	 *            tile column
+	 * @param row
+	 *            tile row
+	 * @return tile key
+	 */
+	private static long getPointTileKey(TileMatrix tileMatrix, long column,
+			long row) {
+		return (row * tileMatrix.getMatrixWidth()) + column;
+	}
+
+	/**
+	 * Query for the tile id and tile data of a tile
+	 * 
+	 * @param connection
+	 *            read connection, null for the GeoPackage connection
+	 * @param zoom
+	 *            zoom level
+	 * @param column
+	 *            tile column
+	 * @param row
+	 *            tile row
+	 * @return tile id and tile data, null when the tile does not exist
+	 */
+	private List<Object> queryTile(GeoPackageCoreConnection connection,
+			long zoom, long column, long row) {
+		String sql = "SELECT " + CoreSQLUtils.quoteWrap(TileTable.COLUMN_ID)
+				+ ", " + CoreSQLUtils.quoteWrap(TileTable.COLUMN_TILE_DATA)
+				+ " FROM "
+				+ CoreSQLUtils.quoteWrap(tileMatrixSet.getTableName())
+				+ " WHERE "
+				+ CoreSQLUtils.quoteWrap(TileTable.COLUMN_ZOOM_LEVEL)
+				+ " = ? AND "
+				+ CoreSQLUtils.quoteWrap(TileTable.COLUMN_TILE_COLUMN)
+				+ " = ? AND "
+				+ CoreSQLUtils.quoteWrap(TileTable.COLUMN_TILE_ROW) + " = ?";
+		if (connection == null) {
+			connection = geoPackage.getDatabase();
+		}
+		return connection.querySingleRowResults(sql,
+				new String[] { String.valueOf(zoom), String.valueOf(column),
+						String.valueOf(row) },
+				new GeoPackageDataType[] { GeoPackageDataType.INTEGER,
+						GeoPackageDataType.BLOB });
+	}
+
+	/**
+	 * Get the tile matrix of a request, at the zoom level matching the
+	 * projected request size, or at the highest zoom level for single point
+	 * requests, and then zooming in or out as configured until a tile matrix
+	 * with tiles within the request is found
+	 * 
+	 * @param request
+	 *            coverage data request with the projected bounding box
+	 * @param tiles
+	 *            sampled tiles
+	 * @param overlappingPixels
+	 *            overlapping pixels read around the request
+	 * @return tile matrix or null
+	 */
+	private TileMatrix getRequestTileMatrix(CoverageDataRequest request,
+			SampleTiles tiles, int overlappingPixels) {
+
+		TileMatrix tileMatrix = null;
+
+		List<TileMatrix> tileMatrices = getTileMatrices();
+		BoundingBox projectedBoundingBox = request.getProjectedBoundingBox();
+
+		int index = -1;
+		if (!tileMatrices.isEmpty()) {
+			if (request.isPoint()) {
+				if (coverageBoundingBox.contains(projectedBoundingBox)) {
+					index = tileMatrices.size() - 1;
+				}
+			} else if (request.overlap(coverageBoundingBox) != null) {
+
+				// Sorted tile widths and heights, lowest to highest zoom
+				double[] widths = new double[tileMatrices.size()];
+				double[] heights = new double[tileMatrices.size()];
+				for (int i = 0; i < tileMatrices.size(); i++) {
+					TileMatrix matrix = tileMatrices
+							.get(tileMatrices.size() - i - 1);
+					widths[i] = matrix.getPixelXSize()
+							* matrix.getTileWidth();
+					heights[i] = matrix.getPixelYSize()
+							* matrix.getTileHeight();
+				}
+
+				// Get the zoom level to request based upon the tile size
+				Long zoomLevel = TileDaoUtils.getZoomLevel(widths, heights,
+						tileMatrices, projectedBoundingBox.getLongitudeRange(),
+						projectedBoundingBox.getLatitudeRange());
+				if (zoomLevel != null) {
+					for (int i = 0; i < tileMatrices.size(); i++) {
+						if (tileMatrices.get(i).getZoomLevel() == zoomLevel) {
+							index = i;
+							break;
+						}
+					}
+				}
+			}
+		}
+
+		if (index >= 0) {
+			if (hasRequestTiles(tiles, tileMatrices.get(index),
+					projectedBoundingBox, overlappingPixels)) {
+				tileMatrix = tileMatrices.get(index);
+			} else {
+				if (zoomIn && zoomInBeforeOut) {
+					tileMatrix = getRequestTileMatrix(tileMatrices, index, 1,
+							tiles, projectedBoundingBox, overlappingPixels);
+				}
+				if (tileMatrix == null && zoomOut) {
+					tileMatrix = getRequestTileMatrix(tileMatrices, index, -1,
+							tiles, projectedBoundingBox, overlappingPixels);
+				}
+				if (tileMatrix == null && zoomIn && !zoomInBeforeOut) {
+					tileMatrix = getRequestTileMatrix(tileMatrices, index, 1,
+							tiles, projectedBoundingBox, overlappingPixels);
+				}
+			}
+		}
+
+		return tileMatrix;
+	}
+
+	/**
+	 * Zoom in or out from the tile matrix index to the first tile matrix with
+	 * tiles within the request
+	 * 
+	 * @param tileMatrices
+	 *            tile matrices from lowest to highest zoom
+	 * @param index
+	 *            starting tile matrix index
+	 * @param step
+	 *            1 to zoom in, -1 to zoom out
+	 * @param tiles
+	 *            sampled tiles
+	 * @param projectedBoundingBox
+	 *            projected request bounding box
+	 * @param overlappingPixels
+	 *            overlapping pixels read around the request
+	 * @return tile matrix or null
+	 */
+	private TileMatrix getRequestTileMatrix(List<TileMatrix> tileMatrices,
+			int index, int step, SampleTiles tiles,
+			BoundingBox projectedBoundingBox, int overlappingPixels) {
+		TileMatrix tileMatrix = null;
+		for (int i = index + step; i >= 0
+				&& i < tileMatrices.size(); i += step) {
+			if (hasRequestTiles(tiles, tileMatrices.get(i),
+					projectedBoundingBox, overlappingPixels)) {
+				tileMatrix = tileMatrices.get(i);
+				break;
+			}
+		}
+		return tileMatrix;
+	}
+
+	/**
+	 * Check if any tile exists within the padded request bounding box
+	 * 
+	 * @param tiles
+	 *            sampled tiles
+	 * @param tileMatrix
+	 *            tile matrix
+	 * @param projectedBoundingBox
+	 *            projected request bounding box
+	 * @param overlappingPixels
+	 *            overlapping pixels read around the request
+	 * @return true if a tile exists
+	 */
+	private boolean hasRequestTiles(SampleTiles tiles, TileMatrix tileMatrix,
+			BoundingBox projectedBoundingBox, int overlappingPixels) {
+		TileGrid tileGrid = getRequestTileGrid(tileMatrix, padBoundingBox(
+				tileMatrix, projectedBoundingBox, overlappingPixels));
+		for (long row = tileGrid.getMinY(); row <= tileGrid.getMaxY(); row++) {
+			for (long column = tileGrid.getMinX(); column <= tileGrid
+					.getMaxX(); column++) {
+				if (tiles.get(tileMatrix, column, row) != null) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Get the tile grid of the bounding box within the tile matrix, empty
+	 * when outside of the tile matrix
+	 * 
+	 * @param tileMatrix
+	 *            tile matrix
+	 * @param boundingBox
+	 *            projected bounding box
+	 * @return tile grid
+	 */
+	private TileGrid getRequestTileGrid(TileMatrix tileMatrix,
+			BoundingBox boundingBox) {
+		TileGrid tileGrid = TileBoundingBoxUtils.getTileGrid(
+				coverageBoundingBox, tileMatrix.getMatrixWidth(),
+				tileMatrix.getMatrixHeight(), boundingBox);
+		if (tileGrid.getMinX() < 0
+				|| tileGrid.getMaxX() >= tileMatrix.getMatrixWidth()
+				|| tileGrid.getMinY() < 0
+				|| tileGrid.getMaxY() >= tileMatrix.getMatrixHeight()) {
+			tileGrid = new TileGrid(0, 0, -1, -1);
+		}
+		return tileGrid;
+	}
+
+	/**
+	 * Get the requested coverage data values of the projected request
+	 * bounding box, interpolating each destination pixel from the source
+	 * pixels across the tile matrix tiles
+	 * 
+	 * @param tiles
+	 *            sampled tiles
+	 * @param tileMatrix
+	 *            tile matrix
+	 * @param projectedBoundingBox
+	 *            projected request bounding box
+	 * @param width
+	 *            values width
+	 * @param height
+	 *            values height
+	 * @return row major coverage data values, {@link Double#NaN} for missing
+	 *         values
+	 */
+	private double[] getRequestValues(SampleTiles tiles, TileMatrix tileMatrix,
+			BoundingBox projectedBoundingBox, int width, int height) {
+
+		double[] values = new double[width * height];
+
+		long tileWidth = tileMatrix.getTileWidth();
+		long tileHeight = tileMatrix.getTileHeight();
+		long matrixWidth = tileMatrix.getMatrixWidth();
+		long matrixHeight = tileMatrix.getMatrixHeight();
+		double pixelXSize = tileMatrix.getPixelXSize();
+		double pixelYSize = tileMatrix.getPixelYSize();
+
+		// Source pixel location of the request within the tile matrix, and
+		// the source to destination ratios
+		double srcLeft = (projectedBoundingBox.getMinLongitude()
+				- coverageBoundingBox.getMinLongitude()) / pixelXSize;
+		double srcTop = (coverageBoundingBox.getMaxLatitude()
+				- projectedBoundingBox.getMaxLatitude()) / pixelYSize;
+		double widthRatio = (projectedBoundingBox.getLongitudeRange()
+				/ pixelXSize) / width;
+		double heightRatio = (projectedBoundingBox.getLatitudeRange()
+				/ pixelYSize) / height;
+
+		// Retain the tiles of the sampled tile rows across each destination
+		// row
+		long requestColumns = (long) Math.ceil(
+				projectedBoundingBox.getLongitudeRange()
+						/ (pixelXSize * tileWidth));
+		tiles.ensureCapacity(
+				(int) Math.min(3 * (Math.min(requestColumns, matrixWidth) + 2),
+						Integer.MAX_VALUE));
+
+		int index = 0;
+		for (int y = 0; y < height; y++) {
+
+			double ySource = srcTop
+					+ (getYEncodedLocation(y, encoding) * heightRatio);
+			long row = Math.max(0, Math.min((long) Math.floor(ySource
+					/ tileHeight), matrixHeight - 1));
+			float tileYSource = (float) (ySource - (row * tileHeight));
+
+			for (int x = 0; x < width; x++) {
+
+				double xSource = srcLeft
+						+ (getXEncodedLocation(x, encoding) * widthRatio);
+				long column = Math.max(0, Math.min(
+						(long) Math.floor(xSource / tileWidth),
+						matrixWidth - 1));
+				float tileXSource = (float) (xSource - (column * tileWidth));
+
+				values[index++] = getSampleValue(tiles, tileMatrix, column,
+						row, tileXSource, tileYSource);
+			}
+		}
+
+		return values;
+	}
+
+	/**
+	 * Get the interpolated coverage data value at the projected point
+	 * 
+	 * @param tiles
+	 *            sampled tiles
+	 * @param tileMatrix
+	 *            tile matrix
+	 * @param x
+	 *            projected x coordinate
+	 * @param y
+	 *            projected y coordinate
+	 * @return coverage data value or {@link Double#NaN}
+	 */
+	private double getPointValue(SampleTiles tiles, TileMatrix tileMatrix,
+			double x, double y) {
+
+		double value = Double.NaN;
+
+		if (x >= coverageBoundingBox.getMinLongitude()
+				&& x <= coverageBoundingBox.getMaxLongitude()
+				&& y >= coverageBoundingBox.getMinLatitude()
+				&& y <= coverageBoundingBox.getMaxLatitude()) {
+
+			double tileWidth = tileMatrix.getTileWidth()
+					* tileMatrix.getPixelXSize();
+			double tileHeight = tileMatrix.getTileHeight()
+					* tileMatrix.getPixelYSize();
+
+			long column = Math.min(
+					(long) ((x - coverageBoundingBox.getMinLongitude())
+							/ tileWidth),
+					tileMatrix.getMatrixWidth() - 1);
+			long row = Math.min(
+					(long) ((coverageBoundingBox.getMaxLatitude() - y)
+							/ tileHeight),
+					tileMatrix.getMatrixHeight() - 1);
+
+			double tileMinX = coverageBoundingBox.getMinLongitude()
+					+ (column * tileWidth);
+			double tileMaxY = coverageBoundingBox.getMaxLatitude()
+					- (row * tileHeight);
+			float xSource = (float) ((x - tileMinX)
+					/ tileMatrix.getPixelXSize());
+			float ySource = (float) ((tileMaxY - y)
+					/ tileMatrix.getPixelYSize());
+
+			value = getSampleValue(tiles, tileMatrix, column, row, xSource,
+					ySource);
+		}
+
+		return value;
+	}
+
+	/**
+	 * Get the interpolated coverage data value at the source pixel location
+	 * within the tile, using the configured algorithm
+	 * 
+	 * @param tiles
+	 *            sampled tiles
+	 * @param tileMatrix
+	 *            tile matrix
+	 * @param column
+	 *            tile column
+	 * @param row
+	 *            tile row
+	 * @param xSource
+	 *            x source pixel within the tile
+	 * @param ySource
+	 *            y source pixel within the tile
+	 * @return coverage data value or {@link Double#NaN}
+	 */
+	private double getSampleValue(SampleTiles tiles, TileMatrix tileMatrix,
+			long column, long row, float xSource, float ySource) {
+
+		long baseX = column * tileMatrix.getTileWidth();
+		long baseY = row * tileMatrix.getTileHeight();
+
+		double value = Double.NaN;
+
+		switch (algorithm) {
+		case NEAREST_NEIGHBOR:
+			for (int[] nearestNeighbor : getNearestNeighbors(xSource,
+					ySource)) {
+				value = getSamplePixelValue(tiles, tileMatrix,
+						baseX + nearestNeighbor[0], baseY + nearestNeighbor[1]);
+				if (!Double.isNaN(value)) {
+					break;
+				}
+			}
+			break;
+		case BILINEAR: {
+			CoverageDataSourcePixel sourcePixelX = getXSourceMinAndMax(
+					xSource);
+			CoverageDataSourcePixel sourcePixelY = getYSourceMinAndMax(
+					ySource);
+			double[] values = getSamplePixelValues(tiles, tileMatrix, baseX,
+					baseY, sourcePixelX, sourcePixelY);
+			value = getBilinearInterpolationValue(sourcePixelX, sourcePixelY,
+					values);
+			break;
+		}
+		case BICUBIC: {
+			CoverageDataSourcePixel sourcePixelX = getXSourceMinAndMax(
+					xSource);
+			sourcePixelX.setMin(sourcePixelX.getMin() - 1);
+			sourcePixelX.setMax(sourcePixelX.getMax() + 1);
+			CoverageDataSourcePixel sourcePixelY = getYSourceMinAndMax(
+					ySource);
+			sourcePixelY.setMin(sourcePixelY.getMin() - 1);
+			sourcePixelY.setMax(sourcePixelY.getMax() + 1);
+			double[] values = getSamplePixelValues(tiles, tileMatrix, baseX,
+					baseY, sourcePixelX, sourcePixelY);
+			value = getBicubicInterpolationValue(values, sourcePixelX,
+					sourcePixelY);
+			break;
+		}
+		default:
+			throw new GeoPackageException(
+					"Algorithm is not supported: " + algorithm);
+		}
+
+		return value;
+	}
+
+	/**
+	 * Get the row major pixel values within the source pixel ranges
+	 * 
+	 * @param tiles
+	 *            sampled tiles
+	 * @param tileMatrix
+	 *            tile matrix
+	 * @param baseX
+	 *            tile matrix x pixel of the tile
+	 * @param baseY
+	 *            tile matrix y pixel of the tile
+	 * @param sourcePixelX
+	 *            source pixel x range
+	 * @param sourcePixelY
+	 *            source pixel y range
+	 * @return pixel values
+	 */
+	private double[] getSamplePixelValues(SampleTiles tiles,
+			TileMatrix tileMatrix, long baseX, long baseY,
+			CoverageDataSourcePixel sourcePixelX,
+			CoverageDataSourcePixel sourcePixelY) {
+		int width = sourcePixelX.getMax() - sourcePixelX.getMin() + 1;
+		int height = sourcePixelY.getMax() - sourcePixelY.getMin() + 1;
+		double[] values = new double[width * height];
+		int index = 0;
+		for (int y = sourcePixelY.getMin(); y <= sourcePixelY.getMax(); y++) {
+			for (int x = sourcePixelX.getMin(); x <= sourcePixelX
+					.getMax(); x++) {
+				values[index++] = getSamplePixelValue(tiles, tileMatrix,
+						baseX + x, baseY + y);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Get the coverage data value at the tile matrix pixel, reading
+	 * neighboring tiles as needed
+	 * 
+	 * @param tiles
+	 *            sampled tiles
+	 * @param tileMatrix
+	 *            tile matrix
+	 * @param x
+	 *            tile matrix x pixel
+	 * @param y
+	 *            tile matrix y pixel
+	 * @return coverage data value or {@link Double#NaN}
+	 */
+	private double getSamplePixelValue(SampleTiles tiles,
+			TileMatrix tileMatrix, long x, long y) {
+
+		double value = Double.NaN;
+
+		long tileWidth = tileMatrix.getTileWidth();
+		long tileHeight = tileMatrix.getTileHeight();
+		if (x >= 0 && y >= 0 && x < tileMatrix.getMatrixWidth() * tileWidth
+				&& y < tileMatrix.getMatrixHeight() * tileHeight) {
+
+			long column = x / tileWidth;
+			long row = y / tileHeight;
+			CoverageDataTile tile = tiles.get(tileMatrix, column, row);
+			if (tile != null) {
+				int pixelX = (int) (x - (column * tileWidth));
+				int pixelY = (int) (y - (row * tileHeight));
+				if (pixelX < tile.getWidth() && pixelY < tile.getHeight()) {
+					value = getPrimitiveValue(tile, pixelX, pixelY);
+				}
+			}
+		}
+
+		return value;
+	}
+
+	/**
+	 * Get the primitive coverage data value of a decoded tile pixel
+	 * 
+	 * @param tile
+	 *            decoded tile
+	 * @param x
+	 *            x pixel
+	 * @param y
+	 *            y pixel
+	 * @return coverage data value or {@link Double#NaN} for data null
+	 */
+	private double getPrimitiveValue(CoverageDataTile tile, int x, int y) {
+		double pixelValue;
+		if (tile.isFloat()) {
+			pixelValue = tile.getFloatPixelValue(x, y);
+		} else {
+			pixelValue = tile.getUnsignedPixelValue(x, y);
+		}
+		return getPrimitiveValue(griddedCoverage, tile.getGriddedTile(),
+				pixelValue, getDataNull());
+	}
+
+	/**
+	 * Decoded tiles read while sampling a request, retaining the most recently
+	 * used tiles of a single zoom level including missing tiles
+	 */
+	private class SampleTiles {
+
+		/**
+		 * Maximum retained tiles
+		 */
+		private int capacity = POINT_TILE_CACHE_SIZE;
+
+		/**
+		 * Zoom level of the retained tiles
+		 */
+		private long zoom = -1;
+
+		/**
+		 * Retained tiles by row major tile key, null values for missing tiles
+		 */
+		private final LinkedHashMap<Long, CoverageDataTile> tiles = new LinkedHashMap<Long, CoverageDataTile>(
+				16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(
+					Map.Entry<Long, CoverageDataTile> eldest) {
+				return size() > capacity;
+			}
+		};
+
+		/**
+		 * Retain at least the number of tiles
+		 * 
+		 * @param tileCount
+		 *            tile count
+		 */
+		private void ensureCapacity(int tileCount) {
+			capacity = Math.max(capacity, tileCount);
+		}
+
+		/**
+		 * Get the decoded tile, reading it when not retained
+		 * 
+		 * @param tileMatrix
+		 *            tile matrix
+		 * @param column
+		 *            tile column
+		 * @param row
+		 *            tile row
+		 * @return decoded tile or null when the tile does not exist
+		 */
+		private CoverageDataTile get(TileMatrix tileMatrix, long column,
+				long row) {
+			if (tileMatrix.getZoomLevel() != zoom) {
+				tiles.clear();
+				zoom = tileMatrix.getZoomLevel();
+			}
+			long key = getPointTileKey(tileMatrix, column, row);
+			CoverageDataTile tile = tiles.get(key);
+			if (tile == null && !tiles.containsKey(key)) {
+				tile = getCoverageDataTile(zoom, column, row);
+				tiles.put(key, tile);
+			}
+			return tile;
+		}
+
+	}
+
+	/**
+	 * Growable point index list
+	 */
+	private static class PointIndices {
+
+		/**
+		 * Point indices
+		 */
+		private int[] indices = new int[16];
+
+		/**
+		 * Index count
+		 */
+		private int size = 0;
+
+		/**
+		 * Add a point index
+		 * 
+		 * @param index
+		 *            point index
+		 */
+		private void add(int index) {
+			if (size == indices.length) {
+				indices = Arrays.copyOf(indices, size * 2);
+			}
+			indices[size++] = index;
+		}
+
+		/**
+		 * Get the point index
+		 * 
+		 * @param i
+		 *            list position
+		 * @return point index
+		 */
+		private int get(int i) {
+			return indices[i];
+		}
+
+		/**
+		 * Get the index count
+		 * 
+		 * @return index count
+		 */
+		private int size() {
+			return size;
+		}
+
+	}
+
 }
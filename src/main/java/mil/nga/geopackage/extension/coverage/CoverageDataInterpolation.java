@@ -0,0 +1,137 @@
+package mil.nga.geopackage.extension.coverage;
+
+/**
+ * Tiled Gridded Coverage Data primitive interpolation math, independent of a
+ * GeoPackage connection. Missing coverage values are {@link Double#NaN}.
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class CoverageDataInterpolation {
+
+	/**
+	 * Get the Bilinear Interpolation coverage data value from primitive values
+	 *
+	 * @param offsetX
+	 *            x source pixel offset
+	 * @param offsetY
+	 *            y source pixel offset
+	 * @param minX
+	 *            min x value
+	 * @param maxX
+	 *            max x value
+	 * @param minY
+	 *            min y value
+	 * @param maxY
+	 *            max y value
+	 * @param topLeft
+	 *            top left coverage value or {@link Double#NaN}
+	 * @param topRight
+	 *            top right coverage value or {@link Double#NaN}
+	 * @param bottomLeft
+	 *            bottom left coverage value or {@link Double#NaN}
+	 * @param bottomRight
+	 *            bottom right coverage value or {@link Double#NaN}
+	 * @return coverage data value or {@link Double#NaN}
+	 */
+	public static double bilinear(float offsetX, float offsetY, float minX,
+			float maxX, float minY, float maxY, double topLeft,
+			double topRight, double bottomLeft, double bottomRight) {
+
+		double value = Double.NaN;
+
+		if (!Double.isNaN(topLeft) && (!Double.isNaN(topRight) || minX == maxX)
+				&& (!Double.isNaN(bottomLeft) || minY == maxY)
+				&& (!Double.isNaN(bottomRight)
+						|| (minX == maxX && minY == maxY))) {
+
+			float diffX = maxX - minX;
+
+			double topRow;
+			double bottomRow;
+			if (diffX == 0) {
+				topRow = topLeft;
+				bottomRow = bottomLeft;
+			} else {
+				float diffLeft = offsetX;
+				float diffRight = diffX - offsetX;
+				topRow = ((diffRight / diffX) * topLeft)
+						+ ((diffLeft / diffX) * topRight);
+				bottomRow = ((diffRight / diffX) * bottomLeft)
+						+ ((diffLeft / diffX) * bottomRight);
+			}
+
+			float diffY = maxY - minY;
+
+			if (diffY == 0) {
+				value = topRow;
+			} else {
+				float diffTop = offsetY;
+				float diffBottom = diffY - offsetY;
+				value = ((diffBottom / diffY) * topRow)
+						+ ((diffTop / diffY) * bottomRow);
+			}
+		}
+
+		return value;
+	}
+
+	/**
+	 * Get the bicubic interpolation coverage data value from the 4 x 4 row
+	 * major primitive coverage data values
+	 *
+	 * @param values
+	 *            4 x 4 row major coverage data values, {@link Double#NaN} for
+	 *            missing values
+	 * @param offsetX
+	 *            x source pixel offset
+	 * @param offsetY
+	 *            y source pixel offset
+	 * @return bicubic coverage data value or {@link Double#NaN}
+	 */
+	public static double bicubic(double[] values, float offsetX,
+			float offsetY) {
+
+		double row0 = cubic(values[0], values[1], values[2], values[3],
+				offsetX);
+		double row1 = cubic(values[4], values[5], values[6], values[7],
+				offsetX);
+		double row2 = cubic(values[8], values[9], values[10], values[11],
+				offsetX);
+		double row3 = cubic(values[12], values[13], values[14], values[15],
+				offsetX);
+
+		return cubic(row0, row1, row2, row3, offsetY);
+	}
+
+	/**
+	 * Interpolate 4 primitive values using the offset between value1 and
+	 * value2
+	 *
+	 * @param value0
+	 *            index 0 value or {@link Double#NaN}
+	 * @param value1
+	 *            index 1 value or {@link Double#NaN}
+	 * @param value2
+	 *            index 2 value or {@link Double#NaN}
+	 * @param value3
+	 *            index 3 value or {@link Double#NaN}
+	 * @param offset
+	 *            offset between the middle two pixels
+	 * @return value coverage data value or {@link Double#NaN}
+	 */
+	public static double cubic(double value0, double value1, double value2,
+			double value3, double offset) {
+
+		// Missing NaN values propagate through the arithmetic
+		double coefficient0 = 2 * value1;
+		double coefficient1 = value2 - value0;
+		double coefficient2 = 2 * value0 - 5 * value1 + 4 * value2 - value3;
+		double coefficient3 = -value0 + 3 * value1 - 3 * value2 + value3;
+
+		return (coefficient3 * offset * offset * offset
+				+ coefficient2 * offset * offset + coefficient1 * offset
+				+ coefficient0) / 2;
+	}
+
+}
@@ -0,0 +1,244 @@
+package mil.nga.geopackage.extension.coverage;
+
+import java.util.Arrays;
+
+import mil.nga.geopackage.GeoPackageException;
+import mil.nga.geopackage.tiles.matrix.TileMatrix;
+
+/**
+ * Tiled Gridded Coverage Data primitive results containing the coverage values
+ * from a requested area in a single row major double array. Missing coverage
+ * values are stored as {@link Double#NaN}.
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class CoverageDataPrimitiveResults {
+
+	/**
+	 * Coverage data values stored in row major order, indexed by
+	 * (row * width) + column
+	 */
+	private final double[] values;
+
+	/**
+	 * Tile matrix used to find the coverage data values
+	 */
+	private final TileMatrix tileMatrix;
+
+	/**
+	 * Coverage data results width
+	 */
+	private final int width;
+
+	/**
+	 * Coverage data results height
+	 */
+	private final int height;
+
+	/**
+	 * Constructor, all values initialized as missing
+	 *
+	 * @param width
+	 *            width
+	 * @param height
+	 *            height
+	 * @param tileMatrix
+	 *            tile matrix
+	 */
+	public CoverageDataPrimitiveResults(int width, int height,
+			TileMatrix tileMatrix) {
+		this(createValues(width, height), width, height, tileMatrix);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param values
+	 *            row major coverage data values
+	 * @param width
+	 *            width
+	 * @param height
+	 *            height
+	 * @param tileMatrix
+	 *            tile matrix
+	 */
+	public CoverageDataPrimitiveResults(double[] values, int width, int height,
+			TileMatrix tileMatrix) {
+		if (values.length != width * height) {
+			throw new GeoPackageException("Values length of " + values.length
+					+ " does not match width " + width + " and height "
+					+ height);
+		}
+		this.values = values;
+		this.width = width;
+		this.height = height;
+		this.tileMatrix = tileMatrix;
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param results
+	 *            coverage data results
+	 */
+	public CoverageDataPrimitiveResults(CoverageDataResults results) {
+		this(results.getWidth(), results.getHeight(),
+				results.getTileMatrix());
+		Double[][] boxedValues = results.getValues();
+		for (int row = 0; row < height; row++) {
+			Double[] rowValues = boxedValues[row];
+			int index = row * width;
+			for (int column = 0; column < width; column++) {
+				Double value = rowValues[column];
+				if (value != null) {
+					values[index + column] = value;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Create a values array of missing values
+	 *
+	 * @param width
+	 *            width
+	 * @param height
+	 *            height
+	 * @return values
+	 */
+	private static double[] createValues(int width, int height) {
+		double[] values = new double[width * height];
+		Arrays.fill(values, Double.NaN);
+		return values;
+	}
+
+	/**
+	 * Get the row major coverage data values
+	 *
+	 * @return coverage data values
+	 */
+	public double[] getValues() {
+		return values;
+	}
+
+	/**
+	 * Get the tile matrix used to find the coverage data values
+	 *
+	 * @return tile matrix
+	 */
+	public TileMatrix getTileMatrix() {
+		return tileMatrix;
+	}
+
+	/**
+	 * Get the results width
+	 *
+	 * @return width
+	 */
+	public int getWidth() {
+		return width;
+	}
+
+	/**
+	 * Get the results height
+	 *
+	 * @return height
+	 */
+	public int getHeight() {
+		return height;
+	}
+
+	/**
+	 * Get the values array index of the row and column
+	 *
+	 * @param row
+	 *            row index
+	 * @param column
+	 *            column index
+	 * @return values index
+	 */
+	public int getIndex(int row, int column) {
+		return (row * width) + column;
+	}
+
+	/**
+	 * Get the coverage data value at the row and column
+	 *
+	 * @param row
+	 *            row index
+	 * @param column
+	 *            column index
+	 * @return coverage data value or {@link Double#NaN} if missing
+	 */
+	public double getValue(int row, int column) {
+		return values[getIndex(row, column)];
+	}
+
+	/**
+	 * Set the coverage data value at the row and column
+	 *
+	 * @param row
+	 *            row index
+	 * @param column
+	 *            column index
+	 * @param value
+	 *            coverage data value or {@link Double#NaN} if missing
+	 */
+	public void setValue(int row, int column, double value) {
+		values[getIndex(row, column)] = value;
+	}
+
+	/**
+	 * Determine if a coverage data value exists at the row and column
+	 *
+	 * @param row
+	 *            row index
+	 * @param column
+	 *            column index
+	 * @return true if a value exists
+	 */
+	public boolean hasValue(int row, int column) {
+		return !Double.isNaN(getValue(row, column));
+	}
+
+	/**
+	 * Get the zoom level of the results
+	 *
+	 * @return zoom level
+	 */
+	public long getZoomLevel() {
+		return tileMatrix.getZoomLevel();
+	}
+
+	/**
+	 * Get the coverage data values as a boxed [row][column] array with null
+	 * missing values
+	 *
+	 * @return coverage data values
+	 */
+	public Double[][] toBoxedValues() {
+		Double[][] boxedValues = new Double[height][width];
+		for (int row = 0; row < height; row++) {
+			Double[] rowValues = boxedValues[row];
+			int index = row * width;
+			for (int column = 0; column < width; column++) {
+				double value = values[index + column];
+				if (!Double.isNaN(value)) {
+					rowValues[column] = value;
+				}
+			}
+		}
+		return boxedValues;
+	}
+
+	/**
+	 * Convert to boxed coverage data results
+	 *
+	 * @return coverage data results
+	 */
+	public CoverageDataResults toResults() {
+		return new CoverageDataResults(toBoxedValues(), tileMatrix);
+	}
+
+}
@@ -0,0 +1,199 @@
+package mil.nga.geopackage.extension.coverage;
+
+/**
+ * Decoded coverage data tile of raw pixel values and the gridded tile scale
+ * and offset. Integer coverage tiles hold "unsigned short" pixel values and
+ * float coverage tiles hold float pixel values.
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class CoverageDataTile {
+
+	/**
+	 * Estimated fixed object overhead in bytes
+	 */
+	private static final int OVERHEAD = 96;
+
+	/**
+	 * Gridded tile
+	 */
+	private final GriddedTile griddedTile;
+
+	/**
+	 * Tile width
+	 */
+	private final int width;
+
+	/**
+	 * Tile height
+	 */
+	private final int height;
+
+	/**
+	 * Row major "unsigned short" pixel values of integer coverage data
+	 */
+	private final short[] pixelValues;
+
+	/**
+	 * Row major pixel values of float coverage data
+	 */
+	private final float[] floatPixelValues;
+
+	/**
+	 * Constructor for integer coverage data
+	 *
+	 * @param griddedTile
+	 *            gridded tile
+	 * @param width
+	 *            tile width
+	 * @param height
+	 *            tile height
+	 * @param pixelValues
+	 *            row major "unsigned short" pixel values
+	 */
+	public CoverageDataTile(GriddedTile griddedTile, int width, int height,
+			short[] pixelValues) {
+		this.griddedTile = griddedTile;
+		this.width = width;
+		this.height = height;
+		this.pixelValues = pixelValues;
+		this.floatPixelValues = null;
+	}
+
+	/**
+	 * Constructor for float coverage data
+	 *
+	 * @param griddedTile
+	 *            gridded tile
+	 * @param width
+	 *            tile width
+	 * @param height
+	 *            tile height
+	 * @param pixelValues
+	 *            row major pixel values
+	 */
+	public CoverageDataTile(GriddedTile griddedTile, int width, int height,
+			float[] pixelValues) {
+		this.griddedTile = griddedTile;
+		this.width = width;
+		this.height = height;
+		this.pixelValues = null;
+		this.floatPixelValues = pixelValues;
+	}
+
+	/**
+	 * Get the gridded tile
+	 *
+	 * @return gridded tile or null
+	 */
+	public GriddedTile getGriddedTile() {
+		return griddedTile;
+	}
+
+	/**
+	 * Get the gridded tile scale
+	 *
+	 * @return scale
+	 */
+	public double getScale() {
+		return griddedTile != null ? griddedTile.getScale() : 1.0;
+	}
+
+	/**
+	 * Get the gridded tile offset
+	 *
+	 * @return offset
+	 */
+	public double getOffset() {
+		return griddedTile != null ? griddedTile.getOffset() : 0.0;
+	}
+
+	/**
+	 * Get the tile width
+	 *
+	 * @return width
+	 */
+	public int getWidth() {
+		return width;
+	}
+
+	/**
+	 * Get the tile height
+	 *
+	 * @return height
+	 */
+	public int getHeight() {
+		return height;
+	}
+
+	/**
+	 * Check if the tile holds float pixel values
+	 *
+	 * @return true if float pixel values
+	 */
+	public boolean isFloat() {
+		return floatPixelValues != null;
+	}
+
+	/**
+	 * Get the row major "unsigned short" pixel values of integer coverage data
+	 *
+	 * @return pixel values or null
+	 */
+	public short[] getPixelValues() {
+		return pixelValues;
+	}
+
+	/**
+	 * Get the row major pixel values of float coverage data
+	 *
+	 * @return pixel values or null
+	 */
+	public float[] getFloatPixelValues() {
+		return floatPixelValues;
+	}
+
+	/**
+	 * Get the "unsigned short" pixel value as an unsigned integer
+	 *
+	 * @param x
+	 *            x pixel
+	 * @param y
+	 *            y pixel
+	 * @return unsigned pixel value
+	 */
+	public int getUnsignedPixelValue(int x, int y) {
+		return pixelValues[(y * width) + x] & 0xffff;
+	}
+
+	/**
+	 * Get the float pixel value
+	 *
+	 * @param x
+	 *            x pixel
+	 * @param y
+	 *            y pixel
+	 * @return pixel value
+	 */
+	public float getFloatPixelValue(int x, int y) {
+		return floatPixelValues[(y * width) + x];
+	}
+
+	/**
+	 * Get the estimated memory weight in bytes
+	 *
+	 * @return bytes
+	 */
+	public long getWeight() {
+		long weight = OVERHEAD;
+		if (pixelValues != null) {
+			weight += 2L * pixelValues.length;
+		}
+		if (floatPixelValues != null) {
+			weight += 4L * floatPixelValues.length;
+		}
+		return weight;
+	}
+
+}
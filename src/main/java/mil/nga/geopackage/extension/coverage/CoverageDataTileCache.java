@@ -0,0 +1,343 @@
+package mil.nga.geopackage.extension.coverage;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import mil.nga.geopackage.db.GeoPackageCoreConnection;
+
+/**
+ * Least recently used cache of decoded coverage data tiles by table, zoom
+ * level, tile column, and tile row, bounded by the estimated bytes of the
+ * decoded pixel values. Share a cache between {@link CoverageDataCore}
+ * instances of the same GeoPackage to reuse decoded tiles across requests.
+ * <p>
+ * Tiles are invalidated explicitly when written through the same connection,
+ * and the whole cache is cleared by
+ * {@link #validate(GeoPackageCoreConnection)} when another connection has
+ * committed changes since the previous validation.
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class CoverageDataTileCache {
+
+	/**
+	 * Default maximum bytes
+	 */
+	public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+	/**
+	 * Maximum bytes
+	 */
+	private final long maxBytes;
+
+	/**
+	 * Cached tiles, least recently used first
+	 */
+	private final LinkedHashMap<TileKey, CoverageDataTile> tiles = new LinkedHashMap<>(
+			16, 0.75f, true);
+
+	/**
+	 * Cached bytes
+	 */
+	private long bytes = 0;
+
+	/**
+	 * Cache hits
+	 */
+	private long hits = 0;
+
+	/**
+	 * Cache misses
+	 */
+	private long misses = 0;
+
+	/**
+	 * Evicted tiles
+	 */
+	private long evictions = 0;
+
+	/**
+	 * Database data version at the last validation
+	 */
+	private long dataVersion = -1;
+
+	/**
+	 * Constructor
+	 */
+	public CoverageDataTileCache() {
+		this(DEFAULT_MAX_BYTES);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param maxBytes
+	 *            maximum bytes
+	 */
+	public CoverageDataTileCache(long maxBytes) {
+		this.maxBytes = maxBytes;
+	}
+
+	/**
+	 * Get the maximum bytes
+	 *
+	 * @return maximum bytes
+	 */
+	public long getMaxBytes() {
+		return maxBytes;
+	}
+
+	/**
+	 * Get the cached tile
+	 *
+	 * @param table
+	 *            tile table name
+	 * @param zoom
+	 *            zoom level
+	 * @param column
+	 *            tile column
+	 * @param row
+	 *            tile row
+	 * @return cached tile or null
+	 */
+	public synchronized CoverageDataTile get(String table, long zoom,
+			long column, long row) {
+		CoverageDataTile tile = tiles
+				.get(new TileKey(table, zoom, column, row));
+		if (tile != null) {
+			hits++;
+		} else {
+			misses++;
+		}
+		return tile;
+	}
+
+	/**
+	 * Cache the tile, evicting least recently used tiles over the maximum
+	 * bytes. Tiles heavier than the maximum bytes are not cached.
+	 *
+	 * @param table
+	 *            tile table name
+	 * @param zoom
+	 *            zoom level
+	 * @param column
+	 *            tile column
+	 * @param row
+	 *            tile row
+	 * @param tile
+	 *            decoded tile
+	 */
+	public synchronized void put(String table, long zoom, long column,
+			long row, CoverageDataTile tile) {
+		long weight = tile.getWeight();
+		if (weight > maxBytes) {
+			return;
+		}
+		CoverageDataTile previous = tiles
+				.put(new TileKey(table, zoom, column, row), tile);
+		if (previous != null) {
+			bytes -= previous.getWeight();
+		}
+		bytes += weight;
+		Iterator<CoverageDataTile> iterator = tiles.values().iterator();
+		while (bytes > maxBytes && iterator.hasNext()) {
+			bytes -= iterator.next().getWeight();
+			iterator.remove();
+			evictions++;
+		}
+	}
+
+	/**
+	 * Invalidate a written tile
+	 *
+	 * @param table
+	 *            tile table name
+	 * @param zoom
+	 *            zoom level
+	 * @param column
+	 *            tile column
+	 * @param row
+	 *            tile row
+	 */
+	public synchronized void invalidate(String table, long zoom, long column,
+			long row) {
+		CoverageDataTile tile = tiles
+				.remove(new TileKey(table, zoom, column, row));
+		if (tile != null) {
+			bytes -= tile.getWeight();
+		}
+	}
+
+	/**
+	 * Invalidate all tiles of a table
+	 *
+	 * @param table
+	 *            tile table name
+	 */
+	public synchronized void invalidate(String table) {
+		Iterator<Map.Entry<TileKey, CoverageDataTile>> iterator = tiles
+				.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<TileKey, CoverageDataTile> entry = iterator.next();
+			if (entry.getKey().table.equals(table)) {
+				bytes -= entry.getValue().getWeight();
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * Clear the cache
+	 */
+	public synchronized void clear() {
+		tiles.clear();
+		bytes = 0;
+	}
+
+	/**
+	 * Validate the cache against the database, clearing all tiles when another
+	 * connection has committed changes since the previous validation. Tiles
+	 * written through the same connection are not detected and must be
+	 * invalidated with {@link #invalidate(String, long, long, long)} or
+	 * {@link #invalidate(String)}.
+	 *
+	 * @param db
+	 *            connection
+	 * @return true if the cache was still valid
+	 */
+	public boolean validate(GeoPackageCoreConnection db) {
+		Long version = db.getDataVersion();
+		boolean valid;
+		synchronized (this) {
+			valid = version != null && version == dataVersion;
+			if (!valid) {
+				clear();
+				dataVersion = version != null ? version : -1;
+			}
+		}
+		return valid;
+	}
+
+	/**
+	 * Get the number of cached tiles
+	 *
+	 * @return cached tiles
+	 */
+	public synchronized int size() {
+		return tiles.size();
+	}
+
+	/**
+	 * Get the estimated cached bytes
+	 *
+	 * @return bytes
+	 */
+	public synchronized long getBytes() {
+		return bytes;
+	}
+
+	/**
+	 * Get the number of cache hits
+	 *
+	 * @return hits
+	 */
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Get the number of cache misses
+	 *
+	 * @return misses
+	 */
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Get the number of tiles evicted to stay within the maximum bytes
+	 *
+	 * @return evictions
+	 */
+	public synchronized long getEvictions() {
+		return evictions;
+	}
+
+	/**
+	 * Tile key of table, zoom level, tile column, and tile row
+	 */
+	private static class TileKey {
+
+		/**
+		 * Tile table name
+		 */
+		private final String table;
+
+		/**
+		 * Zoom level
+		 */
+		private final long zoom;
+
+		/**
+		 * Tile column
+		 */
+		private final long column;
+
+		/**
+		 * Tile row
+		 */
+		private final long row;
+
+		/**
+		 * Constructor
+		 *
+		 * @param table
+		 *            tile table name
+		 * @param zoom
+		 *            zoom level
+		 * @param column
+		 *            tile column
+		 * @param row
+		 *            tile row
+		 */
+		private TileKey(String table, long zoom, long column, long row) {
+			this.table = table;
+			this.zoom = zoom;
+			this.column = column;
+			this.row = row;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int hashCode() {
+			final int prime = 31;
+			int result = table.hashCode();
+			result = prime * result + Long.hashCode(zoom);
+			result = prime * result + Long.hashCode(column);
+			result = prime * result + Long.hashCode(row);
+			return result;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			TileKey other = (TileKey) obj;
+			return zoom == other.zoom && column == other.column
+					&& row == other.row && table.equals(other.table);
+		}
+
+	}
+
+}
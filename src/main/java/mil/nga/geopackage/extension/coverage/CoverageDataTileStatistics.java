@@ -0,0 +1,234 @@
+package mil.nga.geopackage.extension.coverage;
+
+/**
+ * Coverage data tile statistics of a single tile, from the gridded tile
+ * ancillary min, max, mean, and standard deviation or decoded from the tile
+ * when not stored
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class CoverageDataTileStatistics {
+
+	/**
+	 * Tile id
+	 */
+	private final long tileId;
+
+	/**
+	 * Zoom level
+	 */
+	private final long zoom;
+
+	/**
+	 * Tile column
+	 */
+	private final long column;
+
+	/**
+	 * Tile row
+	 */
+	private final long row;
+
+	/**
+	 * Minimum coverage data value
+	 */
+	private Double min;
+
+	/**
+	 * Maximum coverage data value
+	 */
+	private Double max;
+
+	/**
+	 * Mean coverage data value
+	 */
+	private Double mean;
+
+	/**
+	 * Coverage data value standard deviation
+	 */
+	private Double standardDeviation;
+
+	/**
+	 * Decoded flag, true when the statistics were decoded from the tile
+	 */
+	private boolean decoded = false;
+
+	/**
+	 * Constructor
+	 *
+	 * @param tileId
+	 *            tile id
+	 * @param zoom
+	 *            zoom level
+	 * @param column
+	 *            tile column
+	 * @param row
+	 *            tile row
+	 */
+	public CoverageDataTileStatistics(long tileId, long zoom, long column,
+			long row) {
+		this.tileId = tileId;
+		this.zoom = zoom;
+		this.column = column;
+		this.row = row;
+	}
+
+	/**
+	 * Get the tile id
+	 *
+	 * @return tile id
+	 */
+	public long getTileId() {
+		return tileId;
+	}
+
+	/**
+	 * Get the zoom level
+	 *
+	 * @return zoom level
+	 */
+	public long getZoom() {
+		return zoom;
+	}
+
+	/**
+	 * Get the tile column
+	 *
+	 * @return tile column
+	 */
+	public long getColumn() {
+		return column;
+	}
+
+	/**
+	 * Get the tile row
+	 *
+	 * @return tile row
+	 */
+	public long getRow() {
+		return row;
+	}
+
+	/**
+	 * Get the minimum coverage data value
+	 *
+	 * @return min or null
+	 */
+	public Double getMin() {
+		return min;
+	}
+
+	/**
+	 * Set the minimum coverage data value
+	 *
+	 * @param min
+	 *            min
+	 */
+	public void setMin(Double min) {
+		this.min = min;
+	}
+
+	/**
+	 * Get the maximum coverage data value
+	 *
+	 * @return max or null
+	 */
+	public Double getMax() {
+		return max;
+	}
+
+	/**
+	 * Set the maximum coverage data value
+	 *
+	 * @param max
+	 *            max
+	 */
+	public void setMax(Double max) {
+		this.max = max;
+	}
+
+	/**
+	 * Get the mean coverage data value
+	 *
+	 * @return mean or null
+	 */
+	public Double getMean() {
+		return mean;
+	}
+
+	/**
+	 * Set the mean coverage data value
+	 *
+	 * @param mean
+	 *            mean
+	 */
+	public void setMean(Double mean) {
+		this.mean = mean;
+	}
+
+	/**
+	 * Get the coverage data value standard deviation
+	 *
+	 * @return standard deviation or null
+	 */
+	public Double getStandardDeviation() {
+		return standardDeviation;
+	}
+
+	/**
+	 * Set the coverage data value standard deviation
+	 *
+	 * @param standardDeviation
+	 *            standard deviation
+	 */
+	public void setStandardDeviation(Double standardDeviation) {
+		this.standardDeviation = standardDeviation;
+	}
+
+	/**
+	 * Check if the min and max statistics are available
+	 *
+	 * @return true if min and max are set
+	 */
+	public boolean hasRange() {
+		return min != null && max != null;
+	}
+
+	/**
+	 * Check if the statistics were decoded from the tile instead of read from
+	 * the gridded tile
+	 *
+	 * @return true if decoded
+	 */
+	public boolean isDecoded() {
+		return decoded;
+	}
+
+	/**
+	 * Set the decoded flag
+	 *
+	 * @param decoded
+	 *            true if decoded from the tile
+	 */
+	public void setDecoded(boolean decoded) {
+		this.decoded = decoded;
+	}
+
+	/**
+	 * Check if the tile may contain coverage data values within the range
+	 *
+	 * @param minValue
+	 *            minimum value, null for no minimum
+	 * @param maxValue
+	 *            maximum value, null for no maximum
+	 * @return true if the tile range overlaps the value range, or when the
+	 *         tile range is unknown
+	 */
+	public boolean overlaps(Double minValue, Double maxValue) {
+		return !hasRange() || ((minValue == null || max >= minValue)
+				&& (maxValue == null || min <= maxValue));
+	}
+
+}
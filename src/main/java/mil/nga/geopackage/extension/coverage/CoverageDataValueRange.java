@@ -0,0 +1,152 @@
+package mil.nga.geopackage.extension.coverage;
+
+/**
+ * Coverage data value range of the minimum and maximum coverage data values
+ * within an area, with counts of the tiles answered from gridded tile
+ * statistics and the tiles decoded
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class CoverageDataValueRange {
+
+	/**
+	 * Minimum coverage data value
+	 */
+	private Double min;
+
+	/**
+	 * Maximum coverage data value
+	 */
+	private Double max;
+
+	/**
+	 * Tiles answered from the gridded tile statistics
+	 */
+	private int statisticsTiles = 0;
+
+	/**
+	 * Tiles decoded
+	 */
+	private int decodedTiles = 0;
+
+	/**
+	 * Tiles skipped because their statistics could not change the range
+	 */
+	private int skippedTiles = 0;
+
+	/**
+	 * Constructor
+	 */
+	public CoverageDataValueRange() {
+
+	}
+
+	/**
+	 * Get the minimum coverage data value
+	 *
+	 * @return min or null when no values
+	 */
+	public Double getMin() {
+		return min;
+	}
+
+	/**
+	 * Get the maximum coverage data value
+	 *
+	 * @return max or null when no values
+	 */
+	public Double getMax() {
+		return max;
+	}
+
+	/**
+	 * Check if the range has values
+	 *
+	 * @return true if values
+	 */
+	public boolean hasValues() {
+		return min != null;
+	}
+
+	/**
+	 * Expand the range to include the values
+	 *
+	 * @param minValue
+	 *            minimum value
+	 * @param maxValue
+	 *            maximum value
+	 */
+	public void expand(double minValue, double maxValue) {
+		if (min == null || minValue < min) {
+			min = minValue;
+		}
+		if (max == null || maxValue > max) {
+			max = maxValue;
+		}
+	}
+
+	/**
+	 * Check if the values are within the current range, in which case they
+	 * can not change it
+	 *
+	 * @param minValue
+	 *            minimum value
+	 * @param maxValue
+	 *            maximum value
+	 * @return true if within the range
+	 */
+	public boolean contains(double minValue, double maxValue) {
+		return min != null && minValue >= min && maxValue <= max;
+	}
+
+	/**
+	 * Get the number of tiles answered from the gridded tile statistics
+	 *
+	 * @return statistics tiles
+	 */
+	public int getStatisticsTiles() {
+		return statisticsTiles;
+	}
+
+	/**
+	 * Get the number of decoded tiles
+	 *
+	 * @return decoded tiles
+	 */
+	public int getDecodedTiles() {
+		return decodedTiles;
+	}
+
+	/**
+	 * Get the number of partially covered tiles skipped because their
+	 * statistics could not change the range
+	 *
+	 * @return skipped tiles
+	 */
+	public int getSkippedTiles() {
+		return skippedTiles;
+	}
+
+	/**
+	 * Count a tile answered from the gridded tile statistics
+	 */
+	void addStatisticsTile() {
+		statisticsTiles++;
+	}
+
+	/**
+	 * Count a decoded tile
+	 */
+	void addDecodedTile() {
+		decodedTiles++;
+	}
+
+	/**
+	 * Count a skipped tile
+	 */
+	void addSkippedTile() {
+		skippedTiles++;
+	}
+
+}
@@ -0,0 +1,28 @@
+package mil.nga.geopackage.extension.coverage.raster;
+
+/**
+ * Aspect kernel producing the downslope direction in degrees clockwise from
+ * north, {@link Double#NaN} for flat areas
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class AspectKernel extends TerrainKernel {
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected double getValue(double dzdx, double dzdy) {
+		double aspect = Double.NaN;
+		if (dzdx != 0 || dzdy != 0) {
+			aspect = Math.toDegrees(Math.atan2(dzdy, -dzdx));
+			aspect = aspect > 90 ? 450 - aspect : 90 - aspect;
+			if (aspect >= 360) {
+				aspect -= 360;
+			}
+		}
+		return aspect;
+	}
+
+}
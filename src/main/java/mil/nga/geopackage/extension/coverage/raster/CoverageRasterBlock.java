@@ -0,0 +1,190 @@
+package mil.nga.geopackage.extension.coverage.raster;
+
+/**
+ * Coverage raster block of a single tile of coverage data values surrounded
+ * by a halo of values from the neighboring tiles. Values outside of the
+ * coverage or within missing tiles are {@link Double#NaN}.
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class CoverageRasterBlock {
+
+	/**
+	 * Zoom level
+	 */
+	private final long zoom;
+
+	/**
+	 * Tile column
+	 */
+	private final long column;
+
+	/**
+	 * Tile row
+	 */
+	private final long row;
+
+	/**
+	 * Tile width
+	 */
+	private final int width;
+
+	/**
+	 * Tile height
+	 */
+	private final int height;
+
+	/**
+	 * Halo pixels on each side
+	 */
+	private final int halo;
+
+	/**
+	 * Pixel x size in coverage units
+	 */
+	private final double pixelXSize;
+
+	/**
+	 * Pixel y size in coverage units
+	 */
+	private final double pixelYSize;
+
+	/**
+	 * Row major values including the halo
+	 */
+	private final double[] values;
+
+	/**
+	 * Constructor
+	 *
+	 * @param zoom
+	 *            zoom level
+	 * @param column
+	 *            tile column
+	 * @param row
+	 *            tile row
+	 * @param width
+	 *            tile width
+	 * @param height
+	 *            tile height
+	 * @param halo
+	 *            halo pixels on each side
+	 * @param pixelXSize
+	 *            pixel x size in coverage units
+	 * @param pixelYSize
+	 *            pixel y size in coverage units
+	 * @param values
+	 *            row major values including the halo
+	 */
+	public CoverageRasterBlock(long zoom, long column, long row, int width,
+			int height, int halo, double pixelXSize, double pixelYSize,
+			double[] values) {
+		this.zoom = zoom;
+		this.column = column;
+		this.row = row;
+		this.width = width;
+		this.height = height;
+		this.halo = halo;
+		this.pixelXSize = pixelXSize;
+		this.pixelYSize = pixelYSize;
+		this.values = values;
+	}
+
+	/**
+	 * Get the zoom level
+	 *
+	 * @return zoom level
+	 */
+	public long getZoom() {
+		return zoom;
+	}
+
+	/**
+	 * Get the tile column
+	 *
+	 * @return tile column
+	 */
+	public long getColumn() {
+		return column;
+	}
+
+	/**
+	 * Get the tile row
+	 *
+	 * @return tile row
+	 */
+	public long getRow() {
+		return row;
+	}
+
+	/**
+	 * Get the tile width, excluding the halo
+	 *
+	 * @return width
+	 */
+	public int getWidth() {
+		return width;
+	}
+
+	/**
+	 * Get the tile height, excluding the halo
+	 *
+	 * @return height
+	 */
+	public int getHeight() {
+		return height;
+	}
+
+	/**
+	 * Get the halo pixels on each side
+	 *
+	 * @return halo
+	 */
+	public int getHalo() {
+		return halo;
+	}
+
+	/**
+	 * Get the pixel x size in coverage units
+	 *
+	 * @return pixel x size
+	 */
+	public double getPixelXSize() {
+		return pixelXSize;
+	}
+
+	/**
+	 * Get the pixel y size in coverage units
+	 *
+	 * @return pixel y size
+	 */
+	public double getPixelYSize() {
+		return pixelYSize;
+	}
+
+	/**
+	 * Get the row major values including the halo, with a row stride of
+	 * width + 2 * halo
+	 *
+	 * @return values
+	 */
+	public double[] getValues() {
+		return values;
+	}
+
+	/**
+	 * Get the value at the tile pixel, where -halo &lt;= x &lt; width + halo
+	 * and -halo &lt;= y &lt; height + halo
+	 *
+	 * @param x
+	 *            tile x pixel
+	 * @param y
+	 *            tile y pixel
+	 * @return value or {@link Double#NaN}
+	 */
+	public double getValue(int x, int y) {
+		return values[((y + halo) * (width + 2 * halo)) + x + halo];
+	}
+
+}
@@ -0,0 +1,554 @@
+package mil.nga.geopackage.extension.coverage.raster;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import mil.nga.geopackage.GeoPackageException;
+import mil.nga.geopackage.extension.coverage.CoverageDataCore;
+import mil.nga.geopackage.extension.coverage.GriddedTile;
+import mil.nga.geopackage.io.GeoPackageProgress;
+import mil.nga.geopackage.io.WorkerPipeline;
+import mil.nga.geopackage.tiles.matrix.TileMatrix;
+
+/**
+ * Coverage raster bulk writer ingesting large coverage data value grids into
+ * a coverage data tile table. Tiles are encoded in parallel by a worker pool,
+ * each integer coverage data tile with its optimal scale and offset, and a
+ * single writer thread inserts the tile and gridded tile ancillary rows in
+ * batched transactions. The caller thread slices the input into tiles and
+ * encodes tiles itself when the workers fall behind, bounding memory to the
+ * queued tiles regardless of the input size.
+ * <p>
+ * The target tile table, tile matrices, and gridded coverage must already
+ * exist. Written tiles must not already exist unless overwriting is enabled.
+ * Tiles are encoded with {@link CoverageDataCore#createTileData}, which the
+ * platform coverage data implementation must support. A failure rolls back
+ * the tiles of the open batch transaction, while tiles of previously
+ * committed batches remain.
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class CoverageRasterBulkWriter {
+
+	/**
+	 * Queued tiles per worker thread
+	 */
+	private static final int QUEUE_PER_WORKER = 4;
+
+	/**
+	 * Target coverage data
+	 */
+	private final CoverageDataCore<?> target;
+
+	/**
+	 * Worker thread count
+	 */
+	private int workers = 1;
+
+	/**
+	 * Tiles written per transaction
+	 */
+	private int batchSize = CoverageRasterTileOutput.DEFAULT_BATCH_SIZE;
+
+	/**
+	 * Overwrite existing tiles
+	 */
+	private boolean overwrite = false;
+
+	/**
+	 * Progress callbacks
+	 */
+	private GeoPackageProgress progress;
+
+	/**
+	 * Constructor
+	 *
+	 * @param target
+	 *            target coverage data
+	 */
+	public CoverageRasterBulkWriter(CoverageDataCore<?> target) {
+		this.target = target;
+	}
+
+	/**
+	 * Get the target coverage data
+	 *
+	 * @return target coverage data
+	 */
+	public CoverageDataCore<?> getTarget() {
+		return target;
+	}
+
+	/**
+	 * Get the worker thread count
+	 *
+	 * @return workers
+	 */
+	public int getWorkers() {
+		return workers;
+	}
+
+	/**
+	 * Set the worker thread count
+	 *
+	 * @param workers
+	 *            worker thread count
+	 */
+	public void setWorkers(int workers) {
+		this.workers = Math.max(workers, 1);
+	}
+
+	/**
+	 * Get the tiles written per transaction
+	 *
+	 * @return batch size
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * Set the tiles written per transaction
+	 *
+	 * @param batchSize
+	 *            batch size
+	 */
+	public void setBatchSize(int batchSize) {
+		this.batchSize = Math.max(batchSize, 1);
+	}
+
+	/**
+	 * Is overwriting existing tiles enabled
+	 *
+	 * @return true if overwriting
+	 */
+	public boolean isOverwrite() {
+		return overwrite;
+	}
+
+	/**
+	 * Set the overwrite flag, replacing existing tiles and their gridded tiles
+	 *
+	 * @param overwrite
+	 *            true to overwrite existing tiles
+	 */
+	public void setOverwrite(boolean overwrite) {
+		this.overwrite = overwrite;
+	}
+
+	/**
+	 * Get the progress callbacks
+	 *
+	 * @return progress
+	 */
+	public GeoPackageProgress getProgress() {
+		return progress;
+	}
+
+	/**
+	 * Set the progress callbacks, progressed once per written tile
+	 *
+	 * @param progress
+	 *            progress callbacks
+	 */
+	public void setProgress(GeoPackageProgress progress) {
+		this.progress = progress;
+	}
+
+	/**
+	 * Write a row major coverage data value grid at a zoom level. The first
+	 * value is the top left pixel of the tile matrix. Tiles extending past the
+	 * grid are padded with data null values, and tiles without values are not
+	 * written.
+	 *
+	 * @param zoom
+	 *            zoom level
+	 * @param values
+	 *            row major coverage data values, {@link Double#NaN} for data
+	 *            null
+	 * @param width
+	 *            grid width
+	 * @param height
+	 *            grid height
+	 * @return written tile count
+	 */
+	public int write(long zoom, double[] values, int width, int height) {
+		return write(new GridIterator(getTileMatrix(zoom), values, width,
+				height));
+	}
+
+	/**
+	 * Write coverage data tile blocks. Block dimensions must match the tile
+	 * matrix tile dimensions of the block zoom level, and any block halo is
+	 * ignored. Blocks without values are not written.
+	 *
+	 * @param blocks
+	 *            tile blocks
+	 * @return written tile count
+	 */
+	public int write(Iterator<CoverageRasterBlock> blocks) {
+
+		CoverageRasterTileOutput output = new CoverageRasterTileOutput(target,
+				batchSize);
+		output.setOverwrite(overwrite);
+		Encoder encoder = new Encoder(output);
+		try {
+			while (blocks.hasNext() && !encoder.isStopped()) {
+				encoder.submit(encoder.task(blocks.next()));
+			}
+			encoder.finish();
+		} finally {
+			encoder.close();
+		}
+
+		return encoder.output.getWritten();
+	}
+
+	/**
+	 * Get the tile matrix of the zoom level
+	 *
+	 * @param zoom
+	 *            zoom level
+	 * @return tile matrix
+	 */
+	private TileMatrix getTileMatrix(long zoom) {
+		for (TileMatrix tileMatrix : target.getTileMatrices()) {
+			if (tileMatrix.getZoomLevel() == zoom) {
+				return tileMatrix;
+			}
+		}
+		throw new GeoPackageException(
+				"No Tile Matrix for zoom level. Zoom: " + zoom + ", Table: "
+						+ target.getTileMatrixSet().getTableName());
+	}
+
+	/**
+	 * Tile encoder of a single write run, encoding blocks on the worker
+	 * threads and queueing the encoded tiles for the writer thread
+	 */
+	private class Encoder extends WorkerPipeline<EncodedTile> {
+
+		/**
+		 * Tile output
+		 */
+		private final CoverageRasterTileOutput output;
+
+		/**
+		 * Tile matrix of the last block zoom level
+		 */
+		private TileMatrix tileMatrix;
+
+		/**
+		 * Constructor, starts the writer thread
+		 *
+		 * @param output
+		 *            tile output
+		 */
+		private Encoder(CoverageRasterTileOutput output) {
+			super("Coverage Raster Bulk Writer: "
+					+ target.getTileMatrixSet().getTableName(),
+					"writing coverage data tiles. Table: "
+							+ target.getTileMatrixSet().getTableName(),
+					workers, workers * QUEUE_PER_WORKER, true);
+			this.output = output;
+		}
+
+		/**
+		 * Create the encoding task of a block
+		 *
+		 * @param block
+		 *            tile block
+		 * @return encoding task
+		 */
+		private Runnable task(final CoverageRasterBlock block) {
+			checkDimensions(block);
+			return new Runnable() {
+				@Override
+				public void run() {
+					encode(block);
+				}
+			};
+		}
+
+		/**
+		 * Check the block dimensions against the zoom level tile dimensions
+		 *
+		 * @param block
+		 *            tile block
+		 */
+		private void checkDimensions(CoverageRasterBlock block) {
+			if (tileMatrix == null
+					|| tileMatrix.getZoomLevel() != block.getZoom()) {
+				tileMatrix = getTileMatrix(block.getZoom());
+			}
+			if (block.getWidth() != tileMatrix.getTileWidth()
+					|| block.getHeight() != tileMatrix.getTileHeight()) {
+				throw new GeoPackageException(
+						"Block dimensions do not match the tile dimensions. Block: "
+								+ block.getWidth() + "x" + block.getHeight()
+								+ ", Tile: " + tileMatrix.getTileWidth() + "x"
+								+ tileMatrix.getTileHeight() + ", Zoom: "
+								+ block.getZoom());
+			}
+		}
+
+		/**
+		 * Encode the block and queue the encoded tile
+		 *
+		 * @param block
+		 *            tile block
+		 */
+		private void encode(CoverageRasterBlock block) {
+
+			int width = block.getWidth();
+			int height = block.getHeight();
+			double[] values = block.getValues();
+			int halo = block.getHalo();
+			if (halo > 0) {
+				double[] tileValues = new double[width * height];
+				int stride = width + 2 * halo;
+				for (int y = 0; y < height; y++) {
+					System.arraycopy(values, (y + halo) * stride + halo,
+							tileValues, y * width, width);
+				}
+				values = tileValues;
+			}
+
+			boolean hasValue = false;
+			for (double value : values) {
+				if (!Double.isNaN(value)) {
+					hasValue = true;
+					break;
+				}
+			}
+			if (!hasValue) {
+				return;
+			}
+
+			GriddedTile griddedTile = target.createGriddedTile(values);
+			byte[] data = target.createTileData(griddedTile, values, width,
+					height);
+			if (data == null) {
+				throw new GeoPackageException(
+						"Encoding coverage data tiles is not supported. Table: "
+								+ target.getTileMatrixSet().getTableName());
+			}
+
+			put(new EncodedTile(block.getZoom(), block.getColumn(),
+					block.getRow(), griddedTile, data));
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected boolean isActive() {
+			return progress == null || progress.isActive();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected void write(EncodedTile tile) {
+			output.write(tile.zoom, tile.column, tile.row, tile.griddedTile,
+					tile.data);
+			if (progress != null) {
+				progress.addProgress(1);
+			}
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected void flush() {
+			output.flush();
+		}
+
+		/**
+		 * Close the tile output on the writer thread, rolling back the open
+		 * batch transaction after a failure
+		 */
+		@Override
+		protected void closeWriter() {
+			output.close();
+		}
+
+	}
+
+	/**
+	 * Iterator slicing a row major value grid into tile blocks
+	 */
+	private static class GridIterator implements Iterator<CoverageRasterBlock> {
+
+		/**
+		 * Tile matrix
+		 */
+		private final TileMatrix tileMatrix;
+
+		/**
+		 * Grid values
+		 */
+		private final double[] values;
+
+		/**
+		 * Grid width
+		 */
+		private final int width;
+
+		/**
+		 * Grid height
+		 */
+		private final int height;
+
+		/**
+		 * Tile width
+		 */
+		private final int tileWidth;
+
+		/**
+		 * Tile height
+		 */
+		private final int tileHeight;
+
+		/**
+		 * Tile columns covering the grid within the matrix
+		 */
+		private final long columns;
+
+		/**
+		 * Tile rows covering the grid within the matrix
+		 */
+		private final long rows;
+
+		/**
+		 * Next tile index
+		 */
+		private long next = 0;
+
+		/**
+		 * Constructor
+		 *
+		 * @param tileMatrix
+		 *            tile matrix
+		 * @param values
+		 *            grid values
+		 * @param width
+		 *            grid width
+		 * @param height
+		 *            grid height
+		 */
+		private GridIterator(TileMatrix tileMatrix, double[] values,
+				int width, int height) {
+			this.tileMatrix = tileMatrix;
+			this.values = values;
+			this.width = width;
+			this.height = height;
+			tileWidth = (int) tileMatrix.getTileWidth();
+			tileHeight = (int) tileMatrix.getTileHeight();
+			columns = Math.min((width + tileWidth - 1) / tileWidth,
+					tileMatrix.getMatrixWidth());
+			rows = Math.min((height + tileHeight - 1) / tileHeight,
+					tileMatrix.getMatrixHeight());
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean hasNext() {
+			return next < columns * rows;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public CoverageRasterBlock next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			long row = next / columns;
+			long column = next % columns;
+			next++;
+
+			int minX = (int) (column * tileWidth);
+			int minY = (int) (row * tileHeight);
+			int copyWidth = Math.min(tileWidth, width - minX);
+			int copyHeight = Math.min(tileHeight, height - minY);
+
+			double[] tileValues = new double[tileWidth * tileHeight];
+			if (copyWidth < tileWidth || copyHeight < tileHeight) {
+				Arrays.fill(tileValues, Double.NaN);
+			}
+			for (int y = 0; y < copyHeight; y++) {
+				System.arraycopy(values, (minY + y) * width + minX, tileValues,
+						y * tileWidth, copyWidth);
+			}
+
+			return new CoverageRasterBlock(tileMatrix.getZoomLevel(), column,
+					row, tileWidth, tileHeight, 0, tileMatrix.getPixelXSize(),
+					tileMatrix.getPixelYSize(), tileValues);
+		}
+
+	}
+
+	/**
+	 * Encoded tile waiting to be written
+	 */
+	private static class EncodedTile {
+
+		/**
+		 * Zoom level
+		 */
+		private final long zoom;
+
+		/**
+		 * Tile column
+		 */
+		private final long column;
+
+		/**
+		 * Tile row
+		 */
+		private final long row;
+
+		/**
+		 * Gridded tile
+		 */
+		private final GriddedTile griddedTile;
+
+		/**
+		 * Tile data
+		 */
+		private final byte[] data;
+
+		/**
+		 * Constructor
+		 *
+		 * @param zoom
+		 *            zoom level
+		 * @param column
+		 *            tile column
+		 * @param row
+		 *            tile row
+		 * @param griddedTile
+		 *            gridded tile
+		 * @param data
+		 *            tile data
+		 */
+		private EncodedTile(long zoom, long column, long row,
+				GriddedTile griddedTile, byte[] data) {
+			this.zoom = zoom;
+			this.column = column;
+			this.row = row;
+			this.griddedTile = griddedTile;
+			this.data = data;
+		}
+
+	}
+
+}
@@ -0,0 +1,30 @@
+package mil.nga.geopackage.extension.coverage.raster;
+
+/**
+ * Coverage raster kernel processing blocks of coverage data values. Kernels
+ * are called concurrently from multiple worker threads and must be thread
+ * safe.
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public interface CoverageRasterKernel {
+
+	/**
+	 * Get the halo pixels needed on each side of a block
+	 *
+	 * @return halo pixels
+	 */
+	public int getHalo();
+
+	/**
+	 * Process a block
+	 *
+	 * @param block
+	 *            coverage raster block
+	 * @return row major output values of the block width and height, or null
+	 *         for kernels without output
+	 */
+	public double[] process(CoverageRasterBlock block);
+
+}
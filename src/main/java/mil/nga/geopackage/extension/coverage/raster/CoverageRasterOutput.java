@@ -0,0 +1,43 @@
+package mil.nga.geopackage.extension.coverage.raster;
+
+import java.io.Closeable;
+
+/**
+ * Coverage raster output receiving processed block values. Writes and the
+ * final flush are made from a single writer thread, allowing outputs to
+ * batch writes within thread bound transactions.
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public interface CoverageRasterOutput extends Closeable {
+
+	/**
+	 * Write the processed values of a block
+	 *
+	 * @param block
+	 *            coverage raster block
+	 * @param values
+	 *            row major output values of the block width and height
+	 */
+	public void write(CoverageRasterBlock block, double[] values);
+
+	/**
+	 * Flush pending writes after the last block, called from the writer
+	 * thread
+	 */
+	public void flush();
+
+	/**
+	 * Roll back pending writes not yet flushed after a failure, called from
+	 * the writer thread
+	 */
+	public void rollback();
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close();
+
+}
@@ -0,0 +1,689 @@
+package mil.nga.geopackage.extension.coverage.raster;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import mil.nga.geopackage.GeoPackageException;
+import mil.nga.geopackage.db.GeoPackageCoreConnection;
+import mil.nga.geopackage.db.GeoPackageReadPool;
+import mil.nga.geopackage.extension.coverage.CoverageDataCore;
+import mil.nga.geopackage.io.GeoPackageProgress;
+import mil.nga.geopackage.io.WorkerPipeline;
+import mil.nga.geopackage.tiles.matrix.TileMatrix;
+
+/**
+ * Coverage raster processor streaming the tiles of a coverage data zoom level
+ * through a kernel, one tile block at a time. Worker threads process row
+ * ranges of tile column strips in parallel, assembling each block from the
+ * tile and a halo of its neighbors out of a bounded least recently used cache
+ * of decoded tiles. Kernel output is queued to a single writer thread. Memory is bounded by the
+ * decoded tile cache, the writer queue, and one block per worker, regardless
+ * of the coverage size.
+ * <p>
+ * Workers read tiles through connections of the GeoPackage read pool, so
+ * reads never share the connection the writer holds in transactions. Without
+ * a read pool, tiles are processed and written on the calling thread.
+ * <p>
+ * By default the decoded tile cache holds three rows of a column strip per
+ * worker thread when the kernel has a halo, so each tile is decoded at most
+ * once per strip, up to {@link #DEFAULT_MAX_TILES}. Setting a smaller maximum
+ * tile count bounds memory further at the cost of decoding tiles again.
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class CoverageRasterProcessor {
+
+	/**
+	 * Tile tasks per worker thread, balancing uneven tile row costs
+	 */
+	private static final int TASKS_PER_WORKER = 4;
+
+	/**
+	 * Queued output blocks per worker thread
+	 */
+	private static final int QUEUE_PER_WORKER = 4;
+
+	/**
+	 * Tile columns per strip, bounding the decoded tiles a worker holds to
+	 * three strip rows and their halo columns regardless of the matrix width
+	 */
+	public static final int STRIP_WIDTH = 8;
+
+	/**
+	 * Default maximum decoded tiles
+	 */
+	public static final int DEFAULT_MAX_TILES = 256;
+
+	/**
+	 * Missing tile marker
+	 */
+	private static final double[] MISSING = new double[0];
+
+	/**
+	 * Coverage data
+	 */
+	private final CoverageDataCore<?> coverageData;
+
+	/**
+	 * Zoom level, null for the highest zoom level
+	 */
+	private Long zoom;
+
+	/**
+	 * Worker thread count
+	 */
+	private int workers = 1;
+
+	/**
+	 * Maximum decoded tiles, null to size by the strip width and workers
+	 */
+	private Integer maxTiles;
+
+	/**
+	 * Progress callbacks
+	 */
+	private GeoPackageProgress progress;
+
+	/**
+	 * Constructor
+	 *
+	 * @param coverageData
+	 *            coverage data
+	 */
+	public CoverageRasterProcessor(CoverageDataCore<?> coverageData) {
+		this.coverageData = coverageData;
+	}
+
+	/**
+	 * Get the coverage data
+	 *
+	 * @return coverage data
+	 */
+	public CoverageDataCore<?> getCoverageData() {
+		return coverageData;
+	}
+
+	/**
+	 * Get the zoom level
+	 *
+	 * @return zoom level, null for the highest zoom level
+	 */
+	public Long getZoom() {
+		return zoom;
+	}
+
+	/**
+	 * Set the zoom level
+	 *
+	 * @param zoom
+	 *            zoom level, null for the highest zoom level
+	 */
+	public void setZoom(Long zoom) {
+		this.zoom = zoom;
+	}
+
+	/**
+	 * Get the worker thread count
+	 *
+	 * @return workers
+	 */
+	public int getWorkers() {
+		return workers;
+	}
+
+	/**
+	 * Set the worker thread count, used when the GeoPackage connection has a
+	 * read pool
+	 *
+	 * @param workers
+	 *            worker thread count
+	 */
+	public void setWorkers(int workers) {
+		this.workers = Math.max(workers, 1);
+	}
+
+	/**
+	 * Get the maximum decoded tiles
+	 *
+	 * @return maximum tiles, null when sized by the strip width and workers
+	 */
+	public Integer getMaxTiles() {
+		return maxTiles;
+	}
+
+	/**
+	 * Set the maximum decoded tiles
+	 *
+	 * @param maxTiles
+	 *            maximum tiles, null to size to three strip rows per worker
+	 *            thread when the kernel has a halo, up to
+	 *            {@link #DEFAULT_MAX_TILES}
+	 */
+	public void setMaxTiles(Integer maxTiles) {
+		this.maxTiles = maxTiles != null ? Math.max(maxTiles, 1) : null;
+	}
+
+	/**
+	 * Get the progress callbacks
+	 *
+	 * @return progress
+	 */
+	public GeoPackageProgress getProgress() {
+		return progress;
+	}
+
+	/**
+	 * Set the progress callbacks, progressed once per processed tile
+	 *
+	 * @param progress
+	 *            progress callbacks
+	 */
+	public void setProgress(GeoPackageProgress progress) {
+		this.progress = progress;
+	}
+
+	/**
+	 * Process the coverage data tiles through a kernel without output, such
+	 * as a {@link StatisticsKernel}
+	 *
+	 * @param kernel
+	 *            coverage raster kernel
+	 * @return processed tile count
+	 */
+	public int process(CoverageRasterKernel kernel) {
+		return process(kernel, null);
+	}
+
+	/**
+	 * Process the coverage data tiles through a kernel, writing the kernel
+	 * output
+	 *
+	 * @param kernel
+	 *            coverage raster kernel
+	 * @param output
+	 *            coverage raster output, null for no output
+	 * @return processed tile count
+	 */
+	public int process(CoverageRasterKernel kernel,
+			CoverageRasterOutput output) {
+
+		TileMatrix tileMatrix = getTileMatrix();
+		if (tileMatrix == null) {
+			return 0;
+		}
+
+		int halo = Math.max(kernel.getHalo(), 0);
+		if (halo > tileMatrix.getTileWidth()
+				|| halo > tileMatrix.getTileHeight()) {
+			throw new GeoPackageException(
+					"Kernel halo is larger than the coverage data tiles. Halo: "
+							+ halo + ", Table: " + coverageData
+									.getTileMatrixSet().getTableName());
+		}
+
+		GeoPackageReadPool readPool = coverageData.getGeoPackage()
+				.getDatabase().getReadPool();
+
+		Run run = new Run(tileMatrix, kernel, halo, output, readPool);
+		try {
+			if (readPool != null) {
+				run.submit();
+				run.finish();
+			} else {
+				run.processAll();
+			}
+		} finally {
+			run.close();
+		}
+		return run.processed.get();
+	}
+
+	/**
+	 * Get the maximum decoded tiles of a run, three strip rows including the
+	 * halo columns per worker thread with a halo, or one tile per worker
+	 * thread without a halo, up to {@link #DEFAULT_MAX_TILES} unless set
+	 *
+	 * @param halo
+	 *            halo pixels
+	 * @param runWorkers
+	 *            threads processing tiles
+	 * @return maximum decoded tiles
+	 */
+	private int getMaxTiles(int halo, int runWorkers) {
+		int max;
+		if (maxTiles != null) {
+			max = maxTiles;
+		} else if (halo > 0) {
+			max = Math.min(3 * (STRIP_WIDTH + 2) * runWorkers,
+					DEFAULT_MAX_TILES);
+		} else {
+			max = Math.min(runWorkers, DEFAULT_MAX_TILES);
+		}
+		return Math.max(max, 1);
+	}
+
+	/**
+	 * Get the tile matrix of the zoom level
+	 *
+	 * @return tile matrix or null
+	 */
+	private TileMatrix getTileMatrix() {
+		TileMatrix tileMatrix = null;
+		List<TileMatrix> tileMatrices = coverageData.getTileMatrices();
+		if (zoom == null) {
+			if (!tileMatrices.isEmpty()) {
+				tileMatrix = tileMatrices.get(tileMatrices.size() - 1);
+			}
+		} else {
+			for (TileMatrix matrix : tileMatrices) {
+				if (matrix.getZoomLevel() == zoom) {
+					tileMatrix = matrix;
+					break;
+				}
+			}
+		}
+		return tileMatrix;
+	}
+
+	/**
+	 * Single processing run state
+	 */
+	private class Run extends WorkerPipeline<ProcessedBlock> {
+
+		/**
+		 * Tile matrix
+		 */
+		private final TileMatrix tileMatrix;
+
+		/**
+		 * Kernel
+		 */
+		private final CoverageRasterKernel kernel;
+
+		/**
+		 * Halo pixels
+		 */
+		private final int halo;
+
+		/**
+		 * Output, null for none
+		 */
+		private final CoverageRasterOutput output;
+
+		/**
+		 * Read pool of the worker read connections, null to process on the
+		 * calling thread
+		 */
+		private final GeoPackageReadPool readPool;
+
+		/**
+		 * Tile width
+		 */
+		private final int tileWidth;
+
+		/**
+		 * Tile height
+		 */
+		private final int tileHeight;
+
+		/**
+		 * Decoded tile values, least recently used first
+		 */
+		private final LinkedHashMap<Long, double[]> tiles;
+
+		/**
+		 * Processed tile count
+		 */
+		private final AtomicInteger processed = new AtomicInteger();
+
+		/**
+		 * Constructor, starts the writer thread when there is output and a
+		 * read pool
+		 *
+		 * @param tileMatrix
+		 *            tile matrix
+		 * @param kernel
+		 *            kernel
+		 * @param halo
+		 *            halo pixels
+		 * @param output
+		 *            output or null
+		 * @param readPool
+		 *            read pool or null
+		 */
+		private Run(TileMatrix tileMatrix, CoverageRasterKernel kernel,
+				int halo, CoverageRasterOutput output,
+				GeoPackageReadPool readPool) {
+			super("Coverage Raster Writer: "
+					+ coverageData.getTileMatrixSet().getTableName(),
+					"processing coverage data tiles. Table: "
+							+ coverageData.getTileMatrixSet().getTableName(),
+					workers, workers * QUEUE_PER_WORKER,
+					output != null && readPool != null);
+			this.tileMatrix = tileMatrix;
+			this.kernel = kernel;
+			this.halo = halo;
+			this.output = output;
+			this.readPool = readPool;
+			tileWidth = (int) tileMatrix.getTileWidth();
+			tileHeight = (int) tileMatrix.getTileHeight();
+			final int max = getMaxTiles(halo, readPool != null ? workers : 1);
+			tiles = new LinkedHashMap<Long, double[]>(16, 0.75f, true) {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(
+						Map.Entry<Long, double[]> eldest) {
+					return size() > max;
+				}
+			};
+		}
+
+		/**
+		 * Submit the row ranges of the tile column strips to the worker pool
+		 */
+		private void submit() {
+
+			long matrixWidth = tileMatrix.getMatrixWidth();
+			long matrixHeight = tileMatrix.getMatrixHeight();
+			long strips = (matrixWidth + STRIP_WIDTH - 1) / STRIP_WIDTH;
+			long tasksCount = (long) workers * TASKS_PER_WORKER;
+			long rowsPerTask = Math.max(
+					(matrixHeight * strips + tasksCount - 1) / tasksCount, 1);
+
+			for (long column = 0; column < matrixWidth; column += STRIP_WIDTH) {
+
+				final long minColumn = column;
+				final long maxColumn = Math.min(column + STRIP_WIDTH,
+						matrixWidth);
+
+				for (long row = 0; row < matrixHeight; row += rowsPerTask) {
+
+					final long minRow = row;
+					final long maxRow = Math.min(row + rowsPerTask,
+							matrixHeight);
+
+					submit(new Runnable() {
+						@Override
+						public void run() {
+							GeoPackageCoreConnection connection = acquire(
+									readPool);
+							if (connection == null) {
+								return;
+							}
+							try {
+								processStrip(connection, minColumn, maxColumn,
+										minRow, maxRow);
+							} finally {
+								readPool.release(connection);
+							}
+						}
+					});
+				}
+			}
+		}
+
+		/**
+		 * Process and write all tiles on the calling thread through the
+		 * GeoPackage connection. Tiles written before a cancel are flushed,
+		 * while a failure rolls back the writes not yet flushed.
+		 */
+		private void processAll() {
+
+			long matrixWidth = tileMatrix.getMatrixWidth();
+			long matrixHeight = tileMatrix.getMatrixHeight();
+
+			boolean completed = false;
+			try {
+				for (long column = 0; column < matrixWidth; column += STRIP_WIDTH) {
+					if (!processStrip(null, column,
+							Math.min(column + STRIP_WIDTH, matrixWidth), 0,
+							matrixHeight)) {
+						break;
+					}
+				}
+				if (output != null) {
+					output.flush();
+				}
+				completed = true;
+			} finally {
+				if (!completed && output != null) {
+					output.rollback();
+				}
+			}
+		}
+
+		/**
+		 * Process the rows of a tile column strip, row by row so the decoded
+		 * neighbor tiles of the halo are limited to three strip rows
+		 *
+		 * @param connection
+		 *            read connection, null for the GeoPackage connection
+		 * @param minColumn
+		 *            min tile column, inclusive
+		 * @param maxColumn
+		 *            max tile column, exclusive
+		 * @param minRow
+		 *            min tile row, inclusive
+		 * @param maxRow
+		 *            max tile row, exclusive
+		 * @return false if stopped
+		 */
+		private boolean processStrip(GeoPackageCoreConnection connection,
+				long minColumn, long maxColumn, long minRow, long maxRow) {
+			for (long tileRow = minRow; tileRow < maxRow; tileRow++) {
+				for (long tileColumn = minColumn; tileColumn < maxColumn; tileColumn++) {
+					if (isStopped()) {
+						return false;
+					}
+					processTile(connection, tileColumn, tileRow);
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Process a single tile
+		 *
+		 * @param connection
+		 *            read connection, null for the GeoPackage connection
+		 * @param column
+		 *            tile column
+		 * @param row
+		 *            tile row
+		 */
+		private void processTile(GeoPackageCoreConnection connection,
+				long column, long row) {
+
+			double[] center = getTile(connection, column, row);
+			if (center == MISSING) {
+				return;
+			}
+
+			CoverageRasterBlock block = new CoverageRasterBlock(
+					tileMatrix.getZoomLevel(), column, row, tileWidth,
+					tileHeight, halo, tileMatrix.getPixelXSize(),
+					tileMatrix.getPixelYSize(), createBlockValues(connection,
+							center, column, row));
+
+			double[] values = kernel.process(block);
+			if (values != null && output != null) {
+				if (readPool != null) {
+					put(new ProcessedBlock(block, values));
+				} else {
+					output.write(block, values);
+				}
+			}
+
+			processed.incrementAndGet();
+			if (progress != null) {
+				progress.addProgress(1);
+			}
+		}
+
+		/**
+		 * Create the block values of the center tile surrounded by the halo
+		 * of the neighboring tiles
+		 *
+		 * @param connection
+		 *            read connection, null for the GeoPackage connection
+		 * @param center
+		 *            center tile values
+		 * @param column
+		 *            tile column
+		 * @param row
+		 *            tile row
+		 * @return block values
+		 */
+		private double[] createBlockValues(
+				GeoPackageCoreConnection connection, double[] center,
+				long column, long row) {
+
+			if (halo == 0) {
+				return Arrays.copyOf(center, center.length);
+			}
+
+			int stride = tileWidth + 2 * halo;
+			double[] values = new double[stride * (tileHeight + 2 * halo)];
+			Arrays.fill(values, Double.NaN);
+
+			for (int rowOffset = -1; rowOffset <= 1; rowOffset++) {
+				int minY = rowOffset < 0 ? -halo
+						: rowOffset == 0 ? 0 : tileHeight;
+				int maxY = rowOffset < 0 ? 0
+						: rowOffset == 0 ? tileHeight : tileHeight + halo;
+				for (int columnOffset = -1; columnOffset <= 1; columnOffset++) {
+					double[] tile = rowOffset == 0 && columnOffset == 0
+							? center
+							: getTile(connection, column + columnOffset,
+									row + rowOffset);
+					if (tile == MISSING) {
+						continue;
+					}
+					int minX = columnOffset < 0 ? -halo
+							: columnOffset == 0 ? 0 : tileWidth;
+					int maxX = columnOffset < 0 ? 0
+							: columnOffset == 0 ? tileWidth
+									: tileWidth + halo;
+					int tileX = minX - columnOffset * tileWidth;
+					for (int y = minY; y < maxY; y++) {
+						int tileY = y - rowOffset * tileHeight;
+						System.arraycopy(tile, tileY * tileWidth + tileX,
+								values, (y + halo) * stride + minX + halo,
+								maxX - minX);
+					}
+				}
+			}
+
+			return values;
+		}
+
+		/**
+		 * Get the decoded tile values through the least recently used cache
+		 *
+		 * @param connection
+		 *            read connection, null for the GeoPackage connection
+		 * @param column
+		 *            tile column
+		 * @param row
+		 *            tile row
+		 * @return tile values or the missing marker
+		 */
+		private double[] getTile(GeoPackageCoreConnection connection,
+				long column, long row) {
+
+			if (column < 0 || row < 0 || column >= tileMatrix.getMatrixWidth()
+					|| row >= tileMatrix.getMatrixHeight()) {
+				return MISSING;
+			}
+
+			Long key = row * tileMatrix.getMatrixWidth() + column;
+			double[] values;
+			synchronized (tiles) {
+				values = tiles.get(key);
+			}
+			if (values == null) {
+				values = connection != null
+						? coverageData.getTileValues(connection, tileMatrix,
+								column, row)
+						: coverageData.getTileValues(tileMatrix, column, row);
+				if (values == null) {
+					values = MISSING;
+				}
+				synchronized (tiles) {
+					tiles.put(key, values);
+				}
+			}
+			return values;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected boolean isActive() {
+			return progress == null || progress.isActive();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected void write(ProcessedBlock block) {
+			output.write(block.block, block.values);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected void flush() {
+			output.flush();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected void closeWriter() {
+			output.rollback();
+		}
+
+	}
+
+	/**
+	 * Processed block waiting to be written
+	 */
+	private static class ProcessedBlock {
+
+		/**
+		 * Coverage raster block
+		 */
+		private final CoverageRasterBlock block;
+
+		/**
+		 * Output values
+		 */
+		private final double[] values;
+
+		/**
+		 * Constructor
+		 *
+		 * @param block
+		 *            coverage raster block
+		 * @param values
+		 *            output values
+		 */
+		private ProcessedBlock(CoverageRasterBlock block, double[] values) {
+			this.block = block;
+			this.values = values;
+		}
+
+	}
+
+}
@@ -0,0 +1,408 @@
+package mil.nga.geopackage.extension.coverage.raster;
+
+import mil.nga.geopackage.GeoPackageException;
+import mil.nga.geopackage.db.BatchStatement;
+import mil.nga.geopackage.db.CoreSQLUtils;
+import mil.nga.geopackage.db.GeoPackageCoreConnection;
+import mil.nga.geopackage.extension.coverage.CoverageDataCore;
+import mil.nga.geopackage.extension.coverage.GriddedTile;
+import mil.nga.geopackage.tiles.user.TileTable;
+
+/**
+ * Coverage raster output writing processed blocks as tiles of a coverage data
+ * tile table, along with their gridded tile ancillary rows, in batched
+ * transactions. The target tile table, tile matrices, and gridded coverage
+ * must already exist with the same tile grid as the processed coverage data.
+ * Existing target tiles fail the tile table unique constraint unless
+ * overwriting is enabled, replacing them along with their gridded tiles.
+ * Tiles are encoded with {@link CoverageDataCore#createTileData}, which the
+ * platform coverage data implementation must support. Gridded tiles are
+ * written with their min, max, mean, and standard deviation statistics.
+ * Integer coverage data tiles are encoded with the optimal scale and offset
+ * of each tile unless a fixed scale or offset is set.
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class CoverageRasterTileOutput implements CoverageRasterOutput {
+
+	/**
+	 * Default tiles written per transaction
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 100;
+
+	/**
+	 * Target coverage data
+	 */
+	private final CoverageDataCore<?> target;
+
+	/**
+	 * Connection
+	 */
+	private final GeoPackageCoreConnection db;
+
+	/**
+	 * Target tile table name
+	 */
+	private final String table;
+
+	/**
+	 * Tiles written per transaction
+	 */
+	private final int batchSize;
+
+	/**
+	 * Gridded tile scale, null for the optimal scale of each tile
+	 */
+	private Double scale;
+
+	/**
+	 * Gridded tile offset, null for the optimal offset of each tile
+	 */
+	private Double offset;
+
+	/**
+	 * Overwrite existing tiles
+	 */
+	private boolean overwrite = false;
+
+	/**
+	 * Tile insert statement
+	 */
+	private BatchStatement tileStatement;
+
+	/**
+	 * Existing gridded tile delete statement when overwriting
+	 */
+	private BatchStatement deleteGriddedTileStatement;
+
+	/**
+	 * Existing tile delete statement when overwriting
+	 */
+	private BatchStatement deleteTileStatement;
+
+	/**
+	 * Gridded tile insert statement
+	 */
+	private BatchStatement griddedTileStatement;
+
+	/**
+	 * Tiles written in the open transaction
+	 */
+	private int pending = 0;
+
+	/**
+	 * Written tile count
+	 */
+	private int written = 0;
+
+	/**
+	 * Constructor
+	 *
+	 * @param target
+	 *            target coverage data
+	 */
+	public CoverageRasterTileOutput(CoverageDataCore<?> target) {
+		this(target, DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param target
+	 *            target coverage data
+	 * @param batchSize
+	 *            tiles written per transaction
+	 */
+	public CoverageRasterTileOutput(CoverageDataCore<?> target,
+			int batchSize) {
+		this.target = target;
+		this.db = target.getGeoPackage().getDatabase();
+		this.table = target.getTileMatrixSet().getTableName();
+		this.batchSize = Math.max(batchSize, 1);
+	}
+
+	/**
+	 * Get the gridded tile scale
+	 *
+	 * @return scale, null for the optimal scale of each tile
+	 */
+	public Double getScale() {
+		return scale;
+	}
+
+	/**
+	 * Set the gridded tile scale used to encode integer coverage data tiles
+	 *
+	 * @param scale
+	 *            scale, null for the optimal scale of each tile
+	 */
+	public void setScale(Double scale) {
+		this.scale = scale;
+	}
+
+	/**
+	 * Get the gridded tile offset
+	 *
+	 * @return offset, null for the optimal offset of each tile
+	 */
+	public Double getOffset() {
+		return offset;
+	}
+
+	/**
+	 * Set the gridded tile offset used to encode integer coverage data tiles
+	 *
+	 * @param offset
+	 *            offset, null for the optimal offset of each tile
+	 */
+	public void setOffset(Double offset) {
+		this.offset = offset;
+	}
+
+	/**
+	 * Is overwriting existing tiles enabled
+	 *
+	 * @return true if overwriting
+	 */
+	public boolean isOverwrite() {
+		return overwrite;
+	}
+
+	/**
+	 * Set the overwrite flag, deleting existing tiles and their gridded tiles
+	 * before writing the replacement tiles
+	 *
+	 * @param overwrite
+	 *            true to overwrite existing tiles
+	 */
+	public void setOverwrite(boolean overwrite) {
+		this.overwrite = overwrite;
+	}
+
+	/**
+	 * Get the written tile count
+	 *
+	 * @return written tiles
+	 */
+	public int getWritten() {
+		return written;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void write(CoverageRasterBlock block, double[] values) {
+
+		GriddedTile griddedTile = target.createGriddedTile(values);
+		if (scale != null) {
+			griddedTile.setScale(scale);
+		}
+		if (offset != null) {
+			griddedTile.setOffset(offset);
+		}
+
+		byte[] tileData = target.createTileData(griddedTile, values,
+				block.getWidth(), block.getHeight());
+		if (tileData == null) {
+			throw new GeoPackageException(
+					"Encoding coverage data tiles is not supported. Table: "
+							+ table);
+		}
+
+		write(block.getZoom(), block.getColumn(), block.getRow(),
+				griddedTile, tileData);
+	}
+
+	/**
+	 * Write an encoded tile and its gridded tile
+	 *
+	 * @param zoom
+	 *            zoom level
+	 * @param column
+	 *            tile column
+	 * @param row
+	 *            tile row
+	 * @param griddedTile
+	 *            gridded tile
+	 * @param tileData
+	 *            encoded tile data
+	 */
+	public void write(long zoom, long column, long row,
+			GriddedTile griddedTile, byte[] tileData) {
+
+		if (tileStatement == null) {
+			prepare();
+		}
+
+		if (pending == 0) {
+			db.beginTransaction();
+		}
+		try {
+			if (overwrite) {
+				deleteGriddedTileStatement.setValue(0, table);
+				deleteGriddedTileStatement.setLong(1, zoom);
+				deleteGriddedTileStatement.setLong(2, column);
+				deleteGriddedTileStatement.setLong(3, row);
+				deleteGriddedTileStatement.execute();
+				deleteTileStatement.setLong(0, zoom);
+				deleteTileStatement.setLong(1, column);
+				deleteTileStatement.setLong(2, row);
+				deleteTileStatement.execute();
+			}
+			tileStatement.setLong(0, zoom);
+			tileStatement.setLong(1, column);
+			tileStatement.setLong(2, row);
+			tileStatement.setValue(3, tileData);
+			tileStatement.execute();
+			long tileId = tileStatement.getLastInsertRowId();
+			griddedTileStatement.setValue(0, table);
+			griddedTileStatement.setLong(1, tileId);
+			griddedTileStatement.setDouble(2, griddedTile.getScale());
+			griddedTileStatement.setDouble(3, griddedTile.getOffset());
+			griddedTileStatement.setValue(4, griddedTile.getMin());
+			griddedTileStatement.setValue(5, griddedTile.getMax());
+			griddedTileStatement.setValue(6, griddedTile.getMean());
+			griddedTileStatement.setValue(7,
+					griddedTile.getStandardDeviation());
+			griddedTileStatement.execute();
+		} catch (Throwable e) {
+			pending = 0;
+			db.endTransaction(false);
+			throw e;
+		}
+
+		target.invalidateTile(zoom, column, row);
+		written++;
+		if (++pending >= batchSize) {
+			flush();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void flush() {
+		if (pending > 0) {
+			pending = 0;
+			db.endTransaction(true);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void rollback() {
+		if (pending > 0) {
+			pending = 0;
+			db.endTransaction(false);
+		}
+	}
+
+	/**
+	 * Close the statements, rolling back the tiles of an open transaction not
+	 * yet flushed
+	 */
+	@Override
+	public void close() {
+		rollback();
+		if (tileStatement != null) {
+			tileStatement.close();
+			tileStatement = null;
+		}
+		if (griddedTileStatement != null) {
+			griddedTileStatement.close();
+			griddedTileStatement = null;
+		}
+		if (deleteGriddedTileStatement != null) {
+			deleteGriddedTileStatement.close();
+			deleteGriddedTileStatement = null;
+		}
+		if (deleteTileStatement != null) {
+			deleteTileStatement.close();
+			deleteTileStatement = null;
+		}
+	}
+
+	/**
+	 * Prepare the tile and gridded tile insert statements, and the delete
+	 * statements when overwriting
+	 */
+	private void prepare() {
+
+		StringBuilder tileWhere = new StringBuilder();
+		tileWhere.append(CoreSQLUtils.quoteWrap(TileTable.COLUMN_ZOOM_LEVEL));
+		tileWhere.append(" = ? AND ");
+		tileWhere
+				.append(CoreSQLUtils.quoteWrap(TileTable.COLUMN_TILE_COLUMN));
+		tileWhere.append(" = ? AND ");
+		tileWhere.append(CoreSQLUtils.quoteWrap(TileTable.COLUMN_TILE_ROW));
+		tileWhere.append(" = ?");
+
+		if (overwrite) {
+
+			StringBuilder sql = new StringBuilder("DELETE FROM ");
+			sql.append(CoreSQLUtils.quoteWrap(GriddedTile.TABLE_NAME));
+			sql.append(" WHERE ");
+			sql.append(CoreSQLUtils.quoteWrap(GriddedTile.COLUMN_TABLE_NAME));
+			sql.append(" = ? AND ");
+			sql.append(CoreSQLUtils.quoteWrap(GriddedTile.COLUMN_TABLE_ID));
+			sql.append(" IN (SELECT ");
+			sql.append(CoreSQLUtils.quoteWrap(TileTable.COLUMN_ID));
+			sql.append(" FROM ");
+			sql.append(CoreSQLUtils.quoteWrap(table));
+			sql.append(" WHERE ");
+			sql.append(tileWhere);
+			sql.append(")");
+			deleteGriddedTileStatement = new BatchStatement(db,
+					GriddedTile.TABLE_NAME, sql.toString());
+
+			sql = new StringBuilder("DELETE FROM ");
+			sql.append(CoreSQLUtils.quoteWrap(table));
+			sql.append(" WHERE ");
+			sql.append(tileWhere);
+			deleteTileStatement = new BatchStatement(db, table,
+					sql.toString());
+		}
+
+		StringBuilder sql = new StringBuilder("INSERT INTO ");
+		sql.append(CoreSQLUtils.quoteWrap(table));
+		sql.append(" (");
+		sql.append(CoreSQLUtils.quoteWrap(TileTable.COLUMN_ZOOM_LEVEL));
+		sql.append(", ");
+		sql.append(CoreSQLUtils.quoteWrap(TileTable.COLUMN_TILE_COLUMN));
+		sql.append(", ");
+		sql.append(CoreSQLUtils.quoteWrap(TileTable.COLUMN_TILE_ROW));
+		sql.append(", ");
+		sql.append(CoreSQLUtils.quoteWrap(TileTable.COLUMN_TILE_DATA));
+		sql.append(") VALUES (?, ?, ?, ?)");
+		tileStatement = new BatchStatement(db, table, sql.toString());
+
+		sql = new StringBuilder("INSERT INTO ");
+		sql.append(CoreSQLUtils.quoteWrap(GriddedTile.TABLE_NAME));
+		sql.append(" (");
+		sql.append(CoreSQLUtils.quoteWrap(GriddedTile.COLUMN_TABLE_NAME));
+		sql.append(", ");
+		sql.append(CoreSQLUtils.quoteWrap(GriddedTile.COLUMN_TABLE_ID));
+		sql.append(", ");
+		sql.append(CoreSQLUtils.quoteWrap(GriddedTile.COLUMN_SCALE));
+		sql.append(", ");
+		sql.append(CoreSQLUtils.quoteWrap(GriddedTile.COLUMN_OFFSET));
+		sql.append(", ");
+		sql.append(CoreSQLUtils.quoteWrap(GriddedTile.COLUMN_MIN));
+		sql.append(", ");
+		sql.append(CoreSQLUtils.quoteWrap(GriddedTile.COLUMN_MAX));
+		sql.append(", ");
+		sql.append(CoreSQLUtils.quoteWrap(GriddedTile.COLUMN_MEAN));
+		sql.append(", ");
+		sql.append(CoreSQLUtils
+				.quoteWrap(GriddedTile.COLUMN_STANDARD_DEVIATION));
+		sql.append(") VALUES (?, ?, ?, ?, ?, ?, ?, ?)");
+		griddedTileStatement = new BatchStatement(db, GriddedTile.TABLE_NAME,
+				sql.toString());
+	}
+
+}
@@ -0,0 +1,71 @@
+package mil.nga.geopackage.extension.coverage.raster;
+
+/**
+ * Hillshade kernel producing illumination values from 0 to 255 for a light
+ * source azimuth and altitude
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class HillshadeKernel extends TerrainKernel {
+
+	/**
+	 * Default light source azimuth in degrees clockwise from north
+	 */
+	public static final double DEFAULT_AZIMUTH = 315;
+
+	/**
+	 * Default light source altitude in degrees above the horizon
+	 */
+	public static final double DEFAULT_ALTITUDE = 45;
+
+	/**
+	 * Light source azimuth in radians
+	 */
+	private final double azimuth;
+
+	/**
+	 * Sine of the light source altitude
+	 */
+	private final double sinAltitude;
+
+	/**
+	 * Cosine of the light source altitude
+	 */
+	private final double cosAltitude;
+
+	/**
+	 * Constructor
+	 */
+	public HillshadeKernel() {
+		this(DEFAULT_AZIMUTH, DEFAULT_ALTITUDE);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param azimuth
+	 *            light source azimuth in degrees clockwise from north
+	 * @param altitude
+	 *            light source altitude in degrees above the horizon
+	 */
+	public HillshadeKernel(double azimuth, double altitude) {
+		this.azimuth = Math.toRadians(azimuth);
+		double altitudeRadians = Math.toRadians(altitude);
+		this.sinAltitude = Math.sin(altitudeRadians);
+		this.cosAltitude = Math.cos(altitudeRadians);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected double getValue(double dzdx, double dzdy) {
+		double slope = Math.atan(Math.sqrt((dzdx * dzdx) + (dzdy * dzdy)));
+		double aspect = Math.atan2(dzdy, -dzdx);
+		double shade = (sinAltitude * Math.cos(slope)) + (cosAltitude
+				* Math.sin(slope) * Math.cos((Math.PI / 2) - azimuth - aspect));
+		return 255 * Math.max(shade, 0);
+	}
+
+}
@@ -0,0 +1,20 @@
+package mil.nga.geopackage.extension.coverage.raster;
+
+/**
+ * Slope kernel producing the slope in degrees from horizontal
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class SlopeKernel extends TerrainKernel {
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected double getValue(double dzdx, double dzdy) {
+		return Math.toDegrees(
+				Math.atan(Math.sqrt((dzdx * dzdx) + (dzdy * dzdy))));
+	}
+
+}
@@ -0,0 +1,216 @@
+package mil.nga.geopackage.extension.coverage.raster;
+
+import java.util.Arrays;
+
+/**
+ * Statistics kernel accumulating the minimum, maximum, mean, standard
+ * deviation, and an optional fixed range histogram of coverage data values.
+ * Produces no output values.
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class StatisticsKernel implements CoverageRasterKernel {
+
+	/**
+	 * Histogram minimum value
+	 */
+	private final double histogramMin;
+
+	/**
+	 * Histogram maximum value
+	 */
+	private final double histogramMax;
+
+	/**
+	 * Histogram bin counts, empty when no histogram is collected
+	 */
+	private final long[] histogram;
+
+	/**
+	 * Value count
+	 */
+	private long count = 0;
+
+	/**
+	 * Minimum value
+	 */
+	private double min = Double.NaN;
+
+	/**
+	 * Maximum value
+	 */
+	private double max = Double.NaN;
+
+	/**
+	 * Value sum
+	 */
+	private double sum = 0;
+
+	/**
+	 * Value sum of squares
+	 */
+	private double sumSquares = 0;
+
+	/**
+	 * Constructor without a histogram
+	 */
+	public StatisticsKernel() {
+		this(0, 0, 0);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param histogramMin
+	 *            histogram minimum value
+	 * @param histogramMax
+	 *            histogram maximum value
+	 * @param bins
+	 *            histogram bins, 0 for no histogram
+	 */
+	public StatisticsKernel(double histogramMin, double histogramMax,
+			int bins) {
+		this.histogramMin = histogramMin;
+		this.histogramMax = histogramMax;
+		this.histogram = new long[Math.max(bins, 0)];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getHalo() {
+		return 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double[] process(CoverageRasterBlock block) {
+
+		long blockCount = 0;
+		double blockMin = Double.POSITIVE_INFINITY;
+		double blockMax = Double.NEGATIVE_INFINITY;
+		double blockSum = 0;
+		double blockSumSquares = 0;
+		long[] blockHistogram = new long[histogram.length];
+		double binWidth = (histogramMax - histogramMin) / histogram.length;
+
+		for (double value : block.getValues()) {
+			if (!Double.isNaN(value)) {
+				blockCount++;
+				blockMin = Math.min(blockMin, value);
+				blockMax = Math.max(blockMax, value);
+				blockSum += value;
+				blockSumSquares += value * value;
+				if (blockHistogram.length > 0 && value >= histogramMin
+						&& value <= histogramMax) {
+					int bin = (int) ((value - histogramMin) / binWidth);
+					blockHistogram[Math.min(bin,
+							blockHistogram.length - 1)]++;
+				}
+			}
+		}
+
+		if (blockCount > 0) {
+			synchronized (this) {
+				if (count == 0) {
+					min = blockMin;
+					max = blockMax;
+				} else {
+					min = Math.min(min, blockMin);
+					max = Math.max(max, blockMax);
+				}
+				count += blockCount;
+				sum += blockSum;
+				sumSquares += blockSumSquares;
+				for (int i = 0; i < histogram.length; i++) {
+					histogram[i] += blockHistogram[i];
+				}
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Get the value count
+	 *
+	 * @return count
+	 */
+	public synchronized long getCount() {
+		return count;
+	}
+
+	/**
+	 * Get the minimum value
+	 *
+	 * @return minimum or {@link Double#NaN} when empty
+	 */
+	public synchronized double getMin() {
+		return min;
+	}
+
+	/**
+	 * Get the maximum value
+	 *
+	 * @return maximum or {@link Double#NaN} when empty
+	 */
+	public synchronized double getMax() {
+		return max;
+	}
+
+	/**
+	 * Get the mean value
+	 *
+	 * @return mean or {@link Double#NaN} when empty
+	 */
+	public synchronized double getMean() {
+		return count > 0 ? sum / count : Double.NaN;
+	}
+
+	/**
+	 * Get the population standard deviation
+	 *
+	 * @return standard deviation or {@link Double#NaN} when empty
+	 */
+	public synchronized double getStandardDeviation() {
+		double standardDeviation = Double.NaN;
+		if (count > 0) {
+			double mean = sum / count;
+			standardDeviation = Math
+					.sqrt(Math.max((sumSquares / count) - (mean * mean), 0));
+		}
+		return standardDeviation;
+	}
+
+	/**
+	 * Get the histogram minimum value
+	 *
+	 * @return histogram minimum
+	 */
+	public double getHistogramMin() {
+		return histogramMin;
+	}
+
+	/**
+	 * Get the histogram maximum value
+	 *
+	 * @return histogram maximum
+	 */
+	public double getHistogramMax() {
+		return histogramMax;
+	}
+
+	/**
+	 * Get a copy of the histogram bin counts
+	 *
+	 * @return bin counts
+	 */
+	public synchronized long[] getHistogram() {
+		return Arrays.copyOf(histogram, histogram.length);
+	}
+
+}
@@ -0,0 +1,127 @@
+package mil.nga.geopackage.extension.coverage.raster;
+
+/**
+ * Terrain kernel computing surface gradients with Horn's method over a 3x3
+ * window. Pixels with a missing neighbor produce {@link Double#NaN}.
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public abstract class TerrainKernel implements CoverageRasterKernel {
+
+	/**
+	 * Meters per degree at the equator, a typical scale for geographic
+	 * coverages with elevations in meters
+	 */
+	public static final double METERS_PER_DEGREE = 111120;
+
+	/**
+	 * Ratio of horizontal coverage units to vertical units
+	 */
+	private double scale = 1.0;
+
+	/**
+	 * Vertical exaggeration
+	 */
+	private double zFactor = 1.0;
+
+	/**
+	 * Get the ratio of horizontal coverage units to vertical units
+	 *
+	 * @return scale
+	 */
+	public double getScale() {
+		return scale;
+	}
+
+	/**
+	 * Set the ratio of horizontal coverage units to vertical units, such as
+	 * {@link #METERS_PER_DEGREE} for geographic coverages in meters
+	 *
+	 * @param scale
+	 *            scale
+	 */
+	public void setScale(double scale) {
+		this.scale = scale;
+	}
+
+	/**
+	 * Get the vertical exaggeration
+	 *
+	 * @return z factor
+	 */
+	public double getZFactor() {
+		return zFactor;
+	}
+
+	/**
+	 * Set the vertical exaggeration
+	 *
+	 * @param zFactor
+	 *            z factor
+	 */
+	public void setZFactor(double zFactor) {
+		this.zFactor = zFactor;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getHalo() {
+		return 1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double[] process(CoverageRasterBlock block) {
+
+		int width = block.getWidth();
+		int height = block.getHeight();
+		double xSize = 8 * block.getPixelXSize() * scale;
+		double ySize = 8 * block.getPixelYSize() * scale;
+
+		double[] output = new double[width * height];
+		int index = 0;
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+
+				double a = block.getValue(x - 1, y - 1);
+				double b = block.getValue(x, y - 1);
+				double c = block.getValue(x + 1, y - 1);
+				double d = block.getValue(x - 1, y);
+				double e = block.getValue(x, y);
+				double f = block.getValue(x + 1, y);
+				double g = block.getValue(x - 1, y + 1);
+				double h = block.getValue(x, y + 1);
+				double i = block.getValue(x + 1, y + 1);
+
+				double value = Double.NaN;
+				if (!Double.isNaN(a + b + c + d + e + f + g + h + i)) {
+					double dzdx = zFactor
+							* ((c + 2 * f + i) - (a + 2 * d + g)) / xSize;
+					double dzdy = zFactor
+							* ((g + 2 * h + i) - (a + 2 * b + c)) / ySize;
+					value = getValue(dzdx, dzdy);
+				}
+				output[index++] = value;
+			}
+		}
+
+		return output;
+	}
+
+	/**
+	 * Get the output value from the surface gradients
+	 *
+	 * @param dzdx
+	 *            elevation change per unit east
+	 * @param dzdy
+	 *            elevation change per unit south
+	 * @return output value
+	 */
+	protected abstract double getValue(double dzdx, double dzdy);
+
+}
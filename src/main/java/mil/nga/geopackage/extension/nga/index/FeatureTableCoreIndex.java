@@ -118,6 +118,19 @@ public abstract class FeatureTableCoreIndex extends BaseExtension {
 	 */
 	protected double tolerance = .00000000000001;
 
+	/**
+	 * Batch geometry index inserts with multiple row statements while
+	 * indexing the full table
+	 * 
+	 * @since 6.6.8
+	 */
+	protected boolean batchIndexing = true;
+
+	/**
+	 * Geometry index batch, active while indexing the full table
+	 */
+	private GeometryIndexBatch geometryIndexBatch;
+
 	/**
 	 * Constructor
 	 * 
@@ -264,6 +277,28 @@ public abstract class FeatureTableCoreIndex extends BaseExtension {
 		this.tolerance = tolerance;
 	}
 
+	/**
+	 * Is batch indexing enabled, buffering geometry index rows into multiple
+	 * row inserts sized by the chunk limit while indexing the full table
+	 * 
+	 * @return true if batch indexing
+	 * @since 6.6.8
+	 */
+	public boolean isBatchIndexing() {
+		return batchIndexing;
+	}
+
+	/**
+	 * Set the batch indexing flag
+	 * 
+	 * @param batchIndexing
+	 *            true to batch geometry index inserts
+	 * @since 6.6.8
+	 */
+	public void setBatchIndexing(boolean batchIndexing) {
+		this.batchIndexing = batchIndexing;
+	}
+
 	/**
 	 * Index the feature table if needed
 	 *
@@ -287,14 +322,32 @@ public abstract class FeatureTableCoreIndex extends BaseExtension {
 			TableIndex tableIndex = getOrCreateTableIndex();
 			createOrClearGeometryIndices();
 			unindexGeometryIndexTable();
-			count = indexTable(tableIndex);
+			if (batchIndexing) {
+				geometryIndexBatch = new GeometryIndexBatch(
+						geoPackage.getDatabase(), tableName, chunkLimit);
+			}
+			try {
+				count = indexTable(tableIndex);
+				if (geometryIndexBatch != null && (progress == null
+						|| progress.isActive()
+						|| !progress.cleanupOnCancel())) {
+					geometryIndexBatch.flush();
+				}
+			} finally {
+				if (geometryIndexBatch != null) {
+					geometryIndexBatch.close();
+					geometryIndexBatch = null;
+				}
+			}
 			indexGeometryIndexTable();
 		}
 		return count;
 	}
 
 	/**
-	 * Index the feature table
+	 * Index the feature table. Implementations indexing in chunk transactions
+	 * call {@link #flushGeometryIndexBatch()} at the end of each chunk
+	 * transaction.
 	 *
 	 * @param tableIndex
 	 *            table index
@@ -302,6 +355,21 @@ public abstract class FeatureTableCoreIndex extends BaseExtension {
 	 */
 	protected abstract int indexTable(TableIndex tableIndex);
 
+	/**
+	 * Write the geometry index rows buffered by batch indexing, called at the
+	 * end of each chunk transaction while indexing the table
+	 * 
+	 * @return written row count
+	 * @since 6.6.8
+	 */
+	protected int flushGeometryIndexBatch() {
+		int count = 0;
+		if (geometryIndexBatch != null) {
+			count = geometryIndexBatch.flush();
+		}
+		return count;
+	}
+
 	/**
 	 * Index the geometry id and geometry data
 	 * 
@@ -332,17 +400,22 @@ public abstract class FeatureTableCoreIndex extends BaseExtension {
 							.geodesicEnvelope(envelope, getProjection());
 				}
 
-				GeometryIndex geometryIndex = geometryIndexDao
-						.populate(tableIndex, geomId, envelope);
-				try {
-					geometryIndexDao.createOrUpdate(geometryIndex);
+				if (geometryIndexBatch != null) {
+					geometryIndexBatch.add(geomId, envelope);
 					indexed = true;
-				} catch (SQLException e) {
-					throw new GeoPackageException(
-							"Failed to create or update Geometry Index. GeoPackage: "
-									+ geoPackage.getName() + ", Table Name: "
-									+ tableName + ", Geom Id: " + geomId,
-							e);
+				} else {
+					GeometryIndex geometryIndex = geometryIndexDao
+							.populate(tableIndex, geomId, envelope);
+					try {
+						geometryIndexDao.createOrUpdate(geometryIndex);
+						indexed = true;
+					} catch (SQLException e) {
+						throw new GeoPackageException(
+								"Failed to create or update Geometry Index. GeoPackage: "
+										+ geoPackage.getName() + ", Table Name: "
+										+ tableName + ", Geom Id: " + geomId,
+								e);
+					}
 				}
 			}
 		}
@@ -355,6 +428,8 @@ public abstract class FeatureTableCoreIndex extends BaseExtension {
 	 */
 	protected void updateLastIndexed() {
 
+		flushGeometryIndexBatch();
+
 		TableIndex tableIndex = new TableIndex();
 		tableIndex.setTableName(tableName);
 		tableIndex.setLastIndexed(new Date());
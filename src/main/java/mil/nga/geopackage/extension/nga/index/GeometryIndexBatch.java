@@ -0,0 +1,322 @@
+package mil.nga.geopackage.extension.nga.index;
+
+import java.io.Closeable;
+
+import mil.nga.geopackage.db.BatchStatement;
+import mil.nga.geopackage.db.CoreSQLUtils;
+import mil.nga.geopackage.db.GeoPackageCoreConnection;
+import mil.nga.sf.GeometryEnvelope;
+
+/**
+ * Geometry Index batch of feature table geometry envelopes buffered in
+ * primitive arrays and written with reused multiple row INSERT OR REPLACE
+ * statements
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class GeometryIndexBatch implements Closeable {
+
+	/**
+	 * Maximum rows per insert statement, keeping the 10 arguments per row
+	 * within the SQLite default host parameter limit of 999
+	 */
+	public static final int MAX_STATEMENT_ROWS = 99;
+
+	/**
+	 * Envelope values per row
+	 */
+	private static final int ENVELOPE_VALUES = 8;
+
+	/**
+	 * Insert columns
+	 */
+	private static final String[] COLUMNS = new String[] {
+			GeometryIndex.COLUMN_TABLE_NAME, GeometryIndex.COLUMN_GEOM_ID,
+			GeometryIndex.COLUMN_MIN_X, GeometryIndex.COLUMN_MAX_X,
+			GeometryIndex.COLUMN_MIN_Y, GeometryIndex.COLUMN_MAX_Y,
+			GeometryIndex.COLUMN_MIN_Z, GeometryIndex.COLUMN_MAX_Z,
+			GeometryIndex.COLUMN_MIN_M, GeometryIndex.COLUMN_MAX_M };
+
+	/**
+	 * Connection
+	 */
+	private final GeoPackageCoreConnection db;
+
+	/**
+	 * Feature table name
+	 */
+	private final String tableName;
+
+	/**
+	 * Rows per full insert statement
+	 */
+	private final int statementRows;
+
+	/**
+	 * Geometry ids
+	 */
+	private final long[] geomIds;
+
+	/**
+	 * Envelope values per row: min x, max x, min y, max y, min z, max z, min
+	 * m, max m. Missing z and m values are NaN.
+	 */
+	private final double[] envelopes;
+
+	/**
+	 * Buffered row count
+	 */
+	private int size = 0;
+
+	/**
+	 * Total written row count
+	 */
+	private int written = 0;
+
+	/**
+	 * Full insert statement
+	 */
+	private BatchStatement statement;
+
+	/**
+	 * Remaining rows insert statement
+	 */
+	private BatchStatement remainingStatement;
+
+	/**
+	 * Rows per remaining rows insert statement
+	 */
+	private int remainingRows = 0;
+
+	/**
+	 * Constructor
+	 *
+	 * @param db
+	 *            connection
+	 * @param tableName
+	 *            feature table name
+	 * @param chunkLimit
+	 *            buffered row limit before flushing, matching the indexing
+	 *            chunk size so each full chunk is written within its
+	 *            transaction
+	 */
+	public GeometryIndexBatch(GeoPackageCoreConnection db, String tableName,
+			int chunkLimit) {
+		this.db = db;
+		this.tableName = tableName;
+		chunkLimit = Math.max(chunkLimit, 1);
+		int statements = (chunkLimit + MAX_STATEMENT_ROWS - 1)
+				/ MAX_STATEMENT_ROWS;
+		statementRows = (chunkLimit + statements - 1) / statements;
+		geomIds = new long[chunkLimit];
+		envelopes = new double[chunkLimit * ENVELOPE_VALUES];
+	}
+
+	/**
+	 * Get the feature table name
+	 *
+	 * @return table name
+	 */
+	public String getTableName() {
+		return tableName;
+	}
+
+	/**
+	 * Get the buffered row count
+	 *
+	 * @return buffered rows
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Get the total written row count
+	 *
+	 * @return written rows
+	 */
+	public int getWritten() {
+		return written;
+	}
+
+	/**
+	 * Add the geometry envelope, flushing when the buffer is full
+	 *
+	 * @param geomId
+	 *            geometry id
+	 * @param envelope
+	 *            geometry envelope
+	 */
+	public void add(long geomId, GeometryEnvelope envelope) {
+		double minZ = Double.NaN;
+		double maxZ = Double.NaN;
+		if (envelope.hasZ()) {
+			minZ = envelope.getMinZ();
+			maxZ = envelope.getMaxZ();
+		}
+		double minM = Double.NaN;
+		double maxM = Double.NaN;
+		if (envelope.hasM()) {
+			minM = envelope.getMinM();
+			maxM = envelope.getMaxM();
+		}
+		add(geomId, envelope.getMinX(), envelope.getMaxX(),
+				envelope.getMinY(), envelope.getMaxY(), minZ, maxZ, minM,
+				maxM);
+	}
+
+	/**
+	 * Add the geometry envelope values, flushing when the buffer is full
+	 *
+	 * @param geomId
+	 *            geometry id
+	 * @param minX
+	 *            min x
+	 * @param maxX
+	 *            max x
+	 * @param minY
+	 *            min y
+	 * @param maxY
+	 *            max y
+	 * @param minZ
+	 *            min z or NaN
+	 * @param maxZ
+	 *            max z or NaN
+	 * @param minM
+	 *            min m or NaN
+	 * @param maxM
+	 *            max m or NaN
+	 */
+	public void add(long geomId, double minX, double maxX, double minY,
+			double maxY, double minZ, double maxZ, double minM, double maxM) {
+		geomIds[size] = geomId;
+		int index = size * ENVELOPE_VALUES;
+		envelopes[index] = minX;
+		envelopes[index + 1] = maxX;
+		envelopes[index + 2] = minY;
+		envelopes[index + 3] = maxY;
+		envelopes[index + 4] = minZ;
+		envelopes[index + 5] = maxZ;
+		envelopes[index + 6] = minM;
+		envelopes[index + 7] = maxM;
+		size++;
+		if (size == geomIds.length) {
+			flush();
+		}
+	}
+
+	/**
+	 * Write the buffered rows
+	 *
+	 * @return written row count
+	 */
+	public int flush() {
+
+		int count = 0;
+
+		if (size >= statementRows) {
+			if (statement == null) {
+				statement = createStatement(statementRows);
+			}
+			while (size - count >= statementRows) {
+				bind(statement, count, statementRows);
+				statement.execute();
+				count += statementRows;
+			}
+		}
+
+		int remaining = size - count;
+		if (remaining > 0) {
+			if (remainingStatement == null || remainingRows != remaining) {
+				if (remainingStatement != null) {
+					remainingStatement.close();
+				}
+				remainingStatement = createStatement(remaining);
+				remainingRows = remaining;
+			}
+			bind(remainingStatement, count, remaining);
+			remainingStatement.execute();
+			count += remaining;
+		}
+
+		size = 0;
+		written += count;
+
+		return count;
+	}
+
+	/**
+	 * Clear the buffered rows without writing
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Close the statements without writing buffered rows
+	 */
+	@Override
+	public void close() {
+		if (statement != null) {
+			statement.close();
+			statement = null;
+		}
+		if (remainingStatement != null) {
+			remainingStatement.close();
+			remainingStatement = null;
+			remainingRows = 0;
+		}
+	}
+
+	/**
+	 * Create a multiple row insert statement
+	 *
+	 * @param rows
+	 *            row count
+	 * @return batch statement
+	 */
+	private BatchStatement createStatement(int rows) {
+		StringBuilder sql = new StringBuilder("INSERT OR REPLACE INTO ");
+		sql.append(CoreSQLUtils.quoteWrap(GeometryIndex.TABLE_NAME));
+		sql.append(" (");
+		sql.append(String.join(", ", CoreSQLUtils.quoteWrap(COLUMNS)));
+		sql.append(") VALUES ");
+		for (int i = 0; i < rows; i++) {
+			if (i > 0) {
+				sql.append(", ");
+			}
+			sql.append("(?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+		}
+		return new BatchStatement(db, GeometryIndex.TABLE_NAME,
+				sql.toString());
+	}
+
+	/**
+	 * Bind the buffered rows to the statement
+	 *
+	 * @param statement
+	 *            batch statement
+	 * @param start
+	 *            starting buffered row
+	 * @param rows
+	 *            row count
+	 */
+	private void bind(BatchStatement statement, int start, int rows) {
+		int argument = 0;
+		for (int row = start; row < start + rows; row++) {
+			statement.setValue(argument++, tableName);
+			statement.setLong(argument++, geomIds[row]);
+			int index = row * ENVELOPE_VALUES;
+			for (int i = 0; i < ENVELOPE_VALUES; i++) {
+				double value = envelopes[index + i];
+				if (Double.isNaN(value)) {
+					statement.setValue(argument++, null);
+				} else {
+					statement.setDouble(argument++, value);
+				}
+			}
+		}
+	}
+
+}
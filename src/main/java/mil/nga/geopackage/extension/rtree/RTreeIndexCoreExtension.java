@@ -11,6 +11,8 @@ import java.util.logging.Logger;
 import mil.nga.geopackage.GeoPackageConstants;
 import mil.nga.geopackage.GeoPackageCore;
 import mil.nga.geopackage.GeoPackageException;
+import mil.nga.geopackage.db.BatchStatement;
+import mil.nga.geopackage.db.CoreSQLUtils;
 import mil.nga.geopackage.db.GeoPackageCoreConnection;
 import mil.nga.geopackage.db.GeoPackageDataType;
 import mil.nga.geopackage.db.GeoPackageTableCreator;
@@ -19,9 +21,11 @@ import mil.nga.geopackage.extension.ExtensionScopeType;
 import mil.nga.geopackage.extension.Extensions;
 import mil.nga.geopackage.features.user.FeatureTable;
 import mil.nga.geopackage.geom.GeoPackageGeometryData;
+import mil.nga.geopackage.geom.GeometryHeaderReader;
+import mil.nga.geopackage.io.GeoPackageProgress;
 import mil.nga.geopackage.property.GeoPackageProperties;
 import mil.nga.geopackage.property.PropertyConstants;
-import mil.nga.geopackage.srs.SpatialReferenceSystem;
+import mil.nga.geopackage.srs.SpatialReferenceSystemDao;
 import mil.nga.geopackage.user.custom.UserCustomColumn;
 import mil.nga.geopackage.user.custom.UserCustomTable;
 import mil.nga.proj.Projection;
@@ -260,6 +264,19 @@ public abstract class RTreeIndexCoreExtension extends BaseExtension {
 	public static final String TRIGGER_SUBSTITUTE = GeoPackageProperties
 			.getProperty(SUBSTITUTE_PROPERTY, "trigger");
 
+	/**
+	 * Bulk load RTree node entry capacity used to Sort-Tile-Recursive pack
+	 * entries, matching a SQLite 2D RTree node on a 4096 byte page
+	 * 
+	 * @since 6.6.8
+	 */
+	public static final int BULK_LOAD_NODE_CAPACITY = 167;
+
+	/**
+	 * Bulk load rows inserted per multiple row insert statement
+	 */
+	private static final int BULK_LOAD_INSERT_ROWS = 100;
+
 	/**
 	 * Connection
 	 */
@@ -276,9 +293,33 @@ public abstract class RTreeIndexCoreExtension extends BaseExtension {
 	 * Mapping between srs ids and projections
 	 * 
 	 * @since 6.6.7
+	 * @deprecated no longer used or populated, projections are cached by the
+	 *             {@link SpatialReferenceSystemDao}
 	 */
+	@Deprecated
 	protected Map<Integer, Projection> projections = new HashMap<>();
 
+	/**
+	 * Bulk load the RTree Index from sorted geometry envelopes when creating
+	 * 
+	 * @since 6.6.8
+	 */
+	protected boolean bulkLoad = false;
+
+	/**
+	 * Bulk load query single chunk limit
+	 * 
+	 * @since 6.6.8
+	 */
+	protected int chunkLimit = 1000;
+
+	/**
+	 * Bulk load progress
+	 * 
+	 * @since 6.6.8
+	 */
+	protected GeoPackageProgress progress;
+
 	/**
 	 * Constructor
 	 * 
@@ -328,6 +369,70 @@ public abstract class RTreeIndexCoreExtension extends BaseExtension {
 		this.geodesic = geodesic;
 	}
 
+	/**
+	 * Is bulk loading enabled when creating RTree Indices
+	 * 
+	 * @return true if bulk loading
+	 * @since 6.6.8
+	 */
+	public boolean isBulkLoad() {
+		return bulkLoad;
+	}
+
+	/**
+	 * Set the bulk load flag, true to load created RTree Indices using
+	 * {@link #bulkLoadRTreeIndex(String, String, String)}
+	 * 
+	 * @param bulkLoad
+	 *            bulk load flag
+	 * @since 6.6.8
+	 */
+	public void setBulkLoad(boolean bulkLoad) {
+		this.bulkLoad = bulkLoad;
+	}
+
+	/**
+	 * Get the bulk load query single chunk limit
+	 * 
+	 * @return chunk limit
+	 * @since 6.6.8
+	 */
+	public int getChunkLimit() {
+		return chunkLimit;
+	}
+
+	/**
+	 * Set the bulk load query single chunk limit
+	 * 
+	 * @param chunkLimit
+	 *            chunk limit
+	 * @since 6.6.8
+	 */
+	public void setChunkLimit(int chunkLimit) {
+		this.chunkLimit = chunkLimit;
+	}
+
+	/**
+	 * Get the bulk load progress
+	 * 
+	 * @return progress
+	 * @since 6.6.8
+	 */
+	public GeoPackageProgress getProgress() {
+		return progress;
+	}
+
+	/**
+	 * Set the bulk load progress
+	 * 
+	 * @param progress
+	 *            progress
+	 * @since 6.6.8
+	 */
+	public void setProgress(GeoPackageProgress progress) {
+		this.progress = progress;
+	}
+
 	/**
 	 * Expand the vertical bounds of a geometry envelope by geodesic bounds
 	 * 
@@ -360,22 +465,15 @@ public abstract class RTreeIndexCoreExtension extends BaseExtension {
 	 * @since 6.6.7
 	 */
 	protected Projection getProjection(int srsId) {
-		Projection projection = projections.get(srsId);
-		if (projection == null) {
-			try {
-				SpatialReferenceSystem srs = geoPackage
-						.getSpatialReferenceSystemDao()
-						.queryForId((long) srsId);
-				if (srs != null) {
-					projection = srs.getProjection();
-					projections.put(srsId, projection);
-				}
-			} catch (SQLException e) {
-				log.log(Level.WARNING,
-						"Failed to retrieve projection through querying srs id: "
-								+ srsId,
-						e);
-			}
+		Projection projection = null;
+		try {
+			projection = geoPackage.getSpatialReferenceSystemDao()
+					.getProjection(srsId);
+		} catch (SQLException e) {
+			log.log(Level.WARNING,
+					"Failed to retrieve projection through querying srs id: "
+							+ srsId,
+					e);
 		}
 		return projection;
 	}
@@ -534,7 +632,11 @@ public abstract class RTreeIndexCoreExtension extends BaseExtension {
 
 		createAllFunctions();
 		createRTreeIndex(tableName, geometryColumnName);
-		loadRTreeIndex(tableName, geometryColumnName, idColumnName);
+		if (bulkLoad) {
+			bulkLoadRTreeIndex(tableName, geometryColumnName, idColumnName);
+		} else {
+			loadRTreeIndex(tableName, geometryColumnName, idColumnName);
+		}
 		createAllTriggers(tableName, geometryColumnName, idColumnName);
 
 		return extension;
@@ -633,6 +735,293 @@ public abstract class RTreeIndexCoreExtension extends BaseExtension {
 		executeSQL(sqlName, tableName, geometryColumnName, idColumnName);
 	}
 
+	/**
+	 * Bulk load the RTree Spatial Index Values. Reads each geometry envelope
+	 * once from the geometry header (building it only when absent), orders the
+	 * entries using Sort-Tile-Recursive packing, and inserts them into the
+	 * RTree in multiple row batches within a single transaction. Intended for
+	 * newly created RTree Indices before the triggers are created. Progress
+	 * and cancellation are reported through {@link #getProgress()}.
+	 * 
+	 * @param featureTable
+	 *            feature table
+	 * @return loaded count
+	 * @since 6.6.8
+	 */
+	public int bulkLoadRTreeIndex(FeatureTable featureTable) {
+		return bulkLoadRTreeIndex(featureTable.getTableName(),
+				featureTable.getGeometryColumnName(),
+				featureTable.getPkColumnName());
+	}
+
+	/**
+	 * Bulk load the RTree Spatial Index Values. Reads each geometry envelope
+	 * once from the geometry header (building it only when absent), orders the
+	 * entries using Sort-Tile-Recursive packing, and inserts them into the
+	 * RTree in multiple row batches within a single transaction. Intended for
+	 * newly created RTree Indices before the triggers are created. Progress
+	 * and cancellation are reported through {@link #getProgress()}.
+	 * 
+	 * @param tableName
+	 *            table name
+	 * @param geometryColumnName
+	 *            geometry column name
+	 * @param idColumnName
+	 *            id column name
+	 * @return loaded count
+	 * @since 6.6.8
+	 */
+	public int bulkLoadRTreeIndex(String tableName, String geometryColumnName,
+			String idColumnName) {
+
+		String geometryColumn = CoreSQLUtils.quoteWrap(geometryColumnName);
+		String idColumn = CoreSQLUtils.quoteWrap(idColumnName);
+
+		int count = connection.count(tableName,
+				geometryColumn + " IS NOT NULL", null);
+		if (progress != null) {
+			progress.setMax((int) Math.min(2L * count, Integer.MAX_VALUE));
+		}
+
+		RTreeIndexEntries entries = readRTreeIndexEntries(tableName,
+				geometryColumn, idColumn, count);
+
+		int loaded = 0;
+		if (entries.size() > 0 && isActive()) {
+			String rTreeTableName = getRTreeTableName(tableName,
+					geometryColumnName);
+			loaded = insertRTreeIndexEntries(rTreeTableName, entries);
+		}
+
+		return loaded;
+	}
+
+	/**
+	 * Read the RTree Index entries of non empty geometries
+	 * 
+	 * @param tableName
+	 *            table name
+	 * @param geometryColumn
+	 *            quoted geometry column name
+	 * @param idColumn
+	 *            quoted id column name
+	 * @param count
+	 *            non null geometry count
+	 * @return entries
+	 */
+	private RTreeIndexEntries readRTreeIndexEntries(String tableName,
+			String geometryColumn, String idColumn, int count) {
+
+		RTreeIndexEntries entries = new RTreeIndexEntries(count);
+
+		String sql = "SELECT " + idColumn + ", " + geometryColumn + " FROM "
+				+ CoreSQLUtils.quoteWrap(tableName) + " WHERE "
+				+ geometryColumn + " IS NOT NULL AND " + idColumn
+				+ " >= ? ORDER BY " + idColumn + " LIMIT " + chunkLimit;
+		GeoPackageDataType[] dataTypes = new GeoPackageDataType[] {
+				GeoPackageDataType.INTEGER, GeoPackageDataType.BLOB };
+		double[] envelope = new double[GeometryHeaderReader.ENVELOPE_LENGTH];
+
+		long nextId = Long.MIN_VALUE;
+		boolean more = true;
+		while (more && isActive()) {
+
+			List<List<Object>> results = connection.queryResults(sql,
+					new String[] { String.valueOf(nextId) }, dataTypes, null);
+
+			long id = nextId;
+			for (List<Object> row : results) {
+				id = ((Number) row.get(0)).longValue();
+				byte[] bytes = (byte[]) row.get(1);
+				if (readEnvelope(bytes, envelope)) {
+					entries.add(id, envelope[GeometryHeaderReader.MIN_X],
+							envelope[GeometryHeaderReader.MAX_X],
+							envelope[GeometryHeaderReader.MIN_Y],
+							envelope[GeometryHeaderReader.MAX_Y]);
+				}
+			}
+
+			if (progress != null) {
+				progress.addProgress(results.size());
+			}
+
+			more = results.size() == chunkLimit && id < Long.MAX_VALUE;
+			nextId = id + 1;
+		}
+
+		return entries;
+	}
+
+	/**
+	 * Read the geometry envelope from GeoPackage geometry bytes, building it
+	 * when not included in the header
+	 * 
+	 * @param bytes
+	 *            GeoPackage geometry bytes
+	 * @param envelope
+	 *            envelope values
+	 * @return true if a non empty geometry envelope was read
+	 */
+	private boolean readEnvelope(byte[] bytes, double[] envelope) {
+
+		int flags = GeometryHeaderReader.readFlags(bytes, 0);
+		if (GeometryHeaderReader.isEmpty(flags)) {
+			return false;
+		}
+
+		GeometryEnvelope geometryEnvelope = null;
+		if (GeometryHeaderReader.readEnvelope(bytes, 0, envelope) == 0) {
+			geometryEnvelope = getEnvelope(
+					GeoPackageGeometryData.create(bytes));
+			if (geometryEnvelope == null) {
+				return false;
+			}
+		}
+
+		if (geodesic) {
+			if (geometryEnvelope == null) {
+				geometryEnvelope = new GeometryEnvelope(
+						envelope[GeometryHeaderReader.MIN_X],
+						envelope[GeometryHeaderReader.MIN_Y],
+						envelope[GeometryHeaderReader.MAX_X],
+						envelope[GeometryHeaderReader.MAX_Y]);
+			}
+			geometryEnvelope = geodesicEnvelope(geometryEnvelope,
+					GeometryHeaderReader.readSrsId(bytes, 0));
+		}
+
+		if (geometryEnvelope != null) {
+			envelope[GeometryHeaderReader.MIN_X] = geometryEnvelope.getMinX();
+			envelope[GeometryHeaderReader.MAX_X] = geometryEnvelope.getMaxX();
+			envelope[GeometryHeaderReader.MIN_Y] = geometryEnvelope.getMinY();
+			envelope[GeometryHeaderReader.MAX_Y] = geometryEnvelope.getMaxY();
+		}
+
+		return true;
+	}
+
+	/**
+	 * Insert the RTree Index entries in Sort-Tile-Recursive order, in multiple
+	 * row batches within a single transaction
+	 * 
+	 * @param rTreeTableName
+	 *            RTree table name
+	 * @param entries
+	 *            entries
+	 * @return inserted count
+	 */
+	private int insertRTreeIndexEntries(String rTreeTableName,
+			RTreeIndexEntries entries) {
+
+		int[] order = entries.sortTileRecursive(BULK_LOAD_NODE_CAPACITY);
+
+		int inserted = 0;
+		boolean successful = true;
+		connection.beginTransaction();
+		try {
+
+			int batchRows = Math.min(BULK_LOAD_INSERT_ROWS, order.length);
+			try (BatchStatement statement = new BatchStatement(connection,
+					rTreeTableName, buildInsertSQL(rTreeTableName, batchRows))) {
+				while (order.length - inserted >= batchRows && isActive()) {
+					bindEntries(statement, entries, order, inserted,
+							batchRows);
+					statement.execute();
+					inserted += batchRows;
+					if (progress != null) {
+						progress.addProgress(batchRows);
+					}
+				}
+			}
+
+			int remaining = order.length - inserted;
+			if (remaining > 0 && isActive()) {
+				try (BatchStatement statement = new BatchStatement(connection,
+						rTreeTableName,
+						buildInsertSQL(rTreeTableName, remaining))) {
+					bindEntries(statement, entries, order, inserted,
+							remaining);
+					statement.execute();
+					inserted += remaining;
+					if (progress != null) {
+						progress.addProgress(remaining);
+					}
+				}
+			}
+
+			if (!isActive() && progress.cleanupOnCancel()) {
+				successful = false;
+				inserted = 0;
+			}
+
+		} catch (Throwable e) {
+			successful = false;
+			throw e;
+		} finally {
+			connection.endTransaction(successful);
+		}
+
+		return inserted;
+	}
+
+	/**
+	 * Build a multiple row RTree insert statement
+	 * 
+	 * @param rTreeTableName
+	 *            RTree table name
+	 * @param rows
+	 *            row count
+	 * @return insert SQL
+	 */
+	private static String buildInsertSQL(String rTreeTableName, int rows) {
+		StringBuilder sql = new StringBuilder("INSERT OR REPLACE INTO ");
+		sql.append(CoreSQLUtils.quoteWrap(rTreeTableName));
+		sql.append(" VALUES ");
+		for (int i = 0; i < rows; i++) {
+			if (i > 0) {
+				sql.append(", ");
+			}
+			sql.append("(?, ?, ?, ?, ?)");
+		}
+		return sql.toString();
+	}
+
+	/**
+	 * Bind the ordered entries to the multiple row insert statement
+	 * 
+	 * @param statement
+	 *            batch statement
+	 * @param entries
+	 *            entries
+	 * @param order
+	 *            entry order
+	 * @param start
+	 *            starting order index
+	 * @param rows
+	 *            row count
+	 */
+	private static void bindEntries(BatchStatement statement,
+			RTreeIndexEntries entries, int[] order, int start, int rows) {
+		int argument = 0;
+		for (int i = start; i < start + rows; i++) {
+			int entry = order[i];
+			statement.setLong(argument++, entries.getId(entry));
+			statement.setDouble(argument++, entries.getMinX(entry));
+			statement.setDouble(argument++, entries.getMaxX(entry));
+			statement.setDouble(argument++, entries.getMinY(entry));
+			statement.setDouble(argument++, entries.getMaxY(entry));
+		}
+	}
+
+	/**
+	 * Check if the bulk load progress is still active
+	 * 
+	 * @return true if active
+	 */
+	private boolean isActive() {
+		return progress == null || progress.isActive();
+	}
+
 	/**
 	 * Create Triggers to Maintain Spatial Index Values
 	 * 
@@ -0,0 +1,225 @@
+package mil.nga.geopackage.extension.rtree;
+
+import java.util.Arrays;
+
+/**
+ * RTree Index entries of ids and bounding envelopes held in primitive arrays,
+ * used to bulk load an RTree Index in a spatially sorted order
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class RTreeIndexEntries {
+
+	/**
+	 * Default initial capacity
+	 */
+	private static final int DEFAULT_CAPACITY = 1024;
+
+	/**
+	 * Ids
+	 */
+	private long[] ids;
+
+	/**
+	 * Envelope values, four per entry: min x, max x, min y, max y
+	 */
+	private double[] envelopes;
+
+	/**
+	 * Entry count
+	 */
+	private int size = 0;
+
+	/**
+	 * Constructor
+	 */
+	public RTreeIndexEntries() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param capacity
+	 *            initial capacity
+	 */
+	public RTreeIndexEntries(int capacity) {
+		capacity = Math.max(capacity, 1);
+		ids = new long[capacity];
+		envelopes = new double[capacity * 4];
+	}
+
+	/**
+	 * Add an entry
+	 *
+	 * @param id
+	 *            id
+	 * @param minX
+	 *            min x
+	 * @param maxX
+	 *            max x
+	 * @param minY
+	 *            min y
+	 * @param maxY
+	 *            max y
+	 */
+	public void add(long id, double minX, double maxX, double minY,
+			double maxY) {
+		if (size == ids.length) {
+			int capacity = ids.length * 2;
+			ids = Arrays.copyOf(ids, capacity);
+			envelopes = Arrays.copyOf(envelopes, capacity * 4);
+		}
+		ids[size] = id;
+		int index = size * 4;
+		envelopes[index] = minX;
+		envelopes[index + 1] = maxX;
+		envelopes[index + 2] = minY;
+		envelopes[index + 3] = maxY;
+		size++;
+	}
+
+	/**
+	 * Get the entry count
+	 *
+	 * @return entry count
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Get the id
+	 *
+	 * @param index
+	 *            entry index
+	 * @return id
+	 */
+	public long getId(int index) {
+		return ids[index];
+	}
+
+	/**
+	 * Get the min x
+	 *
+	 * @param index
+	 *            entry index
+	 * @return min x
+	 */
+	public double getMinX(int index) {
+		return envelopes[index * 4];
+	}
+
+	/**
+	 * Get the max x
+	 *
+	 * @param index
+	 *            entry index
+	 * @return max x
+	 */
+	public double getMaxX(int index) {
+		return envelopes[index * 4 + 1];
+	}
+
+	/**
+	 * Get the min y
+	 *
+	 * @param index
+	 *            entry index
+	 * @return min y
+	 */
+	public double getMinY(int index) {
+		return envelopes[index * 4 + 2];
+	}
+
+	/**
+	 * Get the max y
+	 *
+	 * @param index
+	 *            entry index
+	 * @return max y
+	 */
+	public double getMaxY(int index) {
+		return envelopes[index * 4 + 3];
+	}
+
+	/**
+	 * Get the Sort-Tile-Recursive (STR) order of the entries. Entries are
+	 * sorted by envelope center x, split into vertical slices of node
+	 * capacity sized tiles, and each slice is sorted by envelope center y.
+	 * Consecutive runs of node capacity entries in the returned order form
+	 * spatially compact RTree leaves.
+	 *
+	 * @param nodeCapacity
+	 *            RTree node entry capacity
+	 * @return entry indices in STR order
+	 */
+	public int[] sortTileRecursive(int nodeCapacity) {
+
+		nodeCapacity = Math.max(nodeCapacity, 1);
+
+		// Sort all entries by center x
+		long[] keys = new long[size];
+		for (int i = 0; i < size; i++) {
+			int index = i * 4;
+			keys[i] = sortKey(envelopes[index] + envelopes[index + 1], i);
+		}
+		Arrays.sort(keys);
+
+		// Determine the vertical slice size
+		long leaves = ((long) size + nodeCapacity - 1) / nodeCapacity;
+		long slices = (long) Math.ceil(Math.sqrt(leaves));
+		long sliceSize = Math.max(slices * nodeCapacity, 1);
+
+		// Sort each slice by center y
+		for (long start = 0; start < size; start += sliceSize) {
+			int from = (int) start;
+			int to = (int) Math.min(start + sliceSize, size);
+			for (int i = from; i < to; i++) {
+				int entry = entryIndex(keys[i]);
+				int index = entry * 4 + 2;
+				keys[i] = sortKey(envelopes[index] + envelopes[index + 1],
+						entry);
+			}
+			Arrays.sort(keys, from, to);
+		}
+
+		int[] order = new int[size];
+		for (int i = 0; i < size; i++) {
+			order[i] = entryIndex(keys[i]);
+		}
+
+		return order;
+	}
+
+	/**
+	 * Build a sort key with the sortable value in the high bits and the entry
+	 * index in the low bits
+	 *
+	 * @param value
+	 *            sortable value
+	 * @param index
+	 *            entry index
+	 * @return sort key
+	 */
+	private static long sortKey(double value, int index) {
+		int bits = Float.floatToIntBits((float) value);
+		// Flip negative values so signed integer ordering matches float
+		// ordering
+		bits ^= (bits >> 31) & 0x7FFFFFFF;
+		return ((long) bits << 32) | (index & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Get the entry index from a sort key
+	 *
+	 * @param key
+	 *            sort key
+	 * @return entry index
+	 */
+	private static int entryIndex(long key) {
+		return (int) key;
+	}
+
+}
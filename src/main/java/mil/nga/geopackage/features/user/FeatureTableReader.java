@@ -77,4 +77,12 @@ public class FeatureTableReader
 		return FeatureColumn.createColumn(tableColumn);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected String getCacheKey() {
+		return getClass().getName() + ":" + columnName;
+	}
+
 }
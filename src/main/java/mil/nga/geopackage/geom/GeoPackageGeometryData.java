@@ -1,5 +1,6 @@
 package mil.nga.geopackage.geom;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
@@ -34,6 +35,12 @@ public class GeoPackageGeometryData {
 	 */
 	private static GeometryFilter geometryFilter = new PointFiniteFilter();
 
+	/**
+	 * Lazy geometry read, when true the Well-Known Binary geometry is not read
+	 * from GeoPackage geometry bytes until requested
+	 */
+	private static boolean lazyGeometryRead = false;
+
 	/**
 	 * Default SRS Id, Undefined Cartesian (-1)
 	 */
@@ -95,6 +102,12 @@ public class GeoPackageGeometryData {
 	 */
 	private Geometry geometry;
 
+	/**
+	 * True when the geometry has not yet been read from the Well-Known Binary
+	 * bytes of the lazily read GeoPackage geometry bytes
+	 */
+	private boolean geometryUnread = false;
+
 	/**
 	 * Get geometry filter
 	 * 
@@ -116,6 +129,33 @@ public class GeoPackageGeometryData {
 		GeoPackageGeometryData.geometryFilter = geometryFilter;
 	}
 
+	/**
+	 * Is lazy geometry reading enabled. When enabled, populating from
+	 * GeoPackage geometry bytes reads only the header (flags, SRS id, and
+	 * envelope) and defers reading the Well-Known Binary geometry until
+	 * {@link #getGeometry()} or {@link #getOrReadGeometry()} is called.
+	 * 
+	 * @return true if lazy geometry reading
+	 * @since 6.6.8
+	 */
+	public static boolean isLazyGeometryRead() {
+		return lazyGeometryRead;
+	}
+
+	/**
+	 * Set the lazy geometry reading option. When enabled, populating from
+	 * GeoPackage geometry bytes reads only the header (flags, SRS id, and
+	 * envelope) and defers reading the Well-Known Binary geometry until
+	 * {@link #getGeometry()} or {@link #getOrReadGeometry()} is called.
+	 * 
+	 * @param lazyGeometryRead
+	 *            true to lazily read geometries
+	 * @since 6.6.8
+	 */
+	public static void setLazyGeometryRead(boolean lazyGeometryRead) {
+		GeoPackageGeometryData.lazyGeometryRead = lazyGeometryRead;
+	}
+
 	/**
 	 * Get the default SRS id
 	 * 
@@ -314,6 +354,21 @@ public class GeoPackageGeometryData {
 		return new GeoPackageGeometryData(bytes);
 	}
 
+	/**
+	 * Create the geometry data from GeoPackage geometry bytes, reading only the
+	 * header (flags, SRS id, and envelope). The Well-Known Binary geometry is
+	 * read when first requested by {@link #getGeometry()} or
+	 * {@link #getOrReadGeometry()}.
+	 * 
+	 * @param bytes
+	 *            GeoPackage geometry bytes
+	 * @return geometry data
+	 * @since 6.6.8
+	 */
+	public static GeoPackageGeometryData createLazy(byte[] bytes) {
+		return new GeoPackageGeometryData(bytes, true);
+	}
+
 	/**
 	 * Create the geometry data, default SRS Id of {@link #getDefaultSrsId()}
 	 * 
@@ -1110,6 +1165,11 @@ public class GeoPackageGeometryData {
 		this.bytes = bytes;
 		this.wkbGeometryIndex = geometryData.wkbGeometryIndex;
 		this.byteOrder = geometryData.byteOrder;
+		if (geometryData.geometryUnread) {
+			this.geometryUnread = true;
+			this.empty = geometryData.empty;
+			this.extended = geometryData.extended;
+		}
 	}
 
 	/**
@@ -1123,12 +1183,44 @@ public class GeoPackageGeometryData {
 	}
 
 	/**
-	 * Populate the geometry data from the bytes
+	 * Constructor
+	 * 
+	 * @param bytes
+	 *            geometry bytes
+	 * @param lazy
+	 *            true to defer reading the Well-Known Binary geometry until
+	 *            requested
+	 * @since 6.6.8
+	 */
+	public GeoPackageGeometryData(byte[] bytes, boolean lazy) {
+		fromBytes(bytes, lazy);
+	}
+
+	/**
+	 * Populate the geometry data from the bytes. The Well-Known Binary
+	 * geometry is lazily read when {@link #isLazyGeometryRead()} is enabled.
 	 * 
 	 * @param bytes
 	 *            geometry bytes
 	 */
 	public void fromBytes(byte[] bytes) {
+		fromBytes(bytes, lazyGeometryRead);
+	}
+
+	/**
+	 * Populate the geometry data from the bytes
+	 * 
+	 * @param bytes
+	 *            geometry bytes
+	 * @param lazy
+	 *            true to read only the header and defer reading the
+	 *            Well-Known Binary geometry until requested
+	 * @since 6.6.8
+	 */
+	public void fromBytes(byte[] bytes, boolean lazy) {
+
+		geometry = null;
+		geometryUnread = false;
 
 		ByteReader reader = new ByteReader(bytes);
 
@@ -1179,8 +1271,15 @@ public class GeoPackageGeometryData {
 		// Save off where the WKB bytes start
 		wkbGeometryIndex = reader.getNextByte();
 
-		// Read the Well-Known Binary Geometry if not marked as empty
-		if (!empty) {
+		if (lazy) {
+
+			// Retain the bytes and defer reading the Well-Known Binary Geometry
+			this.bytes = bytes;
+			geometryUnread = !empty;
+
+		} else if (!empty) {
+
+			// Read the Well-Known Binary Geometry if not marked as empty
 			try {
 				geometry = GeometryReader.readGeometry(reader, geometryFilter);
 			} catch (IOException e) {
@@ -1493,6 +1592,9 @@ public class GeoPackageGeometryData {
 	 * @return geometry
 	 */
 	public Geometry getGeometry() {
+		if (geometryUnread) {
+			readUnreadGeometry();
+		}
 		return geometry;
 	}
 
@@ -1505,13 +1607,43 @@ public class GeoPackageGeometryData {
 	 * @since 6.3.0
 	 */
 	public Geometry getOrReadGeometry() throws IOException {
-		if (geometry == null && geometryBytes != null) {
+		if (geometryUnread) {
+			readUnreadGeometry();
+		} else if (geometry == null && geometryBytes != null) {
 			geometry = GeometryReader.readGeometry(geometryBytes,
 					geometryFilter);
 		}
 		return geometry;
 	}
 
+	/**
+	 * Is the Well-Known Binary geometry pending a lazy read
+	 * 
+	 * @return true if the geometry has not yet been read
+	 * @since 6.6.8
+	 */
+	public boolean isGeometryUnread() {
+		return geometryUnread;
+	}
+
+	/**
+	 * Read the lazily deferred Well-Known Binary geometry from the bytes
+	 */
+	private void readUnreadGeometry() {
+		ByteReader reader = new ByteReader(
+				new ByteArrayInputStream(bytes, wkbGeometryIndex,
+						bytes.length - wkbGeometryIndex));
+		try {
+			geometry = GeometryReader.readGeometry(reader, geometryFilter);
+		} catch (IOException e) {
+			throw new GeoPackageException("Failed to read the WKB geometry",
+					e);
+		} finally {
+			reader.close();
+		}
+		geometryUnread = false;
+	}
+
 	/**
 	 * Set the extended flag
 	 * 
@@ -1738,6 +1870,12 @@ public class GeoPackageGeometryData {
 	 * @since 6.3.0
 	 */
 	public void clearBytes() {
+		if (geometryUnread) {
+			// Retain the unread Well-Known Binary geometry bytes
+			geometryBytes = Arrays.copyOfRange(bytes, wkbGeometryIndex,
+					bytes.length);
+			geometryUnread = false;
+		}
 		bytes = null;
 		wkbGeometryIndex = -1;
 	}
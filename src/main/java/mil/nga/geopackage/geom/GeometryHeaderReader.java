@@ -0,0 +1,513 @@
+package mil.nga.geopackage.geom;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import mil.nga.geopackage.GeoPackageConstants;
+import mil.nga.geopackage.GeoPackageException;
+
+/**
+ * Allocation free GeoPackage geometry header reader. Reads the magic number,
+ * version, flags, SRS id, and envelope directly from GeoPackage geometry
+ * bytes at an offset or from a Byte Buffer at its position, without creating
+ * a {@link GeoPackageGeometryData}, envelope, or boxed values. Envelope values
+ * are read into a caller provided array of at least {@link #ENVELOPE_LENGTH}
+ * values, ordered as {@link #MIN_X}, {@link #MAX_X}, {@link #MIN_Y},
+ * {@link #MAX_Y}, {@link #MIN_Z}, {@link #MAX_Z}, {@link #MIN_M},
+ * {@link #MAX_M}. Missing z and m values are set to {@link Double#NaN}.
+ *
+ * Byte Buffer reads use absolute indices and do not modify the buffer
+ * position or byte order.
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class GeometryHeaderReader {
+
+	/**
+	 * Envelope array length
+	 */
+	public static final int ENVELOPE_LENGTH = 8;
+
+	/**
+	 * Envelope array min x index
+	 */
+	public static final int MIN_X = 0;
+
+	/**
+	 * Envelope array max x index
+	 */
+	public static final int MAX_X = 1;
+
+	/**
+	 * Envelope array min y index
+	 */
+	public static final int MIN_Y = 2;
+
+	/**
+	 * Envelope array max y index
+	 */
+	public static final int MAX_Y = 3;
+
+	/**
+	 * Envelope array min z index
+	 */
+	public static final int MIN_Z = 4;
+
+	/**
+	 * Envelope array max z index
+	 */
+	public static final int MAX_Z = 5;
+
+	/**
+	 * Envelope array min m index
+	 */
+	public static final int MIN_M = 6;
+
+	/**
+	 * Envelope array max m index
+	 */
+	public static final int MAX_M = 7;
+
+	/**
+	 * Header byte length before the envelope (magic number, version, flags,
+	 * and SRS id)
+	 */
+	public static final int HEADER_LENGTH = 8;
+
+	/**
+	 * Flags byte offset
+	 */
+	private static final int FLAGS_OFFSET = 3;
+
+	/**
+	 * SRS id offset
+	 */
+	private static final int SRS_ID_OFFSET = 4;
+
+	/**
+	 * First magic number byte
+	 */
+	private static final byte MAGIC_1 = (byte) GeoPackageConstants.GEOMETRY_MAGIC_NUMBER
+			.charAt(0);
+
+	/**
+	 * Second magic number byte
+	 */
+	private static final byte MAGIC_2 = (byte) GeoPackageConstants.GEOMETRY_MAGIC_NUMBER
+			.charAt(1);
+
+	/**
+	 * Check if the bytes at the offset start with a GeoPackage geometry magic
+	 * number and version 1
+	 *
+	 * @param bytes
+	 *            bytes
+	 * @param offset
+	 *            geometry offset
+	 * @return true if a GeoPackage geometry
+	 */
+	public static boolean isGeometry(byte[] bytes, int offset) {
+		return bytes != null && bytes.length >= offset + HEADER_LENGTH
+				&& bytes[offset] == MAGIC_1 && bytes[offset + 1] == MAGIC_2
+				&& bytes[offset + 2] == GeoPackageConstants.GEOMETRY_VERSION_1;
+	}
+
+	/**
+	 * Check if the buffer at its position starts with a GeoPackage geometry
+	 * magic number and version 1
+	 *
+	 * @param buffer
+	 *            byte buffer
+	 * @return true if a GeoPackage geometry
+	 */
+	public static boolean isGeometry(ByteBuffer buffer) {
+		int offset = buffer.position();
+		return buffer.limit() >= offset + HEADER_LENGTH
+				&& buffer.get(offset) == MAGIC_1
+				&& buffer.get(offset + 1) == MAGIC_2
+				&& buffer.get(offset + 2) == GeoPackageConstants.GEOMETRY_VERSION_1;
+	}
+
+	/**
+	 * Validate the magic number, version, and flags and read the flags byte
+	 *
+	 * @param bytes
+	 *            GeoPackage geometry bytes
+	 * @param offset
+	 *            geometry offset
+	 * @return flags
+	 */
+	public static int readFlags(byte[] bytes, int offset) {
+		if (!isGeometry(bytes, offset)) {
+			throw new GeoPackageException(
+					"Unexpected GeoPackage Geometry magic number or version. Expected magic number: "
+							+ GeoPackageConstants.GEOMETRY_MAGIC_NUMBER
+							+ ", version: "
+							+ GeoPackageConstants.GEOMETRY_VERSION_1);
+		}
+		return validateFlags(bytes[offset + FLAGS_OFFSET]);
+	}
+
+	/**
+	 * Validate the magic number, version, and flags and read the flags byte
+	 *
+	 * @param buffer
+	 *            byte buffer positioned at the GeoPackage geometry
+	 * @return flags
+	 */
+	public static int readFlags(ByteBuffer buffer) {
+		if (!isGeometry(buffer)) {
+			throw new GeoPackageException(
+					"Unexpected GeoPackage Geometry magic number or version. Expected magic number: "
+							+ GeoPackageConstants.GEOMETRY_MAGIC_NUMBER
+							+ ", version: "
+							+ GeoPackageConstants.GEOMETRY_VERSION_1);
+		}
+		return validateFlags(buffer.get(buffer.position() + FLAGS_OFFSET));
+	}
+
+	/**
+	 * Read the SRS id
+	 *
+	 * @param bytes
+	 *            GeoPackage geometry bytes
+	 * @param offset
+	 *            geometry offset
+	 * @return SRS id
+	 */
+	public static int readSrsId(byte[] bytes, int offset) {
+		int flags = readFlags(bytes, offset);
+		return readInt(bytes, offset + SRS_ID_OFFSET, isLittleEndian(flags));
+	}
+
+	/**
+	 * Read the SRS id
+	 *
+	 * @param buffer
+	 *            byte buffer positioned at the GeoPackage geometry
+	 * @return SRS id
+	 */
+	public static int readSrsId(ByteBuffer buffer) {
+		int flags = readFlags(buffer);
+		return readInt(buffer, buffer.position() + SRS_ID_OFFSET,
+				isLittleEndian(flags));
+	}
+
+	/**
+	 * Read the envelope into the envelope array
+	 *
+	 * @param bytes
+	 *            GeoPackage geometry bytes
+	 * @param offset
+	 *            geometry offset
+	 * @param envelope
+	 *            envelope array of at least {@link #ENVELOPE_LENGTH} values
+	 * @return envelope indicator, 0 when no envelope was read
+	 */
+	public static int readEnvelope(byte[] bytes, int offset,
+			double[] envelope) {
+		int flags = readFlags(bytes, offset);
+		int indicator = getEnvelopeIndicator(flags);
+		if (indicator > 0) {
+			boolean littleEndian = isLittleEndian(flags);
+			int index = offset + HEADER_LENGTH;
+			envelope[MIN_X] = readDouble(bytes, index, littleEndian);
+			envelope[MAX_X] = readDouble(bytes, index + 8, littleEndian);
+			envelope[MIN_Y] = readDouble(bytes, index + 16, littleEndian);
+			envelope[MAX_Y] = readDouble(bytes, index + 24, littleEndian);
+			index += 32;
+			if (hasZ(indicator)) {
+				envelope[MIN_Z] = readDouble(bytes, index, littleEndian);
+				envelope[MAX_Z] = readDouble(bytes, index + 8, littleEndian);
+				index += 16;
+			} else {
+				envelope[MIN_Z] = Double.NaN;
+				envelope[MAX_Z] = Double.NaN;
+			}
+			if (hasM(indicator)) {
+				envelope[MIN_M] = readDouble(bytes, index, littleEndian);
+				envelope[MAX_M] = readDouble(bytes, index + 8, littleEndian);
+			} else {
+				envelope[MIN_M] = Double.NaN;
+				envelope[MAX_M] = Double.NaN;
+			}
+		}
+		return indicator;
+	}
+
+	/**
+	 * Read the envelope into the envelope array
+	 *
+	 * @param buffer
+	 *            byte buffer positioned at the GeoPackage geometry
+	 * @param envelope
+	 *            envelope array of at least {@link #ENVELOPE_LENGTH} values
+	 * @return envelope indicator, 0 when no envelope was read
+	 */
+	public static int readEnvelope(ByteBuffer buffer, double[] envelope) {
+		int flags = readFlags(buffer);
+		int indicator = getEnvelopeIndicator(flags);
+		if (indicator > 0) {
+			boolean littleEndian = isLittleEndian(flags);
+			int index = buffer.position() + HEADER_LENGTH;
+			envelope[MIN_X] = readDouble(buffer, index, littleEndian);
+			envelope[MAX_X] = readDouble(buffer, index + 8, littleEndian);
+			envelope[MIN_Y] = readDouble(buffer, index + 16, littleEndian);
+			envelope[MAX_Y] = readDouble(buffer, index + 24, littleEndian);
+			index += 32;
+			if (hasZ(indicator)) {
+				envelope[MIN_Z] = readDouble(buffer, index, littleEndian);
+				envelope[MAX_Z] = readDouble(buffer, index + 8, littleEndian);
+				index += 16;
+			} else {
+				envelope[MIN_Z] = Double.NaN;
+				envelope[MAX_Z] = Double.NaN;
+			}
+			if (hasM(indicator)) {
+				envelope[MIN_M] = readDouble(buffer, index, littleEndian);
+				envelope[MAX_M] = readDouble(buffer, index + 8, littleEndian);
+			} else {
+				envelope[MIN_M] = Double.NaN;
+				envelope[MAX_M] = Double.NaN;
+			}
+		}
+		return indicator;
+	}
+
+	/**
+	 * Get the index where the Well-Known Binary bytes start
+	 *
+	 * @param bytes
+	 *            GeoPackage geometry bytes
+	 * @param offset
+	 *            geometry offset
+	 * @return well-known binary index
+	 */
+	public static int getWkbGeometryIndex(byte[] bytes, int offset) {
+		return offset + getHeaderLength(readFlags(bytes, offset));
+	}
+
+	/**
+	 * Get the index where the Well-Known Binary bytes start
+	 *
+	 * @param buffer
+	 *            byte buffer positioned at the GeoPackage geometry
+	 * @return well-known binary index
+	 */
+	public static int getWkbGeometryIndex(ByteBuffer buffer) {
+		return buffer.position() + getHeaderLength(readFlags(buffer));
+	}
+
+	/**
+	 * Is the extended flag set
+	 *
+	 * @param flags
+	 *            flags
+	 * @return true if extended
+	 */
+	public static boolean isExtended(int flags) {
+		return ((flags >> 5) & 1) == 1;
+	}
+
+	/**
+	 * Is the empty flag set
+	 *
+	 * @param flags
+	 *            flags
+	 * @return true if empty
+	 */
+	public static boolean isEmpty(int flags) {
+		return ((flags >> 4) & 1) == 1;
+	}
+
+	/**
+	 * Get the envelope indicator from the flags
+	 * <p>
+	 * 1 for xy, 2 for xyz, 3 for xym, 4 for xyzm (no envelope is 0)
+	 *
+	 * @param flags
+	 *            flags
+	 * @return envelope indicator
+	 */
+	public static int getEnvelopeIndicator(int flags) {
+		return (flags >> 1) & 7;
+	}
+
+	/**
+	 * Is the byte order flag little endian
+	 *
+	 * @param flags
+	 *            flags
+	 * @return true if little endian
+	 */
+	public static boolean isLittleEndian(int flags) {
+		return (flags & 1) == 1;
+	}
+
+	/**
+	 * Get the byte order from the flags
+	 *
+	 * @param flags
+	 *            flags
+	 * @return byte order
+	 */
+	public static ByteOrder getByteOrder(int flags) {
+		return isLittleEndian(flags) ? ByteOrder.LITTLE_ENDIAN
+				: ByteOrder.BIG_ENDIAN;
+	}
+
+	/**
+	 * Does the envelope indicator include z values
+	 *
+	 * @param indicator
+	 *            envelope indicator
+	 * @return true if z values
+	 */
+	public static boolean hasZ(int indicator) {
+		return indicator == 2 || indicator == 4;
+	}
+
+	/**
+	 * Does the envelope indicator include m values
+	 *
+	 * @param indicator
+	 *            envelope indicator
+	 * @return true if m values
+	 */
+	public static boolean hasM(int indicator) {
+		return indicator == 3 || indicator == 4;
+	}
+
+	/**
+	 * Get the full header byte length, including the envelope, from the flags
+	 *
+	 * @param flags
+	 *            flags
+	 * @return header length
+	 */
+	public static int getHeaderLength(int flags) {
+		int indicator = getEnvelopeIndicator(flags);
+		int length = HEADER_LENGTH;
+		if (indicator > 0) {
+			length += 32;
+			if (hasZ(indicator)) {
+				length += 16;
+			}
+			if (hasM(indicator)) {
+				length += 16;
+			}
+		}
+		return length;
+	}
+
+	/**
+	 * Validate the flags byte
+	 *
+	 * @param flags
+	 *            flags byte
+	 * @return flags
+	 */
+	private static int validateFlags(byte flags) {
+
+		// Verify the reserved bits at 7 and 6 are 0
+		if ((flags & 0xC0) != 0) {
+			throw new GeoPackageException(
+					"Unexpected GeoPackage Geometry flags. Flag bit 7 and 6 should both be 0, 7="
+							+ ((flags >> 7) & 1) + ", 6=" + ((flags >> 6) & 1));
+		}
+
+		int indicator = getEnvelopeIndicator(flags);
+		if (indicator > 4) {
+			throw new GeoPackageException(
+					"Unexpected GeoPackage Geometry flags. Envelope contents indicator must be between 0 and 4. Actual: "
+							+ indicator);
+		}
+
+		return flags & 0xFF;
+	}
+
+	/**
+	 * Read an int
+	 *
+	 * @param bytes
+	 *            bytes
+	 * @param index
+	 *            byte index
+	 * @param littleEndian
+	 *            true if little endian
+	 * @return int
+	 */
+	private static int readInt(byte[] bytes, int index, boolean littleEndian) {
+		int value = 0;
+		for (int i = 0; i < 4; i++) {
+			int b = bytes[index + (littleEndian ? 3 - i : i)] & 0xFF;
+			value = (value << 8) | b;
+		}
+		return value;
+	}
+
+	/**
+	 * Read an int
+	 *
+	 * @param buffer
+	 *            byte buffer
+	 * @param index
+	 *            byte index
+	 * @param littleEndian
+	 *            true if little endian
+	 * @return int
+	 */
+	private static int readInt(ByteBuffer buffer, int index,
+			boolean littleEndian) {
+		int value = 0;
+		for (int i = 0; i < 4; i++) {
+			int b = buffer.get(index + (littleEndian ? 3 - i : i)) & 0xFF;
+			value = (value << 8) | b;
+		}
+		return value;
+	}
+
+	/**
+	 * Read a double
+	 *
+	 * @param bytes
+	 *            bytes
+	 * @param index
+	 *            byte index
+	 * @param littleEndian
+	 *            true if little endian
+	 * @return double
+	 */
+	private static double readDouble(byte[] bytes, int index,
+			boolean littleEndian) {
+		long value = 0;
+		for (int i = 0; i < 8; i++) {
+			long b = bytes[index + (littleEndian ? 7 - i : i)] & 0xFFL;
+			value = (value << 8) | b;
+		}
+		return Double.longBitsToDouble(value);
+	}
+
+	/**
+	 * Read a double
+	 *
+	 * @param buffer
+	 *            byte buffer
+	 * @param index
+	 *            byte index
+	 * @param littleEndian
+	 *            true if little endian
+	 * @return double
+	 */
+	private static double readDouble(ByteBuffer buffer, int index,
+			boolean littleEndian) {
+		long value = 0;
+		for (int i = 0; i < 8; i++) {
+			long b = buffer.get(index + (littleEndian ? 7 - i : i)) & 0xFFL;
+			value = (value << 8) | b;
+		}
+		return Double.longBitsToDouble(value);
+	}
+
+}
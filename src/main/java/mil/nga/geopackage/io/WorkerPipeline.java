@@ -0,0 +1,359 @@
+package mil.nga.geopackage.io;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import mil.nga.geopackage.GeoPackageException;
+import mil.nga.geopackage.db.GeoPackageCoreConnection;
+import mil.nga.geopackage.db.GeoPackageReadPool;
+
+/**
+ * Worker pipeline of a worker thread pool running submitted tasks in parallel
+ * and an optional single writer thread consuming the items the tasks queue.
+ * Task and item queues are bounded, with the submitting thread running tasks
+ * itself when the workers fall behind, bounding memory regardless of the
+ * number of tasks. Workers stop once the pipeline is no longer active, a task
+ * fails, or the writer stops.
+ * <p>
+ * When the pipeline is no longer active, such as cancelled, the writer writes
+ * the already queued items and flushes, keeping the completed work. When a
+ * task or the writer fails, or the pipeline is closed before finishing, the
+ * writer stops without flushing so {@link #closeWriter()} can discard the
+ * unflushed writes, such as by rolling back an open transaction.
+ *
+ * @param <T>
+ *            queued item type
+ * @author osbornb
+ * @since 6.6.8
+ */
+public abstract class WorkerPipeline<T> {
+
+	/**
+	 * Queue offer, termination, and read connection acquire wait in
+	 * milliseconds between failure checks
+	 */
+	public static final long OFFER_WAIT = 100;
+
+	/**
+	 * End of items marker
+	 */
+	private static final Object END = new Object();
+
+	/**
+	 * Description of the pipeline work for failure messages, such as
+	 * "reprojecting tiles. Tile Table: name"
+	 */
+	private final String description;
+
+	/**
+	 * Worker pool
+	 */
+	private final ThreadPoolExecutor executor;
+
+	/**
+	 * Items waiting to be written, null without a writer
+	 */
+	private final BlockingQueue<Object> queue;
+
+	/**
+	 * Writer thread, null without a writer
+	 */
+	private final Thread writer;
+
+	/**
+	 * First task failure
+	 */
+	private volatile Throwable taskError;
+
+	/**
+	 * Writer failure
+	 */
+	private volatile Throwable writerError;
+
+	/**
+	 * Constructor, starts the writer thread when enabled
+	 *
+	 * @param name
+	 *            writer thread name
+	 * @param description
+	 *            description of the pipeline work for failure messages
+	 * @param workers
+	 *            worker thread count
+	 * @param queueSize
+	 *            maximum queued tasks and queued items
+	 * @param write
+	 *            true to start a writer thread consuming queued items
+	 */
+	protected WorkerPipeline(String name, String description, int workers,
+			int queueSize, boolean write) {
+		this.description = description;
+		workers = Math.max(workers, 1);
+		queueSize = Math.max(queueSize, 1);
+		executor = new ThreadPoolExecutor(workers, workers, 0,
+				TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<Runnable>(queueSize),
+				new ThreadPoolExecutor.CallerRunsPolicy());
+		if (write) {
+			queue = new ArrayBlockingQueue<>(queueSize);
+			writer = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					runWriter();
+				}
+			}, name);
+			writer.start();
+		} else {
+			queue = null;
+			writer = null;
+		}
+	}
+
+	/**
+	 * Submit a task to the worker pool, running it on the calling thread when
+	 * the task queue is full. Tasks are skipped once the pipeline is stopped.
+	 *
+	 * @param task
+	 *            task
+	 */
+	public void submit(final Runnable task) {
+		executor.execute(new Runnable() {
+			@Override
+			public void run() {
+				if (isStopped()) {
+					return;
+				}
+				try {
+					task.run();
+				} catch (Throwable e) {
+					if (taskError == null) {
+						taskError = e;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Queue an item for the writer, waiting for space
+	 *
+	 * @param item
+	 *            item
+	 * @return true if queued, false if the writer stopped
+	 */
+	public boolean put(T item) {
+		return offer(item);
+	}
+
+	/**
+	 * Check if the pipeline is stopped, when no longer active, a task failed,
+	 * or the writer stopped
+	 *
+	 * @return true if stopped
+	 */
+	public boolean isStopped() {
+		return !isActive() || taskError != null || writerError != null
+				|| (writer != null && !writer.isAlive());
+	}
+
+	/**
+	 * Acquire a read connection from a read pool for a task, waiting while all
+	 * pooled readers are busy
+	 *
+	 * @param readPool
+	 *            read pool
+	 * @return read connection, or null when stopped
+	 */
+	public GeoPackageCoreConnection acquire(GeoPackageReadPool readPool) {
+		GeoPackageCoreConnection connection = readPool.acquire();
+		while (connection == null) {
+			if (readPool.isClosed()) {
+				throw new GeoPackageException(
+						"Read pool closed while " + description);
+			}
+			if (isStopped()) {
+				return null;
+			}
+			try {
+				Thread.sleep(OFFER_WAIT);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return null;
+			}
+			connection = readPool.acquire();
+		}
+		return connection;
+	}
+
+	/**
+	 * Wait for all submitted tasks to run and queued items to be written,
+	 * throwing the first task or writer failure
+	 */
+	public void finish() {
+
+		try {
+
+			executor.shutdown();
+			while (!executor.awaitTermination(OFFER_WAIT,
+					TimeUnit.MILLISECONDS)) {
+				if (writer != null && !writer.isAlive()) {
+					executor.shutdownNow();
+				}
+			}
+
+			if (writer != null) {
+				if (taskError == null) {
+					offer(END);
+				} else {
+					writer.interrupt();
+				}
+				writer.join();
+			}
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new GeoPackageException("Interrupted while " + description,
+					e);
+		} finally {
+			close();
+		}
+
+		if (taskError != null) {
+			throw failure("Failed while ", taskError);
+		}
+		if (writerError != null) {
+			throw failure("Failed to write while ", writerError);
+		}
+	}
+
+	/**
+	 * Stop the worker pool and writer thread
+	 */
+	public void close() {
+		executor.shutdownNow();
+		if (writer != null && writer.isAlive()) {
+			writer.interrupt();
+			try {
+				writer.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Check if the pipeline work is still active, such as not cancelled
+	 * through progress callbacks
+	 *
+	 * @return true if active
+	 */
+	protected boolean isActive() {
+		return true;
+	}
+
+	/**
+	 * Write a queued item on the writer thread
+	 *
+	 * @param item
+	 *            item
+	 * @throws Exception
+	 *             upon failure
+	 */
+	protected abstract void write(T item) throws Exception;
+
+	/**
+	 * Called on the writer thread when the item queue is momentarily empty
+	 * after writing items, before waiting for more
+	 *
+	 * @throws Exception
+	 *             upon failure
+	 */
+	protected void idle() throws Exception {
+	}
+
+	/**
+	 * Flush the written items on the writer thread, called after the last item
+	 * when finishing without a failure. Not called when the writer is stopped
+	 * by a failure or close.
+	 *
+	 * @throws Exception
+	 *             upon failure
+	 */
+	protected void flush() throws Exception {
+	}
+
+	/**
+	 * Release writer resources on the writer thread, called once the writer
+	 * stops whether or not it succeeded. Writes not flushed when called were
+	 * stopped by a failure or close and should be discarded.
+	 */
+	protected void closeWriter() {
+	}
+
+	/**
+	 * Write the queued items until the end marker is reached and flush them,
+	 * or until interrupted by a failure or close without flushing
+	 */
+	private void runWriter() {
+		try {
+			Object item = queue.take();
+			while (item != END) {
+				@SuppressWarnings("unchecked")
+				T typedItem = (T) item;
+				write(typedItem);
+				item = queue.poll();
+				if (item == null) {
+					idle();
+					item = queue.take();
+				}
+			}
+			flush();
+		} catch (Throwable e) {
+			writerError = e;
+		} finally {
+			closeWriter();
+		}
+	}
+
+	/**
+	 * Queue an item or end marker for the writer, waiting for space
+	 *
+	 * @param item
+	 *            item or end marker
+	 * @return true if queued, false if the writer stopped
+	 */
+	private boolean offer(Object item) {
+		try {
+			while (!queue.offer(item, OFFER_WAIT, TimeUnit.MILLISECONDS)) {
+				if (writerError != null || !writer.isAlive()) {
+					return false;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Create the runtime exception for a failure
+	 *
+	 * @param message
+	 *            message prefix
+	 * @param error
+	 *            failure
+	 * @return runtime exception
+	 */
+	private RuntimeException failure(String message, Throwable error) {
+		RuntimeException exception;
+		if (error instanceof RuntimeException) {
+			exception = (RuntimeException) error;
+		} else {
+			exception = new GeoPackageException(message + description, error);
+		}
+		return exception;
+	}
+
+}
@@ -0,0 +1,184 @@
+package mil.nga.geopackage.srs;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import mil.nga.proj.Projection;
+
+/**
+ * Bounded least recently used cache of Spatial Reference System rows and their
+ * projections. Held by the {@link SpatialReferenceSystemDao} of a GeoPackage
+ * connection.
+ * <p>
+ * Spatial reference systems are copied in and out of the cache, so callers
+ * never share a mutable cached row. Projection transforms wrap a single
+ * coordinate transform that is not safe for concurrent use across threads, so
+ * they are not cached.
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class SpatialReferenceSystemCache {
+
+	/**
+	 * Default maximum entries of each cached type
+	 */
+	public static final int DEFAULT_MAX_SIZE = 64;
+
+	/**
+	 * Maximum entries of each cached type
+	 */
+	private int maxSize;
+
+	/**
+	 * Spatial reference systems by srs id
+	 */
+	private final Map<Long, SpatialReferenceSystem> srsCache;
+
+	/**
+	 * Projections by srs id
+	 */
+	private final Map<Long, Projection> projectionCache;
+
+	/**
+	 * Constructor
+	 */
+	public SpatialReferenceSystemCache() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param maxSize
+	 *            maximum entries of each cached type, 0 to disable caching
+	 */
+	public SpatialReferenceSystemCache(int maxSize) {
+		this.maxSize = Math.max(maxSize, 0);
+		srsCache = createCache();
+		projectionCache = createCache();
+	}
+
+	/**
+	 * Create a least recently used cache bounded by the max size
+	 *
+	 * @param <K>
+	 *            key type
+	 * @param <V>
+	 *            value type
+	 * @return cache
+	 */
+	private <K, V> Map<K, V> createCache() {
+		return new LinkedHashMap<K, V>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Get the maximum entries of each cached type
+	 *
+	 * @return max size
+	 */
+	public synchronized int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Set the maximum entries of each cached type, clearing the cache
+	 *
+	 * @param maxSize
+	 *            max size, 0 to disable caching
+	 */
+	public synchronized void setMaxSize(int maxSize) {
+		this.maxSize = Math.max(maxSize, 0);
+		clear();
+	}
+
+	/**
+	 * Check if caching is enabled
+	 *
+	 * @return true if enabled
+	 */
+	public synchronized boolean isEnabled() {
+		return maxSize > 0;
+	}
+
+	/**
+	 * Get a copy of the cached spatial reference system
+	 *
+	 * @param srsId
+	 *            srs id
+	 * @return srs copy or null
+	 */
+	public synchronized SpatialReferenceSystem getSrs(long srsId) {
+		SpatialReferenceSystem srs = srsCache.get(srsId);
+		if (srs != null) {
+			srs = new SpatialReferenceSystem(srs);
+		}
+		return srs;
+	}
+
+	/**
+	 * Cache a copy of the spatial reference system
+	 *
+	 * @param srs
+	 *            srs
+	 */
+	public synchronized void putSrs(SpatialReferenceSystem srs) {
+		if (srs != null && maxSize > 0) {
+			srsCache.put(srs.getSrsId(), new SpatialReferenceSystem(srs));
+		}
+	}
+
+	/**
+	 * Get the cached projection
+	 *
+	 * @param srsId
+	 *            srs id
+	 * @return projection or null
+	 */
+	public synchronized Projection getProjection(long srsId) {
+		return projectionCache.get(srsId);
+	}
+
+	/**
+	 * Cache the projection
+	 *
+	 * @param srsId
+	 *            srs id
+	 * @param projection
+	 *            projection
+	 */
+	public synchronized void putProjection(long srsId, Projection projection) {
+		if (projection != null && maxSize > 0) {
+			projectionCache.put(srsId, projection);
+		}
+	}
+
+	/**
+	 * Remove the cached spatial reference system and projection of the srs
+	 * id
+	 *
+	 * @param srsId
+	 *            srs id
+	 */
+	public synchronized void remove(long srsId) {
+		srsCache.remove(srsId);
+		projectionCache.remove(srsId);
+	}
+
+	/**
+	 * Clear all cached values
+	 */
+	public synchronized void clear() {
+		srsCache.clear();
+		projectionCache.clear();
+	}
+
+}
@@ -6,7 +6,9 @@ import java.util.List;
 import java.util.Map;
 
 import com.j256.ormlite.dao.ForeignCollection;
+import com.j256.ormlite.stmt.PreparedDelete;
 import com.j256.ormlite.stmt.PreparedQuery;
+import com.j256.ormlite.stmt.PreparedUpdate;
 import com.j256.ormlite.stmt.QueryBuilder;
 import com.j256.ormlite.support.ConnectionSource;
 
@@ -26,6 +28,7 @@ import mil.nga.geopackage.tiles.matrixset.TileMatrixSet;
 import mil.nga.geopackage.tiles.matrixset.TileMatrixSetDao;
 import mil.nga.proj.Projection;
 import mil.nga.proj.ProjectionConstants;
+import mil.nga.sf.proj.GeometryTransform;
 
 /**
  * Spatial Reference System Data Access Object
@@ -109,6 +112,11 @@ public class SpatialReferenceSystemDao
 	 */
 	private CrsWktExtension crsWktExtension;
 
+	/**
+	 * Spatial reference system and projection cache
+	 */
+	private final SpatialReferenceSystemCache cache = new SpatialReferenceSystemCache();
+
 	/**
 	 * Constructor, required by ORMLite
 	 * 
@@ -132,6 +140,10 @@ public class SpatialReferenceSystemDao
 	 * @since 1.1.8
 	 */
 	public void setCrsWktExtension(CrsWktExtension crsWktExtension) {
+		if (this.crsWktExtension == null && crsWktExtension != null) {
+			// Cached rows may be missing extension values
+			cache.clear();
+		}
 		this.crsWktExtension = crsWktExtension;
 	}
 
@@ -395,11 +407,19 @@ public class SpatialReferenceSystemDao
 	public void setExtension(SpatialReferenceSystem srs) {
 		if (srs != null) {
 			long srsId = srs.getSrsId();
-			String definition = getDefinition_12_063(srsId);
+			SpatialReferenceSystem cached = cache.getSrs(srsId);
+			String definition;
+			Double epoch;
+			if (cached != null) {
+				definition = cached.getDefinition_12_063();
+				epoch = cached.getEpoch();
+			} else {
+				definition = getDefinition_12_063(srsId);
+				epoch = getEpoch(srsId);
+			}
 			if (definition != null) {
 				srs.setDefinition_12_063(definition);
 			}
-			Double epoch = getEpoch(srsId);
 			if (epoch != null) {
 				srs.setEpoch(epoch);
 			}
@@ -429,6 +449,7 @@ public class SpatialReferenceSystemDao
 	 * @since 1.2.1
 	 */
 	public void updateDefinition_12_063(long srsId, String definition) {
+		cache.remove(srsId);
 		if (hasDefinition_12_063()) {
 			if (definition == null) {
 				definition = "";
@@ -447,6 +468,7 @@ public class SpatialReferenceSystemDao
 	 * @since 6.6.0
 	 */
 	public void updateEpoch(long srsId, Double epoch) {
+		cache.remove(srsId);
 		if (hasEpoch()) {
 			crsWktExtension.updateEpoch(srsId, epoch);
 		}
@@ -467,16 +489,132 @@ public class SpatialReferenceSystemDao
 		}
 	}
 
+	/**
+	 * Get the spatial reference system and projection cache
+	 * 
+	 * @return cache
+	 * @since 6.6.8
+	 */
+	public SpatialReferenceSystemCache getCache() {
+		return cache;
+	}
+
 	/**
 	 * {@inheritDoc}
+	 * <p>
+	 * Spatial reference systems are returned as copies from the cache when
+	 * available. Rows queried within a transaction are not cached, so rows
+	 * of a rolled back transaction are never served.
 	 */
 	@Override
 	public SpatialReferenceSystem queryForId(Long id) throws SQLException {
-		SpatialReferenceSystem srs = super.queryForId(id);
-		setExtension(srs);
+		SpatialReferenceSystem srs = null;
+		if (id != null) {
+			srs = cache.getSrs(id);
+		}
+		if (srs == null) {
+			srs = super.queryForId(id);
+			setExtension(srs);
+			if (srs != null && isCacheable()) {
+				cache.putSrs(srs);
+			}
+		}
 		return srs;
 	}
 
+	/**
+	 * Determine if queried values can be cached, false within a transaction
+	 * that may still be rolled back
+	 * 
+	 * @return true if cacheable
+	 */
+	private boolean isCacheable() {
+		return db == null || !db.inTransaction();
+	}
+
+	/**
+	 * Get the projection of the spatial reference system id, cached
+	 * 
+	 * @param srsId
+	 *            srs id
+	 * @return projection or null if the srs does not exist
+	 * @throws SQLException
+	 *             upon query failure
+	 * @since 6.6.8
+	 */
+	public Projection getProjection(long srsId) throws SQLException {
+		Projection projection = cache.getProjection(srsId);
+		if (projection == null) {
+			SpatialReferenceSystem srs = queryForId(srsId);
+			if (srs != null) {
+				projection = getProjection(srs);
+			}
+		}
+		return projection;
+	}
+
+	/**
+	 * Get the projection of the spatial reference system, cached by srs id
+	 * outside of transactions
+	 * 
+	 * @param srs
+	 *            spatial reference system
+	 * @return projection
+	 * @since 6.6.8
+	 */
+	public Projection getProjection(SpatialReferenceSystem srs) {
+		Projection projection = cache.getProjection(srs.getSrsId());
+		if (projection == null) {
+			projection = srs.getProjection();
+			if (isCacheable()) {
+				cache.putProjection(srs.getSrsId(), projection);
+			}
+		}
+		return projection;
+	}
+
+	/**
+	 * Get a new transform between the spatial reference system ids, from
+	 * cached projections
+	 * 
+	 * @param fromSrsId
+	 *            from srs id
+	 * @param toSrsId
+	 *            to srs id
+	 * @return transform or null if either srs does not exist
+	 * @throws SQLException
+	 *             upon query failure
+	 * @since 6.6.8
+	 */
+	public GeometryTransform getTransformation(long fromSrsId, long toSrsId)
+			throws SQLException {
+		GeometryTransform transform = null;
+		Projection from = getProjection(fromSrsId);
+		if (from != null) {
+			Projection to = getProjection(toSrsId);
+			if (to != null) {
+				transform = getTransformation(from, to);
+			}
+		}
+		return transform;
+	}
+
+	/**
+	 * Get a new transform between the projections. Transforms are not safe
+	 * for concurrent use across threads and are created per call.
+	 * 
+	 * @param from
+	 *            from projection
+	 * @param to
+	 *            to projection
+	 * @return transform
+	 * @since 6.6.8
+	 */
+	public GeometryTransform getTransformation(Projection from,
+			Projection to) {
+		return GeometryTransform.create(from, to);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -586,6 +724,9 @@ public class SpatialReferenceSystemDao
 	 */
 	@Override
 	public int create(SpatialReferenceSystem srs) throws SQLException {
+		if (srs != null) {
+			cache.remove(srs.getSrsId());
+		}
 		int result = super.create(srs);
 		updateExtension(srs);
 		return result;
@@ -608,6 +749,9 @@ public class SpatialReferenceSystemDao
 	@Override
 	public CreateOrUpdateStatus createOrUpdate(SpatialReferenceSystem data)
 			throws SQLException {
+		if (data != null) {
+			cache.remove(data.getSrsId());
+		}
 		CreateOrUpdateStatus status = super.createOrUpdate(data);
 		updateExtension(data);
 		return status;
@@ -618,11 +762,105 @@ public class SpatialReferenceSystemDao
 	 */
 	@Override
 	public int update(SpatialReferenceSystem data) throws SQLException {
+		if (data != null) {
+			cache.remove(data.getSrsId());
+		}
 		int result = super.update(data);
 		updateExtension(data);
 		return result;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int updateId(SpatialReferenceSystem data, Long newId)
+			throws SQLException {
+		cache.clear();
+		return super.updateId(data, newId);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int update(PreparedUpdate<SpatialReferenceSystem> preparedUpdate)
+			throws SQLException {
+		cache.clear();
+		return super.update(preparedUpdate);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int delete(SpatialReferenceSystem data) throws SQLException {
+		if (data != null) {
+			cache.remove(data.getSrsId());
+		}
+		return super.delete(data);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int deleteById(Long id) throws SQLException {
+		if (id != null) {
+			cache.remove(id);
+		}
+		return super.deleteById(id);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int delete(Collection<SpatialReferenceSystem> datas)
+			throws SQLException {
+		cache.clear();
+		return super.delete(datas);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int deleteIds(Collection<Long> ids) throws SQLException {
+		cache.clear();
+		return super.deleteIds(ids);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int delete(PreparedDelete<SpatialReferenceSystem> preparedDelete)
+			throws SQLException {
+		cache.clear();
+		return super.delete(preparedDelete);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int updateRaw(String statement, String... arguments)
+			throws SQLException {
+		cache.clear();
+		return super.updateRaw(statement, arguments);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int executeRaw(String statement, String... arguments)
+			throws SQLException {
+		cache.clear();
+		return super.executeRaw(statement, arguments);
+	}
+
 	/**
 	 * Get or Create the Spatial Reference System for the provided epsg
 	 * 
@@ -0,0 +1,451 @@
+package mil.nga.geopackage.tiles.reproject;
+
+import org.locationtech.proj4j.CoordinateTransform;
+import org.locationtech.proj4j.ProjCoordinate;
+
+import mil.nga.proj.ProjectionTransform;
+
+/**
+ * Approximate projection transform of a regular pixel grid. Blocks of the
+ * grid are transformed exactly at their corners and interpolated linearly in
+ * between. Blocks are recursively subdivided when the interpolation error at
+ * the block center or edge midpoints exceeds the tolerance in destination
+ * pixels, and small blocks are transformed exactly.
+ * <p>
+ * Used by coverage data reprojection and available to tile reprojection
+ * implementations to replace a projection transform per pixel.
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class ApproximateTransform {
+
+	/**
+	 * Default maximum error in destination pixels
+	 */
+	public static final double DEFAULT_TOLERANCE = 0.125;
+
+	/**
+	 * Default initial block size in pixels
+	 */
+	public static final int DEFAULT_BLOCK_SIZE = 64;
+
+	/**
+	 * Block pixel count at or below which pixels are transformed exactly
+	 */
+	private static final int EXACT_PIXELS = 16;
+
+	/**
+	 * Coordinate transform
+	 */
+	private final CoordinateTransform transform;
+
+	/**
+	 * Maximum error in destination pixels
+	 */
+	private final double tolerance;
+
+	/**
+	 * Initial block size in pixels
+	 */
+	private final int blockSize;
+
+	/**
+	 * Constructor
+	 *
+	 * @param transform
+	 *            projection transform
+	 */
+	public ApproximateTransform(ProjectionTransform transform) {
+		this(transform, DEFAULT_TOLERANCE);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param transform
+	 *            projection transform
+	 * @param tolerance
+	 *            maximum error in destination pixels
+	 */
+	public ApproximateTransform(ProjectionTransform transform,
+			double tolerance) {
+		this(transform, tolerance, DEFAULT_BLOCK_SIZE);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param transform
+	 *            projection transform
+	 * @param tolerance
+	 *            maximum error in destination pixels
+	 * @param blockSize
+	 *            initial block size in pixels
+	 */
+	public ApproximateTransform(ProjectionTransform transform,
+			double tolerance, int blockSize) {
+		this.transform = transform.getTransform();
+		this.tolerance = tolerance;
+		this.blockSize = Math.max(blockSize, 2);
+	}
+
+	/**
+	 * Get the maximum error in destination pixels
+	 *
+	 * @return tolerance
+	 */
+	public double getTolerance() {
+		return tolerance;
+	}
+
+	/**
+	 * Get the initial block size in pixels
+	 *
+	 * @return block size
+	 */
+	public int getBlockSize() {
+		return blockSize;
+	}
+
+	/**
+	 * Transform a row major grid of source coordinates. The source coordinate
+	 * of pixel (x, y) is (minX + x * xStep, maxY - y * yStep). The transformed
+	 * coordinates are written to the destination arrays at index y * width +
+	 * x.
+	 *
+	 * @param minX
+	 *            source x of the first column
+	 * @param maxY
+	 *            source y of the first row
+	 * @param xStep
+	 *            source x units per pixel
+	 * @param yStep
+	 *            source y units per pixel
+	 * @param width
+	 *            grid width
+	 * @param height
+	 *            grid height
+	 * @param pixelWidth
+	 *            destination x units per destination pixel, scaling the
+	 *            tolerance
+	 * @param pixelHeight
+	 *            destination y units per destination pixel, scaling the
+	 *            tolerance
+	 * @param xs
+	 *            destination x coordinates, at least width * height
+	 * @param ys
+	 *            destination y coordinates, at least width * height
+	 * @return number of exactly transformed coordinates
+	 */
+	public int transform(double minX, double maxY, double xStep,
+			double yStep, int width, int height, double pixelWidth,
+			double pixelHeight, double[] xs, double[] ys) {
+		Grid grid = new Grid(minX, maxY, xStep, yStep, width,
+				tolerance * Math.abs(pixelWidth),
+				tolerance * Math.abs(pixelHeight), xs, ys);
+		for (int y0 = 0; y0 < height; y0 += blockSize) {
+			int y1 = Math.min(y0 + blockSize, height) - 1;
+			for (int x0 = 0; x0 < width; x0 += blockSize) {
+				int x1 = Math.min(x0 + blockSize, width) - 1;
+				grid.block(x0, y0, x1, y1);
+			}
+		}
+		return grid.exact;
+	}
+
+	/**
+	 * Grid transformation state of a single transform call
+	 */
+	private class Grid {
+
+		/**
+		 * Source x of the first column
+		 */
+		private final double minX;
+
+		/**
+		 * Source y of the first row
+		 */
+		private final double maxY;
+
+		/**
+		 * Source x units per pixel
+		 */
+		private final double xStep;
+
+		/**
+		 * Source y units per pixel
+		 */
+		private final double yStep;
+
+		/**
+		 * Grid width
+		 */
+		private final int width;
+
+		/**
+		 * Maximum x error in destination units
+		 */
+		private final double xTolerance;
+
+		/**
+		 * Maximum y error in destination units
+		 */
+		private final double yTolerance;
+
+		/**
+		 * Destination x coordinates
+		 */
+		private final double[] xs;
+
+		/**
+		 * Destination y coordinates
+		 */
+		private final double[] ys;
+
+		/**
+		 * Reused source coordinate
+		 */
+		private final ProjCoordinate from = new ProjCoordinate();
+
+		/**
+		 * Reused destination coordinate
+		 */
+		private final ProjCoordinate to = new ProjCoordinate();
+
+		/**
+		 * Exactly transformed coordinate count
+		 */
+		private int exact = 0;
+
+		/**
+		 * Constructor
+		 *
+		 * @param minX
+		 *            source x of the first column
+		 * @param maxY
+		 *            source y of the first row
+		 * @param xStep
+		 *            source x units per pixel
+		 * @param yStep
+		 *            source y units per pixel
+		 * @param width
+		 *            grid width
+		 * @param xTolerance
+		 *            maximum x error in destination units
+		 * @param yTolerance
+		 *            maximum y error in destination units
+		 * @param xs
+		 *            destination x coordinates
+		 * @param ys
+		 *            destination y coordinates
+		 */
+		private Grid(double minX, double maxY, double xStep, double yStep,
+				int width, double xTolerance, double yTolerance, double[] xs,
+				double[] ys) {
+			this.minX = minX;
+			this.maxY = maxY;
+			this.xStep = xStep;
+			this.yStep = yStep;
+			this.width = width;
+			this.xTolerance = xTolerance;
+			this.yTolerance = yTolerance;
+			this.xs = xs;
+			this.ys = ys;
+		}
+
+		/**
+		 * Transform the inclusive pixel block, interpolating when within the
+		 * tolerance and subdividing otherwise
+		 *
+		 * @param x0
+		 *            min pixel x
+		 * @param y0
+		 *            min pixel y
+		 * @param x1
+		 *            max pixel x
+		 * @param y1
+		 *            max pixel y
+		 */
+		private void block(int x0, int y0, int x1, int y1) {
+
+			int blockWidth = x1 - x0 + 1;
+			int blockHeight = y1 - y0 + 1;
+			if (blockWidth * blockHeight <= EXACT_PIXELS || blockWidth < 3
+					|| blockHeight < 3) {
+				exact(x0, y0, x1, y1);
+				return;
+			}
+
+			double[] corners = new double[8];
+			boolean valid = transform(x0, y0, corners, 0)
+					&& transform(x1, y0, corners, 2)
+					&& transform(x0, y1, corners, 4)
+					&& transform(x1, y1, corners, 6);
+
+			int xMid = (x0 + x1) >>> 1;
+			int yMid = (y0 + y1) >>> 1;
+			valid = valid && withinTolerance(corners, x0, y0, x1, y1, xMid, yMid)
+					&& withinTolerance(corners, x0, y0, x1, y1, xMid, y0)
+					&& withinTolerance(corners, x0, y0, x1, y1, xMid, y1)
+					&& withinTolerance(corners, x0, y0, x1, y1, x0, yMid)
+					&& withinTolerance(corners, x0, y0, x1, y1, x1, yMid);
+
+			if (valid) {
+				interpolate(corners, x0, y0, x1, y1);
+			} else {
+				block(x0, y0, xMid, yMid);
+				block(xMid + 1, y0, x1, yMid);
+				block(x0, yMid + 1, xMid, y1);
+				block(xMid + 1, yMid + 1, x1, y1);
+			}
+		}
+
+		/**
+		 * Transform every pixel of the inclusive block exactly
+		 *
+		 * @param x0
+		 *            min pixel x
+		 * @param y0
+		 *            min pixel y
+		 * @param x1
+		 *            max pixel x
+		 * @param y1
+		 *            max pixel y
+		 */
+		private void exact(int x0, int y0, int x1, int y1) {
+			for (int y = y0; y <= y1; y++) {
+				from.y = maxY - (y * yStep);
+				int index = y * width + x0;
+				for (int x = x0; x <= x1; x++) {
+					from.x = minX + (x * xStep);
+					transform.transform(from, to);
+					xs[index] = to.x;
+					ys[index] = to.y;
+					index++;
+				}
+			}
+			exact += (x1 - x0 + 1) * (y1 - y0 + 1);
+		}
+
+		/**
+		 * Transform the pixel exactly into the values array
+		 *
+		 * @param x
+		 *            pixel x
+		 * @param y
+		 *            pixel y
+		 * @param values
+		 *            values array
+		 * @param offset
+		 *            values offset of the x and y coordinate
+		 * @return true if the transformed coordinate is finite
+		 */
+		private boolean transform(int x, int y, double[] values, int offset) {
+			from.x = minX + (x * xStep);
+			from.y = maxY - (y * yStep);
+			boolean valid;
+			try {
+				transform.transform(from, to);
+				values[offset] = to.x;
+				values[offset + 1] = to.y;
+				valid = Double.isFinite(to.x) && Double.isFinite(to.y);
+			} catch (RuntimeException e) {
+				valid = false;
+			}
+			exact++;
+			return valid;
+		}
+
+		/**
+		 * Check if the interpolated coordinate of the pixel is within the
+		 * tolerance of the exact transformation
+		 *
+		 * @param corners
+		 *            transformed block corners
+		 * @param x0
+		 *            min pixel x
+		 * @param y0
+		 *            min pixel y
+		 * @param x1
+		 *            max pixel x
+		 * @param y1
+		 *            max pixel y
+		 * @param x
+		 *            pixel x
+		 * @param y
+		 *            pixel y
+		 * @return true if within tolerance
+		 */
+		private boolean withinTolerance(double[] corners, int x0, int y0,
+				int x1, int y1, int x, int y) {
+			double[] point = new double[2];
+			boolean within = transform(x, y, point, 0);
+			if (within) {
+				double u = (x - x0) / (double) (x1 - x0);
+				double v = (y - y0) / (double) (y1 - y0);
+				within = Math.abs(point[0]
+						- interpolate(corners, 0, u, v)) <= xTolerance
+						&& Math.abs(point[1]
+								- interpolate(corners, 1, u, v)) <= yTolerance;
+			}
+			return within;
+		}
+
+		/**
+		 * Fill the inclusive block by bilinear interpolation of the corners
+		 *
+		 * @param corners
+		 *            transformed block corners
+		 * @param x0
+		 *            min pixel x
+		 * @param y0
+		 *            min pixel y
+		 * @param x1
+		 *            max pixel x
+		 * @param y1
+		 *            max pixel y
+		 */
+		private void interpolate(double[] corners, int x0, int y0, int x1,
+				int y1) {
+			double xRange = x1 - x0;
+			double yRange = y1 - y0;
+			for (int y = y0; y <= y1; y++) {
+				double v = (y - y0) / yRange;
+				int index = y * width + x0;
+				for (int x = x0; x <= x1; x++) {
+					double u = (x - x0) / xRange;
+					xs[index] = interpolate(corners, 0, u, v);
+					ys[index] = interpolate(corners, 1, u, v);
+					index++;
+				}
+			}
+		}
+
+		/**
+		 * Bilinear interpolation of a corner coordinate component
+		 *
+		 * @param corners
+		 *            transformed corners: top left, top right, bottom left,
+		 *            bottom right
+		 * @param component
+		 *            0 for x, 1 for y
+		 * @param u
+		 *            horizontal fraction
+		 * @param v
+		 *            vertical fraction
+		 * @return interpolated value
+		 */
+		private double interpolate(double[] corners, int component, double u,
+				double v) {
+			double top = corners[component]
+					+ u * (corners[2 + component] - corners[component]);
+			double bottom = corners[4 + component]
+					+ u * (corners[6 + component] - corners[4 + component]);
+			return top + v * (bottom - top);
+		}
+
+	}
+
+}
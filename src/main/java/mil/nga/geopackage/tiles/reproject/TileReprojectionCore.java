@@ -1,6 +1,8 @@
 package mil.nga.geopackage.tiles.reproject;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -9,6 +11,8 @@ import mil.nga.geopackage.BoundingBox;
 import mil.nga.geopackage.GeoPackageCore;
 import mil.nga.geopackage.GeoPackageException;
 import mil.nga.geopackage.contents.Contents;
+import mil.nga.geopackage.db.GeoPackageCoreConnection;
+import mil.nga.geopackage.db.GeoPackageReadPool;
 import mil.nga.geopackage.db.master.SQLiteMaster;
 import mil.nga.geopackage.db.master.SQLiteMasterColumn;
 import mil.nga.geopackage.db.master.SQLiteMasterQuery;
@@ -24,6 +28,7 @@ import mil.nga.geopackage.tiles.user.TileTable;
 import mil.nga.geopackage.tiles.user.TileTableMetadata;
 import mil.nga.geopackage.user.UserCoreDao;
 import mil.nga.proj.Projection;
+import mil.nga.proj.ProjectionTransform;
 import mil.nga.sf.proj.GeometryTransform;
 
 /**
@@ -110,6 +115,30 @@ public abstract class TileReprojectionCore {
 	 */
 	protected long optimizeZoom;
 
+	/**
+	 * Parallel reprojection worker threads, 1 to reproject on the calling
+	 * thread
+	 * 
+	 * @since 6.6.8
+	 */
+	protected int workers = 1;
+
+	/**
+	 * Reprojected tiles committed per transaction when reprojecting in
+	 * parallel
+	 * 
+	 * @since 6.6.8
+	 */
+	protected int batchSize = 100;
+
+	/**
+	 * Approximate transform tolerance in source tile pixels, 0 for an exact
+	 * transform of every pixel
+	 * 
+	 * @since 6.6.8
+	 */
+	protected double transformTolerance = 0;
+
 	/**
 	 * Constructor
 	 * 
@@ -264,6 +293,43 @@ public abstract class TileReprojectionCore {
 			BoundingBox boundingBox, long matrixWidth, long matrixHeight,
 			long tileWidth, long tileHeight);
 
+	/**
+	 * Reproject a single tile, used when reprojecting in parallel. Platform
+	 * implementations must implement it alongside the zoom level reprojection.
+	 * Called concurrently from worker threads, implementations must be thread
+	 * safe and query the source tiles through the provided worker read
+	 * connection instead of the primary connection, which the writer thread
+	 * holds in transactions.
+	 * 
+	 * @param connection
+	 *            worker read connection to the source GeoPackage, acquired
+	 *            from the source read pool
+	 * @param zoom
+	 *            zoom level
+	 * @param toZoom
+	 *            reprojection zoom level
+	 * @param boundingBox
+	 *            bounding box
+	 * @param matrixWidth
+	 *            matrix width
+	 * @param matrixHeight
+	 *            matrix height
+	 * @param tileWidth
+	 *            tile width
+	 * @param tileHeight
+	 *            tile height
+	 * @param tileColumn
+	 *            reprojection tile column
+	 * @param tileRow
+	 *            reprojection tile row
+	 * @return encoded tile data or null when there is no tile
+	 * @since 6.6.8
+	 */
+	protected abstract byte[] reprojectTile(
+			GeoPackageCoreConnection connection, long zoom, long toZoom,
+			BoundingBox boundingBox, long matrixWidth, long matrixHeight,
+			long tileWidth, long tileHeight, long tileColumn, long tileRow);
+
 	/**
 	 * Get the optimization
 	 * 
@@ -359,6 +425,126 @@ public abstract class TileReprojectionCore {
 		this.progress = progress;
 	}
 
+	/**
+	 * Get the parallel reprojection worker thread count
+	 * 
+	 * @return worker threads
+	 * @since 6.6.8
+	 */
+	public int getWorkers() {
+		return workers;
+	}
+
+	/**
+	 * Set the parallel reprojection worker thread count. More than one worker
+	 * reprojects tiles in parallel, with a single writer thread committing the
+	 * tiles in batched transactions. A cancelled reprojection keeps the
+	 * committed and already queued tiles, while a failure rolls back the open
+	 * batch. Parallel reprojection requires a
+	 * {@link GeoPackageReadPool} on the source GeoPackage connection, giving
+	 * each worker its own read connection while the writer holds the primary
+	 * connection in transactions.
+	 * 
+	 * @param workers
+	 *            worker threads, 1 to reproject on the calling thread
+	 * @since 6.6.8
+	 */
+	public void setWorkers(int workers) {
+		if (workers < 1) {
+			throw new GeoPackageException(
+					"Workers must be at least 1, found: " + workers);
+		}
+		this.workers = workers;
+	}
+
+	/**
+	 * Get the reprojected tiles committed per transaction when reprojecting
+	 * in parallel
+	 * 
+	 * @return batch size
+	 * @since 6.6.8
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * Set the reprojected tiles committed per transaction when reprojecting
+	 * in parallel
+	 * 
+	 * @param batchSize
+	 *            batch size
+	 * @since 6.6.8
+	 */
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Get the approximate transform tolerance in source tile pixels
+	 * 
+	 * @return tolerance, 0 for exact transforms
+	 * @since 6.6.8
+	 */
+	public double getTransformTolerance() {
+		return transformTolerance;
+	}
+
+	/**
+	 * Set the approximate transform tolerance in source tile pixels. When
+	 * greater than 0, implementations reproject tile pixels with an
+	 * {@link ApproximateTransform} from {@link #getApproximateTransform}.
+	 * 
+	 * @param transformTolerance
+	 *            tolerance, 0 for exact transforms
+	 * @since 6.6.8
+	 */
+	public void setTransformTolerance(double transformTolerance) {
+		this.transformTolerance = Math.max(transformTolerance, 0);
+	}
+
+	/**
+	 * Get an approximate transform of the reprojected tile pixels to the
+	 * source projection when a transform tolerance is set
+	 * 
+	 * @param transform
+	 *            projection transform from the reprojection to the source
+	 *            projection
+	 * @return approximate transform, null for exact transforms
+	 * @since 6.6.8
+	 */
+	protected ApproximateTransform getApproximateTransform(
+			ProjectionTransform transform) {
+		ApproximateTransform approximate = null;
+		if (transformTolerance > 0) {
+			approximate = new ApproximateTransform(transform,
+					transformTolerance);
+		}
+		return approximate;
+	}
+
+	/**
+	 * Determine if tiles are reprojected in parallel, requiring more than one
+	 * worker and a source read pool
+	 * 
+	 * @return true if parallel
+	 * @since 6.6.8
+	 */
+	public boolean isParallel() {
+		return workers > 1 && getReadPool() != null;
+	}
+
+	/**
+	 * Get the source GeoPackage read pool providing the parallel worker read
+	 * connections
+	 * 
+	 * @return read pool or null
+	 * @since 6.6.8
+	 */
+	protected GeoPackageReadPool getReadPool() {
+		return tileDao.getDb().getReadPool();
+	}
+
 	/**
 	 * Get the zoom level configurations
 	 *
@@ -720,18 +906,13 @@ public abstract class TileReprojectionCore {
 	public int reproject() {
 		initialize();
 
-		int tiles = 0;
-
+		List<Long> zooms = new ArrayList<>();
 		for (TileMatrix tileMatrix : getTileMatrices(false)) {
-
-			if (!isActive()) {
-				break;
-			}
-
-			tiles += reprojectIfExists(tileMatrix.getZoomLevel());
-
+			zooms.add(tileMatrix.getZoomLevel());
 		}
 
+		int tiles = reprojectZooms(zooms);
+
 		finish();
 		return tiles;
 	}
@@ -748,17 +929,13 @@ public abstract class TileReprojectionCore {
 	public int reproject(long minZoom, long maxZoom) {
 		initialize();
 
-		int tiles = 0;
-
+		List<Long> zooms = new ArrayList<>();
 		for (long zoom = minZoom; zoom <= maxZoom; zoom++) {
-
-			if (!isActive()) {
-				break;
-			}
-
-			tiles += reprojectIfExists(zoom);
+			zooms.add(zoom);
 		}
 
+		int tiles = reprojectZooms(zooms);
+
 		finish();
 		return tiles;
 	}
@@ -774,16 +951,7 @@ public abstract class TileReprojectionCore {
 	public int reproject(List<Long> zooms) {
 		initialize();
 
-		int tiles = 0;
-
-		for (long zoom : zooms) {
-
-			if (!isActive()) {
-				break;
-			}
-
-			tiles += reprojectIfExists(zoom);
-		}
+		int tiles = reprojectZooms(zooms);
 
 		finish();
 		return tiles;
@@ -799,40 +967,126 @@ public abstract class TileReprojectionCore {
 	public int reproject(long zoom) {
 		initialize();
 
-		int tiles = reprojectIfExists(zoom);
+		int tiles = reprojectZooms(Collections.singletonList(zoom));
 
 		finish();
 		return tiles;
 	}
 
 	/**
-	 * Reproject the zoom level if it exists
+	 * Reproject the zoom levels, in parallel through a pipeline when enabled
 	 * 
-	 * @param zoom
-	 *            zoom level
+	 * @param zooms
+	 *            zoom levels, ordered lowest to highest
 	 * @return created tiles
 	 */
-	private int reprojectIfExists(long zoom) {
+	private int reprojectZooms(List<Long> zooms) {
 
 		int tiles = 0;
 
+		if (isParallel()) {
+
+			// Create the tile matrices and delete overwritten tiles for all
+			// zoom levels before the pipeline writer thread starts holding
+			// transactions on the connection
+			List<ZoomReprojection> zoomReprojections = new ArrayList<>();
+			for (long zoom : zooms) {
+
+				if (!isActive()) {
+					break;
+				}
+
+				ZoomReprojection zoomReprojection = prepareIfExists(zoom);
+				if (zoomReprojection != null) {
+					zoomReprojections.add(zoomReprojection);
+				}
+			}
+
+			if (!zoomReprojections.isEmpty() && isActive()) {
+
+				TileReprojectionPipeline pipeline = new TileReprojectionPipeline(
+						this, reprojectTileDao.getDb(), getReadPool(),
+						reprojectTileDao.getTableName(), workers, batchSize,
+						progress);
+				try {
+
+					for (ZoomReprojection zoomReprojection : zoomReprojections) {
+
+						if (!isActive()) {
+							break;
+						}
+
+						pipeline.submit(zoomReprojection.zoom,
+								zoomReprojection.toZoom,
+								zoomReprojection.boundingBox,
+								zoomReprojection.matrixWidth,
+								zoomReprojection.matrixHeight,
+								zoomReprojection.tileWidth,
+								zoomReprojection.tileHeight);
+					}
+
+					pipeline.finish();
+					tiles += pipeline.getWritten();
+
+				} finally {
+					pipeline.close();
+				}
+			}
+
+		} else {
+
+			for (long zoom : zooms) {
+
+				if (!isActive()) {
+					break;
+				}
+
+				ZoomReprojection zoomReprojection = prepareIfExists(zoom);
+				if (zoomReprojection != null) {
+					tiles += reproject(zoomReprojection.zoom,
+							zoomReprojection.toZoom,
+							zoomReprojection.boundingBox,
+							zoomReprojection.matrixWidth,
+							zoomReprojection.matrixHeight,
+							zoomReprojection.tileWidth,
+							zoomReprojection.tileHeight);
+				}
+			}
+
+		}
+
+		return tiles;
+	}
+
+	/**
+	 * Prepare the zoom level reprojection if the zoom level exists
+	 * 
+	 * @param zoom
+	 *            zoom level
+	 * @return zoom reprojection or null
+	 */
+	private ZoomReprojection prepareIfExists(long zoom) {
+
+		ZoomReprojection zoomReprojection = null;
+
 		TileMatrix tileMatrix = getTileMatrix(false, zoom);
 
 		if (tileMatrix != null) {
-			tiles = reproject(tileMatrix);
+			zoomReprojection = prepare(tileMatrix);
 		}
 
-		return tiles;
+		return zoomReprojection;
 	}
 
 	/**
-	 * Rerpoject the tile matrix
+	 * Prepare the tile matrix reprojection, creating or updating the
+	 * reprojection tile matrix and deleting overwritten tiles
 	 * 
 	 * @param tileMatrix
 	 *            tile matrix
-	 * @return created tiles
+	 * @return zoom reprojection
 	 */
-	private int reproject(TileMatrix tileMatrix) {
+	private ZoomReprojection prepare(TileMatrix tileMatrix) {
 
 		long zoom = tileMatrix.getZoomLevel();
 		long toZoom = getToZoom(zoom);
@@ -923,10 +1177,8 @@ public abstract class TileReprojectionCore {
 			createTileMatrix(toTileMatrix);
 		}
 
-		int tiles = reproject(zoom, toZoom, boundingBox, matrixWidth,
+		return new ZoomReprojection(zoom, toZoom, boundingBox, matrixWidth,
 				matrixHeight, tileWidth, tileHeight);
-
-		return tiles;
 	}
 
 	/**
@@ -975,4 +1227,76 @@ public abstract class TileReprojectionCore {
 		return progress == null || progress.isActive();
 	}
 
+	/**
+	 * Prepared zoom level reprojection
+	 */
+	private static class ZoomReprojection {
+
+		/**
+		 * Zoom level
+		 */
+		private final long zoom;
+
+		/**
+		 * Reprojection zoom level
+		 */
+		private final long toZoom;
+
+		/**
+		 * Bounding box
+		 */
+		private final BoundingBox boundingBox;
+
+		/**
+		 * Matrix width
+		 */
+		private final long matrixWidth;
+
+		/**
+		 * Matrix height
+		 */
+		private final long matrixHeight;
+
+		/**
+		 * Tile width
+		 */
+		private final long tileWidth;
+
+		/**
+		 * Tile height
+		 */
+		private final long tileHeight;
+
+		/**
+		 * Constructor
+		 * 
+		 * @param zoom
+		 *            zoom level
+		 * @param toZoom
+		 *            reprojection zoom level
+		 * @param boundingBox
+		 *            bounding box
+		 * @param matrixWidth
+		 *            matrix width
+		 * @param matrixHeight
+		 *            matrix height
+		 * @param tileWidth
+		 *            tile width
+		 * @param tileHeight
+		 *            tile height
+		 */
+		private ZoomReprojection(long zoom, long toZoom,
+				BoundingBox boundingBox, long matrixWidth, long matrixHeight,
+				long tileWidth, long tileHeight) {
+			this.zoom = zoom;
+			this.toZoom = toZoom;
+			this.boundingBox = boundingBox;
+			this.matrixWidth = matrixWidth;
+			this.matrixHeight = matrixHeight;
+			this.tileWidth = tileWidth;
+			this.tileHeight = tileHeight;
+		}
+
+	}
+
 }
@@ -0,0 +1,342 @@
+package mil.nga.geopackage.tiles.reproject;
+
+import mil.nga.geopackage.BoundingBox;
+import mil.nga.geopackage.db.BatchStatement;
+import mil.nga.geopackage.db.CoreSQLUtils;
+import mil.nga.geopackage.db.GeoPackageCoreConnection;
+import mil.nga.geopackage.db.GeoPackageReadPool;
+import mil.nga.geopackage.io.GeoPackageProgress;
+import mil.nga.geopackage.io.WorkerPipeline;
+import mil.nga.geopackage.tiles.user.TileTable;
+
+/**
+ * Tile Reprojection pipeline of a worker pool reprojecting tile row ranges in
+ * parallel and a single writer thread committing the reprojected tiles in
+ * batched transactions. Each tile task reads through its own connection from
+ * the source read pool, so worker reads never share the connection the writer
+ * holds in transactions.
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+class TileReprojectionPipeline
+		extends WorkerPipeline<TileReprojectionPipeline.ReprojectedTile> {
+
+	/**
+	 * Tile tasks per worker thread for each zoom level, balancing uneven tile
+	 * row costs
+	 */
+	private static final int TASKS_PER_WORKER = 4;
+
+	/**
+	 * Tile reprojection
+	 */
+	private final TileReprojectionCore reprojection;
+
+	/**
+	 * Connection
+	 */
+	private final GeoPackageCoreConnection db;
+
+	/**
+	 * Source read pool of the worker read connections
+	 */
+	private final GeoPackageReadPool readPool;
+
+	/**
+	 * Reprojection tile table
+	 */
+	private final String table;
+
+	/**
+	 * Worker thread count
+	 */
+	private final int workers;
+
+	/**
+	 * Tiles written per transaction
+	 */
+	private final int batchSize;
+
+	/**
+	 * Progress callbacks
+	 */
+	private final GeoPackageProgress progress;
+
+	/**
+	 * Tile insert statement, created by the writer thread
+	 */
+	private BatchStatement statement;
+
+	/**
+	 * Writer transaction open flag
+	 */
+	private boolean transaction = false;
+
+	/**
+	 * Tiles written in the open writer transaction
+	 */
+	private int count = 0;
+
+	/**
+	 * Written tile count, set by the writer thread
+	 */
+	private volatile int written = 0;
+
+	/**
+	 * Constructor, starts the writer thread
+	 *
+	 * @param reprojection
+	 *            tile reprojection
+	 * @param db
+	 *            connection
+	 * @param readPool
+	 *            source read pool of the worker read connections
+	 * @param table
+	 *            reprojection tile table
+	 * @param workers
+	 *            worker thread count
+	 * @param batchSize
+	 *            tiles written per transaction
+	 * @param progress
+	 *            progress callbacks
+	 */
+	TileReprojectionPipeline(TileReprojectionCore reprojection,
+			GeoPackageCoreConnection db, GeoPackageReadPool readPool,
+			String table, int workers, int batchSize,
+			GeoPackageProgress progress) {
+		super("Tile Reprojection Writer: " + table,
+				"reprojecting tiles. Tile Table: " + table, workers,
+				workers * Math.max(batchSize, 1), true);
+		this.reprojection = reprojection;
+		this.db = db;
+		this.readPool = readPool;
+		this.table = table;
+		this.workers = workers;
+		this.batchSize = Math.max(batchSize, 1);
+		this.progress = progress;
+	}
+
+	/**
+	 * Submit the zoom level tiles, fanned out by tile row ranges
+	 *
+	 * @param zoom
+	 *            zoom level
+	 * @param toZoom
+	 *            reprojection zoom level
+	 * @param boundingBox
+	 *            bounding box
+	 * @param matrixWidth
+	 *            matrix width
+	 * @param matrixHeight
+	 *            matrix height
+	 * @param tileWidth
+	 *            tile width
+	 * @param tileHeight
+	 *            tile height
+	 */
+	void submit(final long zoom, final long toZoom,
+			final BoundingBox boundingBox, final long matrixWidth,
+			final long matrixHeight, final long tileWidth,
+			final long tileHeight) {
+
+		long tasksCount = (long) workers * TASKS_PER_WORKER;
+		final long rowsPerTask = Math.max(
+				(matrixHeight + tasksCount - 1) / tasksCount, 1);
+
+		for (long row = 0; row < matrixHeight; row += rowsPerTask) {
+
+			final long minRow = row;
+			final long maxRow = Math.min(row + rowsPerTask, matrixHeight);
+
+			submit(new Runnable() {
+				@Override
+				public void run() {
+					GeoPackageCoreConnection connection = acquire(readPool);
+					if (connection == null) {
+						return;
+					}
+					try {
+						for (long tileRow = minRow; tileRow < maxRow; tileRow++) {
+							for (long tileColumn = 0; tileColumn < matrixWidth; tileColumn++) {
+								if (isStopped()) {
+									return;
+								}
+								byte[] tileData = reprojection.reprojectTile(
+										connection, zoom, toZoom, boundingBox,
+										matrixWidth, matrixHeight, tileWidth,
+										tileHeight, tileColumn, tileRow);
+								if (tileData != null) {
+									put(new ReprojectedTile(toZoom,
+											tileColumn, tileRow, tileData));
+								}
+							}
+						}
+					} finally {
+						readPool.release(connection);
+					}
+				}
+			});
+		}
+
+	}
+
+	/**
+	 * Get the written tile count
+	 *
+	 * @return written tile count
+	 */
+	int getWritten() {
+		return written;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected boolean isActive() {
+		return reprojection.isActive();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void write(ReprojectedTile tile) throws Exception {
+		if (statement == null) {
+			statement = new BatchStatement(db, table, createInsertSql());
+		}
+		if (!transaction) {
+			db.beginTransaction();
+			transaction = true;
+		}
+		statement.setLong(0, tile.zoom);
+		statement.setLong(1, tile.column);
+		statement.setLong(2, tile.row);
+		statement.setValue(3, tile.data);
+		statement.execute();
+		count++;
+		if (count >= batchSize) {
+			commit();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void idle() {
+		commit();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void flush() {
+		commit();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void closeWriter() {
+		try {
+			if (transaction) {
+				transaction = false;
+				count = 0;
+				db.endTransaction(false);
+			}
+		} finally {
+			if (statement != null) {
+				statement.close();
+				statement = null;
+			}
+		}
+	}
+
+	/**
+	 * Commit the open writer transaction
+	 */
+	private void commit() {
+		if (transaction) {
+			int committed = count;
+			transaction = false;
+			count = 0;
+			db.endTransaction(true);
+			written += committed;
+			if (progress != null) {
+				progress.addProgress(committed);
+			}
+		}
+	}
+
+	/**
+	 * Create the tile insert SQL
+	 *
+	 * @return insert SQL
+	 */
+	private String createInsertSql() {
+		StringBuilder sql = new StringBuilder("INSERT OR REPLACE INTO ");
+		sql.append(CoreSQLUtils.quoteWrap(table));
+		sql.append(" (");
+		sql.append(CoreSQLUtils.quoteWrap(TileTable.COLUMN_ZOOM_LEVEL));
+		sql.append(", ");
+		sql.append(CoreSQLUtils.quoteWrap(TileTable.COLUMN_TILE_COLUMN));
+		sql.append(", ");
+		sql.append(CoreSQLUtils.quoteWrap(TileTable.COLUMN_TILE_ROW));
+		sql.append(", ");
+		sql.append(CoreSQLUtils.quoteWrap(TileTable.COLUMN_TILE_DATA));
+		sql.append(") VALUES (?, ?, ?, ?)");
+		return sql.toString();
+	}
+
+	/**
+	 * Reprojected tile waiting to be written
+	 */
+	static class ReprojectedTile {
+
+		/**
+		 * Zoom level
+		 */
+		private final long zoom;
+
+		/**
+		 * Tile column
+		 */
+		private final long column;
+
+		/**
+		 * Tile row
+		 */
+		private final long row;
+
+		/**
+		 * Tile data
+		 */
+		private final byte[] data;
+
+		/**
+		 * Constructor
+		 *
+		 * @param zoom
+		 *            zoom level
+		 * @param column
+		 *            tile column
+		 * @param row
+		 *            tile row
+		 * @param data
+		 *            tile data
+		 */
+		private ReprojectedTile(long zoom, long column, long row,
+				byte[] data) {
+			this.zoom = zoom;
+			this.column = column;
+			this.row = row;
+			this.data = data;
+		}
+
+	}
+
+}
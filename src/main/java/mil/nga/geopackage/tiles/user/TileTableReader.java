@@ -40,4 +40,12 @@ public class TileTableReader extends UserTableReader<TileColumn, TileTable> {
 		return TileColumn.createColumn(tableColumn);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected String getCacheKey() {
+		return getClass().getName();
+	}
+
 }
@@ -0,0 +1,515 @@
+package mil.nga.geopackage.user;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import mil.nga.geopackage.GeoPackageException;
+import mil.nga.geopackage.db.BatchStatement;
+import mil.nga.geopackage.db.BatchStatementCache;
+import mil.nga.geopackage.db.CoreSQLUtils;
+import mil.nga.geopackage.db.GeoPackageCoreConnection;
+
+/**
+ * User Batch Insert of user rows written with reused, optionally multiple row,
+ * INSERT statements. Consecutive rows with the same set of non null columns
+ * are grouped into a single statement execution. Null values are omitted so
+ * that column defaults apply, matching single row inserts.
+ * <p>
+ * Generated ids are collected in insert order and set on the inserted rows.
+ * Rows without an id are also grouped into multiple row statements. SQLite
+ * assigns each generated rowid one larger than the largest rowid in the table,
+ * or than the AUTOINCREMENT sequence, so the rowids of one statement are
+ * consecutive up to the last insert rowid while the largest table rowid leaves
+ * room for them. This is checked before each multiple row statement.
+ * Otherwise rows are written with single row statements, reading each
+ * generated rowid through a compiled query reused on the statement
+ * connection.
+ * <p>
+ * In upsert mode, rows with ids replace the non null column values of
+ * existing rows with the same id using INSERT ... ON CONFLICT DO UPDATE,
+ * requiring SQLite 3.24.0 or later.
+ *
+ * @param <TColumn>
+ *            column type
+ * @param <TTable>
+ *            table type
+ * @param <TRow>
+ *            row type
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class UserBatchInsert<TColumn extends UserColumn, TTable extends UserTable<TColumn>, TRow extends UserCoreRow<TColumn, TTable>>
+		implements Closeable {
+
+	/**
+	 * Default maximum rows per insert statement
+	 */
+	public static final int DEFAULT_STATEMENT_ROWS = 100;
+
+	/**
+	 * SQLite default host parameter limit
+	 */
+	public static final int MAX_HOST_PARAMETERS = 999;
+
+	/**
+	 * Connection
+	 */
+	private final GeoPackageCoreConnection db;
+
+	/**
+	 * Table name
+	 */
+	private final String tableName;
+
+	/**
+	 * Maximum rows per insert statement
+	 */
+	private final int statementRows;
+
+	/**
+	 * Rows waiting to be written with the same column set
+	 */
+	private final List<TRow> pending = new ArrayList<>();
+
+	/**
+	 * Columns of the pending rows
+	 */
+	private UserColumns<TColumn> columns;
+
+	/**
+	 * Non null column flags of the pending rows
+	 */
+	private boolean[] mask;
+
+	/**
+	 * Non null column flags of the row being added
+	 */
+	private boolean[] rowMask;
+
+	/**
+	 * Non null column count of the pending rows
+	 */
+	private int maskCount;
+
+	/**
+	 * Rows per statement for the pending column set
+	 */
+	private int groupRows;
+
+	/**
+	 * Inserted row ids
+	 */
+	private long[] ids = new long[64];
+
+	/**
+	 * Inserted row count
+	 */
+	private int count = 0;
+
+	/**
+	 * Upsert rows with ids
+	 */
+	private final boolean upsert;
+
+	/**
+	 * Max rowid query SQL
+	 */
+	private String maxRowIdSql;
+
+	/**
+	 * Open statements
+	 */
+	private final BatchStatementCache statements;
+
+	/**
+	 * Constructor
+	 *
+	 * @param db
+	 *            connection
+	 * @param tableName
+	 *            table name
+	 */
+	public UserBatchInsert(GeoPackageCoreConnection db, String tableName) {
+		this(db, tableName, DEFAULT_STATEMENT_ROWS);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param db
+	 *            connection
+	 * @param tableName
+	 *            table name
+	 * @param statementRows
+	 *            maximum rows per insert statement, 1 for single row
+	 *            statements
+	 */
+	public UserBatchInsert(GeoPackageCoreConnection db, String tableName,
+			int statementRows) {
+		this(db, tableName, statementRows, false);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param db
+	 *            connection
+	 * @param tableName
+	 *            table name
+	 * @param statementRows
+	 *            maximum rows per insert statement, 1 for single row
+	 *            statements
+	 * @param upsert
+	 *            true to update existing rows with the same id
+	 */
+	public UserBatchInsert(GeoPackageCoreConnection db, String tableName,
+			int statementRows, boolean upsert) {
+		this.db = db;
+		this.tableName = tableName;
+		this.statementRows = Math.max(statementRows, 1);
+		this.upsert = upsert;
+		this.statements = new BatchStatementCache(db, tableName);
+	}
+
+	/**
+	 * Get the table name
+	 *
+	 * @return table name
+	 */
+	public String getTableName() {
+		return tableName;
+	}
+
+	/**
+	 * Get the maximum rows per insert statement
+	 *
+	 * @return statement rows
+	 */
+	public int getStatementRows() {
+		return statementRows;
+	}
+
+	/**
+	 * Check if rows with ids are upserted
+	 *
+	 * @return true if upsert
+	 */
+	public boolean isUpsert() {
+		return upsert;
+	}
+
+	/**
+	 * Get the buffered row count
+	 *
+	 * @return buffered rows
+	 */
+	public int size() {
+		return pending.size();
+	}
+
+	/**
+	 * Get the inserted row count
+	 *
+	 * @return inserted rows
+	 */
+	public int getCount() {
+		return count;
+	}
+
+	/**
+	 * Get the inserted row ids in insert order
+	 *
+	 * @return row ids
+	 */
+	public long[] getIds() {
+		return Arrays.copyOf(ids, count);
+	}
+
+	/**
+	 * Add the row, writing buffered rows when the column set changes or the
+	 * statement is full
+	 *
+	 * @param row
+	 *            row
+	 */
+	public void add(TRow row) {
+
+		Object[] values = row.getValues();
+		if (rowMask == null || rowMask.length != values.length) {
+			rowMask = new boolean[values.length];
+		}
+		int rowMaskCount = 0;
+		for (int i = 0; i < values.length; i++) {
+			rowMask[i] = values[i] != null;
+			if (rowMask[i]) {
+				rowMaskCount++;
+			}
+		}
+
+		if (!pending.isEmpty() && (columns != row.getColumns()
+				|| !Arrays.equals(mask, rowMask))) {
+			flush();
+		}
+
+		if (pending.isEmpty()) {
+			columns = row.getColumns();
+			boolean[] previous = mask;
+			mask = rowMask;
+			rowMask = previous;
+			maskCount = rowMaskCount;
+			if (maskCount == 0) {
+				// Default values inserts are single row statements
+				groupRows = 1;
+			} else {
+				groupRows = Math.max(1, Math.min(statementRows,
+						MAX_HOST_PARAMETERS / maskCount));
+			}
+		}
+
+		pending.add(row);
+		if (pending.size() >= groupRows) {
+			flush();
+		}
+	}
+
+	/**
+	 * Add the rows
+	 *
+	 * @param rows
+	 *            rows
+	 */
+	public void addAll(Iterable<TRow> rows) {
+		Iterator<TRow> iterator = rows.iterator();
+		while (iterator.hasNext()) {
+			add(iterator.next());
+		}
+	}
+
+	/**
+	 * Write the buffered rows
+	 *
+	 * @return written row count
+	 */
+	public int flush() {
+
+		int rows = pending.size();
+		if (rows > 0) {
+
+			if (count + rows > ids.length) {
+				ids = Arrays.copyOf(ids,
+						Math.max(ids.length * 2, count + rows));
+			}
+
+			if (hasIds()) {
+				execute(getStatement(rows), pending);
+				for (TRow row : pending) {
+					ids[count++] = row.getId();
+				}
+			} else {
+				BatchStatement statement = getStatement(rows);
+				Long maxRowId = null;
+				if (rows > 1) {
+					maxRowId = getMaxRowId(statement, rows);
+				}
+				if (maxRowId != null) {
+					execute(statement, pending);
+					long lastRowId = statement.getLastInsertRowId();
+					if (lastRowId - rows < maxRowId) {
+						throw new GeoPackageException(
+								"Generated rowids of a multiple row insert were not consecutive. Table: "
+										+ tableName + ", Rows: " + rows
+										+ ", Previous Max Rowid: " + maxRowId
+										+ ", Last Insert Rowid: "
+										+ lastRowId);
+					}
+					long id = lastRowId - rows + 1;
+					for (TRow row : pending) {
+						setId(row, id++);
+					}
+				} else {
+					if (rows > 1) {
+						statement = getStatement(1);
+					}
+					List<TRow> single = new ArrayList<>(1);
+					single.add(null);
+					for (TRow row : pending) {
+						single.set(0, row);
+						execute(statement, single);
+						setId(row, statement.getLastInsertRowId());
+					}
+				}
+			}
+
+			pending.clear();
+		}
+
+		return rows;
+	}
+
+	/**
+	 * Bind the rows to the statement and execute it
+	 *
+	 * @param statement
+	 *            statement for the row count
+	 * @param rows
+	 *            rows
+	 */
+	private void execute(BatchStatement statement, List<TRow> rows) {
+		long start = System.nanoTime();
+		int argument = 0;
+		for (TRow row : rows) {
+			Object[] values = row.getValues();
+			for (int i = 0; i < values.length; i++) {
+				if (mask[i]) {
+					statement.setValue(argument++, values[i],
+							columns.getColumn(i).getDataType());
+				}
+			}
+		}
+		statement.execute();
+		db.instrument(statement.getSql(), null, tableName, rows.size(),
+				start, getClass());
+	}
+
+	/**
+	 * Get the largest table rowid when generated rowids of the row count will
+	 * be consecutive, without reaching the largest possible rowid after which
+	 * SQLite assigns random rowids
+	 *
+	 * @param statement
+	 *            statement whose connection is queried
+	 * @param rows
+	 *            row count
+	 * @return largest rowid, 0 when empty, or null when the rowids may not be
+	 *         consecutive
+	 */
+	private Long getMaxRowId(BatchStatement statement, int rows) {
+		if (maxRowIdSql == null) {
+			maxRowIdSql = "SELECT MAX(ROWID) FROM "
+					+ CoreSQLUtils.quoteWrap(tableName);
+		}
+		Long maxRowId = statement.queryForLong(maxRowIdSql);
+		if (maxRowId == null) {
+			maxRowId = 0L;
+		}
+		if (maxRowId > Long.MAX_VALUE - rows) {
+			maxRowId = null;
+		}
+		return maxRowId;
+	}
+
+	/**
+	 * Set the generated id on the row and collect it
+	 *
+	 * @param row
+	 *            inserted row
+	 * @param id
+	 *            generated id
+	 */
+	private void setId(TRow row, long id) {
+		if (columns.getPkColumnIndex() >= 0) {
+			row.setId(id, true);
+		}
+		ids[count++] = id;
+	}
+
+	/**
+	 * Check if the pending rows have ids
+	 *
+	 * @return true if the primary key column is set
+	 */
+	private boolean hasIds() {
+		int pkIndex = columns.getPkColumnIndex();
+		return pkIndex >= 0 && mask[pkIndex];
+	}
+
+	/**
+	 * Close the statements without writing buffered rows
+	 */
+	@Override
+	public void close() {
+		statements.close();
+		pending.clear();
+	}
+
+	/**
+	 * Get or create the insert statement for the pending column set
+	 *
+	 * @param rows
+	 *            row count
+	 * @return batch statement
+	 */
+	private BatchStatement getStatement(int rows) {
+		return statements.get(buildSql(rows));
+	}
+
+	/**
+	 * Build the insert SQL for the pending column set
+	 *
+	 * @param rows
+	 *            row count
+	 * @return insert SQL
+	 */
+	private String buildSql(int rows) {
+		StringBuilder sql = new StringBuilder("INSERT INTO ");
+		sql.append(CoreSQLUtils.quoteWrap(tableName));
+		if (maskCount == 0) {
+			sql.append(" DEFAULT VALUES");
+		} else {
+			sql.append(" (");
+			StringBuilder placeholders = new StringBuilder("(");
+			boolean first = true;
+			for (int i = 0; i < mask.length; i++) {
+				if (mask[i]) {
+					if (!first) {
+						sql.append(", ");
+						placeholders.append(", ");
+					}
+					sql.append(CoreSQLUtils
+							.quoteWrap(columns.getColumnName(i)));
+					placeholders.append("?");
+					first = false;
+				}
+			}
+			placeholders.append(")");
+			sql.append(") VALUES ");
+			for (int i = 0; i < rows; i++) {
+				if (i > 0) {
+					sql.append(", ");
+				}
+				sql.append(placeholders);
+			}
+			int pkIndex = columns.getPkColumnIndex();
+			if (upsert && pkIndex >= 0 && mask[pkIndex]) {
+				sql.append(" ON CONFLICT (");
+				sql.append(CoreSQLUtils.quoteWrap(columns.getPkColumnName()));
+				sql.append(")");
+				StringBuilder set = new StringBuilder();
+				for (int i = 0; i < mask.length; i++) {
+					if (mask[i] && i != pkIndex) {
+						if (set.length() > 0) {
+							set.append(", ");
+						}
+						String column = CoreSQLUtils
+								.quoteWrap(columns.getColumnName(i));
+						set.append(column);
+						set.append(" = excluded.");
+						set.append(column);
+					}
+				}
+				if (set.length() > 0) {
+					sql.append(" DO UPDATE SET ");
+					sql.append(set);
+				} else {
+					sql.append(" DO NOTHING");
+				}
+			}
+		}
+		return sql.toString();
+	}
+
+}
@@ -0,0 +1,237 @@
+package mil.nga.geopackage.user;
+
+import java.io.Closeable;
+import java.util.Map;
+
+import mil.nga.geopackage.GeoPackageException;
+import mil.nga.geopackage.db.BatchStatement;
+import mil.nga.geopackage.db.BatchStatementCache;
+import mil.nga.geopackage.db.CoreSQLUtils;
+import mil.nga.geopackage.db.GeoPackageCoreConnection;
+
+/**
+ * User Batch Update of rows by id, written with reused UPDATE ... WHERE id = ?
+ * statements. Updates are grouped by their changed column set, with one
+ * compiled statement per column set kept open for the life of the batch.
+ *
+ * @param <TColumn>
+ *            column type
+ * @param <TTable>
+ *            table type
+ * @param <TRow>
+ *            row type
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class UserBatchUpdate<TColumn extends UserColumn, TTable extends UserTable<TColumn>, TRow extends UserCoreRow<TColumn, TTable>>
+		implements Closeable {
+
+	/**
+	 * User table
+	 */
+	private final TTable table;
+
+	/**
+	 * Connection
+	 */
+	private final GeoPackageCoreConnection db;
+
+	/**
+	 * Open statements
+	 */
+	private final BatchStatementCache statements;
+
+	/**
+	 * Columns of the last row update
+	 */
+	private UserColumns<TColumn> rowColumns;
+
+	/**
+	 * SQL of the last row update
+	 */
+	private String rowSql;
+
+	/**
+	 * Updated row count
+	 */
+	private int count = 0;
+
+	/**
+	 * Constructor
+	 *
+	 * @param db
+	 *            connection
+	 * @param table
+	 *            user table
+	 */
+	public UserBatchUpdate(GeoPackageCoreConnection db, TTable table) {
+		if (!table.hasPkColumn()) {
+			throw new GeoPackageException(
+					"Batch updates require a primary key column. Table: "
+							+ table.getTableName());
+		}
+		this.table = table;
+		this.db = db;
+		this.statements = new BatchStatementCache(db, table.getTableName());
+	}
+
+	/**
+	 * Get the user table
+	 *
+	 * @return table
+	 */
+	public TTable getTable() {
+		return table;
+	}
+
+	/**
+	 * Get the updated row count
+	 *
+	 * @return updated rows
+	 */
+	public int getCount() {
+		return count;
+	}
+
+	/**
+	 * Update all non primary key column values of the row by its id
+	 *
+	 * @param row
+	 *            row with an id
+	 * @return number of rows affected, should be 0 or 1
+	 */
+	public int update(TRow row) {
+
+		UserColumns<TColumn> columns = row.getColumns();
+		int pkIndex = columns.getPkColumnIndex();
+		if (rowColumns != columns) {
+			String[] names = new String[columns.columnCount()
+					- (pkIndex >= 0 ? 1 : 0)];
+			int index = 0;
+			for (int i = 0; i < columns.columnCount(); i++) {
+				if (i != pkIndex) {
+					names[index++] = columns.getColumnName(i);
+				}
+			}
+			rowSql = names.length > 0 ? buildSql(names) : null;
+			rowColumns = columns;
+		}
+
+		int updated = 0;
+
+		if (rowSql != null) {
+			BatchStatement statement = statements.get(rowSql);
+			Object[] values = row.getValues();
+			int argument = 0;
+			for (int i = 0; i < values.length; i++) {
+				if (i != pkIndex) {
+					statement.setValue(argument++, values[i],
+							columns.getColumn(i).getDataType());
+				}
+			}
+			statement.setLong(argument, row.getId());
+			updated = execute(statement);
+		}
+
+		return updated;
+	}
+
+	/**
+	 * Update the column values of the row with the id
+	 *
+	 * @param id
+	 *            row id
+	 * @param values
+	 *            column values by column name
+	 * @return number of rows affected, should be 0 or 1
+	 */
+	public int update(long id, Map<String, Object> values) {
+
+		int updated = 0;
+
+		if (!values.isEmpty()) {
+
+			// Order the columns by table index so equal column sets share a
+			// statement regardless of map iteration order
+			int[] indices = new int[values.size()];
+			Object[] columnValues = new Object[indices.length];
+			int size = 0;
+			for (Map.Entry<String, Object> value : values.entrySet()) {
+				int index = table.getColumnIndex(value.getKey());
+				int position = size++;
+				while (position > 0 && indices[position - 1] > index) {
+					indices[position] = indices[position - 1];
+					columnValues[position] = columnValues[position - 1];
+					position--;
+				}
+				indices[position] = index;
+				columnValues[position] = value.getValue();
+			}
+			String[] names = new String[indices.length];
+			for (int i = 0; i < indices.length; i++) {
+				names[i] = table.getColumnName(indices[i]);
+			}
+
+			BatchStatement statement = statements.get(buildSql(names));
+			for (int i = 0; i < columnValues.length; i++) {
+				statement.setValue(i, columnValues[i],
+						table.getColumn(indices[i]).getDataType());
+			}
+			statement.setLong(columnValues.length, id);
+
+			updated = execute(statement);
+		}
+
+		return updated;
+	}
+
+	/**
+	 * Close the statements
+	 */
+	@Override
+	public void close() {
+		statements.close();
+	}
+
+	/**
+	 * Execute the bound statement
+	 *
+	 * @param statement
+	 *            batch statement
+	 * @return number of rows affected
+	 */
+	private int execute(BatchStatement statement) {
+		long start = System.nanoTime();
+		int updated = statement.execute();
+		db.instrument(statement.getSql(), null, table.getTableName(), updated,
+				start, getClass());
+		count += updated;
+		return updated;
+	}
+
+	/**
+	 * Build the update by id SQL
+	 *
+	 * @param columns
+	 *            updated column names
+	 * @return update SQL
+	 */
+	private String buildSql(String[] columns) {
+		StringBuilder sql = new StringBuilder("UPDATE ");
+		sql.append(CoreSQLUtils.quoteWrap(table.getTableName()));
+		sql.append(" SET ");
+		for (int i = 0; i < columns.length; i++) {
+			if (i > 0) {
+				sql.append(", ");
+			}
+			sql.append(CoreSQLUtils.quoteWrap(columns[i]));
+			sql.append(" = ?");
+		}
+		sql.append(" WHERE ");
+		sql.append(CoreSQLUtils.quoteWrap(table.getPkColumnName()));
+		sql.append(" = ?");
+		return sql.toString();
+	}
+
+}
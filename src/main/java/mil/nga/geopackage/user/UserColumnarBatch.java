@@ -0,0 +1,454 @@
+package mil.nga.geopackage.user;
+
+import java.util.Arrays;
+
+import mil.nga.geopackage.GeoPackageException;
+import mil.nga.geopackage.db.GeoPackageDataType;
+
+/**
+ * User Columnar Batch of up to a fixed number of rows for selected columns,
+ * stored as primitive column vectors: integer columns in long arrays, floating
+ * point columns in double arrays, and blob and text columns in a shared byte
+ * buffer with row offsets. Each column has a null bitmap. A batch is refilled
+ * in place by {@link UserColumnarReader}, so reading does not allocate per
+ * row.
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class UserColumnarBatch {
+
+	/**
+	 * Column vector type
+	 */
+	public enum VectorType {
+
+		/**
+		 * Integer values in a long array
+		 */
+		LONG,
+
+		/**
+		 * Floating point values in a double array
+		 */
+		DOUBLE,
+
+		/**
+		 * Blob values, and text values as UTF-8 bytes, in a byte buffer with
+		 * row offsets
+		 */
+		BLOB;
+
+		/**
+		 * Get the vector type for the data type
+		 *
+		 * @param dataType
+		 *            data type
+		 * @return vector type
+		 */
+		public static VectorType fromDataType(GeoPackageDataType dataType) {
+			VectorType type;
+			if (dataType == null) {
+				type = BLOB;
+			} else {
+				switch (dataType) {
+				case BOOLEAN:
+				case TINYINT:
+				case SMALLINT:
+				case MEDIUMINT:
+				case INT:
+				case INTEGER:
+					type = LONG;
+					break;
+				case FLOAT:
+				case DOUBLE:
+				case REAL:
+					type = DOUBLE;
+					break;
+				default:
+					type = BLOB;
+				}
+			}
+			return type;
+		}
+
+	}
+
+	/**
+	 * Maximum rows per batch
+	 */
+	private final int capacity;
+
+	/**
+	 * Column names
+	 */
+	private final String[] columnNames;
+
+	/**
+	 * Column vector types
+	 */
+	private final VectorType[] types;
+
+	/**
+	 * Long vectors by column, null for other types
+	 */
+	private final long[][] longs;
+
+	/**
+	 * Double vectors by column, null for other types
+	 */
+	private final double[][] doubles;
+
+	/**
+	 * Blob byte buffers by column, null for other types
+	 */
+	private final byte[][] blobs;
+
+	/**
+	 * Blob row offsets by column, capacity + 1 values, null for other types
+	 */
+	private final int[][] offsets;
+
+	/**
+	 * Null bitmaps by column, one bit per row
+	 */
+	private final long[][] nulls;
+
+	/**
+	 * Filled row count
+	 */
+	private int size = 0;
+
+	/**
+	 * Constructor
+	 *
+	 * @param capacity
+	 *            maximum rows per batch
+	 * @param columnNames
+	 *            column names
+	 * @param types
+	 *            column vector types
+	 */
+	public UserColumnarBatch(int capacity, String[] columnNames,
+			VectorType[] types) {
+		if (capacity < 1) {
+			throw new GeoPackageException(
+					"Batch capacity must be positive: " + capacity);
+		}
+		if (columnNames.length != types.length) {
+			throw new GeoPackageException("Column names count "
+					+ columnNames.length + " does not match vector types count "
+					+ types.length);
+		}
+		this.capacity = capacity;
+		this.columnNames = Arrays.copyOf(columnNames, columnNames.length);
+		this.types = Arrays.copyOf(types, types.length);
+		int columns = columnNames.length;
+		longs = new long[columns][];
+		doubles = new double[columns][];
+		blobs = new byte[columns][];
+		offsets = new int[columns][];
+		nulls = new long[columns][(capacity + 63) / 64];
+		for (int i = 0; i < columns; i++) {
+			switch (types[i]) {
+			case LONG:
+				longs[i] = new long[capacity];
+				break;
+			case DOUBLE:
+				doubles[i] = new double[capacity];
+				break;
+			case BLOB:
+				blobs[i] = new byte[1024];
+				offsets[i] = new int[capacity + 1];
+				break;
+			default:
+				throw new GeoPackageException(
+						"Unsupported vector type: " + types[i]);
+			}
+		}
+	}
+
+	/**
+	 * Get the maximum rows per batch
+	 *
+	 * @return capacity
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Get the filled row count
+	 *
+	 * @return rows
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Check if the batch has no rows
+	 *
+	 * @return true if empty
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Get the column count
+	 *
+	 * @return column count
+	 */
+	public int getColumnCount() {
+		return columnNames.length;
+	}
+
+	/**
+	 * Get the column name
+	 *
+	 * @param column
+	 *            batch column index
+	 * @return column name
+	 */
+	public String getColumnName(int column) {
+		return columnNames[column];
+	}
+
+	/**
+	 * Get the batch column index of the column name
+	 *
+	 * @param columnName
+	 *            column name
+	 * @return batch column index or -1
+	 */
+	public int getColumnIndex(String columnName) {
+		int index = -1;
+		for (int i = 0; i < columnNames.length; i++) {
+			if (columnNames[i].equalsIgnoreCase(columnName)) {
+				index = i;
+				break;
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Get the column vector type
+	 *
+	 * @param column
+	 *            batch column index
+	 * @return vector type
+	 */
+	public VectorType getType(int column) {
+		return types[column];
+	}
+
+	/**
+	 * Get the long vector of an integer column, valid for the first
+	 * {@link #size()} values
+	 *
+	 * @param column
+	 *            batch column index
+	 * @return long values
+	 */
+	public long[] getLongs(int column) {
+		return vector(longs, column, VectorType.LONG);
+	}
+
+	/**
+	 * Get the double vector of a floating point column, valid for the first
+	 * {@link #size()} values
+	 *
+	 * @param column
+	 *            batch column index
+	 * @return double values
+	 */
+	public double[] getDoubles(int column) {
+		return vector(doubles, column, VectorType.DOUBLE);
+	}
+
+	/**
+	 * Get the byte buffer of a blob or text column. Row values are found
+	 * using {@link #getOffsets(int)}.
+	 *
+	 * @param column
+	 *            batch column index
+	 * @return byte buffer
+	 */
+	public byte[] getBlobData(int column) {
+		return vector(blobs, column, VectorType.BLOB);
+	}
+
+	/**
+	 * Get the row offsets into the byte buffer of a blob or text column. Row
+	 * i occupies bytes offsets[i] (inclusive) to offsets[i + 1] (exclusive).
+	 *
+	 * @param column
+	 *            batch column index
+	 * @return row offsets, {@link #size()} + 1 values valid
+	 */
+	public int[] getOffsets(int column) {
+		return vector(offsets, column, VectorType.BLOB);
+	}
+
+	/**
+	 * Get a copy of a blob or text row value
+	 *
+	 * @param column
+	 *            batch column index
+	 * @param row
+	 *            batch row
+	 * @return bytes or null
+	 */
+	public byte[] getBlob(int column, int row) {
+		byte[] value = null;
+		if (!isNull(column, row)) {
+			int[] columnOffsets = getOffsets(column);
+			value = Arrays.copyOfRange(blobs[column], columnOffsets[row],
+					columnOffsets[row + 1]);
+		}
+		return value;
+	}
+
+	/**
+	 * Get the null bitmap of a column, bit (row % 64) of word (row / 64) set
+	 * for null values
+	 *
+	 * @param column
+	 *            batch column index
+	 * @return null bitmap
+	 */
+	public long[] getNulls(int column) {
+		return nulls[column];
+	}
+
+	/**
+	 * Check if a row value is null
+	 *
+	 * @param column
+	 *            batch column index
+	 * @param row
+	 *            batch row
+	 * @return true if null
+	 */
+	public boolean isNull(int column, int row) {
+		return (nulls[column][row >>> 6] & (1L << row)) != 0;
+	}
+
+	/**
+	 * Clear the batch for refilling
+	 */
+	void clear() {
+		size = 0;
+		for (int i = 0; i < nulls.length; i++) {
+			Arrays.fill(nulls[i], 0);
+		}
+	}
+
+	/**
+	 * Set a long row value
+	 *
+	 * @param column
+	 *            batch column index
+	 * @param row
+	 *            batch row
+	 * @param value
+	 *            value
+	 */
+	void setLong(int column, int row, long value) {
+		longs[column][row] = value;
+	}
+
+	/**
+	 * Set a double row value
+	 *
+	 * @param column
+	 *            batch column index
+	 * @param row
+	 *            batch row
+	 * @param value
+	 *            value
+	 */
+	void setDouble(int column, int row, double value) {
+		doubles[column][row] = value;
+	}
+
+	/**
+	 * Set a blob row value, rows must be set in order
+	 *
+	 * @param column
+	 *            batch column index
+	 * @param row
+	 *            batch row
+	 * @param value
+	 *            bytes or null for an empty value
+	 */
+	void setBlob(int column, int row, byte[] value) {
+		int[] columnOffsets = offsets[column];
+		int start = columnOffsets[row];
+		int length = value != null ? value.length : 0;
+		if (start + length > blobs[column].length) {
+			blobs[column] = Arrays.copyOf(blobs[column],
+					Math.max(blobs[column].length * 2, start + length));
+		}
+		if (length > 0) {
+			System.arraycopy(value, 0, blobs[column], start, length);
+		}
+		columnOffsets[row + 1] = start + length;
+	}
+
+	/**
+	 * Set a null row value, rows must be set in order
+	 *
+	 * @param column
+	 *            batch column index
+	 * @param row
+	 *            batch row
+	 */
+	void setNull(int column, int row) {
+		nulls[column][row >>> 6] |= 1L << row;
+		switch (types[column]) {
+		case LONG:
+			longs[column][row] = 0;
+			break;
+		case DOUBLE:
+			doubles[column][row] = Double.NaN;
+			break;
+		case BLOB:
+			offsets[column][row + 1] = offsets[column][row];
+			break;
+		default:
+		}
+	}
+
+	/**
+	 * Set the filled row count
+	 *
+	 * @param size
+	 *            rows
+	 */
+	void setSize(int size) {
+		this.size = size;
+	}
+
+	/**
+	 * Get a column vector, validating the vector type
+	 *
+	 * @param vectors
+	 *            vectors by column
+	 * @param column
+	 *            batch column index
+	 * @param type
+	 *            expected vector type
+	 * @return vector
+	 */
+	private <T> T vector(T[] vectors, int column, VectorType type) {
+		if (types[column] != type) {
+			throw new GeoPackageException("Column " + columnNames[column]
+					+ " is a " + types[column] + " vector, not " + type);
+		}
+		return vectors[column];
+	}
+
+}
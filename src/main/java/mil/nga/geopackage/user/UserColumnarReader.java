@@ -0,0 +1,202 @@
+package mil.nga.geopackage.user;
+
+import java.nio.charset.StandardCharsets;
+
+import mil.nga.geopackage.GeoPackageException;
+import mil.nga.geopackage.db.ResultUtils;
+import mil.nga.geopackage.user.UserColumnarBatch.VectorType;
+
+/**
+ * User Columnar Reader, reading selected columns of a user result into reused
+ * {@link UserColumnarBatch} primitive column vectors, up to a batch capacity
+ * of rows at a time. Values are read with the typed result getters, avoiding
+ * row objects and boxed values.
+ * <p>
+ * The reader does not close the result.
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class UserColumnarReader {
+
+	/**
+	 * Default rows per batch
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 1024;
+
+	/**
+	 * User result
+	 */
+	private final UserCoreResult<?, ?, ?> result;
+
+	/**
+	 * Result column indexes of the batch columns
+	 */
+	private final int[] indexes;
+
+	/**
+	 * Reused batch
+	 */
+	private final UserColumnarBatch batch;
+
+	/**
+	 * Constructor reading the columns with the default batch size and vector
+	 * types from the column data types
+	 *
+	 * @param result
+	 *            user result
+	 * @param columnNames
+	 *            column names
+	 */
+	public UserColumnarReader(UserCoreResult<?, ?, ?> result,
+			String... columnNames) {
+		this(result, DEFAULT_BATCH_SIZE, columnNames);
+	}
+
+	/**
+	 * Constructor reading the columns with vector types from the column data
+	 * types
+	 *
+	 * @param result
+	 *            user result
+	 * @param batchSize
+	 *            rows per batch
+	 * @param columnNames
+	 *            column names
+	 */
+	public UserColumnarReader(UserCoreResult<?, ?, ?> result, int batchSize,
+			String... columnNames) {
+		this(result, batchSize, columnNames, getTypes(result, columnNames));
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param result
+	 *            user result
+	 * @param batchSize
+	 *            rows per batch
+	 * @param columnNames
+	 *            column names
+	 * @param types
+	 *            column vector types
+	 */
+	public UserColumnarReader(UserCoreResult<?, ?, ?> result, int batchSize,
+			String[] columnNames, VectorType[] types) {
+		this.result = result;
+		this.batch = new UserColumnarBatch(batchSize, columnNames, types);
+		indexes = new int[columnNames.length];
+		for (int i = 0; i < columnNames.length; i++) {
+			indexes[i] = result.getColumnIndex(columnNames[i]);
+			if (indexes[i] < 0) {
+				throw columnNotFound(result, columnNames[i]);
+			}
+		}
+	}
+
+	/**
+	 * Get the user result
+	 *
+	 * @return result
+	 */
+	public UserCoreResult<?, ?, ?> getResult() {
+		return result;
+	}
+
+	/**
+	 * Get the reused batch
+	 *
+	 * @return batch
+	 */
+	public UserColumnarBatch getBatch() {
+		return batch;
+	}
+
+	/**
+	 * Read the next batch of rows into the reused batch, replacing the
+	 * previous batch values
+	 *
+	 * @return batch, or null when no rows remain
+	 */
+	public UserColumnarBatch next() {
+
+		batch.clear();
+
+		int capacity = batch.getCapacity();
+		int row = 0;
+		while (row < capacity && result.moveToNext()) {
+			for (int column = 0; column < indexes.length; column++) {
+				int index = indexes[column];
+				if (result.getType(index) == ResultUtils.FIELD_TYPE_NULL) {
+					batch.setNull(column, row);
+				} else {
+					switch (batch.getType(column)) {
+					case LONG:
+						batch.setLong(column, row, result.getLong(index));
+						break;
+					case DOUBLE:
+						batch.setDouble(column, row, result.getDouble(index));
+						break;
+					case BLOB:
+						byte[] value;
+						if (result
+								.getType(index) == ResultUtils.FIELD_TYPE_STRING) {
+							value = result.getString(index)
+									.getBytes(StandardCharsets.UTF_8);
+						} else {
+							value = result.getBlob(index);
+						}
+						batch.setBlob(column, row, value);
+						break;
+					default:
+						throw new GeoPackageException("Unsupported vector type: "
+								+ batch.getType(column));
+					}
+				}
+			}
+			row++;
+		}
+		batch.setSize(row);
+
+		return row > 0 ? batch : null;
+	}
+
+	/**
+	 * Get the vector types of the result columns from their data types
+	 *
+	 * @param result
+	 *            user result
+	 * @param columnNames
+	 *            column names
+	 * @return vector types
+	 */
+	private static VectorType[] getTypes(UserCoreResult<?, ?, ?> result,
+			String[] columnNames) {
+		VectorType[] types = new VectorType[columnNames.length];
+		UserColumns<?> columns = result.getColumns();
+		for (int i = 0; i < columnNames.length; i++) {
+			if (!columns.hasColumn(columnNames[i])) {
+				throw columnNotFound(result, columnNames[i]);
+			}
+			types[i] = VectorType.fromDataType(
+					columns.getColumn(columnNames[i]).getDataType());
+		}
+		return types;
+	}
+
+	/**
+	 * Create a column not found exception
+	 *
+	 * @param result
+	 *            user result
+	 * @param columnName
+	 *            column name
+	 * @return exception
+	 */
+	private static GeoPackageException columnNotFound(
+			UserCoreResult<?, ?, ?> result, String columnName) {
+		return new GeoPackageException("Column " + columnName
+				+ " not found in result of table: " + result.getTableName());
+	}
+
+}
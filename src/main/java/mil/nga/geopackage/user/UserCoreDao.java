@@ -2,6 +2,7 @@ package mil.nga.geopackage.user;
 
 import java.lang.reflect.Array;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -18,6 +19,10 @@ import mil.nga.geopackage.db.CoreSQLUtils;
 import mil.nga.geopackage.db.GeoPackageCoreConnection;
 import mil.nga.geopackage.db.GeoPackageDao;
 import mil.nga.geopackage.db.GeoPackageDataType;
+import mil.nga.geopackage.db.ListenableResult;
+import mil.nga.geopackage.db.Result;
+import mil.nga.geopackage.db.ResultCloseListener;
+import mil.nga.geopackage.db.instrument.GeoPackageOperation;
 import mil.nga.geopackage.tiles.TileBoundingBoxUtils;
 import mil.nga.proj.Projection;
 import mil.nga.proj.ProjectionConstants;
@@ -40,6 +45,13 @@ import mil.nga.sf.proj.GeometryTransform;
  */
 public abstract class UserCoreDao<TColumn extends UserColumn, TTable extends UserTable<TColumn>, TRow extends UserCoreRow<TColumn, TTable>, TResult extends UserCoreResult<TColumn, TTable, TRow>> {
 
+	/**
+	 * Default rows per committed transaction for batch writes
+	 * 
+	 * @since 6.6.8
+	 */
+	public static final int DEFAULT_BATCH_COMMIT_ROWS = 10000;
+
 	/**
 	 * Database
 	 */
@@ -142,6 +154,43 @@ public abstract class UserCoreDao<TColumn extends UserColumn, TTable extends Use
 	 */
 	protected abstract TResult prepareResult(TResult result);
 
+	/**
+	 * Report the query result operation to the connection instrumentation.
+	 * Results supporting close listeners are reported when closed with the
+	 * rows read and the elapsed time through close. Other results are
+	 * reported immediately, the elapsed time covering preparing the result and
+	 * the row count unknown.
+	 * 
+	 * @param result
+	 *            result
+	 * @param start
+	 *            start time in nanoseconds
+	 */
+	private void instrument(TResult result, final long start) {
+		if (db.isInstrumented()) {
+			final String sql = result.getSql();
+			final String[] args = result.getSelectionArgs();
+			if (result instanceof ListenableResult) {
+				((ListenableResult) result)
+						.addCloseListener(new ResultCloseListener() {
+
+							/**
+							 * {@inheritDoc}
+							 */
+							@Override
+							public void closed(Result closed, long rows) {
+								db.instrument(sql, args, getTableName(), rows,
+										start, UserCoreDao.this.getClass());
+							}
+
+						});
+			} else {
+				db.instrument(sql, args, getTableName(),
+						GeoPackageOperation.UNKNOWN_ROWS, start, getClass());
+			}
+		}
+	}
+
 	/**
 	 * Get the database
 	 * 
@@ -364,7 +413,10 @@ public abstract class UserCoreDao<TColumn extends UserColumn, TTable extends Use
 	 * @since 3.5.0
 	 */
 	public TResult rawQuery(String sql, String[] selectionArgs) {
-		return userDb.rawQuery(sql, selectionArgs);
+		long start = System.nanoTime();
+		TResult result = userDb.rawQuery(sql, selectionArgs);
+		instrument(result, start);
+		return result;
 	}
 
 	/**
@@ -381,7 +433,10 @@ public abstract class UserCoreDao<TColumn extends UserColumn, TTable extends Use
 	 */
 	public TResult rawQuery(String sql, String[] columns,
 			String[] selectionArgs) {
-		return userDb.rawQuery(sql, columns, selectionArgs);
+		long start = System.nanoTime();
+		TResult result = userDb.rawQuery(sql, columns, selectionArgs);
+		instrument(result, start);
+		return result;
 	}
 
 	/**
@@ -440,9 +495,11 @@ public abstract class UserCoreDao<TColumn extends UserColumn, TTable extends Use
 	 * @since 4.0.0
 	 */
 	public TResult query(boolean distinct, String[] columns) {
+		long start = System.nanoTime();
 		TResult result = userDb.query(distinct, getTableName(), columns, null,
 				null, null, null, null);
 		prepareResult(result);
+		instrument(result, start);
 		return result;
 	}
 
@@ -508,9 +565,11 @@ public abstract class UserCoreDao<TColumn extends UserColumn, TTable extends Use
 	 */
 	public TResult query(boolean distinct, String[] columns,
 			String[] columnsAs) {
+		long start = System.nanoTime();
 		TResult result = userDb.query(distinct, getTableName(), columns,
 				columnsAs, null, null, null, null, null);
 		prepareResult(result);
+		instrument(result, start);
 		return result;
 	}
 
@@ -794,9 +853,11 @@ public abstract class UserCoreDao<TColumn extends UserColumn, TTable extends Use
 			String orderBy) {
 		String where = buildWhere(fieldName, value);
 		String[] whereArgs = buildWhereArgs(value);
+		long start = System.nanoTime();
 		TResult result = userDb.query(distinct, getTableName(), columns, where,
 				whereArgs, groupBy, having, orderBy);
 		prepareResult(result);
+		instrument(result, start);
 		return result;
 	}
 
@@ -938,9 +999,11 @@ public abstract class UserCoreDao<TColumn extends UserColumn, TTable extends Use
 			String fieldName, ColumnValue value) {
 		String where = buildWhere(fieldName, value);
 		String[] whereArgs = buildWhereArgs(value);
+		long start = System.nanoTime();
 		TResult result = userDb.query(distinct, getTableName(), columns, where,
 				whereArgs, null, null, null);
 		prepareResult(result);
+		instrument(result, start);
 		return result;
 	}
 
@@ -1207,9 +1270,11 @@ public abstract class UserCoreDao<TColumn extends UserColumn, TTable extends Use
 			String orderBy) {
 		String where = buildWhereLike(fieldName, value);
 		String[] whereArgs = buildWhereArgs(value);
+		long start = System.nanoTime();
 		TResult result = userDb.query(distinct, getTableName(), columns, where,
 				whereArgs, groupBy, having, orderBy);
 		prepareResult(result);
+		instrument(result, start);
 		return result;
 	}
 
@@ -1352,9 +1417,11 @@ public abstract class UserCoreDao<TColumn extends UserColumn, TTable extends Use
 			String fieldName, ColumnValue value) {
 		String where = buildWhereLike(fieldName, value);
 		String[] whereArgs = buildWhereArgs(value);
+		long start = System.nanoTime();
 		TResult result = userDb.query(distinct, getTableName(), columns, where,
 				whereArgs, null, null, null);
 		prepareResult(result);
+		instrument(result, start);
 		return result;
 	}
 
@@ -1468,9 +1535,11 @@ public abstract class UserCoreDao<TColumn extends UserColumn, TTable extends Use
 			Map<String, Object> fieldValues) {
 		String where = buildWhere(fieldValues.entrySet());
 		String[] whereArgs = buildWhereArgs(fieldValues.values());
+		long start = System.nanoTime();
 		TResult result = userDb.query(distinct, getTableName(), columns, where,
 				whereArgs, null, null, null);
 		prepareResult(result);
+		instrument(result, start);
 		return result;
 	}
 
@@ -1579,9 +1648,11 @@ public abstract class UserCoreDao<TColumn extends UserColumn, TTable extends Use
 			Map<String, ColumnValue> fieldValues) {
 		String where = buildValueWhere(fieldValues.entrySet());
 		String[] whereArgs = buildValueWhereArgs(fieldValues.values());
+		long start = System.nanoTime();
 		TResult result = userDb.query(distinct, getTableName(), columns, where,
 				whereArgs, null, null, null);
 		prepareResult(result);
+		instrument(result, start);
 		return result;
 	}
 
@@ -1685,9 +1756,11 @@ public abstract class UserCoreDao<TColumn extends UserColumn, TTable extends Use
 	public TResult queryForId(boolean distinct, String[] columns, long id) {
 		String where = getPkWhere(id);
 		String[] whereArgs = getPkWhereArgs(id);
+		long start = System.nanoTime();
 		TResult result = userDb.query(distinct, getTableName(), columns, where,
 				whereArgs, null, null, null);
 		prepareResult(result);
+		instrument(result, start);
 		return result;
 	}
 
@@ -8096,9 +8169,11 @@ public abstract class UserCoreDao<TColumn extends UserColumn, TTable extends Use
 	 */
 	public TResult query(boolean distinct, String[] columns, String where,
 			String[] whereArgs) {
+		long start = System.nanoTime();
 		TResult result = userDb.query(distinct, getTableName(), columns, where,
 				whereArgs, null, null, null);
 		prepareResult(result);
+		instrument(result, start);
 		return result;
 	}
 
@@ -8276,9 +8351,11 @@ public abstract class UserCoreDao<TColumn extends UserColumn, TTable extends Use
 	 */
 	public TResult query(boolean distinct, String[] columns, String where,
 			String[] whereArgs, String groupBy, String having, String orderBy) {
+		long start = System.nanoTime();
 		TResult result = userDb.query(distinct, getTableName(), columns, where,
 				whereArgs, groupBy, having, orderBy);
 		prepareResult(result);
+		instrument(result, start);
 		return result;
 	}
 
@@ -8381,9 +8458,11 @@ public abstract class UserCoreDao<TColumn extends UserColumn, TTable extends Use
 	public TResult query(boolean distinct, String[] columns, String where,
 			String[] whereArgs, String groupBy, String having, String orderBy,
 			String limit) {
+		long start = System.nanoTime();
 		TResult result = userDb.query(distinct, getTableName(), columns, where,
 				whereArgs, groupBy, having, orderBy, limit);
 		prepareResult(result);
+		instrument(result, start);
 		return result;
 	}
 
@@ -9696,6 +9775,357 @@ public abstract class UserCoreDao<TColumn extends UserColumn, TTable extends Use
 		return offset + "," + limit;
 	}
 
+	/**
+	 * Query for id ordered rows with ids after the provided id, returning no
+	 * more than the limit. Keyset (seek) pagination, each chunk seeks directly
+	 * to the next id instead of skipping over an offset of rows.
+	 * 
+	 * @param id
+	 *            last id of the previous chunk, null to start at the first
+	 *            row
+	 * @param limit
+	 *            chunk limit
+	 * @return result
+	 * @since 6.6.8
+	 */
+	public TResult queryForChunkAfter(Long id, int limit) {
+		return queryForChunkAfter(false, table.getColumnNames(), null, null,
+				id, limit);
+	}
+
+	/**
+	 * Query for id ordered rows with ids after the provided id, returning no
+	 * more than the limit. Keyset (seek) pagination, each chunk seeks directly
+	 * to the next id instead of skipping over an offset of rows.
+	 * 
+	 * @param columns
+	 *            columns, including the primary key column
+	 * @param id
+	 *            last id of the previous chunk, null to start at the first
+	 *            row
+	 * @param limit
+	 *            chunk limit
+	 * @return result
+	 * @since 6.6.8
+	 */
+	public TResult queryForChunkAfter(String[] columns, Long id, int limit) {
+		return queryForChunkAfter(false, columns, null, null, id, limit);
+	}
+
+	/**
+	 * Query for id ordered rows with ids after the provided id, returning no
+	 * more than the limit. Keyset (seek) pagination, each chunk seeks directly
+	 * to the next id instead of skipping over an offset of rows.
+	 * 
+	 * @param where
+	 *            where clause
+	 * @param whereArgs
+	 *            where arguments
+	 * @param id
+	 *            last id of the previous chunk, null to start at the first
+	 *            row
+	 * @param limit
+	 *            chunk limit
+	 * @return result
+	 * @since 6.6.8
+	 */
+	public TResult queryForChunkAfter(String where, String[] whereArgs,
+			Long id, int limit) {
+		return queryForChunkAfter(false, table.getColumnNames(), where,
+				whereArgs, id, limit);
+	}
+
+	/**
+	 * Query for id ordered rows with ids after the provided id, returning no
+	 * more than the limit. Keyset (seek) pagination, each chunk seeks directly
+	 * to the next id instead of skipping over an offset of rows. The id
+	 * argument is always the last where argument.
+	 * 
+	 * @param distinct
+	 *            distinct rows
+	 * @param columns
+	 *            columns, including the primary key column
+	 * @param where
+	 *            where clause
+	 * @param whereArgs
+	 *            where arguments
+	 * @param id
+	 *            last id of the previous chunk, null to start at the first
+	 *            row
+	 * @param limit
+	 *            chunk limit
+	 * @return result
+	 * @since 6.6.8
+	 */
+	public TResult queryForChunkAfter(boolean distinct, String[] columns,
+			String where, String[] whereArgs, Long id, int limit) {
+		String whereClause = buildKeysetWhere(where);
+		String[] args = buildKeysetWhereArgs(whereArgs, id);
+		if (!hasNextKeysetId(id)) {
+			// No ids follow the maximum id
+			limit = 0;
+		}
+		return queryForChunk(distinct, columns, whereClause, args,
+				table.getPkColumnName(), limit);
+	}
+
+	/**
+	 * Keyset (seek) paginate id ordered rows with ids after the provided id,
+	 * in chunks of the limit. Each page seeks directly to the id following the
+	 * last iterated id instead of skipping over an offset of rows.
+	 * 
+	 * @param id
+	 *            last id before the first page, null to start at the first
+	 *            row
+	 * @param limit
+	 *            page limit
+	 * @return keyset paginated results
+	 * @since 6.6.8
+	 */
+	public UserCorePaginatedResults<TColumn, TTable, TRow, TResult> paginateAfter(
+			Long id, int limit) {
+		return paginateAfter(false, table.getColumnNames(), null, null, id,
+				limit);
+	}
+
+	/**
+	 * Keyset (seek) paginate id ordered rows with ids after the provided id,
+	 * in chunks of the limit. Each page seeks directly to the id following the
+	 * last iterated id instead of skipping over an offset of rows.
+	 * 
+	 * @param where
+	 *            where clause
+	 * @param whereArgs
+	 *            where arguments
+	 * @param id
+	 *            last id before the first page, null to start at the first
+	 *            row
+	 * @param limit
+	 *            page limit
+	 * @return keyset paginated results
+	 * @since 6.6.8
+	 */
+	public UserCorePaginatedResults<TColumn, TTable, TRow, TResult> paginateAfter(
+			String where, String[] whereArgs, Long id, int limit) {
+		return paginateAfter(false, table.getColumnNames(), where, whereArgs,
+				id, limit);
+	}
+
+	/**
+	 * Keyset (seek) paginate id ordered rows with ids after the provided id,
+	 * in chunks of the limit. Each page seeks directly to the id following the
+	 * last iterated id instead of skipping over an offset of rows.
+	 * 
+	 * @param distinct
+	 *            distinct rows
+	 * @param columns
+	 *            columns, including the primary key column
+	 * @param where
+	 *            where clause
+	 * @param whereArgs
+	 *            where arguments
+	 * @param id
+	 *            last id before the first page, null to start at the first
+	 *            row
+	 * @param limit
+	 *            page limit
+	 * @return keyset paginated results
+	 * @since 6.6.8
+	 */
+	public UserCorePaginatedResults<TColumn, TTable, TRow, TResult> paginateAfter(
+			boolean distinct, String[] columns, String where,
+			String[] whereArgs, Long id, int limit) {
+		return UserCorePaginatedResults.createKeyset(this, queryForChunkAfter(
+				distinct, columns, where, whereArgs, id, limit));
+	}
+
+	/**
+	 * Query for id ordered rows by ids in the nested SQL query with ids after
+	 * the provided id, returning no more than the limit. Keyset (seek)
+	 * pagination, each chunk seeks directly to the next id instead of skipping
+	 * over an offset of rows.
+	 * 
+	 * @param nestedSQL
+	 *            nested SQL
+	 * @param id
+	 *            last id of the previous chunk, null to start at the first
+	 *            row
+	 * @param limit
+	 *            chunk limit
+	 * @return result
+	 * @since 6.6.8
+	 */
+	public TResult queryInForChunkAfter(String nestedSQL, Long id, int limit) {
+		return queryInForChunkAfter(nestedSQL, null, id, limit);
+	}
+
+	/**
+	 * Query for id ordered rows by ids in the nested SQL query with ids after
+	 * the provided id, returning no more than the limit. Keyset (seek)
+	 * pagination, each chunk seeks directly to the next id instead of skipping
+	 * over an offset of rows.
+	 * 
+	 * @param nestedSQL
+	 *            nested SQL
+	 * @param nestedArgs
+	 *            nested SQL args
+	 * @param id
+	 *            last id of the previous chunk, null to start at the first
+	 *            row
+	 * @param limit
+	 *            chunk limit
+	 * @return result
+	 * @since 6.6.8
+	 */
+	public TResult queryInForChunkAfter(String nestedSQL, String[] nestedArgs,
+			Long id, int limit) {
+		return queryInForChunkAfter(false, table.getColumnNames(), nestedSQL,
+				nestedArgs, null, null, id, limit);
+	}
+
+	/**
+	 * Query for id ordered rows by ids in the nested SQL query with ids after
+	 * the provided id, returning no more than the limit. Keyset (seek)
+	 * pagination, each chunk seeks directly to the next id instead of skipping
+	 * over an offset of rows. The id argument is always the last where
+	 * argument.
+	 * 
+	 * @param distinct
+	 *            distinct rows
+	 * @param columns
+	 *            columns, including the primary key column
+	 * @param nestedSQL
+	 *            nested SQL
+	 * @param nestedArgs
+	 *            nested SQL args
+	 * @param where
+	 *            where clause
+	 * @param whereArgs
+	 *            where arguments
+	 * @param id
+	 *            last id of the previous chunk, null to start at the first
+	 *            row
+	 * @param limit
+	 *            chunk limit
+	 * @return result
+	 * @since 6.6.8
+	 */
+	public TResult queryInForChunkAfter(boolean distinct, String[] columns,
+			String nestedSQL, String[] nestedArgs, String where,
+			String[] whereArgs, Long id, int limit) {
+		String whereClause = buildWhereIn(nestedSQL, where);
+		String[] args = buildWhereInArgs(nestedArgs, whereArgs);
+		return queryForChunkAfter(distinct, columns, whereClause, args, id,
+				limit);
+	}
+
+	/**
+	 * Keyset (seek) paginate id ordered rows within the nested SQL with ids
+	 * after the provided id, in chunks of the limit
+	 * 
+	 * @param nestedSQL
+	 *            nested SQL
+	 * @param nestedArgs
+	 *            nested SQL args
+	 * @param id
+	 *            last id before the first page, null to start at the first
+	 *            row
+	 * @param limit
+	 *            page limit
+	 * @return keyset paginated results
+	 * @since 6.6.8
+	 */
+	public UserCorePaginatedResults<TColumn, TTable, TRow, TResult> paginateInAfter(
+			String nestedSQL, String[] nestedArgs, Long id, int limit) {
+		return UserCorePaginatedResults.createKeyset(this,
+				queryInForChunkAfter(false, table.getColumnNames(), nestedSQL,
+						nestedArgs, null, null, id, limit));
+	}
+
+	/**
+	 * Build a keyset pagination where clause, seeking to primary key values
+	 * at or above the where argument
+	 * 
+	 * @param where
+	 *            where clause
+	 * @return where clause
+	 * @since 6.6.8
+	 */
+	public String buildKeysetWhere(String where) {
+
+		String keysetWhere = CoreSQLUtils.quoteWrap(table.getPkColumnName())
+				+ " >= ?";
+
+		String whereClause;
+		if (where == null) {
+			whereClause = keysetWhere;
+		} else {
+			whereClause = "(" + where + ") AND " + keysetWhere;
+		}
+
+		return whereClause;
+	}
+
+	/**
+	 * Build keyset pagination where args, appending the id following the
+	 * provided last id
+	 * 
+	 * @param whereArgs
+	 *            where arguments
+	 * @param id
+	 *            last id of the previous chunk, null to start at the first
+	 *            row
+	 * @return where args
+	 * @since 6.6.8
+	 */
+	public static String[] buildKeysetWhereArgs(String[] whereArgs,
+			Long id) {
+
+		String[] args;
+		if (whereArgs == null) {
+			args = new String[1];
+		} else {
+			args = Arrays.copyOf(whereArgs, whereArgs.length + 1);
+		}
+		args[args.length - 1] = String.valueOf(nextKeysetId(id));
+
+		return args;
+	}
+
+	/**
+	 * Get the first id to seek to following the last id. The maximum id has
+	 * no following id and returns itself, check
+	 * {@link #hasNextKeysetId(Long)} first.
+	 * 
+	 * @param id
+	 *            last id, null to start at the first row
+	 * @return next id
+	 * @since 6.6.8
+	 */
+	public static long nextKeysetId(Long id) {
+		long next;
+		if (id == null) {
+			next = Long.MIN_VALUE;
+		} else if (id == Long.MAX_VALUE) {
+			next = Long.MAX_VALUE;
+		} else {
+			next = id + 1;
+		}
+		return next;
+	}
+
+	/**
+	 * Check if ids can follow the last id
+	 * 
+	 * @param id
+	 *            last id, null to start at the first row
+	 * @return true if an id can follow the last id
+	 * @since 6.6.8
+	 */
+	public static boolean hasNextKeysetId(Long id) {
+		return id == null || id < Long.MAX_VALUE;
+	}
+
 	/**
 	 * Begin a transaction
 	 * 
@@ -9853,6 +10283,284 @@ public abstract class UserCoreDao<TColumn extends UserColumn, TTable extends Use
 	 */
 	public abstract long insert(TRow row);
 
+	/**
+	 * Insert the rows in batches with reused multiple row insert statements,
+	 * committing every {@link #DEFAULT_BATCH_COMMIT_ROWS} rows when not
+	 * already within a transaction
+	 *
+	 * @param rows
+	 *            rows
+	 * @return row ids in insert order
+	 * @since 6.6.8
+	 */
+	public long[] insert(Iterable<TRow> rows) {
+		return insertBatch(rows, DEFAULT_BATCH_COMMIT_ROWS);
+	}
+
+	/**
+	 * Insert the rows in batches with reused multiple row insert statements
+	 *
+	 * @param rows
+	 *            rows
+	 * @param commitRows
+	 *            rows per committed transaction when not already within a
+	 *            transaction, 0 for a single transaction
+	 * @return row ids in insert order
+	 * @since 6.6.8
+	 */
+	public long[] insertBatch(Iterable<TRow> rows, int commitRows) {
+		return insertBatch(rows, commitRows,
+				UserBatchInsert.DEFAULT_STATEMENT_ROWS);
+	}
+
+	/**
+	 * Insert the rows in batches with reused insert statements. Rows with ids
+	 * are inserted with their ids in multiple row statements. Rows without ids
+	 * are inserted one row per statement and their generated ids are set.
+	 *
+	 * @param rows
+	 *            rows
+	 * @param commitRows
+	 *            rows per committed transaction when not already within a
+	 *            transaction, 0 for a single transaction
+	 * @param statementRows
+	 *            maximum rows per insert statement of rows with ids, 1 for
+	 *            single row statements
+	 * @return row ids in insert order
+	 * @since 6.6.8
+	 */
+	public long[] insertBatch(Iterable<TRow> rows, int commitRows,
+			int statementRows) {
+		return insertBatch(rows, commitRows, statementRows, false);
+	}
+
+	/**
+	 * Upsert the rows in batches, committing every
+	 * {@link #DEFAULT_BATCH_COMMIT_ROWS} rows when not already within a
+	 * transaction. Rows with ids replace the non null column values of
+	 * existing rows with the same id, other rows are inserted.
+	 *
+	 * @param rows
+	 *            rows
+	 * @return row ids in upsert order
+	 * @since 6.6.8
+	 */
+	public long[] upsert(Iterable<TRow> rows) {
+		return upsertBatch(rows, DEFAULT_BATCH_COMMIT_ROWS);
+	}
+
+	/**
+	 * Upsert the rows in batches with reused multiple row INSERT ... ON
+	 * CONFLICT DO UPDATE statements, requiring SQLite 3.24.0 or later
+	 *
+	 * @param rows
+	 *            rows
+	 * @param commitRows
+	 *            rows per committed transaction when not already within a
+	 *            transaction, 0 for a single transaction
+	 * @return row ids in upsert order
+	 * @since 6.6.8
+	 */
+	public long[] upsertBatch(Iterable<TRow> rows, int commitRows) {
+		return upsertBatch(rows, commitRows,
+				UserBatchInsert.DEFAULT_STATEMENT_ROWS);
+	}
+
+	/**
+	 * Upsert the rows in batches with reused INSERT ... ON CONFLICT DO UPDATE
+	 * statements, requiring SQLite 3.24.0 or later. Rows with ids replace the
+	 * non null column values of existing rows with the same id, other rows
+	 * are inserted.
+	 *
+	 * @param rows
+	 *            rows
+	 * @param commitRows
+	 *            rows per committed transaction when not already within a
+	 *            transaction, 0 for a single transaction
+	 * @param statementRows
+	 *            maximum rows per statement, 1 for single row statements
+	 * @return row ids in upsert order
+	 * @since 6.6.8
+	 */
+	public long[] upsertBatch(Iterable<TRow> rows, int commitRows,
+			int statementRows) {
+		return insertBatch(rows, commitRows, statementRows, true);
+	}
+
+	/**
+	 * Insert or upsert the rows in batches
+	 *
+	 * @param rows
+	 *            rows
+	 * @param commitRows
+	 *            rows per committed transaction when not already within a
+	 *            transaction, 0 for a single transaction
+	 * @param statementRows
+	 *            maximum rows per statement
+	 * @param upsert
+	 *            true to update existing rows with the same id
+	 * @return row ids in insert order
+	 */
+	private long[] insertBatch(Iterable<TRow> rows, int commitRows,
+			int statementRows, boolean upsert) {
+
+		boolean transaction = !inTransaction();
+		if (commitRows <= 0) {
+			commitRows = Integer.MAX_VALUE;
+		}
+
+		long[] ids;
+		try (UserBatchInsert<TColumn, TTable, TRow> batch = new UserBatchInsert<>(
+				db, getTableName(), statementRows, upsert)) {
+
+			if (transaction) {
+				beginTransaction();
+			}
+			boolean successful = true;
+			try {
+				int transactionRows = 0;
+				for (TRow row : rows) {
+					batch.add(row);
+					if (transaction && ++transactionRows >= commitRows) {
+						batch.flush();
+						endAndBeginTransaction();
+						transactionRows = 0;
+					}
+				}
+				batch.flush();
+			} catch (Throwable e) {
+				successful = false;
+				throw e;
+			} finally {
+				if (transaction) {
+					endTransaction(successful);
+				}
+			}
+
+			ids = batch.getIds();
+		}
+
+		return ids;
+	}
+
+	/**
+	 * Update all non primary key column values of the rows by id in batches,
+	 * committing every {@link #DEFAULT_BATCH_COMMIT_ROWS} rows when not
+	 * already within a transaction
+	 *
+	 * @param rows
+	 *            rows with ids
+	 * @return number of rows affected
+	 * @since 6.6.8
+	 */
+	public int update(Iterable<TRow> rows) {
+		return updateBatch(rows, DEFAULT_BATCH_COMMIT_ROWS);
+	}
+
+	/**
+	 * Update all non primary key column values of the rows by id in batches
+	 * with reused UPDATE ... WHERE id = ? statements
+	 *
+	 * @param rows
+	 *            rows with ids
+	 * @param commitRows
+	 *            rows per committed transaction when not already within a
+	 *            transaction, 0 for a single transaction
+	 * @return number of rows affected
+	 * @since 6.6.8
+	 */
+	public int updateBatch(Iterable<TRow> rows, int commitRows) {
+
+		boolean transaction = !inTransaction();
+		if (commitRows <= 0) {
+			commitRows = Integer.MAX_VALUE;
+		}
+
+		int count;
+		try (UserBatchUpdate<TColumn, TTable, TRow> batch = new UserBatchUpdate<>(
+				db, table)) {
+
+			if (transaction) {
+				beginTransaction();
+			}
+			boolean successful = true;
+			try {
+				int transactionRows = 0;
+				for (TRow row : rows) {
+					batch.update(row);
+					if (transaction && ++transactionRows >= commitRows) {
+						endAndBeginTransaction();
+						transactionRows = 0;
+					}
+				}
+			} catch (Throwable e) {
+				successful = false;
+				throw e;
+			} finally {
+				if (transaction) {
+					endTransaction(successful);
+				}
+			}
+
+			count = batch.getCount();
+		}
+
+		return count;
+	}
+
+	/**
+	 * Update column values of rows by id in batches with reused UPDATE ...
+	 * WHERE id = ? statements, one per changed column set
+	 *
+	 * @param changes
+	 *            column values by column name, by row id
+	 * @param commitRows
+	 *            rows per committed transaction when not already within a
+	 *            transaction, 0 for a single transaction
+	 * @return number of rows affected
+	 * @since 6.6.8
+	 */
+	public int updateBatch(Map<Long, ? extends Map<String, Object>> changes,
+			int commitRows) {
+
+		boolean transaction = !inTransaction();
+		if (commitRows <= 0) {
+			commitRows = Integer.MAX_VALUE;
+		}
+
+		int count;
+		try (UserBatchUpdate<TColumn, TTable, TRow> batch = new UserBatchUpdate<>(
+				db, table)) {
+
+			if (transaction) {
+				beginTransaction();
+			}
+			boolean successful = true;
+			try {
+				int transactionRows = 0;
+				for (Map.Entry<Long, ? extends Map<String, Object>> change : changes
+						.entrySet()) {
+					batch.update(change.getKey(), change.getValue());
+					if (transaction && ++transactionRows >= commitRows) {
+						endAndBeginTransaction();
+						transactionRows = 0;
+					}
+				}
+			} catch (Throwable e) {
+				successful = false;
+				throw e;
+			} finally {
+				if (transaction) {
+					endTransaction(successful);
+				}
+			}
+
+			count = batch.getCount();
+		}
+
+		return count;
+	}
+
 	/**
 	 * Get the primary key where clause
 	 * 
@@ -0,0 +1,38 @@
+package mil.nga.geopackage.user;
+
+/**
+ * User DAO provider of DAOs for a single user table, each on its own
+ * connection, used by parallel readers such as {@link UserRowIdRangeScan}.
+ * Implementations typically open read only connections to the same WAL mode
+ * GeoPackage file or borrow them from a pool.
+ *
+ * @param <TColumn>
+ *            column type
+ * @param <TTable>
+ *            table type
+ * @param <TRow>
+ *            row type
+ * @param <TResult>
+ *            result type
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public interface UserCoreDaoProvider<TColumn extends UserColumn, TTable extends UserTable<TColumn>, TRow extends UserCoreRow<TColumn, TTable>, TResult extends UserCoreResult<TColumn, TTable, TRow>> {
+
+	/**
+	 * Open a DAO for the table on a connection not in use by another thread
+	 *
+	 * @return user DAO
+	 */
+	public UserCoreDao<TColumn, TTable, TRow, TResult> open();
+
+	/**
+	 * Close or release a DAO opened by this provider
+	 *
+	 * @param dao
+	 *            user DAO
+	 */
+	public void close(UserCoreDao<TColumn, TTable, TRow, TResult> dao);
+
+}
@@ -1,5 +1,6 @@
 package mil.nga.geopackage.user;
 
+import java.util.Arrays;
 import java.util.Iterator;
 
 import mil.nga.geopackage.GeoPackageException;
@@ -53,6 +54,17 @@ public abstract class UserCorePaginatedResults<TColumn extends UserColumn, TTabl
 	 */
 	private Pagination pagination;
 
+	/**
+	 * True if keyset (seek) paginated by primary key, false if offset
+	 * paginated
+	 */
+	private final boolean keyset;
+
+	/**
+	 * Last iterated id for keyset pagination
+	 */
+	private Long lastId;
+
 	/**
 	 * Constructor
 	 * 
@@ -64,7 +76,28 @@ public abstract class UserCorePaginatedResults<TColumn extends UserColumn, TTabl
 	protected UserCorePaginatedResults(
 			UserCoreDao<TColumn, TTable, TRow, TResult> dao,
 			UserCoreResult<TColumn, TTable, TRow> results) {
+		this(dao, results, false);
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param dao
+	 *            user core dao
+	 * @param results
+	 *            user core results
+	 * @param keyset
+	 *            true if the results are keyset paginated, queried by
+	 *            {@link UserCoreDao#queryForChunkAfter(boolean, String[], String, String[], Long, int)}
+	 *            or
+	 *            {@link UserCoreDao#queryInForChunkAfter(boolean, String[], String, String[], String, String[], Long, int)}
+	 * @since 6.6.8
+	 */
+	protected UserCorePaginatedResults(
+			UserCoreDao<TColumn, TTable, TRow, TResult> dao,
+			UserCoreResult<TColumn, TTable, TRow> results, boolean keyset) {
 		this.dao = dao;
+		this.keyset = keyset;
 		this.results = results;
 		sql = results.getSql();
 		columns = results.getColumns().getColumnNames();
@@ -74,6 +107,39 @@ public abstract class UserCorePaginatedResults<TColumn extends UserColumn, TTabl
 			throw new GeoPackageException(
 					"Results are not paginated. SQL: " + sql);
 		}
+		if (keyset && (args == null || args.length == 0)) {
+			throw new GeoPackageException(
+					"Results are not keyset paginated. SQL: " + sql);
+		}
+	}
+
+	/**
+	 * Create keyset paginated results from results queried by
+	 * {@link UserCoreDao#queryForChunkAfter(boolean, String[], String, String[], Long, int)}
+	 * or
+	 * {@link UserCoreDao#queryInForChunkAfter(boolean, String[], String, String[], String, String[], Long, int)}
+	 * 
+	 * @param <TColumn>
+	 *            column type
+	 * @param <TTable>
+	 *            table type
+	 * @param <TRow>
+	 *            row type
+	 * @param <TResult>
+	 *            result type
+	 * @param dao
+	 *            user core dao
+	 * @param results
+	 *            keyset paginated first page results
+	 * @return keyset paginated results
+	 * @since 6.6.8
+	 */
+	public static <TColumn extends UserColumn, TTable extends UserTable<TColumn>, TRow extends UserCoreRow<TColumn, TTable>, TResult extends UserCoreResult<TColumn, TTable, TRow>> UserCorePaginatedResults<TColumn, TTable, TRow, TResult> createKeyset(
+			UserCoreDao<TColumn, TTable, TRow, TResult> dao,
+			UserCoreResult<TColumn, TTable, TRow> results) {
+		return new UserCorePaginatedResults<TColumn, TTable, TRow, TResult>(
+				dao, results, true) {
+		};
 	}
 
 	/**
@@ -140,6 +206,26 @@ public abstract class UserCorePaginatedResults<TColumn extends UserColumn, TTabl
 		this.pagination = pagination;
 	}
 
+	/**
+	 * Is keyset (seek) paginated by primary key
+	 * 
+	 * @return true if keyset paginated, false if offset paginated
+	 * @since 6.6.8
+	 */
+	public boolean isKeyset() {
+		return keyset;
+	}
+
+	/**
+	 * Get the last iterated id when keyset paginated
+	 * 
+	 * @return last id
+	 * @since 6.6.8
+	 */
+	public Long getLastId() {
+		return lastId;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -160,10 +246,7 @@ public abstract class UserCorePaginatedResults<TColumn extends UserColumn, TTabl
 				boolean hasNext = rows.hasNext();
 				if (!hasNext) {
 					close();
-					if (pagination.hasLimit()) {
-						pagination.incrementOffset();
-						String query = pagination.replace(sql);
-						results = dao.rawQuery(query, columns, args);
+					if (queryNextPage()) {
 						rows = results.iterator();
 						hasNext = results.moveToNext();
 						if (!hasNext) {
@@ -179,7 +262,11 @@ public abstract class UserCorePaginatedResults<TColumn extends UserColumn, TTabl
 			 */
 			@Override
 			public TRow next() {
-				return rows.next();
+				TRow row = rows.next();
+				if (keyset) {
+					lastId = row.getId();
+				}
+				return row;
 			}
 		};
 	}
@@ -213,10 +300,7 @@ public abstract class UserCorePaginatedResults<TColumn extends UserColumn, TTabl
 						boolean hasNext = ids.hasNext();
 						if (!hasNext) {
 							close();
-							if (pagination.hasLimit()) {
-								pagination.incrementOffset();
-								String query = pagination.replace(sql);
-								results = dao.rawQuery(query, columns, args);
+							if (queryNextPage()) {
 								ids = results.ids().iterator();
 								hasNext = results.moveToNext();
 								if (!hasNext) {
@@ -232,7 +316,11 @@ public abstract class UserCorePaginatedResults<TColumn extends UserColumn, TTabl
 					 */
 					@Override
 					public Long next() {
-						return ids.next();
+						Long id = ids.next();
+						if (keyset) {
+							lastId = id;
+						}
+						return id;
 					}
 
 				};
@@ -240,6 +328,31 @@ public abstract class UserCorePaginatedResults<TColumn extends UserColumn, TTabl
 		};
 	}
 
+	/**
+	 * Query the next page of results, seeking past the last id when keyset
+	 * paginated or incrementing the offset when offset paginated
+	 * 
+	 * @return true if a next page was queried
+	 */
+	private boolean queryNextPage() {
+		boolean queried = false;
+		if (keyset) {
+			if (lastId != null && UserCoreDao.hasNextKeysetId(lastId)) {
+				String[] pageArgs = Arrays.copyOf(args, args.length);
+				pageArgs[pageArgs.length - 1] = String
+						.valueOf(UserCoreDao.nextKeysetId(lastId));
+				results = dao.rawQuery(sql, columns, pageArgs);
+				queried = true;
+			}
+		} else if (pagination.hasLimit()) {
+			pagination.incrementOffset();
+			String query = pagination.replace(sql);
+			results = dao.rawQuery(query, columns, args);
+			queried = true;
+		}
+		return queried;
+	}
+
 	/**
 	 * Close the current results
 	 */
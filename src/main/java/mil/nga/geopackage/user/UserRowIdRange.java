@@ -0,0 +1,133 @@
+package mil.nga.geopackage.user;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * User Row Id Range of primary key values, inclusive of the min and max ids,
+ * used to partition table scans
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class UserRowIdRange {
+
+	/**
+	 * Min id, inclusive
+	 */
+	private final long min;
+
+	/**
+	 * Max id, inclusive
+	 */
+	private final long max;
+
+	/**
+	 * Estimated row count
+	 */
+	private final long estimatedRows;
+
+	/**
+	 * Constructor
+	 *
+	 * @param min
+	 *            min id, inclusive
+	 * @param max
+	 *            max id, inclusive
+	 * @param estimatedRows
+	 *            estimated row count
+	 */
+	public UserRowIdRange(long min, long max, long estimatedRows) {
+		this.min = min;
+		this.max = max;
+		this.estimatedRows = estimatedRows;
+	}
+
+	/**
+	 * Get the min id, inclusive
+	 *
+	 * @return min id
+	 */
+	public long getMin() {
+		return min;
+	}
+
+	/**
+	 * Get the max id, inclusive
+	 *
+	 * @return max id
+	 */
+	public long getMax() {
+		return max;
+	}
+
+	/**
+	 * Get the estimated row count, assuming evenly distributed ids
+	 *
+	 * @return estimated rows
+	 */
+	public long getEstimatedRows() {
+		return estimatedRows;
+	}
+
+	/**
+	 * Get the where args for a where clause of the form "id &gt;= ? AND id
+	 * &lt;= ?"
+	 *
+	 * @return where args
+	 */
+	public String[] getWhereArgs() {
+		return new String[] { String.valueOf(min), String.valueOf(max) };
+	}
+
+	/**
+	 * Split the id range into evenly sized id ranges
+	 *
+	 * @param min
+	 *            min id, inclusive
+	 * @param max
+	 *            max id, inclusive
+	 * @param count
+	 *            row count
+	 * @param ranges
+	 *            maximum number of ranges
+	 * @return ranges in id order
+	 */
+	public static List<UserRowIdRange> split(long min, long max, long count,
+			int ranges) {
+
+		List<UserRowIdRange> split = new ArrayList<>();
+
+		if (count > 0 && max >= min) {
+			long span = max - min;
+			int rangeCount = (int) Math.max(1,
+					Math.min(ranges, Math.min(count, span + 1)));
+			if (span < 0 || rangeCount == 1) {
+				// Single range, including id spans too large for a long
+				split.add(new UserRowIdRange(min, max, count));
+			} else {
+				long step = span / rangeCount + 1;
+				long rows = (count + rangeCount - 1) / rangeCount;
+				for (long start = min; start <= max; start += step) {
+					long end = max - start < step ? max : start + step - 1;
+					split.add(new UserRowIdRange(start, end, rows));
+					if (end == max) {
+						break;
+					}
+				}
+			}
+		}
+
+		return Collections.unmodifiableList(split);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "[" + min + ", " + max + "]";
+	}
+
+}
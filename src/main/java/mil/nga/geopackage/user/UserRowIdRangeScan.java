@@ -0,0 +1,563 @@
+package mil.nga.geopackage.user;
+
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import mil.nga.geopackage.GeoPackageException;
+import mil.nga.geopackage.db.CoreSQLUtils;
+
+/**
+ * User Row Id Range Scan, a parallel full table scan split into primary key
+ * ranges from the table min id, max id, and row count. Each range is queried
+ * on its own connection from a {@link UserCoreDaoProvider}, so ranges are read
+ * concurrently by the parallel stream workers (the common fork join pool, or
+ * the pool the terminal operation is submitted to). Intended for WAL mode
+ * GeoPackages where readers do not block each other.
+ * <p>
+ * Streams hold open results and connections while ranges are read and should
+ * be closed, for example with try with resources, when a terminal operation
+ * may short circuit.
+ *
+ * @param <TColumn>
+ *            column type
+ * @param <TTable>
+ *            table type
+ * @param <TRow>
+ *            row type
+ * @param <TResult>
+ *            result type
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class UserRowIdRangeScan<TColumn extends UserColumn, TTable extends UserTable<TColumn>, TRow extends UserCoreRow<TColumn, TTable>, TResult extends UserCoreResult<TColumn, TTable, TRow>> {
+
+	/**
+	 * Default ranges per available processor, allowing work stealing to
+	 * balance unevenly distributed ids
+	 */
+	public static final int DEFAULT_RANGES_PER_PROCESSOR = 4;
+
+	/**
+	 * DAO provider
+	 */
+	private final UserCoreDaoProvider<TColumn, TTable, TRow, TResult> provider;
+
+	/**
+	 * Table name
+	 */
+	private final String tableName;
+
+	/**
+	 * Primary key column name
+	 */
+	private final String pkColumnName;
+
+	/**
+	 * Id ranges in id order
+	 */
+	private final List<UserRowIdRange> ranges;
+
+	/**
+	 * Range where clause
+	 */
+	private final String where;
+
+	/**
+	 * Constructor, splitting the table into
+	 * {@link #DEFAULT_RANGES_PER_PROCESSOR} ranges per available processor
+	 *
+	 * @param dao
+	 *            user DAO used to measure the table
+	 * @param provider
+	 *            DAO provider for range reads
+	 */
+	public UserRowIdRangeScan(UserCoreDao<TColumn, TTable, TRow, TResult> dao,
+			UserCoreDaoProvider<TColumn, TTable, TRow, TResult> provider) {
+		this(dao, provider, Runtime.getRuntime().availableProcessors()
+				* DEFAULT_RANGES_PER_PROCESSOR);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param dao
+	 *            user DAO used to measure the table
+	 * @param provider
+	 *            DAO provider for range reads
+	 * @param rangeCount
+	 *            maximum number of ranges
+	 */
+	public UserRowIdRangeScan(UserCoreDao<TColumn, TTable, TRow, TResult> dao,
+			UserCoreDaoProvider<TColumn, TTable, TRow, TResult> provider,
+			int rangeCount) {
+		this(provider, dao.getTableName(), dao.getPkColumnName(),
+				measure(dao, rangeCount));
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param provider
+	 *            DAO provider for range reads
+	 * @param tableName
+	 *            table name
+	 * @param pkColumnName
+	 *            primary key column name
+	 * @param ranges
+	 *            id ranges in id order
+	 */
+	public UserRowIdRangeScan(
+			UserCoreDaoProvider<TColumn, TTable, TRow, TResult> provider,
+			String tableName, String pkColumnName,
+			List<UserRowIdRange> ranges) {
+		this.provider = provider;
+		this.tableName = tableName;
+		this.pkColumnName = pkColumnName;
+		this.ranges = ranges;
+		String pk = CoreSQLUtils.quoteWrap(pkColumnName);
+		where = pk + " >= ? AND " + pk + " <= ?";
+	}
+
+	/**
+	 * Get the table name
+	 *
+	 * @return table name
+	 */
+	public String getTableName() {
+		return tableName;
+	}
+
+	/**
+	 * Get the primary key column name
+	 *
+	 * @return primary key column name
+	 */
+	public String getPkColumnName() {
+		return pkColumnName;
+	}
+
+	/**
+	 * Get the id ranges
+	 *
+	 * @return id ranges in id order
+	 */
+	public List<UserRowIdRange> getRanges() {
+		return ranges;
+	}
+
+	/**
+	 * Get the range where clause, with the range min and max id arguments
+	 *
+	 * @return where clause
+	 */
+	public String getWhere() {
+		return where;
+	}
+
+	/**
+	 * Stream the table rows in parallel
+	 *
+	 * @return parallel row stream, ordered by id
+	 */
+	public Stream<TRow> rows() {
+		return rows((String[]) null);
+	}
+
+	/**
+	 * Stream the table rows in parallel
+	 *
+	 * @param columns
+	 *            columns to read, null for all columns
+	 * @return parallel row stream, ordered by id
+	 */
+	public Stream<TRow> rows(String... columns) {
+		Set<RangeSpliterator<?>> open = ConcurrentHashMap.newKeySet();
+		return stream(new RowSpliterator(0, ranges.size(), open, columns),
+				open);
+	}
+
+	/**
+	 * Stream the table rows in parallel as columnar batches. Each batch is
+	 * reused for the following batches of its range and should be fully
+	 * processed by the consuming operation, such as forEach, before it
+	 * returns.
+	 *
+	 * @param batchSize
+	 *            rows per batch
+	 * @param columns
+	 *            columns to read
+	 * @return parallel batch stream
+	 */
+	public Stream<UserColumnarBatch> batches(int batchSize, String... columns) {
+		Set<RangeSpliterator<?>> open = ConcurrentHashMap.newKeySet();
+		return stream(new BatchSpliterator(0, ranges.size(), open, columns,
+				batchSize), open);
+	}
+
+	/**
+	 * Create a parallel stream that closes open ranges when closed
+	 *
+	 * @param spliterator
+	 *            range spliterator
+	 * @param open
+	 *            open range spliterators
+	 * @return parallel stream
+	 */
+	private <T> Stream<T> stream(RangeSpliterator<T> spliterator,
+			final Set<RangeSpliterator<?>> open) {
+		return StreamSupport.stream(spliterator, true).onClose(new Runnable() {
+			@Override
+			public void run() {
+				for (RangeSpliterator<?> range : open) {
+					range.closeRange();
+				}
+			}
+		});
+	}
+
+	/**
+	 * Measure the table and split it into id ranges
+	 *
+	 * @param dao
+	 *            user DAO
+	 * @param rangeCount
+	 *            maximum number of ranges
+	 * @return id ranges
+	 */
+	private static List<UserRowIdRange> measure(UserCoreDao<?, ?, ?, ?> dao,
+			int rangeCount) {
+		if (!dao.getTable().hasPkColumn()) {
+			throw new GeoPackageException(
+					"Range scans require a primary key column. Table: "
+							+ dao.getTableName());
+		}
+		String pk = CoreSQLUtils.quoteWrap(dao.getPkColumnName());
+		List<Object> values = dao.getDb().querySingleRowResults(
+				"SELECT MIN(" + pk + "), MAX(" + pk + "), COUNT(*) FROM "
+						+ CoreSQLUtils.quoteWrap(dao.getTableName()),
+				null);
+		long count = values != null && values.get(2) != null
+				? ((Number) values.get(2)).longValue()
+				: 0;
+		List<UserRowIdRange> ranges;
+		if (count > 0) {
+			ranges = UserRowIdRange.split(
+					((Number) values.get(0)).longValue(),
+					((Number) values.get(1)).longValue(), count, rangeCount);
+		} else {
+			ranges = UserRowIdRange.split(0, 0, 0, rangeCount);
+		}
+		return ranges;
+	}
+
+	/**
+	 * Spliterator over a span of the id ranges, reading one range at a time on
+	 * a provided DAO
+	 *
+	 * @param <T>
+	 *            element type
+	 */
+	private abstract class RangeSpliterator<T> implements Spliterator<T> {
+
+		/**
+		 * Open range spliterators shared by the stream
+		 */
+		protected final Set<RangeSpliterator<?>> open;
+
+		/**
+		 * Columns to read, null for all
+		 */
+		protected final String[] columns;
+
+		/**
+		 * Next range index
+		 */
+		private int index;
+
+		/**
+		 * Range index fence, exclusive
+		 */
+		private final int fence;
+
+		/**
+		 * Current range DAO
+		 */
+		private UserCoreDao<TColumn, TTable, TRow, TResult> dao;
+
+		/**
+		 * Current range result
+		 */
+		protected TResult result;
+
+		/**
+		 * Constructor
+		 *
+		 * @param index
+		 *            first range index
+		 * @param fence
+		 *            range index fence, exclusive
+		 * @param open
+		 *            open range spliterators
+		 * @param columns
+		 *            columns to read, null for all
+		 */
+		protected RangeSpliterator(int index, int fence,
+				Set<RangeSpliterator<?>> open, String[] columns) {
+			this.index = index;
+			this.fence = fence;
+			this.open = open;
+			this.columns = columns;
+		}
+
+		/**
+		 * Create a spliterator over the range span
+		 *
+		 * @param index
+		 *            first range index
+		 * @param fence
+		 *            range index fence, exclusive
+		 * @return spliterator
+		 */
+		protected abstract RangeSpliterator<T> create(int index, int fence);
+
+		/**
+		 * Called after a range result is opened
+		 */
+		protected void opened() {
+
+		}
+
+		/**
+		 * Advance within the current range result
+		 *
+		 * @param action
+		 *            element action
+		 * @return true if an element was consumed
+		 */
+		protected abstract boolean advance(Consumer<? super T> action);
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+			boolean advanced = false;
+			while (!advanced) {
+				if (result == null) {
+					if (index >= fence) {
+						break;
+					}
+					openRange(ranges.get(index++));
+				}
+				advanced = advance(action);
+				if (!advanced) {
+					closeRange();
+				}
+			}
+			return advanced;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Spliterator<T> trySplit() {
+			Spliterator<T> prefix = null;
+			if (result == null && fence - index > 1) {
+				int mid = (index + fence) >>> 1;
+				prefix = create(index, mid);
+				index = mid;
+			}
+			return prefix;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public long estimateSize() {
+			long size = 0;
+			for (int i = index; i < fence; i++) {
+				size += ranges.get(i).getEstimatedRows();
+			}
+			return size;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int characteristics() {
+			return ORDERED | NONNULL;
+		}
+
+		/**
+		 * Open the range result on a provided DAO
+		 *
+		 * @param range
+		 *            id range
+		 */
+		private void openRange(UserRowIdRange range) {
+			dao = provider.open();
+			open.add(this);
+			try {
+				String[] queryColumns = columns != null ? columns
+						: dao.getTable().getColumnNames();
+				result = dao.query(queryColumns, where, range.getWhereArgs(),
+						null, null, CoreSQLUtils.quoteWrap(pkColumnName));
+				opened();
+			} catch (RuntimeException e) {
+				closeRange();
+				throw e;
+			}
+		}
+
+		/**
+		 * Close the current range result and release its DAO
+		 */
+		protected void closeRange() {
+			try {
+				if (result != null) {
+					result.close();
+				}
+			} finally {
+				result = null;
+				if (dao != null) {
+					provider.close(dao);
+					dao = null;
+				}
+				open.remove(this);
+			}
+		}
+
+	}
+
+	/**
+	 * Row spliterator
+	 */
+	private class RowSpliterator extends RangeSpliterator<TRow> {
+
+		/**
+		 * Constructor
+		 *
+		 * @param index
+		 *            first range index
+		 * @param fence
+		 *            range index fence, exclusive
+		 * @param open
+		 *            open range spliterators
+		 * @param columns
+		 *            columns to read, null for all
+		 */
+		RowSpliterator(int index, int fence, Set<RangeSpliterator<?>> open,
+				String[] columns) {
+			super(index, fence, open, columns);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected RangeSpliterator<TRow> create(int index, int fence) {
+			return new RowSpliterator(index, fence, open, columns);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected boolean advance(Consumer<? super TRow> action) {
+			boolean advanced = result.moveToNext();
+			if (advanced) {
+				action.accept(result.getRow());
+			}
+			return advanced;
+		}
+
+	}
+
+	/**
+	 * Columnar batch spliterator
+	 */
+	private class BatchSpliterator
+			extends RangeSpliterator<UserColumnarBatch> {
+
+		/**
+		 * Rows per batch
+		 */
+		private final int batchSize;
+
+		/**
+		 * Current range reader
+		 */
+		private UserColumnarReader reader;
+
+		/**
+		 * Constructor
+		 *
+		 * @param index
+		 *            first range index
+		 * @param fence
+		 *            range index fence, exclusive
+		 * @param open
+		 *            open range spliterators
+		 * @param columns
+		 *            columns to read
+		 * @param batchSize
+		 *            rows per batch
+		 */
+		BatchSpliterator(int index, int fence, Set<RangeSpliterator<?>> open,
+				String[] columns, int batchSize) {
+			super(index, fence, open, columns);
+			this.batchSize = batchSize;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected RangeSpliterator<UserColumnarBatch> create(int index,
+				int fence) {
+			return new BatchSpliterator(index, fence, open, columns,
+					batchSize);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected void opened() {
+			reader = new UserColumnarReader(result, batchSize, columns);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected boolean advance(
+				Consumer<? super UserColumnarBatch> action) {
+			UserColumnarBatch batch = reader.next();
+			boolean advanced = batch != null;
+			if (advanced) {
+				action.accept(batch);
+			}
+			return advanced;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public long estimateSize() {
+			return (super.estimateSize() + batchSize - 1) / batchSize;
+		}
+
+	}
+
+}
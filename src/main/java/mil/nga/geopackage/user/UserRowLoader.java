@@ -0,0 +1,537 @@
+package mil.nga.geopackage.user;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
+
+import mil.nga.geopackage.GeoPackageException;
+
+/**
+ * User Row Loader sharing a single user row read between concurrent
+ * requests for the same id (single flight), with an optional bounded least
+ * recently used cache of recently read rows. In flight reads are tracked in a
+ * concurrent map of futures and the cache is striped by id so unrelated ids do
+ * not contend on a single lock.
+ * <p>
+ * Cached rows are shared instances. Callers modifying rows or the underlying
+ * table must {@link #remove(long)} or {@link #clear()} the affected rows. A
+ * read in flight during a remove or clear is returned to its callers but not
+ * cached.
+ *
+ * @param <TColumn>
+ *            column type
+ * @param <TTable>
+ *            table type
+ * @param <TRow>
+ *            row type
+ *
+ * @author osbornb
+ * @since 6.6.8
+ */
+public class UserRowLoader<TColumn extends UserColumn, TTable extends UserTable<TColumn>, TRow extends UserCoreRow<TColumn, TTable>> {
+
+	/**
+	 * Cache stripe count, a power of two
+	 */
+	private static final int STRIPES = 16;
+
+	/**
+	 * In flight row reads by id
+	 */
+	private final ConcurrentMap<Long, Load<TRow>> loading = new ConcurrentHashMap<>();
+
+	/**
+	 * Cache stripes, null when caching is disabled
+	 */
+	private final CacheStripe<TRow>[] stripes;
+
+	/**
+	 * Constructor without a row cache
+	 */
+	public UserRowLoader() {
+		this(0);
+	}
+
+	/**
+	 * Constructor with a row count bounded cache
+	 *
+	 * @param maxRows
+	 *            maximum cached rows, 0 to disable caching
+	 */
+	public UserRowLoader(int maxRows) {
+		this(maxRows, null);
+	}
+
+	/**
+	 * Constructor with a weight bounded cache
+	 *
+	 * @param maxWeight
+	 *            maximum total cached row weight, 0 to disable caching
+	 * @param weigher
+	 *            row weight function, null to weigh each row as 1
+	 */
+	public UserRowLoader(long maxWeight, ToLongFunction<TRow> weigher) {
+		if (maxWeight > 0) {
+			long stripeWeight = Math.max((maxWeight + STRIPES - 1) / STRIPES,
+					1);
+			stripes = createStripes(STRIPES);
+			for (int i = 0; i < STRIPES; i++) {
+				stripes[i] = new CacheStripe<>(stripeWeight, weigher);
+			}
+		} else {
+			stripes = null;
+		}
+	}
+
+	/**
+	 * Check if the row cache is enabled
+	 *
+	 * @return true if caching
+	 */
+	public boolean isCaching() {
+		return stripes != null;
+	}
+
+	/**
+	 * Get the row, reading it with the reader only if the row is not cached
+	 * and no other thread is reading the same id. Concurrent requests for the
+	 * same id wait for and share the single read.
+	 *
+	 * @param id
+	 *            user row id
+	 * @param reader
+	 *            row reader, returning null when no row exists
+	 * @return row or null
+	 */
+	public TRow get(long id, LongFunction<TRow> reader) {
+
+		TRow row = getCached(id);
+
+		if (row == null) {
+
+			Load<TRow> future = new Load<>(generation(id));
+			Load<TRow> existing = loading.putIfAbsent(id, future);
+
+			if (existing != null) {
+				row = await(id, existing);
+			} else {
+				try {
+					row = reader.apply(id);
+				} catch (RuntimeException e) {
+					loading.remove(id, future);
+					future.completeExceptionally(e);
+					throw e;
+				}
+				complete(id, future, row);
+			}
+		}
+
+		return row;
+	}
+
+	/**
+	 * Get the row if cached or another same id request has been made by
+	 * waiting until the row has been set. If no current request, the calling
+	 * thread becomes responsible for reading the row and must call
+	 * {@link #setRow(long, UserCoreRow)} when complete.
+	 *
+	 * @param id
+	 *            user row id
+	 * @return row if cached or retrieved from a previous request, null if
+	 *         calling thread should read row and set using
+	 *         {@link #setRow(long, UserCoreRow)}
+	 */
+	public TRow getRowOrLock(long id) {
+
+		TRow row = getCached(id);
+
+		if (row == null) {
+			Load<TRow> existing = loading.putIfAbsent(id,
+					new Load<>(generation(id)));
+			if (existing != null) {
+				row = await(id, existing);
+			}
+		}
+
+		return row;
+	}
+
+	/**
+	 * Set the row read by the thread responsible for the id, caching it and
+	 * notifying all waiting threads
+	 *
+	 * @param id
+	 *            user row id
+	 * @param row
+	 *            user row or null
+	 */
+	public void setRow(long id, TRow row) {
+		Load<TRow> future = loading.get(id);
+		if (future != null) {
+			complete(id, future, row);
+		} else {
+			cache(id, row);
+		}
+	}
+
+	/**
+	 * Get a cached row without reading or waiting
+	 *
+	 * @param id
+	 *            user row id
+	 * @return cached row or null
+	 */
+	public TRow getCached(long id) {
+		TRow row = null;
+		if (stripes != null) {
+			row = stripe(id).get(id);
+		}
+		return row;
+	}
+
+	/**
+	 * Remove a cached row
+	 *
+	 * @param id
+	 *            user row id
+	 */
+	public void remove(long id) {
+		if (stripes != null) {
+			stripe(id).remove(id);
+		}
+	}
+
+	/**
+	 * Clear all cached rows
+	 */
+	public void clear() {
+		if (stripes != null) {
+			for (CacheStripe<TRow> stripe : stripes) {
+				stripe.clear();
+			}
+		}
+	}
+
+	/**
+	 * Get the number of cached rows
+	 *
+	 * @return cached rows
+	 */
+	public int getCacheSize() {
+		int size = 0;
+		if (stripes != null) {
+			for (CacheStripe<TRow> stripe : stripes) {
+				size += stripe.size();
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Cache the row unless removed or cleared since the read started,
+	 * complete the in flight read, and stop tracking it
+	 *
+	 * @param id
+	 *            user row id
+	 * @param future
+	 *            in flight read
+	 * @param row
+	 *            user row or null
+	 */
+	private void complete(long id, Load<TRow> future, TRow row) {
+		if (stripes != null && row != null) {
+			stripe(id).put(id, row, future.generation);
+		}
+		loading.remove(id, future);
+		future.complete(row);
+	}
+
+	/**
+	 * Cache the row when caching is enabled
+	 *
+	 * @param id
+	 *            user row id
+	 * @param row
+	 *            user row or null
+	 */
+	private void cache(long id, TRow row) {
+		if (stripes != null && row != null) {
+			stripe(id).put(id, row);
+		}
+	}
+
+	/**
+	 * Get the cache generation of the id, changed by each remove or clear
+	 *
+	 * @param id
+	 *            user row id
+	 * @return generation
+	 */
+	private long generation(long id) {
+		return stripes != null ? stripe(id).generation() : 0;
+	}
+
+	/**
+	 * Wait for the in flight read of another thread
+	 *
+	 * @param id
+	 *            user row id
+	 * @param future
+	 *            in flight read
+	 * @return row or null
+	 */
+	private TRow await(long id, Load<TRow> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new GeoPackageException(
+					"Interruption obtaining cached row or row lock. id: " + id,
+					e);
+		} catch (ExecutionException e) {
+			throw new GeoPackageException("Failed to read row. id: " + id,
+					e.getCause());
+		}
+	}
+
+	/**
+	 * Get the cache stripe of the id
+	 *
+	 * @param id
+	 *            user row id
+	 * @return cache stripe
+	 */
+	private CacheStripe<TRow> stripe(long id) {
+		int hash = Long.hashCode(id);
+		hash ^= (hash >>> 16);
+		return stripes[hash & (STRIPES - 1)];
+	}
+
+	/**
+	 * Create the cache stripes array
+	 *
+	 * @param <TRow>
+	 *            row type
+	 * @param count
+	 *            stripe count
+	 * @return cache stripes
+	 */
+	@SuppressWarnings("unchecked")
+	private static <TRow> CacheStripe<TRow>[] createStripes(int count) {
+		return (CacheStripe<TRow>[]) new CacheStripe<?>[count];
+	}
+
+	/**
+	 * In flight row read and the cache generation it started in
+	 *
+	 * @param <TRow>
+	 *            row type
+	 */
+	private static class Load<TRow> extends CompletableFuture<TRow> {
+
+		/**
+		 * Cache generation when the read started
+		 */
+		private final long generation;
+
+		/**
+		 * Constructor
+		 *
+		 * @param generation
+		 *            cache generation
+		 */
+		private Load(long generation) {
+			this.generation = generation;
+		}
+
+	}
+
+	/**
+	 * Least recently used cache stripe bounded by total row weight
+	 *
+	 * @param <TRow>
+	 *            row type
+	 */
+	private static class CacheStripe<TRow> {
+
+		/**
+		 * Maximum total weight
+		 */
+		private final long maxWeight;
+
+		/**
+		 * Row weight function, null for a weight of 1 per row
+		 */
+		private final ToLongFunction<TRow> weigher;
+
+		/**
+		 * Access ordered cached rows and their weights
+		 */
+		private final LinkedHashMap<Long, WeightedRow<TRow>> rows = new LinkedHashMap<>(
+				16, 0.75f, true);
+
+		/**
+		 * Current total weight
+		 */
+		private long weight = 0;
+
+		/**
+		 * Generation, incremented by each remove and clear
+		 */
+		private long generation = 0;
+
+		/**
+		 * Constructor
+		 *
+		 * @param maxWeight
+		 *            maximum total weight
+		 * @param weigher
+		 *            row weight function
+		 */
+		private CacheStripe(long maxWeight, ToLongFunction<TRow> weigher) {
+			this.maxWeight = maxWeight;
+			this.weigher = weigher;
+		}
+
+		/**
+		 * Get a cached row
+		 *
+		 * @param id
+		 *            row id
+		 * @return row or null
+		 */
+		private synchronized TRow get(long id) {
+			WeightedRow<TRow> weighted = rows.get(id);
+			return weighted != null ? weighted.row : null;
+		}
+
+		/**
+		 * Get the generation
+		 *
+		 * @return generation
+		 */
+		private synchronized long generation() {
+			return generation;
+		}
+
+		/**
+		 * Cache a row read in the generation, skipped when rows were removed
+		 * or cleared since
+		 *
+		 * @param id
+		 *            row id
+		 * @param row
+		 *            row
+		 * @param readGeneration
+		 *            generation when the read started
+		 */
+		private synchronized void put(long id, TRow row,
+				long readGeneration) {
+			if (readGeneration == generation) {
+				put(id, row);
+			}
+		}
+
+		/**
+		 * Cache a row, evicting the least recently used rows over the max
+		 * weight
+		 *
+		 * @param id
+		 *            row id
+		 * @param row
+		 *            row
+		 */
+		private synchronized void put(long id, TRow row) {
+			long rowWeight = weigher != null
+					? Math.max(weigher.applyAsLong(row), 0)
+					: 1;
+			WeightedRow<TRow> previous = rows.remove(id);
+			if (previous != null) {
+				weight -= previous.weight;
+			}
+			if (rowWeight <= maxWeight) {
+				rows.put(id, new WeightedRow<>(row, rowWeight));
+				weight += rowWeight;
+				Iterator<Map.Entry<Long, WeightedRow<TRow>>> iterator = rows
+						.entrySet().iterator();
+				while (weight > maxWeight && iterator.hasNext()) {
+					weight -= iterator.next().getValue().weight;
+					iterator.remove();
+				}
+			}
+		}
+
+		/**
+		 * Remove a cached row
+		 *
+		 * @param id
+		 *            row id
+		 */
+		private synchronized void remove(long id) {
+			generation++;
+			WeightedRow<TRow> previous = rows.remove(id);
+			if (previous != null) {
+				weight -= previous.weight;
+			}
+		}
+
+		/**
+		 * Clear the cached rows
+		 */
+		private synchronized void clear() {
+			generation++;
+			rows.clear();
+			weight = 0;
+		}
+
+		/**
+		 * Get the cached row count
+		 *
+		 * @return row count
+		 */
+		private synchronized int size() {
+			return rows.size();
+		}
+
+	}
+
+	/**
+	 * Cached row and weight
+	 *
+	 * @param <TRow>
+	 *            row type
+	 */
+	private static class WeightedRow<TRow> {
+
+		/**
+		 * Row
+		 */
+		private final TRow row;
+
+		/**
+		 * Weight
+		 */
+		private final long weight;
+
+		/**
+		 * Constructor
+		 *
+		 * @param row
+		 *            row
+		 * @param weight
+		 *            weight
+		 */
+		private WeightedRow(TRow row, long weight) {
+			this.row = row;
+			this.weight = weight;
+		}
+
+	}
+
+}
@@ -6,8 +6,6 @@ import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
-import mil.nga.geopackage.GeoPackageException;
-
 /**
  * User Row Sync to support sharing a single user row read copy when multiple
  * near simultaneous asynchronous requests are made
@@ -22,21 +20,34 @@ import mil.nga.geopackage.GeoPackageException;
  * @author osbornb
  * @since 2.0.0
  */
-public class UserRowSync<TColumn extends UserColumn, TTable extends UserTable<TColumn>, TRow extends UserCoreRow<TColumn, TTable>> {
+public class UserRowSync<TColumn extends UserColumn, TTable extends UserTable<TColumn>, TRow extends UserCoreRow<TColumn, TTable>>
+		extends UserRowLoader<TColumn, TTable, TRow> {
 
 	/**
 	 * Synchronous lock
+	 * 
+	 * @deprecated no longer used, in flight reads are tracked by
+	 *             {@link UserRowLoader} without a shared lock
 	 */
+	@Deprecated
 	protected Lock lock = new ReentrantLock();
 
 	/**
 	 * Mapping between row ids and row conditions
+	 * 
+	 * @deprecated no longer used, in flight reads are tracked by
+	 *             {@link UserRowLoader} without a shared lock
 	 */
+	@Deprecated
 	protected Map<Long, RowCondition> rows = new HashMap<>();
 
 	/**
 	 * Condition and row wrapper
+	 * 
+	 * @deprecated no longer used, in flight reads are tracked by
+	 *             {@link UserRowLoader} futures
 	 */
+	@Deprecated
 	protected class RowCondition {
 
 		/**
@@ -59,70 +70,14 @@ public class UserRowSync<TColumn extends UserColumn, TTable extends UserTable<TC
 	}
 
 	/**
-	 * Get the row if another same id request has been made by waiting until the
-	 * row has been set. If no current request, lock the for the calling thread
-	 * which should read the row and call {@link #setRow(long, UserCoreRow)}
-	 * when complete.
-	 * 
-	 * @param id
-	 *            user row id
-	 * @return row if retrieved from a previous request, null if calling thread
-	 *         should read row and set using {@link #setRow(long, UserCoreRow)}
+	 * Constructor with a bounded cache of recently read rows
+	 *
+	 * @param maxRows
+	 *            maximum cached rows, 0 to disable caching
+	 * @since 6.6.8
 	 */
-	public TRow getRowOrLock(long id) {
-
-		TRow row = null;
-
-		lock.lock();
-		try {
-			RowCondition rowCondition = rows.get(id);
-			if (rowCondition != null) {
-				row = rowCondition.row;
-				if (row == null) {
-					// Another thread is currently retrieving the row, wait
-					rowCondition.condition.await();
-
-					// Row has now been retrieved
-					row = rowCondition.row;
-				}
-			} else {
-				// Set the row condition and the calling thread is now
-				// responsible for retrieving the row
-				rowCondition = new RowCondition();
-				rowCondition.condition = lock.newCondition();
-				rows.put(id, rowCondition);
-			}
-		} catch (InterruptedException e) {
-			throw new GeoPackageException(
-					"Interruption obtaining cached row or row lock. id: " + id,
-					e);
-		} finally {
-			lock.unlock();
-		}
-
-		return row;
-	}
-
-	/**
-	 * Set the row id, row, and notify all waiting threads to retrieve the row.
-	 * 
-	 * @param id
-	 *            user row id
-	 * @param row
-	 *            user row or null
-	 */
-	public void setRow(long id, TRow row) {
-
-		lock.lock();
-		try {
-			RowCondition rowCondition = rows.remove(id);
-			if (rowCondition != null) {
-				rowCondition.row = row;
-				rowCondition.condition.signalAll();
-			}
-		} finally {
-			lock.unlock();
-		}
+	protected UserRowSync(int maxRows) {
+		super(maxRows);
 	}
 
 }
@@ -2,17 +2,21 @@ package mil.nga.geopackage.user;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import mil.nga.geopackage.GeoPackageException;
 import mil.nga.geopackage.db.GeoPackageCoreConnection;
+import mil.nga.geopackage.db.SchemaCache;
 import mil.nga.geopackage.db.master.SQLiteMaster;
 import mil.nga.geopackage.db.table.ColumnConstraints;
 import mil.nga.geopackage.db.table.TableColumn;
 import mil.nga.geopackage.db.table.TableConstraints;
 import mil.nga.geopackage.db.table.TableInfo;
+import mil.nga.geopackage.extension.schema.columns.DataColumns;
 import mil.nga.geopackage.extension.schema.columns.DataColumnsDao;
 
 /**
@@ -69,6 +73,18 @@ public abstract class UserTableReader<TColumn extends UserColumn, TTable extends
 	 */
 	protected abstract TColumn createColumn(TableColumn tableColumn);
 
+	/**
+	 * Get the key identifying tables built by this reader in the connection
+	 * {@link SchemaCache}. Readers producing different tables for the same
+	 * table name must return different keys. Return null to disable caching.
+	 * 
+	 * @return cache key or null
+	 * @since 6.6.8
+	 */
+	protected String getCacheKey() {
+		return null;
+	}
+
 	/**
 	 * Read the table
 	 * 
@@ -78,6 +94,38 @@ public abstract class UserTableReader<TColumn extends UserColumn, TTable extends
 	 */
 	public TTable readTable(GeoPackageCoreConnection db) {
 
+		SchemaCache schemaCache = db.getSchemaCache();
+		String cacheKey = getCacheKey();
+
+		TTable table = null;
+		if (cacheKey != null) {
+			@SuppressWarnings("unchecked")
+			TTable cachedTable = (TTable) schemaCache.getTable(cacheKey,
+					tableName);
+			table = cachedTable;
+		}
+
+		if (table == null) {
+			table = readSchemaTable(db);
+			if (cacheKey != null) {
+				schemaCache.putTable(cacheKey, tableName, table);
+			}
+		}
+
+		loadSchema(db, table);
+
+		return table;
+	}
+
+	/**
+	 * Read the table from the table info and constraints
+	 * 
+	 * @param db
+	 *            connection
+	 * @return table
+	 */
+	private TTable readSchemaTable(GeoPackageCoreConnection db) {
+
 		List<TColumn> columnList = new ArrayList<TColumn>();
 
 		TableInfo tableInfo = TableInfo.info(db, tableName);
@@ -87,7 +135,6 @@ public abstract class UserTableReader<TColumn extends UserColumn, TTable extends
 
 		TableConstraints constraints = SQLiteMaster.queryForConstraints(db,
 				tableName);
-		DataColumnsDao dataColumnsDao = DataColumnsDao.create(db);
 
 		for (TableColumn tableColumn : tableInfo.getColumns()) {
 			if (tableColumn.getDataType() == null) {
@@ -106,13 +153,6 @@ public abstract class UserTableReader<TColumn extends UserColumn, TTable extends
 				column.addConstraints(columnConstraints);
 			}
 
-			try {
-				dataColumnsDao.loadSchema(tableName, column);
-			} catch (SQLException e) {
-				log.log(Level.WARNING, "Failed to load column schema. table: "
-						+ tableName + ", column: " + column.getName(), e);
-			}
-
 			columnList.add(column);
 		}
 
@@ -123,4 +163,35 @@ public abstract class UserTableReader<TColumn extends UserColumn, TTable extends
 		return table;
 	}
 
+	/**
+	 * Load the data columns schema of the table columns with a single query
+	 * 
+	 * @param db
+	 *            connection
+	 * @param table
+	 *            table
+	 */
+	private void loadSchema(GeoPackageCoreConnection db, TTable table) {
+
+		DataColumnsDao dataColumnsDao = DataColumnsDao.create(db);
+
+		Map<String, DataColumns> schemas = new HashMap<>();
+		try {
+			if (dataColumnsDao.isTableExists()) {
+				for (DataColumns schema : dataColumnsDao
+						.queryByTable(tableName)) {
+					schemas.put(schema.getColumnName(), schema);
+				}
+			}
+		} catch (SQLException e) {
+			log.log(Level.WARNING,
+					"Failed to load column schema. table: " + tableName, e);
+		}
+
+		for (TColumn column : table.getColumns()) {
+			column.setSchema(schemas.get(column.getName()));
+		}
+
+	}
+
 }
@@ -42,6 +42,14 @@ public class UserCustomTableReader
 		return UserCustomColumn.createColumn(tableColumn);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected String getCacheKey() {
+		return getClass().getName();
+	}
+
 	/**
 	 * Read the table
 	 * 
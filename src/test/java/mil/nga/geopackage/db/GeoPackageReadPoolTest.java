@@ -0,0 +1,435 @@
+package mil.nga.geopackage.db;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import com.j256.ormlite.support.ConnectionSource;
+
+import junit.framework.TestCase;
+
+/**
+ * GeoPackage Read Pool Test
+ *
+ * @author osbornb
+ */
+public class GeoPackageReadPoolTest {
+
+	/**
+	 * Test the pool does not grow past the max size
+	 */
+	@Test
+	public void testMaxSize() {
+
+		StubFactory factory = new StubFactory();
+		GeoPackageReadPool pool = new GeoPackageReadPool(factory, 2);
+
+		GeoPackageCoreConnection reader1 = pool.acquire();
+		GeoPackageCoreConnection reader2 = pool.acquire();
+		TestCase.assertNotNull(reader1);
+		TestCase.assertNotNull(reader2);
+		TestCase.assertTrue(reader1 != reader2);
+		TestCase.assertNull(pool.acquire());
+		TestCase.assertEquals(2, pool.size());
+		TestCase.assertEquals(2, pool.getCreated());
+		TestCase.assertEquals(2, pool.getAcquisitions());
+		TestCase.assertEquals(1, pool.getMisses());
+
+		pool.release(reader1);
+		TestCase.assertEquals(1, pool.getIdleCount());
+		TestCase.assertSame(reader1, pool.acquire());
+		TestCase.assertEquals(2, factory.connections.size());
+
+		// Shrinking closes idle readers and busy readers on release
+		pool.release(reader1);
+		pool.setMaxSize(0);
+		TestCase.assertTrue(((StubConnection) reader1).closed);
+		TestCase.assertEquals(1, pool.size());
+		pool.release(reader2);
+		TestCase.assertTrue(((StubConnection) reader2).closed);
+		TestCase.assertEquals(0, pool.size());
+		TestCase.assertNull(pool.acquire());
+
+		pool.close();
+	}
+
+	/**
+	 * Test waiting for a busy reader up to the acquire timeout
+	 *
+	 * @throws InterruptedException
+	 *             upon interruption
+	 */
+	@Test
+	public void testAcquireTimeout() throws InterruptedException {
+
+		final GeoPackageReadPool pool = new GeoPackageReadPool(
+				new StubFactory(), 1);
+		final GeoPackageCoreConnection reader = pool.acquire();
+		TestCase.assertNotNull(reader);
+
+		pool.setAcquireTimeout(50);
+		TestCase.assertNull(pool.acquire());
+		TestCase.assertEquals(1, pool.getMisses());
+
+		// Releasing wakes a waiting acquire
+		pool.setAcquireTimeout(60000);
+		final AtomicReference<GeoPackageCoreConnection> acquired = new AtomicReference<>();
+		Thread waiter = startWaiter(pool, acquired);
+		pool.release(reader);
+		waiter.join(10000);
+		TestCase.assertFalse(waiter.isAlive());
+		TestCase.assertSame(reader, acquired.get());
+		TestCase.assertEquals(1, pool.getMisses());
+
+		// Closing wakes waiting acquires
+		acquired.set(reader);
+		waiter = startWaiter(pool, acquired);
+		pool.close();
+		waiter.join(10000);
+		TestCase.assertFalse(waiter.isAlive());
+		TestCase.assertNull(acquired.get());
+
+		pool.release(reader);
+		TestCase.assertTrue(((StubConnection) reader).closed);
+	}
+
+	/**
+	 * Start a thread acquiring from the pool and wait until it is waiting
+	 * for a reader
+	 *
+	 * @param pool
+	 *            read pool
+	 * @param acquired
+	 *            acquired reader
+	 * @return waiting thread
+	 * @throws InterruptedException
+	 *             upon interruption
+	 */
+	private static Thread startWaiter(final GeoPackageReadPool pool,
+			final AtomicReference<GeoPackageCoreConnection> acquired)
+			throws InterruptedException {
+		final CountDownLatch started = new CountDownLatch(1);
+		Thread waiter = new Thread(() -> {
+			started.countDown();
+			acquired.set(pool.acquire());
+		});
+		waiter.start();
+		TestCase.assertTrue(started.await(10, TimeUnit.SECONDS));
+		while (waiter.getState() != Thread.State.TIMED_WAITING) {
+			TestCase.assertTrue(waiter.isAlive());
+			Thread.yield();
+		}
+		return waiter;
+	}
+
+	/**
+	 * Test evicting readers idle past the idle timeout
+	 */
+	@Test
+	public void testEvictIdle() {
+
+		final AtomicLong time = new AtomicLong(1000);
+		GeoPackageReadPool pool = new GeoPackageReadPool(new StubFactory(),
+				2) {
+			@Override
+			protected long currentTimeMillis() {
+				return time.get();
+			}
+		};
+		GeoPackageCoreConnection reader1 = pool.acquire();
+		GeoPackageCoreConnection reader2 = pool.acquire();
+
+		pool.setIdleTimeout(0);
+		pool.release(reader1);
+		time.addAndGet(20);
+		TestCase.assertEquals(0, pool.evictIdle());
+		TestCase.assertEquals(1, pool.getIdleCount());
+
+		pool.setIdleTimeout(20);
+		TestCase.assertEquals(0, pool.evictIdle());
+		TestCase.assertEquals(1, pool.getIdleCount());
+
+		pool.setIdleTimeout(10);
+		TestCase.assertEquals(1, pool.evictIdle());
+		TestCase.assertTrue(((StubConnection) reader1).closed);
+		TestCase.assertEquals(1, pool.getEvicted());
+		TestCase.assertEquals(1, pool.size());
+		TestCase.assertEquals(0, pool.getIdleCount());
+
+		// Busy readers are not evicted
+		TestCase.assertFalse(((StubConnection) reader2).closed);
+		pool.setIdleTimeout(60000);
+		pool.release(reader2);
+		time.addAndGet(60000);
+		TestCase.assertEquals(0, pool.evictIdle());
+		TestCase.assertEquals(1, pool.getIdleCount());
+		time.addAndGet(1);
+		TestCase.assertEquals(1, pool.evictIdle());
+		TestCase.assertTrue(((StubConnection) reader2).closed);
+		TestCase.assertEquals(2, pool.getEvicted());
+
+		pool.close();
+		TestCase.assertTrue(pool.isClosed());
+		TestCase.assertEquals(0, pool.size());
+	}
+
+	/**
+	 * Test failed reader creation counts as a miss and frees the slot
+	 */
+	@Test
+	public void testOpenFailure() {
+
+		StubFactory factory = new StubFactory();
+		factory.fail = true;
+		GeoPackageReadPool pool = new GeoPackageReadPool(factory, 1);
+		TestCase.assertNull(pool.acquire());
+		TestCase.assertEquals(1, pool.getMisses());
+		TestCase.assertEquals(0, pool.size());
+
+		factory.fail = false;
+		TestCase.assertNotNull(pool.acquire());
+		TestCase.assertEquals(1, pool.getCreated());
+
+		pool.close();
+	}
+
+	/**
+	 * Test queries stay on the primary connection when the temp schema has
+	 * objects or the query references connection state
+	 */
+	@Test
+	public void testTempSchemaRouting() {
+
+		StubConnection primary = new StubConnection("primary");
+		primary.setReadPool(new GeoPackageReadPool(new StubFactory(), 1));
+
+		// Reads stay on the primary until the temp schema is tracked
+		TestCase.assertFalse(primary.isTempSchemaTracked());
+		TestCase.assertEquals("primary", primary.querySingleResult("SELECT 1", null));
+		primary.setTempSchemaTracked(true);
+
+		TestCase.assertEquals("reader", primary.querySingleResult("SELECT 1", null));
+		TestCase.assertEquals("reader", primary.querySingleResult(
+				"WITH ids AS (SELECT id FROM features) SELECT COUNT(*) FROM ids",
+				null));
+		TestCase.assertEquals("primary", primary.querySingleResult(
+				"WITH ids AS (SELECT id FROM features) DELETE FROM features WHERE id IN ids",
+				null));
+		TestCase.assertEquals("primary", primary.querySingleResult(
+				"WITH ids(id) AS (VALUES (1)) INSERT INTO features SELECT id FROM ids",
+				null));
+		TestCase.assertEquals("primary", primary.querySingleResult(
+				"WITH \"select\" AS (SELECT 1) UPDATE features SET id = 1",
+				null));
+		TestCase.assertEquals("primary", primary.querySingleResult(
+				"SELECT name FROM sqlite_temp_master", null));
+		TestCase.assertEquals("primary", primary.querySingleResult(
+				"SELECT * FROM temp.features", null));
+		TestCase.assertEquals("primary",
+				primary.querySingleResult("PRAGMA user_version", null));
+
+		// A temp table created on the primary keeps reads on the primary
+		primary.tempObjects = 1;
+		primary.execSQL("CREATE TEMP TABLE ids (id INTEGER)");
+		TestCase.assertTrue(primary.hasTempSchema());
+		TestCase.assertEquals("primary", primary.querySingleResult("SELECT 1", null));
+		primary.execSQL("CREATE INDEX temp.ids_index ON ids (id)");
+		TestCase.assertTrue(primary.hasTempSchema());
+
+		// Dropping an object re-checks the temp schema
+		primary.execSQL("DROP INDEX temp.ids_index");
+		TestCase.assertTrue(primary.hasTempSchema());
+		primary.tempObjects = 0;
+		primary.execSQL("DROP TABLE ids");
+		TestCase.assertFalse(primary.hasTempSchema());
+		TestCase.assertEquals("reader", primary.querySingleResult("SELECT 1", null));
+
+		// Non temp DDL does not change the temp schema state
+		primary.execSQL("CREATE TABLE features (id INTEGER)");
+		TestCase.assertFalse(primary.hasTempSchema());
+
+		// Temp objects created outside of execSQL are set explicitly
+		primary.setTempSchema(true);
+		TestCase.assertEquals("primary", primary.querySingleResult("SELECT 1", null));
+		primary.setTempSchema(false);
+		TestCase.assertEquals("reader", primary.querySingleResult("SELECT 1", null));
+
+		// Within a transaction reads stay on the primary
+		primary.transaction = true;
+		TestCase.assertEquals("primary", primary.querySingleResult("SELECT 1", null));
+
+		primary.close();
+	}
+
+	/**
+	 * Stub read connection factory
+	 */
+	private static class StubFactory
+			implements GeoPackageReadConnectionFactory {
+
+		/**
+		 * Opened connections
+		 */
+		private final List<StubConnection> connections = Collections
+				.synchronizedList(new ArrayList<>());
+
+		/**
+		 * Fail opening connections
+		 */
+		private volatile boolean fail = false;
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public GeoPackageCoreConnection open() {
+			if (fail) {
+				throw new IllegalStateException("Open failure");
+			}
+			StubConnection connection = new StubConnection("reader");
+			connections.add(connection);
+			return connection;
+		}
+
+	}
+
+	/**
+	 * Stub connection answering queries with its name
+	 */
+	private static class StubConnection extends GeoPackageCoreConnection {
+
+		/**
+		 * Connection name
+		 */
+		private final String name;
+
+		/**
+		 * Temp schema object count
+		 */
+		private volatile long tempObjects = 0;
+
+		/**
+		 * Transaction flag
+		 */
+		private volatile boolean transaction = false;
+
+		/**
+		 * Closed flag
+		 */
+		private volatile boolean closed = false;
+
+		/**
+		 * Constructor
+		 *
+		 * @param name
+		 *            connection name
+		 */
+		StubConnection(String name) {
+			super((ConnectionSource) null);
+			this.name = name;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void execSQL(String sql) {
+			trackTempSchema(sql);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void beginTransaction() {
+			transaction = true;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void endTransaction(boolean successful) {
+			transaction = false;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void commit() {
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean inTransaction() {
+			return transaction;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int delete(String table, String whereClause,
+				String[] whereArgs) {
+			return 0;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Object querySingleResult(String sql, String[] args, int column,
+				GeoPackageDataType dataType) {
+			Object result;
+			if (sql.equals("SELECT COUNT(*) FROM sqlite_temp_master")) {
+				result = tempObjects;
+			} else {
+				result = name;
+			}
+			return result;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public List<Object> querySingleColumnResults(String sql,
+				String[] args, int column, GeoPackageDataType dataType,
+				Integer limit) {
+			List<Object> results = new ArrayList<>();
+			results.add(querySingleResult(sql, args, column, dataType));
+			return results;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public List<List<Object>> queryResults(String sql, String[] args,
+				GeoPackageDataType[] dataTypes, Integer limit) {
+			List<List<Object>> results = new ArrayList<>();
+			results.add(querySingleColumnResults(sql, args, 0, null, limit));
+			return results;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void close() {
+			closed = true;
+			setReadPool(null);
+		}
+
+	}
+
+}
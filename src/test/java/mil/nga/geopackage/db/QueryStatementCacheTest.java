@@ -0,0 +1,362 @@
+package mil.nga.geopackage.db;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import com.j256.ormlite.support.CompiledStatement;
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+
+import junit.framework.TestCase;
+
+/**
+ * Query Statement Cache Test
+ *
+ * @author osbornb
+ */
+public class QueryStatementCacheTest {
+
+	/**
+	 * Test cache hits and misses
+	 */
+	@Test
+	public void testHitsAndMisses() {
+
+		StubConnectionSource source = new StubConnectionSource();
+		QueryStatementCache cache = new QueryStatementCache(
+				new StubConnection(source), 2);
+
+		QueryStatement statement = cache.acquire("SELECT 1");
+		TestCase.assertFalse(statement.isConnectionOwner());
+		cache.release(statement);
+		TestCase.assertEquals(0, cache.getHits());
+		TestCase.assertEquals(1, cache.getMisses());
+		TestCase.assertEquals(1, cache.size());
+
+		TestCase.assertSame(statement, cache.acquire("SELECT 1"));
+		TestCase.assertEquals(0, cache.size());
+		cache.release(statement);
+		TestCase.assertEquals(1, cache.getHits());
+		TestCase.assertEquals(1, cache.getMisses());
+		TestCase.assertEquals(1, source.compiled.get());
+
+		// All statements share a single connection
+		cache.release(cache.acquire("SELECT 2"));
+		TestCase.assertEquals(2, cache.getMisses());
+		TestCase.assertEquals(1, source.acquired.get());
+
+		cache.resetCounters();
+		TestCase.assertEquals(0, cache.getHits());
+		TestCase.assertEquals(0, cache.getMisses());
+
+		cache.close();
+		TestCase.assertEquals(1, source.released.get());
+	}
+
+	/**
+	 * Test least recently used eviction closes the evicted statement
+	 */
+	@Test
+	public void testEviction() {
+
+		StubConnectionSource source = new StubConnectionSource();
+		QueryStatementCache cache = new QueryStatementCache(
+				new StubConnection(source), 2);
+
+		cache.release(cache.acquire("SELECT 1"));
+		cache.release(cache.acquire("SELECT 2"));
+		cache.release(cache.acquire("SELECT 1"));
+		TestCase.assertEquals(0, source.closed.get());
+
+		cache.release(cache.acquire("SELECT 3"));
+		TestCase.assertEquals(1, cache.getEvictions());
+		TestCase.assertEquals(1, source.closed.get());
+		TestCase.assertEquals(2, cache.size());
+
+		// The evicted statement compiles again
+		cache.release(cache.acquire("SELECT 2"));
+		TestCase.assertEquals(4, cache.getMisses());
+		TestCase.assertEquals(2, cache.getEvictions());
+
+		cache.close();
+		TestCase.assertEquals(4, source.closed.get());
+		TestCase.assertEquals(0, cache.size());
+	}
+
+	/**
+	 * Test releasing a statement after the cache is closed closes the
+	 * statement and releases the shared connection
+	 */
+	@Test
+	public void testReleaseAfterClose() {
+
+		StubConnectionSource source = new StubConnectionSource();
+		QueryStatementCache cache = new QueryStatementCache(
+				new StubConnection(source), 2);
+
+		QueryStatement statement = cache.acquire("SELECT 1");
+		cache.close();
+		TestCase.assertEquals(0, source.released.get());
+
+		cache.release(statement);
+		TestCase.assertEquals(1, source.closed.get());
+		TestCase.assertEquals(1, source.released.get());
+		TestCase.assertEquals(0, cache.size());
+
+		// Statements acquired after close own their connection
+		statement = cache.acquire("SELECT 1");
+		TestCase.assertTrue(statement.isConnectionOwner());
+		cache.release(statement);
+		TestCase.assertEquals(2, source.acquired.get());
+		TestCase.assertEquals(2, source.released.get());
+		TestCase.assertEquals(0, cache.size());
+	}
+
+	/**
+	 * Test concurrent callers wait for the shared connection
+	 *
+	 * @throws InterruptedException
+	 *             upon interruption
+	 */
+	@Test
+	public void testSerializedConnection() throws InterruptedException {
+
+		StubConnectionSource source = new StubConnectionSource();
+		final QueryStatementCache cache = new QueryStatementCache(
+				new StubConnection(source), 2);
+
+		QueryStatement statement = cache.acquire("SELECT 1");
+
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch acquired = new CountDownLatch(1);
+		final AtomicReference<QueryStatement> waited = new AtomicReference<>();
+		Thread waiter = new Thread(() -> {
+			started.countDown();
+			QueryStatement other = cache.acquire("SELECT 2");
+			waited.set(other);
+			acquired.countDown();
+			cache.release(other);
+		});
+		waiter.start();
+
+		// Wait until the waiter is blocked on the shared connection
+		TestCase.assertTrue(started.await(10, TimeUnit.SECONDS));
+		while (waiter.getState() != Thread.State.WAITING) {
+			TestCase.assertTrue(waiter.isAlive());
+			Thread.yield();
+		}
+		TestCase.assertEquals(1, acquired.getCount());
+		TestCase.assertNull(waited.get());
+
+		cache.release(statement);
+		TestCase.assertTrue(acquired.await(10, TimeUnit.SECONDS));
+		waiter.join(10000);
+		TestCase.assertFalse(waiter.isAlive());
+		TestCase.assertNotNull(waited.get());
+		TestCase.assertEquals(2, cache.size());
+
+		cache.close();
+	}
+
+	/**
+	 * Stub connection source counting connections and compiled statements
+	 */
+	private static class StubConnectionSource {
+
+		/**
+		 * Acquired connections
+		 */
+		private final AtomicInteger acquired = new AtomicInteger();
+
+		/**
+		 * Released connections
+		 */
+		private final AtomicInteger released = new AtomicInteger();
+
+		/**
+		 * Compiled statements
+		 */
+		private final AtomicInteger compiled = new AtomicInteger();
+
+		/**
+		 * Closed statements
+		 */
+		private final AtomicInteger closed = new AtomicInteger();
+
+		/**
+		 * Create the connection source proxy
+		 *
+		 * @return connection source
+		 */
+		private ConnectionSource create() {
+			return proxy(ConnectionSource.class, (proxy, method, args) -> {
+				switch (method.getName()) {
+				case "getReadWriteConnection":
+					acquired.incrementAndGet();
+					return createConnection();
+				case "releaseConnection":
+					released.incrementAndGet();
+					return null;
+				default:
+					return defaultValue(method.getReturnType());
+				}
+			});
+		}
+
+		/**
+		 * Create a database connection proxy
+		 *
+		 * @return database connection
+		 */
+		private DatabaseConnection createConnection() {
+			return proxy(DatabaseConnection.class, (proxy, method, args) -> {
+				if (method.getName().equals("compileStatement")) {
+					compiled.incrementAndGet();
+					return proxy(CompiledStatement.class,
+							(statement, statementMethod, statementArgs) -> {
+								if (statementMethod.getName()
+										.equals("closeQuietly")) {
+									closed.incrementAndGet();
+								}
+								return defaultValue(
+										statementMethod.getReturnType());
+							});
+				}
+				return defaultValue(method.getReturnType());
+			});
+		}
+
+	}
+
+	/**
+	 * Create an interface proxy
+	 *
+	 * @param type
+	 *            interface type
+	 * @param handler
+	 *            invocation handler
+	 * @return proxy
+	 */
+	private static <T> T proxy(Class<T> type,
+			InvocationHandler handler) {
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(),
+				new Class<?>[] { type }, handler));
+	}
+
+	/**
+	 * Get the default value of a return type
+	 *
+	 * @param type
+	 *            return type
+	 * @return default value
+	 */
+	private static Object defaultValue(Class<?> type) {
+		Object value = null;
+		if (type == boolean.class) {
+			value = false;
+		} else if (type == int.class) {
+			value = 0;
+		} else if (type == long.class) {
+			value = 0L;
+		}
+		return value;
+	}
+
+	/**
+	 * Stub connection over the stub connection source
+	 */
+	private static class StubConnection extends GeoPackageCoreConnection {
+
+		/**
+		 * Constructor
+		 *
+		 * @param source
+		 *            stub connection source
+		 */
+		StubConnection(StubConnectionSource source) {
+			super(source.create());
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void execSQL(String sql) {
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void beginTransaction() {
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void endTransaction(boolean successful) {
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void commit() {
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean inTransaction() {
+			return false;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int delete(String table, String whereClause,
+				String[] whereArgs) {
+			return 0;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Object querySingleResult(String sql, String[] args, int column,
+				GeoPackageDataType dataType) {
+			return null;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public List<Object> querySingleColumnResults(String sql,
+				String[] args, int column, GeoPackageDataType dataType,
+				Integer limit) {
+			return null;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public List<List<Object>> queryResults(String sql, String[] args,
+				GeoPackageDataType[] dataTypes, Integer limit) {
+			return null;
+		}
+
+	}
+
+}
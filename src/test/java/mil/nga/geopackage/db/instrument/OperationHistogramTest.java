@@ -0,0 +1,47 @@
+package mil.nga.geopackage.db.instrument;
+
+import org.junit.Test;
+
+import junit.framework.TestCase;
+
+/**
+ * Operation Histogram Test
+ *
+ * @author osbornb
+ */
+public class OperationHistogramTest {
+
+	/**
+	 * Test recording elapsed times and estimating percentiles
+	 */
+	@Test
+	public void testPercentiles() {
+
+		OperationHistogram histogram = new OperationHistogram();
+		TestCase.assertEquals(0, histogram.getPercentileNanos(50));
+
+		for (int i = 0; i < 99; i++) {
+			histogram.record(1000, 1);
+		}
+		histogram.record(5000000, OperationHistogram.BUCKETS);
+
+		TestCase.assertEquals(100, histogram.getCount());
+		TestCase.assertEquals(99 + OperationHistogram.BUCKETS,
+				histogram.getRows());
+		TestCase.assertEquals(5000000, histogram.getMaxNanos());
+		TestCase.assertEquals(99 * 1000 + 5000000, histogram.getTotalNanos());
+
+		long p50 = histogram.getPercentileNanos(50);
+		TestCase.assertTrue(p50 >= 1000 && p50 < 2048);
+		TestCase.assertEquals(p50, histogram.getPercentileNanos(99));
+		TestCase.assertEquals(5000000, histogram.getPercentileNanos(100));
+
+		histogram.record(0, -1);
+		TestCase.assertEquals(1, histogram.getBucketCount(0));
+
+		histogram.reset();
+		TestCase.assertEquals(0, histogram.getCount());
+		TestCase.assertEquals(0, histogram.getMaxNanos());
+	}
+
+}
@@ -82,6 +82,36 @@ public class ConstraintTest {
 
 	}
 
+	/**
+	 * Test copying parsed table constraints
+	 */
+	@Test
+	public void testCopy() {
+
+		TableConstraints constraints = ConstraintParser.getConstraints(
+				"CREATE TABLE table_name (\n"
+						+ " id INTEGER CONSTRAINT pk PRIMARY KEY NOT NULL,\n"
+						+ " column_name TEXT CONSTRAINT nn NOT NULL,\n"
+						+ " CONSTRAINT uk UNIQUE (column_name)\n);");
+
+		TableConstraints copy = constraints.copy();
+		TestCase.assertEquals(constraints.numTableConstraints(),
+				copy.numTableConstraints());
+		TestCase.assertEquals(constraints.numColumnConstraints("id"),
+				copy.numColumnConstraints("id"));
+		TestCase.assertEquals(
+				constraints.numColumnConstraints("column_name"),
+				copy.numColumnConstraints("column_name"));
+		TestCase.assertNotSame(constraints.getTableConstraint(0),
+				copy.getTableConstraint(0));
+
+		copy.addColumnConstraint("id", copy.getTableConstraint(0));
+		TestCase.assertEquals(
+				constraints.numColumnConstraints("id") + 1,
+				copy.numColumnConstraints("id"));
+
+	}
+
 	/**
 	 * Test parsing constraints in the table SQL
 	 */
@@ -0,0 +1,220 @@
+package mil.nga.geopackage.extension.coverage;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import junit.framework.TestCase;
+
+/**
+ * Coverage Data Encoding Test, round tripping primitive coverage data values
+ * through the gridded tile scale and offset and the tile pixel values
+ *
+ * @author osbornb
+ */
+public class CoverageDataEncodingTest {
+
+	/**
+	 * Test the integer gridded tile scale and offset spread the tile values
+	 * across the full pixel range
+	 */
+	@Test
+	public void testOptimalScaleOffset() {
+
+		GriddedCoverage griddedCoverage = createCoverage(
+				GriddedCoverageDataType.INTEGER, 0.5, -100.0, 65535.0);
+
+		double[] values = new double[] { 100.5, 2000.25, 512.0, 1000.0,
+				1999.0, 101.0 };
+		GriddedTile griddedTile = CoverageDataCore
+				.createGriddedTile(griddedCoverage, values);
+
+		TestCase.assertEquals(100.5, griddedTile.getMin(), 0.0);
+		TestCase.assertEquals(2000.25, griddedTile.getMax(), 0.0);
+		TestCase.assertEquals(952.125, griddedTile.getMean(), 0.0000001);
+		TestCase.assertTrue(griddedTile.getStandardDeviation() > 0);
+
+		short[] pixelValues = new short[values.length];
+		CoverageDataCore.getPixelValues(griddedCoverage, griddedTile, values,
+				pixelValues);
+
+		// The tile min and max use the lowest and highest non data null pixel
+		TestCase.assertEquals(0, pixelValues[0] & 0xffff);
+		TestCase.assertEquals(65534, pixelValues[1] & 0xffff);
+
+		assertRoundTrip(griddedCoverage, griddedTile, values, pixelValues);
+
+		// A low data null value moves the range above it
+		griddedCoverage.setDataNull(0.0);
+		griddedTile = CoverageDataCore.createGriddedTile(griddedCoverage,
+				values);
+		CoverageDataCore.getPixelValues(griddedCoverage, griddedTile, values,
+				pixelValues);
+		TestCase.assertEquals(1, pixelValues[0] & 0xffff);
+		TestCase.assertEquals(65535, pixelValues[1] & 0xffff);
+
+		assertRoundTrip(griddedCoverage, griddedTile, values, pixelValues);
+	}
+
+	/**
+	 * Test float pixel values round trip through the gridded coverage
+	 */
+	@Test
+	public void testFloatPixelValues() {
+
+		GriddedCoverage griddedCoverage = createCoverage(
+				GriddedCoverageDataType.FLOAT, 1.0, 0.0, -9999.0);
+
+		double[] values = new double[] { -12.25, 0.0, 8848.5, Double.NaN,
+				0.125 };
+		GriddedTile griddedTile = CoverageDataCore
+				.createGriddedTile(griddedCoverage, values);
+
+		// Float coverage data tiles keep the identity scale and offset
+		TestCase.assertEquals(1.0, griddedTile.getScale(), 0.0);
+		TestCase.assertEquals(0.0, griddedTile.getOffset(), 0.0);
+
+		float[] pixelValues = new float[values.length];
+		CoverageDataCore.getFloatPixelValues(griddedCoverage, griddedTile,
+				values, pixelValues);
+		TestCase.assertEquals(-9999.0f, pixelValues[3], 0.0f);
+
+		double[] decoded = new double[values.length];
+		CoverageDataCore.getValues(griddedCoverage, griddedTile, pixelValues,
+				decoded);
+		for (int i = 0; i < values.length; i++) {
+			TestCase.assertEquals(values[i], decoded[i], 0.0);
+		}
+	}
+
+	/**
+	 * Test data null values are excluded from the tile statistics and pixel
+	 * range, and no value encodes to the data null pixel
+	 */
+	@Test
+	public void testDataNullExclusion() {
+
+		GriddedCoverage griddedCoverage = createCoverage(
+				GriddedCoverageDataType.INTEGER, 1.0, 0.0, 65535.0);
+
+		double[] values = new double[] { Double.NaN, 10.0, Double.NaN, 30.0,
+				20.0, Double.NaN };
+		GriddedTile griddedTile = CoverageDataCore
+				.createGriddedTile(griddedCoverage, values);
+
+		TestCase.assertEquals(10.0, griddedTile.getMin(), 0.0);
+		TestCase.assertEquals(30.0, griddedTile.getMax(), 0.0);
+		TestCase.assertEquals(20.0, griddedTile.getMean(), 0.0);
+
+		short[] pixelValues = new short[values.length];
+		CoverageDataCore.getPixelValues(griddedCoverage, griddedTile, values,
+				pixelValues);
+		for (int i = 0; i < values.length; i++) {
+			if (Double.isNaN(values[i])) {
+				TestCase.assertEquals(65535, pixelValues[i] & 0xffff);
+			} else {
+				TestCase.assertTrue((pixelValues[i] & 0xffff) != 65535);
+			}
+		}
+
+		assertRoundTrip(griddedCoverage, griddedTile, values, pixelValues);
+
+		// Tiles without values have no statistics
+		griddedTile = CoverageDataCore.createGriddedTile(griddedCoverage,
+				new double[] { Double.NaN, Double.NaN });
+		TestCase.assertNull(griddedTile.getMin());
+		TestCase.assertNull(griddedTile.getMax());
+		TestCase.assertNull(griddedTile.getMean());
+		TestCase.assertEquals(1.0, griddedTile.getScale(), 0.0);
+		TestCase.assertEquals(0.0, griddedTile.getOffset(), 0.0);
+	}
+
+	/**
+	 * Test constant value tiles encode exactly
+	 */
+	@Test
+	public void testConstantValue() {
+
+		GriddedCoverage griddedCoverage = createCoverage(
+				GriddedCoverageDataType.INTEGER, 1.0, 0.0, 0.0);
+
+		double[] values = new double[16];
+		Arrays.fill(values, 42.75);
+		values[5] = Double.NaN;
+		GriddedTile griddedTile = CoverageDataCore
+				.createGriddedTile(griddedCoverage, values);
+
+		TestCase.assertEquals(1.0, griddedTile.getScale(), 0.0);
+		TestCase.assertEquals(42.75, griddedTile.getMin(), 0.0);
+		TestCase.assertEquals(42.75, griddedTile.getMax(), 0.0);
+		TestCase.assertEquals(0.0, griddedTile.getStandardDeviation(), 0.0);
+
+		short[] pixelValues = new short[values.length];
+		CoverageDataCore.getPixelValues(griddedCoverage, griddedTile, values,
+				pixelValues);
+		TestCase.assertEquals(1, pixelValues[0] & 0xffff);
+		TestCase.assertEquals(0, pixelValues[5] & 0xffff);
+
+		double[] decoded = new double[values.length];
+		CoverageDataCore.getValues(griddedCoverage, griddedTile, pixelValues,
+				decoded);
+		for (int i = 0; i < values.length; i++) {
+			TestCase.assertEquals(values[i], decoded[i], 0.0);
+		}
+	}
+
+	/**
+	 * Create a gridded coverage
+	 *
+	 * @param dataType
+	 *            data type
+	 * @param scale
+	 *            scale
+	 * @param offset
+	 *            offset
+	 * @param dataNull
+	 *            data null value
+	 * @return gridded coverage
+	 */
+	private static GriddedCoverage createCoverage(
+			GriddedCoverageDataType dataType, double scale, double offset,
+			Double dataNull) {
+		GriddedCoverage griddedCoverage = new GriddedCoverage();
+		griddedCoverage.setDataType(dataType);
+		griddedCoverage.setScale(scale);
+		griddedCoverage.setOffset(offset);
+		griddedCoverage.setDataNull(dataNull);
+		return griddedCoverage;
+	}
+
+	/**
+	 * Decode the integer pixel values and check they are within half of a
+	 * pixel step of the values, with data null values decoded as
+	 * {@link Double#NaN}
+	 *
+	 * @param griddedCoverage
+	 *            gridded coverage
+	 * @param griddedTile
+	 *            gridded tile
+	 * @param values
+	 *            coverage data values
+	 * @param pixelValues
+	 *            encoded pixel values
+	 */
+	private static void assertRoundTrip(GriddedCoverage griddedCoverage,
+			GriddedTile griddedTile, double[] values, short[] pixelValues) {
+		double tolerance = griddedCoverage.getScale() * griddedTile.getScale()
+				/ 2.0 + 0.0000001;
+		double[] decoded = new double[values.length];
+		CoverageDataCore.getValues(griddedCoverage, griddedTile, pixelValues,
+				decoded);
+		for (int i = 0; i < values.length; i++) {
+			if (Double.isNaN(values[i])) {
+				TestCase.assertTrue(Double.isNaN(decoded[i]));
+			} else {
+				TestCase.assertEquals(values[i], decoded[i], tolerance);
+			}
+		}
+	}
+
+}
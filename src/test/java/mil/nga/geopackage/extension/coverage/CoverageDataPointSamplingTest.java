@@ -0,0 +1,288 @@
+package mil.nga.geopackage.extension.coverage;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import junit.framework.TestCase;
+import mil.nga.geopackage.BoundingBox;
+import mil.nga.geopackage.GeoPackageCore;
+import mil.nga.geopackage.srs.SpatialReferenceSystem;
+import mil.nga.geopackage.tiles.matrix.TileMatrix;
+import mil.nga.geopackage.tiles.matrixset.TileMatrixSet;
+import mil.nga.proj.ProjectionConstants;
+import mil.nga.proj.ProjectionFactory;
+
+/**
+ * Coverage Data Point Sampling Test
+ *
+ * @author osbornb
+ */
+public class CoverageDataPointSamplingTest {
+
+	/**
+	 * Tile width and height in pixels
+	 */
+	private static final int TILE_SIZE = 8;
+
+	/**
+	 * Tile matrix width and height in tiles
+	 */
+	private static final int MATRIX_SIZE = 2;
+
+	/**
+	 * Coverage bounding box
+	 */
+	private static final BoundingBox BOUNDING_BOX = new BoundingBox(-10.0,
+			-10.0, 10.0, 10.0);
+
+	/**
+	 * Test batch point values match single point values for nearest neighbor
+	 */
+	@Test
+	public void testNearestNeighbor() {
+		testPoints(CoverageDataAlgorithm.NEAREST_NEIGHBOR,
+				GriddedCoverageEncodingType.CENTER);
+		testPoints(CoverageDataAlgorithm.NEAREST_NEIGHBOR,
+				GriddedCoverageEncodingType.CORNER);
+	}
+
+	/**
+	 * Test batch point values match single point values for bilinear
+	 */
+	@Test
+	public void testBilinear() {
+		testPoints(CoverageDataAlgorithm.BILINEAR,
+				GriddedCoverageEncodingType.CENTER);
+		testPoints(CoverageDataAlgorithm.BILINEAR,
+				GriddedCoverageEncodingType.CORNER);
+	}
+
+	/**
+	 * Test batch point values match single point values for bicubic
+	 */
+	@Test
+	public void testBicubic() {
+		testPoints(CoverageDataAlgorithm.BICUBIC,
+				GriddedCoverageEncodingType.CENTER);
+		testPoints(CoverageDataAlgorithm.BICUBIC,
+				GriddedCoverageEncodingType.CORNER);
+	}
+
+	/**
+	 * Test batch point values against single point values
+	 *
+	 * @param algorithm
+	 *            interpolation algorithm
+	 * @param encoding
+	 *            grid cell encoding
+	 */
+	private void testPoints(CoverageDataAlgorithm algorithm,
+			GriddedCoverageEncodingType encoding) {
+
+		TestCoverageData coverageData = new TestCoverageData(encoding);
+		coverageData.setAlgorithm(algorithm);
+		coverageData.setEncoding(encoding);
+
+		List<double[]> points = new ArrayList<>();
+
+		// Corners, tile seams, and a point outside of the coverage
+		points.add(new double[] { -10.0, -10.0 });
+		points.add(new double[] { 10.0, 10.0 });
+		points.add(new double[] { -10.0, 10.0 });
+		points.add(new double[] { 0.0, 0.0 });
+		points.add(new double[] { 0.0, 5.3 });
+		points.add(new double[] { -4.1, 0.0 });
+		points.add(new double[] { 11.0, 3.0 });
+
+		Random random = new Random(7);
+		for (int i = 0; i < 200; i++) {
+			points.add(new double[] { -10.0 + random.nextDouble() * 20.0,
+					-10.0 + random.nextDouble() * 20.0 });
+		}
+
+		double[] latitudes = new double[points.size()];
+		double[] longitudes = new double[points.size()];
+		for (int i = 0; i < points.size(); i++) {
+			longitudes[i] = points.get(i)[0];
+			latitudes[i] = points.get(i)[1];
+		}
+
+		double[] values = coverageData.getValues(latitudes, longitudes);
+		TestCase.assertEquals(points.size(), values.length);
+
+		int sampled = 0;
+		for (int i = 0; i < points.size(); i++) {
+			Double value = coverageData.getValue(latitudes[i], longitudes[i]);
+			if (value == null) {
+				TestCase.assertTrue(algorithm + " " + encoding + " point " + i,
+						Double.isNaN(values[i]));
+			} else {
+				TestCase.assertEquals(algorithm + " " + encoding + " point " + i,
+						value.doubleValue(), values[i], 0.0);
+				sampled++;
+			}
+		}
+
+		// The point outside of the coverage has no value
+		TestCase.assertTrue(Double.isNaN(values[6]));
+		TestCase.assertTrue(sampled > points.size() / 2);
+	}
+
+	/**
+	 * Get the test coverage data value of a tile matrix pixel
+	 *
+	 * @param x
+	 *            tile matrix x pixel
+	 * @param y
+	 *            tile matrix y pixel
+	 * @return value
+	 */
+	private static float getTestValue(int x, int y) {
+		return x * 1.5f + y * 2.25f + ((x * 7 + y * 3) % 5);
+	}
+
+	/**
+	 * Coverage data reading in memory decoded tiles
+	 */
+	private static class TestCoverageData
+			extends CoverageDataCore<CoverageDataImage> {
+
+		/**
+		 * Tile matrices
+		 */
+		private final List<TileMatrix> tileMatrices = new ArrayList<>();
+
+		/**
+		 * Decoded tiles by row major tile key
+		 */
+		private final Map<Long, CoverageDataTile> tiles = new HashMap<>();
+
+		/**
+		 * Constructor
+		 *
+		 * @param encoding
+		 *            grid cell encoding
+		 */
+		TestCoverageData(GriddedCoverageEncodingType encoding) {
+			super(createGeoPackage(), createTileMatrixSet(), null, null,
+					ProjectionFactory.getProjection(
+							ProjectionConstants.EPSG_WORLD_GEODETIC_SYSTEM),
+					createGriddedCoverage(encoding));
+
+			TileMatrix tileMatrix = new TileMatrix();
+			tileMatrix.setZoomLevel(0);
+			tileMatrix.setMatrixWidth(MATRIX_SIZE);
+			tileMatrix.setMatrixHeight(MATRIX_SIZE);
+			tileMatrix.setTileWidth(TILE_SIZE);
+			tileMatrix.setTileHeight(TILE_SIZE);
+			tileMatrix.setPixelXSize(BOUNDING_BOX.getLongitudeRange()
+					/ (MATRIX_SIZE * TILE_SIZE));
+			tileMatrix.setPixelYSize(BOUNDING_BOX.getLatitudeRange()
+					/ (MATRIX_SIZE * TILE_SIZE));
+			tileMatrices.add(tileMatrix);
+
+			for (int row = 0; row < MATRIX_SIZE; row++) {
+				for (int column = 0; column < MATRIX_SIZE; column++) {
+					float[] pixels = new float[TILE_SIZE * TILE_SIZE];
+					for (int y = 0; y < TILE_SIZE; y++) {
+						for (int x = 0; x < TILE_SIZE; x++) {
+							pixels[y * TILE_SIZE + x] = getTestValue(
+									column * TILE_SIZE + x,
+									row * TILE_SIZE + y);
+						}
+					}
+					tiles.put((long) row * MATRIX_SIZE + column,
+							new CoverageDataTile(new GriddedTile(), TILE_SIZE,
+									TILE_SIZE, pixels));
+				}
+			}
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public List<TileMatrix> getTileMatrices() {
+			return tileMatrices;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public CoverageDataTile getCoverageDataTile(long zoom, long column,
+				long row) {
+			return tiles.get(row * MATRIX_SIZE + column);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Double getValue(GriddedTile griddedTile,
+				CoverageDataImage image, int x, int y) {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected CoverageDataTile decodeTile(GriddedTile griddedTile,
+				byte[] tileData) {
+			throw new UnsupportedOperationException();
+		}
+
+	}
+
+	/**
+	 * Create a GeoPackage stub without a database
+	 *
+	 * @return GeoPackage
+	 */
+	private static GeoPackageCore createGeoPackage() {
+		return (GeoPackageCore) Proxy.newProxyInstance(
+				GeoPackageCore.class.getClassLoader(),
+				new Class<?>[] { GeoPackageCore.class },
+				(proxy, method, args) -> null);
+	}
+
+	/**
+	 * Create the WGS84 tile matrix set
+	 *
+	 * @return tile matrix set
+	 */
+	private static TileMatrixSet createTileMatrixSet() {
+		SpatialReferenceSystem srs = new SpatialReferenceSystem();
+		srs.setSrsId(ProjectionConstants.EPSG_WORLD_GEODETIC_SYSTEM);
+		srs.setOrganization(ProjectionConstants.AUTHORITY_EPSG);
+		srs.setOrganizationCoordsysId(
+				ProjectionConstants.EPSG_WORLD_GEODETIC_SYSTEM);
+		TileMatrixSet tileMatrixSet = new TileMatrixSet();
+		tileMatrixSet.setSrs(srs);
+		tileMatrixSet.setBoundingBox(BOUNDING_BOX);
+		return tileMatrixSet;
+	}
+
+	/**
+	 * Create a float gridded coverage
+	 *
+	 * @param encoding
+	 *            grid cell encoding
+	 * @return gridded coverage
+	 */
+	private static GriddedCoverage createGriddedCoverage(
+			GriddedCoverageEncodingType encoding) {
+		GriddedCoverage griddedCoverage = new GriddedCoverage();
+		griddedCoverage.setDataType(GriddedCoverageDataType.FLOAT);
+		griddedCoverage.setGridCellEncodingType(encoding);
+		return griddedCoverage;
+	}
+
+}
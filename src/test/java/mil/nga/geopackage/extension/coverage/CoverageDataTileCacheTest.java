@@ -0,0 +1,58 @@
+package mil.nga.geopackage.extension.coverage;
+
+import org.junit.Test;
+
+import junit.framework.TestCase;
+
+/**
+ * Coverage Data Tile Cache Test
+ *
+ * @author osbornb
+ */
+public class CoverageDataTileCacheTest {
+
+	/**
+	 * Test least recently used eviction by byte weight and invalidation
+	 */
+	@Test
+	public void testEviction() {
+
+		CoverageDataTile tile1 = new CoverageDataTile(null, 16, 16,
+				new short[256]);
+		CoverageDataTile tile2 = new CoverageDataTile(null, 16, 16,
+				new float[256]);
+		CoverageDataTile tile3 = new CoverageDataTile(null, 16, 16,
+				new short[256]);
+
+		CoverageDataTileCache cache = new CoverageDataTileCache(
+				tile1.getWeight() + tile2.getWeight());
+
+		cache.put("coverage", 1, 0, 0, tile1);
+		cache.put("coverage", 1, 1, 0, tile2);
+		TestCase.assertEquals(2, cache.size());
+		TestCase.assertEquals(tile1.getWeight() + tile2.getWeight(),
+				cache.getBytes());
+
+		// Use the first tile so the second is least recently used
+		TestCase.assertSame(tile1, cache.get("coverage", 1, 0, 0));
+
+		cache.put("coverage", 1, 2, 0, tile3);
+		TestCase.assertEquals(2, cache.size());
+		TestCase.assertEquals(1, cache.getEvictions());
+		TestCase.assertNull(cache.get("coverage", 1, 1, 0));
+		TestCase.assertNotNull(cache.get("coverage", 1, 2, 0));
+
+		cache.invalidate("coverage", 1, 0, 0);
+		TestCase.assertNull(cache.get("coverage", 1, 0, 0));
+		TestCase.assertEquals(tile3.getWeight(), cache.getBytes());
+
+		cache.put("other", 1, 0, 0, tile1);
+		cache.invalidate("coverage");
+		TestCase.assertEquals(1, cache.size());
+		TestCase.assertEquals(tile1.getWeight(), cache.getBytes());
+
+		TestCase.assertEquals(2, cache.getHits());
+		TestCase.assertEquals(2, cache.getMisses());
+	}
+
+}
@@ -0,0 +1,57 @@
+package mil.nga.geopackage.extension.coverage;
+
+import org.junit.Test;
+
+import junit.framework.TestCase;
+
+/**
+ * Coverage Data Tile Statistics Test
+ *
+ * @author osbornb
+ */
+public class CoverageDataTileStatisticsTest {
+
+	/**
+	 * Test threshold range overlap of tile statistics
+	 */
+	@Test
+	public void testOverlaps() {
+
+		CoverageDataTileStatistics tile = new CoverageDataTileStatistics(1, 5,
+				2, 3);
+		TestCase.assertFalse(tile.hasRange());
+		TestCase.assertTrue(tile.overlaps(100.0, null));
+
+		tile.setMin(10.0);
+		tile.setMax(50.0);
+		TestCase.assertTrue(tile.hasRange());
+		TestCase.assertTrue(tile.overlaps(null, null));
+		TestCase.assertTrue(tile.overlaps(50.0, null));
+		TestCase.assertFalse(tile.overlaps(50.5, null));
+		TestCase.assertTrue(tile.overlaps(null, 10.0));
+		TestCase.assertFalse(tile.overlaps(null, 9.5));
+		TestCase.assertTrue(tile.overlaps(20.0, 30.0));
+		TestCase.assertFalse(tile.overlaps(60.0, 70.0));
+	}
+
+	/**
+	 * Test value range expansion and containment
+	 */
+	@Test
+	public void testValueRange() {
+
+		CoverageDataValueRange range = new CoverageDataValueRange();
+		TestCase.assertFalse(range.hasValues());
+		TestCase.assertNull(range.getMin());
+		TestCase.assertFalse(range.contains(0, 0));
+
+		range.expand(10, 20);
+		range.expand(5, 15);
+		TestCase.assertEquals(5.0, range.getMin(), 0.0);
+		TestCase.assertEquals(20.0, range.getMax(), 0.0);
+		TestCase.assertTrue(range.contains(6, 19));
+		TestCase.assertFalse(range.contains(4, 19));
+		TestCase.assertFalse(range.contains(6, 21));
+	}
+
+}
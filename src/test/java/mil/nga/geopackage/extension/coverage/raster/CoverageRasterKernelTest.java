@@ -0,0 +1,71 @@
+package mil.nga.geopackage.extension.coverage.raster;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import junit.framework.TestCase;
+
+/**
+ * Coverage Raster Kernel Test
+ *
+ * @author osbornb
+ */
+public class CoverageRasterKernelTest {
+
+	/**
+	 * Test the terrain kernels on a plane rising one unit per pixel to the
+	 * west, with a missing halo value
+	 */
+	@Test
+	public void testTerrain() {
+
+		int width = 4;
+		int height = 4;
+		int stride = width + 2;
+		double[] values = new double[stride * (height + 2)];
+		for (int y = 0; y < height + 2; y++) {
+			for (int x = 0; x < stride; x++) {
+				values[(y * stride) + x] = stride - x;
+			}
+		}
+		values[0] = Double.NaN;
+		CoverageRasterBlock block = new CoverageRasterBlock(1, 0, 0, width,
+				height, 1, 1.0, 1.0, values);
+
+		double[] slope = new SlopeKernel().process(block);
+		double[] aspect = new AspectKernel().process(block);
+		double[] hillshade = new HillshadeKernel(90, 45).process(block);
+
+		TestCase.assertTrue(Double.isNaN(slope[0]));
+		TestCase.assertTrue(Double.isNaN(aspect[0]));
+		for (int i = 1; i < width * height; i++) {
+			TestCase.assertEquals(45.0, slope[i], 0.000001);
+			TestCase.assertEquals(90.0, aspect[i], 0.000001);
+			TestCase.assertEquals(255.0, hillshade[i], 0.000001);
+		}
+	}
+
+	/**
+	 * Test the statistics kernel accumulation and histogram
+	 */
+	@Test
+	public void testStatistics() {
+
+		StatisticsKernel kernel = new StatisticsKernel(0, 4, 2);
+		TestCase.assertNull(kernel.process(new CoverageRasterBlock(1, 0, 0, 2,
+				2, 0, 1.0, 1.0, new double[] { 1, 2, Double.NaN, 3 })));
+		kernel.process(new CoverageRasterBlock(1, 1, 0, 2, 2, 0, 1.0, 1.0,
+				new double[] { 4, 5, 5, 5 }));
+
+		TestCase.assertEquals(7, kernel.getCount());
+		TestCase.assertEquals(1.0, kernel.getMin(), 0.0);
+		TestCase.assertEquals(5.0, kernel.getMax(), 0.0);
+		TestCase.assertEquals(25.0 / 7, kernel.getMean(), 0.000001);
+		TestCase.assertEquals(Math.sqrt((105.0 / 7) - Math.pow(25.0 / 7, 2)),
+				kernel.getStandardDeviation(), 0.000001);
+		TestCase.assertTrue(
+				Arrays.equals(new long[] { 1, 3 }, kernel.getHistogram()));
+	}
+
+}
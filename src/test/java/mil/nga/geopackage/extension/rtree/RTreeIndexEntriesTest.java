@@ -0,0 +1,68 @@
+package mil.nga.geopackage.extension.rtree;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import junit.framework.TestCase;
+
+/**
+ * RTree Index Entries Test
+ * 
+ * @author osbornb
+ */
+public class RTreeIndexEntriesTest {
+
+	/**
+	 * Test Sort-Tile-Recursive ordering
+	 */
+	@Test
+	public void testSortTileRecursive() {
+
+		int nodeCapacity = 4;
+		int count = 1000;
+
+		Random random = new Random(7);
+		RTreeIndexEntries entries = new RTreeIndexEntries(16);
+		for (int i = 0; i < count; i++) {
+			double x = random.nextDouble() * 360.0 - 180.0;
+			double y = random.nextDouble() * 180.0 - 90.0;
+			entries.add(i + 1, x, x + 0.01, y, y + 0.01);
+		}
+		TestCase.assertEquals(count, entries.size());
+
+		int[] order = entries.sortTileRecursive(nodeCapacity);
+		TestCase.assertEquals(count, order.length);
+
+		boolean[] found = new boolean[count];
+		for (int index : order) {
+			found[index] = true;
+		}
+		for (boolean entryFound : found) {
+			TestCase.assertTrue(entryFound);
+		}
+
+		// Slices are ordered by x and each slice is ordered by y
+		int leaves = (count + nodeCapacity - 1) / nodeCapacity;
+		int sliceSize = (int) Math.ceil(Math.sqrt(leaves)) * nodeCapacity;
+		double previousSliceMaxX = -Double.MAX_VALUE;
+		for (int start = 0; start < count; start += sliceSize) {
+			int end = Math.min(start + sliceSize, count);
+			double sliceMinX = Double.MAX_VALUE;
+			double sliceMaxX = -Double.MAX_VALUE;
+			for (int i = start; i < end; i++) {
+				double x = entries.getMinX(order[i]);
+				sliceMinX = Math.min(sliceMinX, x);
+				sliceMaxX = Math.max(sliceMaxX, x);
+				if (i > start) {
+					TestCase.assertTrue(entries.getMinY(order[i]) >= entries
+							.getMinY(order[i - 1]));
+				}
+			}
+			TestCase.assertTrue(sliceMinX >= previousSliceMaxX);
+			previousSliceMaxX = sliceMaxX;
+		}
+
+	}
+
+}
@@ -0,0 +1,66 @@
+package mil.nga.geopackage.geom;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import junit.framework.TestCase;
+import mil.nga.sf.LineString;
+import mil.nga.sf.Point;
+
+/**
+ * GeoPackage Geometry Data Test
+ * 
+ * @author osbornb
+ */
+public class GeoPackageGeometryDataTest {
+
+	/**
+	 * Test lazy geometry reading
+	 * 
+	 * @throws IOException
+	 *             upon error
+	 */
+	@Test
+	public void testLazyRead() throws IOException {
+
+		LineString lineString = new LineString();
+		lineString.addPoint(new Point(1.0, 2.0));
+		lineString.addPoint(new Point(3.0, 4.0));
+
+		byte[] bytes = GeoPackageGeometryData.bytesAndBuildEnvelope(4326,
+				lineString);
+
+		GeoPackageGeometryData geometryData = GeoPackageGeometryData
+				.createLazy(bytes);
+		TestCase.assertTrue(geometryData.isGeometryUnread());
+		TestCase.assertFalse(geometryData.isEmpty());
+		TestCase.assertEquals(4326, geometryData.getSrsId());
+		TestCase.assertNotNull(geometryData.getEnvelope());
+		TestCase.assertEquals(1.0, geometryData.getEnvelope().getMinX(), 0.0);
+		TestCase.assertEquals(4.0, geometryData.getEnvelope().getMaxY(), 0.0);
+		TestCase.assertTrue(Arrays.equals(bytes, geometryData.getBytes()));
+		TestCase.assertTrue(geometryData.isGeometryUnread());
+
+		GeoPackageGeometryData copy = new GeoPackageGeometryData(
+				geometryData);
+		TestCase.assertTrue(copy.isGeometryUnread());
+		TestCase.assertEquals(lineString, copy.getGeometry());
+
+		TestCase.assertEquals(lineString, geometryData.getGeometry());
+		TestCase.assertFalse(geometryData.isGeometryUnread());
+
+		// Header changes retain the unread geometry
+		geometryData = GeoPackageGeometryData.createLazy(bytes);
+		geometryData.setSrsId(0);
+		TestCase.assertFalse(geometryData.isGeometryUnread());
+		TestCase.assertEquals(lineString, geometryData.getOrReadGeometry());
+		GeoPackageGeometryData rewritten = GeoPackageGeometryData
+				.create(geometryData.toBytes());
+		TestCase.assertEquals(0, rewritten.getSrsId());
+		TestCase.assertEquals(lineString, rewritten.getGeometry());
+
+	}
+
+}
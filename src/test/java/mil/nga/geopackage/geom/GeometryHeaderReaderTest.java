@@ -0,0 +1,107 @@
+package mil.nga.geopackage.geom;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.Test;
+
+import junit.framework.TestCase;
+import mil.nga.sf.GeometryEnvelope;
+import mil.nga.sf.LineString;
+import mil.nga.sf.Point;
+
+/**
+ * Geometry Header Reader Test
+ * 
+ * @author osbornb
+ */
+public class GeometryHeaderReaderTest {
+
+	/**
+	 * Test reading geometry headers from bytes and byte buffers
+	 * 
+	 * @throws IOException
+	 *             upon error
+	 */
+	@Test
+	public void testRead() throws IOException {
+
+		LineString lineString = new LineString(true, false);
+		lineString.addPoint(new Point(-1.5, 2.25, 10.0));
+		lineString.addPoint(new Point(3.0, -4.75, 20.0));
+
+		for (ByteOrder byteOrder : new ByteOrder[] { ByteOrder.BIG_ENDIAN,
+				ByteOrder.LITTLE_ENDIAN }) {
+
+			GeoPackageGeometryData geometryData = GeoPackageGeometryData
+					.createAndBuildEnvelope(3857, lineString);
+			geometryData.setByteOrder(byteOrder);
+			byte[] bytes = geometryData.toBytes();
+			GeometryEnvelope expected = geometryData.getEnvelope();
+
+			// Embed the geometry at an offset
+			int offset = 5;
+			byte[] padded = new byte[bytes.length + offset];
+			System.arraycopy(bytes, 0, padded, offset, bytes.length);
+
+			TestCase.assertTrue(
+					GeometryHeaderReader.isGeometry(padded, offset));
+			TestCase.assertFalse(GeometryHeaderReader.isGeometry(padded, 0));
+
+			int flags = GeometryHeaderReader.readFlags(padded, offset);
+			TestCase.assertFalse(GeometryHeaderReader.isEmpty(flags));
+			TestCase.assertEquals(byteOrder,
+					GeometryHeaderReader.getByteOrder(flags));
+			TestCase.assertEquals(3857,
+					GeometryHeaderReader.readSrsId(padded, offset));
+			TestCase.assertEquals(
+					offset + geometryData.getWkbGeometryIndex(),
+					GeometryHeaderReader.getWkbGeometryIndex(padded, offset));
+
+			double[] envelope = new double[GeometryHeaderReader.ENVELOPE_LENGTH];
+			TestCase.assertEquals(2, GeometryHeaderReader.readEnvelope(padded,
+					offset, envelope));
+			assertEnvelope(expected, envelope);
+
+			ByteBuffer buffer = ByteBuffer.wrap(padded);
+			buffer.position(offset);
+			envelope = new double[GeometryHeaderReader.ENVELOPE_LENGTH];
+			TestCase.assertEquals(2,
+					GeometryHeaderReader.readEnvelope(buffer, envelope));
+			assertEnvelope(expected, envelope);
+			TestCase.assertEquals(3857, GeometryHeaderReader.readSrsId(buffer));
+			TestCase.assertEquals(offset, buffer.position());
+		}
+
+	}
+
+	/**
+	 * Assert the envelope values
+	 * 
+	 * @param expected
+	 *            expected envelope
+	 * @param envelope
+	 *            envelope values
+	 */
+	private static void assertEnvelope(GeometryEnvelope expected,
+			double[] envelope) {
+		TestCase.assertEquals(expected.getMinX(),
+				envelope[GeometryHeaderReader.MIN_X], 0.0);
+		TestCase.assertEquals(expected.getMaxX(),
+				envelope[GeometryHeaderReader.MAX_X], 0.0);
+		TestCase.assertEquals(expected.getMinY(),
+				envelope[GeometryHeaderReader.MIN_Y], 0.0);
+		TestCase.assertEquals(expected.getMaxY(),
+				envelope[GeometryHeaderReader.MAX_Y], 0.0);
+		TestCase.assertEquals(expected.getMinZ(),
+				envelope[GeometryHeaderReader.MIN_Z], 0.0);
+		TestCase.assertEquals(expected.getMaxZ(),
+				envelope[GeometryHeaderReader.MAX_Z], 0.0);
+		TestCase.assertTrue(
+				Double.isNaN(envelope[GeometryHeaderReader.MIN_M]));
+		TestCase.assertTrue(
+				Double.isNaN(envelope[GeometryHeaderReader.MAX_M]));
+	}
+
+}
@@ -0,0 +1,154 @@
+package mil.nga.geopackage.io;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import junit.framework.TestCase;
+
+/**
+ * Worker Pipeline Test
+ *
+ * @author osbornb
+ */
+public class WorkerPipelineTest {
+
+	/**
+	 * Test all queued items are written and flushed once
+	 */
+	@Test
+	public void testWrite() {
+
+		TestPipeline pipeline = new TestPipeline(4, 2);
+		for (int task = 0; task < 100; task++) {
+			final int value = task;
+			pipeline.submit(() -> pipeline.put(value));
+		}
+		pipeline.finish();
+
+		List<Integer> written = new ArrayList<>(pipeline.written);
+		Collections.sort(written);
+		TestCase.assertEquals(100, written.size());
+		for (int i = 0; i < written.size(); i++) {
+			TestCase.assertEquals(i, written.get(i).intValue());
+		}
+		TestCase.assertEquals(1, pipeline.flushes);
+		TestCase.assertTrue(pipeline.closed);
+	}
+
+	/**
+	 * Test a task failure stops the pipeline without flushing and is thrown
+	 * from finish
+	 */
+	@Test
+	public void testTaskFailure() {
+
+		final IllegalStateException error = new IllegalStateException();
+		TestPipeline pipeline = new TestPipeline(2, 2);
+		pipeline.submit(() -> {
+			throw error;
+		});
+		try {
+			pipeline.finish();
+			TestCase.fail("Expected task failure");
+		} catch (IllegalStateException e) {
+			TestCase.assertSame(error, e);
+		}
+		TestCase.assertTrue(pipeline.isStopped());
+		TestCase.assertEquals(0, pipeline.flushes);
+		TestCase.assertTrue(pipeline.closed);
+	}
+
+	/**
+	 * Test a writer failure stops the pipeline and is thrown from finish
+	 */
+	@Test
+	public void testWriterFailure() {
+
+		TestPipeline pipeline = new TestPipeline(2, 2);
+		pipeline.failOn = 5;
+		for (int task = 0; task < 20; task++) {
+			final int value = task;
+			pipeline.submit(() -> pipeline.put(value));
+		}
+		try {
+			pipeline.finish();
+			TestCase.fail("Expected writer failure");
+		} catch (IllegalArgumentException e) {
+			TestCase.assertEquals("5", e.getMessage());
+		}
+		TestCase.assertTrue(pipeline.isStopped());
+		TestCase.assertEquals(0, pipeline.flushes);
+		TestCase.assertTrue(pipeline.closed);
+	}
+
+	/**
+	 * Test pipeline writing integers
+	 */
+	private static class TestPipeline extends WorkerPipeline<Integer> {
+
+		/**
+		 * Written items
+		 */
+		private final List<Integer> written = Collections
+				.synchronizedList(new ArrayList<>());
+
+		/**
+		 * Item failing the writer
+		 */
+		private volatile int failOn = -1;
+
+		/**
+		 * Flush count
+		 */
+		private volatile int flushes = 0;
+
+		/**
+		 * Writer closed flag
+		 */
+		private volatile boolean closed = false;
+
+		/**
+		 * Constructor
+		 *
+		 * @param workers
+		 *            worker thread count
+		 * @param queueSize
+		 *            queue size
+		 */
+		TestPipeline(int workers, int queueSize) {
+			super("Test Writer", "testing", workers, queueSize, true);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected void write(Integer item) {
+			if (item == failOn) {
+				throw new IllegalArgumentException(String.valueOf(item));
+			}
+			written.add(item);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected void flush() {
+			flushes++;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected void closeWriter() {
+			closed = true;
+		}
+
+	}
+
+}
@@ -0,0 +1,59 @@
+package mil.nga.geopackage.tiles.reproject;
+
+import org.junit.Test;
+import org.locationtech.proj4j.ProjCoordinate;
+
+import junit.framework.TestCase;
+import mil.nga.proj.ProjectionConstants;
+import mil.nga.proj.ProjectionFactory;
+import mil.nga.proj.ProjectionTransform;
+
+/**
+ * Approximate Transform Test
+ *
+ * @author osbornb
+ */
+public class ApproximateTransformTest {
+
+	/**
+	 * Test the approximate transform is within the pixel tolerance of the
+	 * exact transform while transforming fewer coordinates exactly
+	 */
+	@Test
+	public void testTransform() {
+
+		ProjectionTransform transform = ProjectionFactory
+				.getProjection(ProjectionConstants.EPSG_WEB_MERCATOR)
+				.getTransformation(ProjectionConstants.EPSG_WORLD_GEODETIC_SYSTEM);
+
+		int width = 300;
+		int height = 200;
+		double minX = -2000000;
+		double maxY = 6000000;
+		double step = 10000;
+		double pixelSize = 0.05;
+		double tolerance = 0.125;
+
+		double[] xs = new double[width * height];
+		double[] ys = new double[width * height];
+		ApproximateTransform approximate = new ApproximateTransform(transform,
+				tolerance);
+		int exact = approximate.transform(minX, maxY, step, step, width,
+				height, pixelSize, pixelSize, xs, ys);
+		TestCase.assertTrue(exact < width * height / 4);
+
+		double maxError = tolerance * pixelSize;
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				ProjCoordinate coordinate = transform.transform(
+						new ProjCoordinate(minX + x * step, maxY - y * step));
+				int index = y * width + x;
+				TestCase.assertTrue(
+						Math.abs(coordinate.x - xs[index]) <= maxError);
+				TestCase.assertTrue(
+						Math.abs(coordinate.y - ys[index]) <= maxError);
+			}
+		}
+	}
+
+}
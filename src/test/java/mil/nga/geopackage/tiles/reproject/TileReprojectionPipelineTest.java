@@ -0,0 +1,461 @@
+package mil.nga.geopackage.tiles.reproject;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.j256.ormlite.support.CompiledStatement;
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+
+import junit.framework.TestCase;
+import mil.nga.geopackage.BoundingBox;
+import mil.nga.geopackage.db.GeoPackageCoreConnection;
+import mil.nga.geopackage.db.GeoPackageDataType;
+import mil.nga.geopackage.db.GeoPackageReadPool;
+import mil.nga.geopackage.tiles.matrix.TileMatrix;
+import mil.nga.geopackage.tiles.matrixset.TileMatrixSet;
+import mil.nga.geopackage.tiles.user.TileColumn;
+import mil.nga.geopackage.tiles.user.TileTable;
+import mil.nga.geopackage.user.UserCoreDao;
+
+/**
+ * Tile Reprojection Pipeline Test
+ *
+ * @author osbornb
+ */
+public class TileReprojectionPipelineTest {
+
+	/**
+	 * Reprojection tile table
+	 */
+	private static final String TABLE = "reprojected_tiles";
+
+	/**
+	 * Test all reprojected tiles are written and committed
+	 */
+	@Test
+	public void testWrite() {
+
+		StubConnection db = new StubConnection(null);
+		TestReprojection reprojection = new TestReprojection(null, null);
+		GeoPackageReadPool readPool = createReadPool();
+
+		TileReprojectionPipeline pipeline = new TileReprojectionPipeline(
+				reprojection, db, readPool, TABLE, 3, 4, null);
+		pipeline.submit(0, 1, new BoundingBox(), 5, 7, 256, 256);
+		pipeline.finish();
+		readPool.close();
+
+		TestCase.assertEquals(35, pipeline.getWritten());
+		TestCase.assertEquals(35, db.inserts.get());
+		TestCase.assertEquals(db.begins.get(), db.commits.get());
+		TestCase.assertTrue(db.commits.get() > 0);
+		TestCase.assertEquals(0, db.rollbacks.get());
+		TestCase.assertEquals(35, reprojection.reprojected.get());
+	}
+
+	/**
+	 * Test a tile reprojection failure rolls back the open writer batch and is
+	 * thrown from finish
+	 */
+	@Test
+	public void testTaskFailure() {
+
+		final CountDownLatch inserting = new CountDownLatch(1);
+		StubConnection db = new StubConnection(inserting);
+		final IllegalStateException error = new IllegalStateException();
+		TestReprojection reprojection = new TestReprojection(inserting,
+				error);
+		GeoPackageReadPool readPool = createReadPool();
+
+		// One tile task per row, the first row written while the second
+		// row fails
+		TileReprojectionPipeline pipeline = new TileReprojectionPipeline(
+				reprojection, db, readPool, TABLE, 2, 10, null);
+		pipeline.submit(0, 1, new BoundingBox(), 1, 2, 256, 256);
+		try {
+			pipeline.finish();
+			TestCase.fail("Expected task failure");
+		} catch (IllegalStateException e) {
+			TestCase.assertSame(error, e);
+		}
+		readPool.close();
+
+		TestCase.assertTrue(pipeline.isStopped());
+		TestCase.assertEquals(1, db.begins.get());
+		TestCase.assertEquals(0, db.commits.get());
+		TestCase.assertEquals(1, db.rollbacks.get());
+		TestCase.assertEquals(0, pipeline.getWritten());
+	}
+
+	/**
+	 * Create a read pool of stub read connections
+	 *
+	 * @return read pool
+	 */
+	private static GeoPackageReadPool createReadPool() {
+		return new GeoPackageReadPool(() -> new StubConnection(null));
+	}
+
+	/**
+	 * Tile reprojection with a stub single tile reprojection
+	 */
+	private static class TestReprojection extends TileReprojectionCore {
+
+		/**
+		 * Signaled once the writer is inserting, awaited before failing
+		 */
+		private final CountDownLatch inserting;
+
+		/**
+		 * Failure thrown when reprojecting the second tile row
+		 */
+		private final RuntimeException error;
+
+		/**
+		 * Reprojected tile count
+		 */
+		private final AtomicInteger reprojected = new AtomicInteger();
+
+		/**
+		 * Constructor
+		 *
+		 * @param inserting
+		 *            signaled once the writer is inserting
+		 * @param error
+		 *            failure thrown when reprojecting the second tile row
+		 */
+		TestReprojection(CountDownLatch inserting, RuntimeException error) {
+			super(null, null);
+			this.inserting = inserting;
+			this.error = error;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected byte[] reprojectTile(GeoPackageCoreConnection connection,
+				long zoom, long toZoom, BoundingBox boundingBox,
+				long matrixWidth, long matrixHeight, long tileWidth,
+				long tileHeight, long tileColumn, long tileRow) {
+			TestCase.assertNotNull(connection);
+			if (error != null && tileRow == 1) {
+				try {
+					inserting.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				throw error;
+			}
+			reprojected.incrementAndGet();
+			return new byte[] { (byte) tileColumn, (byte) tileRow };
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected long getOptimizeZoom() {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected UserCoreDao<TileColumn, TileTable, ?, ?> createReprojectTileDao(
+				String table) {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected TileMatrixSet getTileMatrixSet(boolean reproject) {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected List<TileMatrix> getTileMatrices(boolean reproject) {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected TileMatrix getTileMatrix(boolean reproject, long zoom) {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected void deleteTileMatrices(boolean reproject, String table) {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected long getMapZoom(boolean reproject, TileMatrix tileMatrix) {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected void createTileMatrix(TileMatrix tileMatrix) {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected int reproject(long zoom, long toZoom,
+				BoundingBox boundingBox, long matrixWidth, long matrixHeight,
+				long tileWidth, long tileHeight) {
+			throw new UnsupportedOperationException();
+		}
+
+	}
+
+	/**
+	 * Create an interface proxy
+	 *
+	 * @param type
+	 *            interface type
+	 * @param handler
+	 *            invocation handler
+	 * @return proxy
+	 */
+	private static <T> T proxy(Class<T> type,
+			InvocationHandler handler) {
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(),
+				new Class<?>[] { type }, handler));
+	}
+
+	/**
+	 * Get the default value of a return type
+	 *
+	 * @param type
+	 *            return type
+	 * @return default value
+	 */
+	private static Object defaultValue(Class<?> type) {
+		Object value = null;
+		if (type == boolean.class) {
+			value = false;
+		} else if (type == int.class) {
+			value = 0;
+		} else if (type == long.class) {
+			value = 0L;
+		}
+		return value;
+	}
+
+	/**
+	 * Stub connection counting transactions and tile inserts
+	 */
+	private static class StubConnection extends GeoPackageCoreConnection {
+
+		/**
+		 * Began transactions
+		 */
+		private final AtomicInteger begins = new AtomicInteger();
+
+		/**
+		 * Committed transactions
+		 */
+		private final AtomicInteger commits = new AtomicInteger();
+
+		/**
+		 * Rolled back transactions
+		 */
+		private final AtomicInteger rollbacks = new AtomicInteger();
+
+		/**
+		 * Executed tile inserts
+		 */
+		private final AtomicInteger inserts;
+
+		/**
+		 * Constructor
+		 *
+		 * @param inserting
+		 *            when not null, signaled by the first insert which then
+		 *            blocks until the writer is interrupted
+		 */
+		StubConnection(CountDownLatch inserting) {
+			this(inserting, new AtomicInteger());
+		}
+
+		/**
+		 * Constructor
+		 *
+		 * @param inserting
+		 *            when not null, signaled by the first insert which then
+		 *            blocks until the writer is interrupted
+		 * @param inserts
+		 *            executed tile inserts
+		 */
+		private StubConnection(CountDownLatch inserting,
+				AtomicInteger inserts) {
+			super(createConnectionSource(inserting, inserts));
+			this.inserts = inserts;
+		}
+
+		/**
+		 * Create the connection source proxy
+		 *
+		 * @param inserting
+		 *            when not null, signaled by the first insert which then
+		 *            blocks until the writer is interrupted
+		 * @param inserts
+		 *            executed tile inserts
+		 * @return connection source
+		 */
+		private static ConnectionSource createConnectionSource(
+				CountDownLatch inserting, AtomicInteger inserts) {
+			DatabaseConnection connection = proxy(DatabaseConnection.class,
+					(proxy, method, args) -> {
+						if (method.getName().equals("compileStatement")) {
+							return createStatement(inserting, inserts);
+						}
+						return defaultValue(method.getReturnType());
+					});
+			return proxy(ConnectionSource.class, (proxy, method, args) -> {
+				if (method.getName().equals("getReadWriteConnection")) {
+					return connection;
+				}
+				return defaultValue(method.getReturnType());
+			});
+		}
+
+		/**
+		 * Create a compiled statement proxy
+		 *
+		 * @param inserting
+		 *            when not null, signaled by the first insert which then
+		 *            blocks until the writer is interrupted
+		 * @param inserts
+		 *            executed tile inserts
+		 * @return compiled statement
+		 */
+		private static CompiledStatement createStatement(
+				CountDownLatch inserting, AtomicInteger inserts) {
+			return proxy(CompiledStatement.class, (proxy, method, args) -> {
+				if (method.getName().equals("runUpdate")) {
+					inserts.incrementAndGet();
+					if (inserting != null) {
+						inserting.countDown();
+						try {
+							new CountDownLatch(1).await();
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+							throw new SQLException("Interrupted", e);
+						}
+					}
+					return 1;
+				}
+				return defaultValue(method.getReturnType());
+			});
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void execSQL(String sql) {
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void beginTransaction() {
+			begins.incrementAndGet();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void endTransaction(boolean successful) {
+			if (successful) {
+				commits.incrementAndGet();
+			} else {
+				rollbacks.incrementAndGet();
+			}
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void commit() {
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean inTransaction() {
+			return begins.get() > commits.get() + rollbacks.get();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int delete(String table, String whereClause,
+				String[] whereArgs) {
+			return 0;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Object querySingleResult(String sql, String[] args, int column,
+				GeoPackageDataType dataType) {
+			return null;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public List<Object> querySingleColumnResults(String sql,
+				String[] args, int column, GeoPackageDataType dataType,
+				Integer limit) {
+			return null;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public List<List<Object>> queryResults(String sql, String[] args,
+				GeoPackageDataType[] dataTypes, Integer limit) {
+			return null;
+		}
+
+	}
+
+}
@@ -0,0 +1,84 @@
+package mil.nga.geopackage.user;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import junit.framework.TestCase;
+import mil.nga.geopackage.GeoPackageException;
+import mil.nga.geopackage.db.GeoPackageDataType;
+import mil.nga.geopackage.user.UserColumnarBatch.VectorType;
+
+/**
+ * User Columnar Batch Test
+ *
+ * @author osbornb
+ */
+public class UserColumnarBatchTest {
+
+	/**
+	 * Test filling and refilling column vectors
+	 */
+	@Test
+	public void testVectors() {
+
+		UserColumnarBatch batch = new UserColumnarBatch(100,
+				new String[] { "id", "value", "data" }, new VectorType[] {
+						VectorType.LONG, VectorType.DOUBLE, VectorType.BLOB });
+
+		for (int row = 0; row < 100; row++) {
+			batch.setLong(0, row, row);
+			if (row % 3 == 0) {
+				batch.setNull(1, row);
+			} else {
+				batch.setDouble(1, row, row * 0.5);
+			}
+			if (row % 5 == 0) {
+				batch.setNull(2, row);
+			} else {
+				batch.setBlob(2, row, new byte[] { (byte) row, (byte) row });
+			}
+		}
+		batch.setSize(100);
+
+		TestCase.assertEquals(100, batch.size());
+		TestCase.assertEquals(2, batch.getColumnIndex("DATA"));
+		TestCase.assertEquals(99, batch.getLongs(0)[99]);
+		TestCase.assertTrue(batch.isNull(1, 99));
+		TestCase.assertFalse(batch.isNull(1, 98));
+		TestCase.assertEquals(49.0, batch.getDoubles(1)[98], 0.0);
+		TestCase.assertTrue(Double.isNaN(batch.getDoubles(1)[96]));
+		TestCase.assertNull(batch.getBlob(2, 95));
+		TestCase.assertTrue(
+				Arrays.equals(new byte[] { 97, 97 }, batch.getBlob(2, 97)));
+		TestCase.assertEquals(80 * 2, batch.getOffsets(2)[100]);
+
+		batch.clear();
+		TestCase.assertTrue(batch.isEmpty());
+		TestCase.assertFalse(batch.isNull(1, 99));
+	}
+
+	/**
+	 * Test vector types from data types and vector type validation
+	 */
+	@Test
+	public void testTypes() {
+
+		TestCase.assertEquals(VectorType.LONG,
+				VectorType.fromDataType(GeoPackageDataType.MEDIUMINT));
+		TestCase.assertEquals(VectorType.DOUBLE,
+				VectorType.fromDataType(GeoPackageDataType.FLOAT));
+		TestCase.assertEquals(VectorType.BLOB,
+				VectorType.fromDataType(GeoPackageDataType.TEXT));
+
+		UserColumnarBatch batch = new UserColumnarBatch(1,
+				new String[] { "id" }, new VectorType[] { VectorType.LONG });
+		try {
+			batch.getDoubles(0);
+			throw new AssertionError("Expected vector type exception");
+		} catch (GeoPackageException e) {
+			// expected
+		}
+	}
+
+}
@@ -0,0 +1,63 @@
+package mil.nga.geopackage.user;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import junit.framework.TestCase;
+
+/**
+ * User Core DAO Keyset Pagination Test
+ *
+ * @author osbornb
+ */
+public class UserCoreDaoKeysetTest {
+
+	/**
+	 * Test the id following the last id of a keyset page
+	 */
+	@Test
+	public void testNextKeysetId() {
+
+		TestCase.assertEquals(Long.MIN_VALUE, UserCoreDao.nextKeysetId(null));
+		TestCase.assertEquals(1, UserCoreDao.nextKeysetId(0L));
+		TestCase.assertEquals(6, UserCoreDao.nextKeysetId(5L));
+		TestCase.assertEquals(0, UserCoreDao.nextKeysetId(-1L));
+		TestCase.assertEquals(Long.MIN_VALUE + 1,
+				UserCoreDao.nextKeysetId(Long.MIN_VALUE));
+		TestCase.assertEquals(Long.MAX_VALUE,
+				UserCoreDao.nextKeysetId(Long.MAX_VALUE - 1));
+
+		// The maximum id has no following id and must not overflow
+		TestCase.assertEquals(Long.MAX_VALUE,
+				UserCoreDao.nextKeysetId(Long.MAX_VALUE));
+
+		TestCase.assertTrue(UserCoreDao.hasNextKeysetId(null));
+		TestCase.assertTrue(UserCoreDao.hasNextKeysetId(5L));
+		TestCase.assertTrue(UserCoreDao.hasNextKeysetId(Long.MAX_VALUE - 1));
+		TestCase.assertFalse(UserCoreDao.hasNextKeysetId(Long.MAX_VALUE));
+	}
+
+	/**
+	 * Test building the keyset where arguments
+	 */
+	@Test
+	public void testKeysetWhereArgs() {
+
+		TestCase.assertTrue(Arrays.equals(
+				new String[] { String.valueOf(Long.MIN_VALUE) },
+				UserCoreDao.buildKeysetWhereArgs(null, null)));
+		TestCase.assertTrue(Arrays.equals(new String[] { "11" },
+				UserCoreDao.buildKeysetWhereArgs(null, 10L)));
+
+		String[] whereArgs = new String[] { "a", "b" };
+		TestCase.assertTrue(Arrays.equals(new String[] { "a", "b", "101" },
+				UserCoreDao.buildKeysetWhereArgs(whereArgs, 100L)));
+		TestCase.assertEquals(2, whereArgs.length);
+
+		TestCase.assertTrue(Arrays.equals(
+				new String[] { "a", "b", String.valueOf(Long.MAX_VALUE) },
+				UserCoreDao.buildKeysetWhereArgs(whereArgs, Long.MAX_VALUE)));
+	}
+
+}
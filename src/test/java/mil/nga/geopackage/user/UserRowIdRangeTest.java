@@ -0,0 +1,47 @@
+package mil.nga.geopackage.user;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import junit.framework.TestCase;
+
+/**
+ * User Row Id Range Test
+ *
+ * @author osbornb
+ */
+public class UserRowIdRangeTest {
+
+	/**
+	 * Test splitting id spans into contiguous ranges
+	 */
+	@Test
+	public void testSplit() {
+
+		List<UserRowIdRange> ranges = UserRowIdRange.split(1, 1000, 1000, 8);
+		TestCase.assertEquals(8, ranges.size());
+		TestCase.assertEquals(1, ranges.get(0).getMin());
+		TestCase.assertEquals(1000, ranges.get(ranges.size() - 1).getMax());
+		for (int i = 1; i < ranges.size(); i++) {
+			TestCase.assertEquals(ranges.get(i - 1).getMax() + 1,
+					ranges.get(i).getMin());
+		}
+
+		TestCase.assertEquals(3, UserRowIdRange.split(5, 7, 3, 8).size());
+		TestCase.assertEquals(2, UserRowIdRange.split(1, 1000000, 2, 8).size());
+		TestCase.assertTrue(UserRowIdRange.split(0, 0, 0, 8).isEmpty());
+
+		ranges = UserRowIdRange.split(Long.MIN_VALUE, Long.MAX_VALUE, 10, 8);
+		TestCase.assertEquals(1, ranges.size());
+		TestCase.assertEquals(Long.MIN_VALUE, ranges.get(0).getMin());
+		TestCase.assertEquals(Long.MAX_VALUE, ranges.get(0).getMax());
+
+		ranges = UserRowIdRange.split(Long.MAX_VALUE - 99, Long.MAX_VALUE,
+				100, 7);
+		TestCase.assertEquals(7, ranges.size());
+		TestCase.assertEquals(Long.MAX_VALUE,
+				ranges.get(ranges.size() - 1).getMax());
+	}
+
+}
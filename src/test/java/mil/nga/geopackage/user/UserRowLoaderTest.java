@@ -0,0 +1,150 @@
+package mil.nga.geopackage.user;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import junit.framework.TestCase;
+import mil.nga.geopackage.user.custom.UserCustomColumn;
+import mil.nga.geopackage.user.custom.UserCustomTable;
+
+/**
+ * User Row Loader Test
+ *
+ * @author osbornb
+ */
+public class UserRowLoaderTest {
+
+	/**
+	 * Test concurrent requests sharing a single read
+	 *
+	 * @throws Exception
+	 *             upon error
+	 */
+	@Test
+	public void testSingleFlight() throws Exception {
+
+		final UserRowLoader<UserCustomColumn, UserCustomTable, TestRow> loader = new UserRowLoader<>(
+				16);
+		final AtomicInteger reads = new AtomicInteger();
+		final CountDownLatch reading = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final TestRow row = new TestRow();
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<TestRow>> results = new ArrayList<>();
+			results.add(executor.submit(() -> loader.get(1, id -> {
+				reads.incrementAndGet();
+				reading.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					throw new IllegalStateException(e);
+				}
+				return row;
+			})));
+			TestCase.assertTrue(reading.await(10, TimeUnit.SECONDS));
+			for (int i = 0; i < 3; i++) {
+				results.add(executor.submit(() -> loader.get(1, id -> {
+					reads.incrementAndGet();
+					return new TestRow();
+				})));
+			}
+			release.countDown();
+			for (Future<TestRow> result : results) {
+				TestCase.assertSame(row, result.get(10, TimeUnit.SECONDS));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		TestCase.assertEquals(1, reads.get());
+		TestCase.assertSame(row, loader.getCached(1));
+
+		// Lock protocol
+		TestCase.assertNull(loader.getRowOrLock(2));
+		loader.setRow(2, row);
+		TestCase.assertSame(row, loader.getRowOrLock(2));
+	}
+
+	/**
+	 * Test the bounded least recently used row cache
+	 */
+	@Test
+	public void testCache() {
+
+		UserRowLoader<UserCustomColumn, UserCustomTable, TestRow> loader = new UserRowLoader<>(
+				16);
+		TestCase.assertTrue(loader.isCaching());
+
+		TestRow row = new TestRow();
+		TestCase.assertSame(row, loader.get(0, id -> row));
+		TestCase.assertSame(row, loader.get(0, id -> new TestRow()));
+		TestCase.assertSame(row, loader.getRowOrLock(0));
+
+		for (long id = 1; id < 1000; id++) {
+			loader.get(id, i -> new TestRow());
+		}
+		TestCase.assertTrue(loader.getCacheSize() <= 16);
+
+		loader.setRow(5000, row);
+		TestCase.assertSame(row, loader.getCached(5000));
+		loader.remove(5000);
+		TestCase.assertNull(loader.getCached(5000));
+
+		loader.clear();
+		TestCase.assertEquals(0, loader.getCacheSize());
+	}
+
+	/**
+	 * Test rows removed or cleared during an in flight read are not cached
+	 */
+	@Test
+	public void testRemoveDuringRead() {
+
+		final UserRowLoader<UserCustomColumn, UserCustomTable, TestRow> loader = new UserRowLoader<>(
+				16);
+		final TestRow row = new TestRow();
+
+		TestCase.assertSame(row, loader.get(7, id -> {
+			loader.remove(id);
+			return row;
+		}));
+		TestCase.assertNull(loader.getCached(7));
+
+		TestCase.assertSame(row, loader.get(7, id -> row));
+		TestCase.assertSame(row, loader.getCached(7));
+
+		// Lock protocol
+		TestCase.assertNull(loader.getRowOrLock(8));
+		loader.clear();
+		loader.setRow(8, row);
+		TestCase.assertNull(loader.getCached(8));
+		TestCase.assertSame(row, loader.get(8, id -> row));
+		TestCase.assertSame(row, loader.getCached(8));
+	}
+
+	/**
+	 * Test row
+	 */
+	private static class TestRow
+			extends UserCoreRow<UserCustomColumn, UserCustomTable> {
+
+		/**
+		 * Constructor
+		 */
+		private TestRow() {
+			super(null, null, new int[0], new Object[0]);
+		}
+
+	}
+
+}